@@ -2,9 +2,18 @@ package com.datamirage;
 
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.providers.*;
-import com.datamirage.util.DataLoader;
+import com.datamirage.util.CounterRandom;
+import com.datamirage.util.DataPreloader;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.PreloadReport;
 import com.datamirage.util.RandomService;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * DataMirage is a comprehensive fake data generation library that provides various providers
  * for generating realistic fake data in different categories.
@@ -23,6 +32,7 @@ import com.datamirage.util.RandomService;
  * </p>
  */
 public class DataMirage {
+    private final LocaleData data;
     private final RandomService random;
     private final AddressProvider addressProvider;
     private final NameProvider nameProvider;
@@ -53,6 +63,7 @@ public class DataMirage {
     private final NumberProvider numberProvider;
     private final StringProvider stringProvider;
     private final WordProvider wordProvider;
+    private final PayloadProvider payloadProvider;
 
     /**
      * Constructs a new DataMirage instance with the default locale (Turkish).
@@ -64,41 +75,204 @@ public class DataMirage {
     /**
      * Constructs a new DataMirage instance with the specified locale.
      *
+     * The locale data is shared with every other instance of the same locale, so constructing
+     * an instance does not load or copy any data, and instances of different locales can be
+     * used concurrently.
+     *
      * @param locale The locale to use for generating localized fake data
      */
     public DataMirage(DataMirageLocale locale) {
-        this.random = new RandomService();
-        this.addressProvider = new AddressProvider(random);
-        this.nameProvider = new NameProvider(random);
-        this.companyProvider = new CompanyProvider(random);
-        this.internetProvider = new InternetProvider(random);
-        this.bookProvider = new BookProvider(random);
-        this.colorProvider = new ColorProvider(random);
-        this.foodProvider = new FoodProvider(random);
-        this.musicProvider = new MusicProvider(random);
-        this.phoneNumberProvider = new PhoneNumberProvider(random);
-        this.weatherProvider = new WeatherProvider(random);
-        this.filmProvider = new FilmProvider(random);
-        this.animalProvider = new AnimalProvider(random);
-        this.vehicleProvider = new VehicleProvider(random);
-        this.scienceProvider = new ScienceProvider(random);
-        this.systemProvider = new SystemProvider(random);
-        this.gitProvider = new GitProvider(random);
-        this.cryptoProvider = new CryptoProvider(random);
-        this.commerceProvider = new CommerceProvider(random);
+        this(LocaleData.of(locale));
+    }
+
+    /**
+     * Constructs a new DataMirage instance with the specified locale that draws all randomness from
+     * the given service, for example a seeded one for reproducible data.
+     *
+     * @param locale The locale to use for generating localized fake data
+     * @param random The random service shared by all providers of this instance
+     * @see RandomService#of(String, long)
+     */
+    public DataMirage(DataMirageLocale locale, RandomService random) {
+        this(LocaleData.of(locale), random);
+    }
+
+    /**
+     * Constructs a new DataMirage instance that generates data from the specified locale data.
+     *
+     * @param data The locale data to use for generating localized fake data
+     */
+    public DataMirage(LocaleData data) {
+        this(data, new RandomService());
+    }
+
+    /**
+     * Constructs a new DataMirage instance that generates data from the specified locale data and
+     * draws all randomness from the given service.
+     *
+     * @param data The locale data to use for generating localized fake data
+     * @param random The random service shared by all providers of this instance
+     */
+    public DataMirage(LocaleData data, RandomService random) {
+        this.data = data;
+        this.random = random;
+        this.addressProvider = new AddressProvider(random, data);
+        this.nameProvider = new NameProvider(random, data);
+        this.companyProvider = new CompanyProvider(random, data);
+        this.internetProvider = new InternetProvider(random, data);
+        this.bookProvider = new BookProvider(random, data);
+        this.colorProvider = new ColorProvider(random, data);
+        this.foodProvider = new FoodProvider(random, data);
+        this.musicProvider = new MusicProvider(random, data);
+        this.phoneNumberProvider = new PhoneNumberProvider(random, data);
+        this.weatherProvider = new WeatherProvider(random, data);
+        this.filmProvider = new FilmProvider(random, data);
+        this.animalProvider = new AnimalProvider(random, data);
+        this.vehicleProvider = new VehicleProvider(random, data);
+        this.scienceProvider = new ScienceProvider(random, data);
+        this.systemProvider = new SystemProvider(random, data);
+        this.gitProvider = new GitProvider(random, data);
+        this.cryptoProvider = new CryptoProvider(random, data);
+        this.commerceProvider = new CommerceProvider(random, data);
         this.codeProvider = new CodeProvider(random);
         this.dateProvider = new DateProvider(random);
-        this.financeProvider = new FinanceProvider(random);
-        this.artistProvider = new ArtistProvider(random);
-        this.appProvider = new AppProvider(random);
+        this.financeProvider = new FinanceProvider(random, data);
+        this.artistProvider = new ArtistProvider(random, data);
+        this.appProvider = new AppProvider(random, data);
         this.helpersProvider = new HelpersProvider(random);
         this.boolProvider = new BoolProvider(random);
         this.imageProvider = new ImageProvider();
         this.numberProvider = new NumberProvider(random);
         this.stringProvider = new StringProvider(random);
         this.wordProvider = new WordProvider(random);
+        this.payloadProvider = new PayloadProvider(random);
+    }
+
+    /**
+     * Loads every data category of the specified locales eagerly and in parallel, so that the first
+     * provider calls do not pay for loading data. If no locale is given, all supported locales are loaded.
+     *
+     * @param locales The locales to load
+     * @return A report of the load time and retained size of every category
+     * @see DataPreloader
+     */
+    public static PreloadReport preload(DataMirageLocale... locales) {
+        return DataPreloader.preload(locales);
+    }
+
+    /**
+     * Creates a new instance of the same locale with its own providers and an independent random
+     * stream split off from this instance's, see {@link RandomService#split()}. Forks share no mutable
+     * state with each other, so every worker thread can generate from its own fork without contention.
+     * Forking advances this instance, so forks are reproducible when they are created in a fixed order.
+     *
+     * @return A new DataMirage instance with an independent random stream
+     */
+    public DataMirage fork() {
+        return new DataMirage(data, random.split());
+    }
+
+    /**
+     * Creates the specified number of forks of this instance, one per partition.
+     * For a seeded instance, partition {@code i} generates the same data on every run,
+     * regardless of which thread it runs on or when.
+     * <pre>
+     * {@code
+     * List<DataMirage> partitions = new DataMirage(DataMirageLocale.EN_US, RandomService.of("L64X128MixRandom", 42L)).fork(8);
+     * }
+     * </pre>
+     *
+     * @param partitions The number of forks to create
+     * @return The forks, in partition order
+     * @throws IllegalArgumentException if partitions is negative
+     */
+    public List<DataMirage> fork(int partitions) {
+        List<DataMirage> forks = new ArrayList<>();
+        for (RandomService split : random.split(partitions)) {
+            forks.add(new DataMirage(data, split));
+        }
+        return forks;
+    }
+
+    /**
+     * Returns an instance whose providers generate the specified row of a counter-based data set.
+     * The data of a row only depends on the seed, the row number and the calls made for the row,
+     * so any row can be produced, or reproduced, without producing the rows before it. This instance
+     * is not changed.
+     * <pre>
+     * {@code
+     * DataMirage dataMirage = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L));
+     * String name = dataMirage.at(9_999_999_999L).name().fullName();
+     * }
+     * </pre>
+     *
+     * @param row The row number
+     * @return A new DataMirage instance positioned at the row
+     * @throws UnsupportedOperationException if this instance does not use a counter-based random service
+     * @see RandomService#counterBased(long)
+     */
+    public DataMirage at(long row) {
+        return new DataMirage(data, random.at(row));
+    }
 
-        DataLoader.setLocale(locale);
+    /**
+     * Returns a stream of the specified number of generated rows. Row {@code i} is produced by
+     * applying the row function to an instance positioned at row {@code i} of a counter-based data
+     * set, so the stream is sized, splits evenly, and yields exactly the same rows in the same order
+     * whether it runs sequentially or in parallel. Each split generates from its own instance and
+     * random stream.
+     * <pre>
+     * {@code
+     * List<String> names = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L))
+     *     .stream(1_000_000, mirage -> mirage.name().fullName())
+     *     .parallel()
+     *     .collect(Collectors.toList());
+     * }
+     * </pre>
+     * For a counter-based instance, row {@code i} is the row that {@link #at(long) at(i)} generates.
+     * Other instances draw one seed from their random service when this method is called.
+     *
+     * @param count The number of rows
+     * @param rowFn The function that generates a row; it must draw all randomness from the instance it is given
+     * @param <T> The type of the rows
+     * @return A sized, ordered stream of the rows
+     * @throws IllegalArgumentException if count is negative
+     */
+    public <T> Stream<T> stream(long count, Function<DataMirage, T> rowFn) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        long seed = random.isCounterBased()
+            ? ((CounterRandom) random.getGenerator()).getSeed()
+            : random.getGenerator().nextLong();
+        return StreamSupport.stream(new RowSpliterator<>(data, seed, rowFn, 0, count), false);
+    }
+
+    /**
+     * Returns the random service this instance draws from.
+     *
+     * @return The random service shared by all providers of this instance
+     */
+    public RandomService getRandomService() {
+        return random;
+    }
+
+    /**
+     * Returns the locale this instance generates data for.
+     *
+     * @return The locale of this instance
+     */
+    public DataMirageLocale getLocale() {
+        return data.getLocale();
+    }
+
+    /**
+     * Returns the locale data this instance generates data from.
+     *
+     * @return The locale data of this instance
+     */
+    public LocaleData getLocaleData() {
+        return data;
     }
 
     /**
@@ -361,4 +535,13 @@ public class DataMirage {
     public WordProvider word() {
         return wordProvider;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Returns the payload provider for generating binary payloads.
+     *
+     * @return The payload provider instance
+     */
+    public PayloadProvider payload() {
+        return payloadProvider;
+    }
+}
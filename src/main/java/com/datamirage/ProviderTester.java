@@ -476,16 +476,27 @@ public class ProviderTester {
 
     public static void main(String[] args) {
         DataMirageLocale locale = DataMirageLocale.TR_TR; // Varsayılan: Türkçe
-        
-        if (args.length > 0) {
+        boolean preload = false;
+
+        for (String arg : args) {
+            if ("--preload".equals(arg)) {
+                preload = true;
+                continue;
+            }
             try {
-                locale = DataMirageLocale.fromCode(args[0]);
+                locale = DataMirageLocale.fromCode(arg);
             } catch (IllegalArgumentException e) {
-                System.err.println("Warning: Invalid locale code '" + args[0] + "'. Using default locale TR_TR.");
+                System.err.println("Warning: Invalid locale code '" + arg + "'. Using default locale TR_TR.");
             }
         }
-        
+
+        if (preload) {
+            System.out.println("===== Preloading data for locale: " + locale + " =====");
+            System.out.println(DataMirage.preload(locale));
+            System.out.println();
+        }
+
         ProviderTester tester = new ProviderTester(locale);
         tester.testAllProviders();
     }
-} 
\ No newline at end of file
+}
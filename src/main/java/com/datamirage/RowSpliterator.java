@@ -0,0 +1,87 @@
+package com.datamirage;
+
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A spliterator over a range of rows of a counter-based data set, backing {@link DataMirage#stream}.
+ * Every row is generated by an instance positioned at that row, so the value of a row does not
+ * depend on which spliterator generates it. Splitting halves the row range and gives each half its
+ * own instance and random stream, so parallel streams share no mutable state.
+ *
+ * @param <T> The type of the generated rows
+ */
+final class RowSpliterator<T> implements Spliterator<T> {
+    private final LocaleData data;
+    private final long seed;
+    private final Function<DataMirage, T> rowFn;
+    private final long fence;
+    private long index;
+    private DataMirage instance;
+
+    RowSpliterator(LocaleData data, long seed, Function<DataMirage, T> rowFn, long origin, long fence) {
+        this.data = data;
+        this.seed = seed;
+        this.rowFn = rowFn;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(generate(instance(), index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        if (index >= fence) {
+            return;
+        }
+        DataMirage rows = instance();
+        for (long row = index; row < fence; row++) {
+            action.accept(generate(rows, row));
+        }
+        index = fence;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long origin = index;
+        long mid = (origin + fence) >>> 1;
+        if (mid <= origin) {
+            return null;
+        }
+        index = mid;
+        return new RowSpliterator<>(data, seed, rowFn, origin, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | ORDERED | IMMUTABLE;
+    }
+
+    private T generate(DataMirage rows, long row) {
+        rows.getRandomService().seek(row);
+        return rowFn.apply(rows);
+    }
+
+    private DataMirage instance() {
+        if (instance == null) {
+            instance = new DataMirage(data, RandomService.counterBased(seed));
+        }
+        return instance;
+    }
+}
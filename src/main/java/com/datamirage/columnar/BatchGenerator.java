@@ -0,0 +1,156 @@
+package com.datamirage.columnar;
+
+import com.datamirage.util.RandomService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Generates a table column by column into reusable {@link ColumnBatch}es, for loading analytics
+ * stores and other columnar sinks. Each column of a batch is filled in one call to its generator,
+ * so dictionary columns cost one bulk index fill instead of one String per value, and numeric
+ * columns are written straight into primitive arrays.
+ * <pre>
+ * {@code
+ * BatchGenerator generator = new BatchGenerator(random, columns);
+ * generator.generate(10_000_000L, 4096, batch -> sink.write(batch));
+ * }
+ * </pre>
+ *
+ * <p>Columns are filled in the order of the generators, each for all rows of the batch before the
+ * next, so the same seed, columns and batch size always produce the same table. A BatchGenerator
+ * is not thread-safe; give each thread its own generator and random service.</p>
+ */
+public final class BatchGenerator {
+    /** The default number of rows per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final RandomService random;
+    private final List<ColumnGenerator<?>> columns;
+    private long nextRow;
+
+    /**
+     * Creates a batch generator.
+     *
+     * @param random The random service to draw from
+     * @param columns The generators of the columns, in column order
+     * @throws IllegalArgumentException if there are no columns or two columns have the same name
+     */
+    public BatchGenerator(RandomService random, List<? extends ColumnGenerator<?>> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        Set<String> names = new HashSet<>();
+        for (ColumnGenerator<?> column : columns) {
+            if (!names.add(column.getName())) {
+                throw new IllegalArgumentException("Duplicate column: " + column.getName());
+            }
+        }
+        this.random = Objects.requireNonNull(random, "random");
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Creates an empty batch with a vector for every column.
+     *
+     * @param capacity The maximum number of rows per batch, positive
+     * @return A new batch
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public ColumnBatch newBatch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        List<ColumnVector> vectors = new ArrayList<>(columns.size());
+        for (ColumnGenerator<?> column : columns) {
+            vectors.add(column.newVector(capacity));
+        }
+        return new ColumnBatch(this, vectors, capacity);
+    }
+
+    /**
+     * Fills a batch to its capacity with the next rows of the table.
+     *
+     * @param batch The batch to fill, created by this generator
+     * @return The batch, for chaining
+     * @throws IllegalArgumentException if the batch was created by another generator
+     */
+    public ColumnBatch fill(ColumnBatch batch) {
+        return fill(batch, batch.getCapacity());
+    }
+
+    /**
+     * Fills the first rows of a batch with the next rows of the table.
+     *
+     * @param batch The batch to fill, created by this generator
+     * @param rows The number of rows, at most the capacity of the batch
+     * @return The batch, for chaining
+     * @throws IllegalArgumentException if the batch was created by another generator or the number
+     *                                  of rows is out of range
+     */
+    public ColumnBatch fill(ColumnBatch batch, int rows) {
+        if (batch.getOwner() != this) {
+            throw new IllegalArgumentException("Batch was created by another generator");
+        }
+        if (rows < 0 || rows > batch.getCapacity()) {
+            throw new IllegalArgumentException("Rows must be between 0 and " + batch.getCapacity() + ": " + rows);
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            fillColumn(columns.get(i), batch.getColumn(i), rows);
+        }
+        batch.setRows(nextRow, rows);
+        nextRow += rows;
+        return batch;
+    }
+
+    /**
+     * Generates the specified number of rows in batches of the specified size and hands every batch
+     * to a sink. The same batch is refilled for every call, so the sink must copy or write out the
+     * values it needs before it returns.
+     *
+     * @param rows The number of rows to generate
+     * @param batchSize The maximum number of rows per batch, positive
+     * @param sink The consumer of the batches
+     * @return The number of batches handed to the sink
+     * @throws IllegalArgumentException if rows is negative or the batch size is not positive
+     */
+    public long generate(long rows, int batchSize, Consumer<ColumnBatch> sink) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows cannot be negative: " + rows);
+        }
+        ColumnBatch batch = newBatch(batchSize);
+        long batches = 0;
+        for (long remaining = rows; remaining > 0; remaining -= batch.getRowCount()) {
+            sink.accept(fill(batch, (int) Math.min(batchSize, remaining)));
+            batches++;
+        }
+        return batches;
+    }
+
+    /**
+     * Returns the index of the row the next batch starts at, which is the number of rows generated so far.
+     *
+     * @return The index of the next row
+     */
+    public long getNextRow() {
+        return nextRow;
+    }
+
+    /**
+     * Returns the generators of the columns.
+     *
+     * @return An unmodifiable list of column generators, in column order
+     */
+    public List<ColumnGenerator<?>> getColumns() {
+        return columns;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V extends ColumnVector> void fillColumn(ColumnGenerator<V> column, ColumnVector vector, int rows) {
+        column.fill((V) vector, random, nextRow, rows);
+    }
+}
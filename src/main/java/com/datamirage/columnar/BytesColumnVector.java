@@ -0,0 +1,206 @@
+package com.datamirage.columnar;
+
+import com.datamirage.util.DictionarySource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A column of variable-length values, such as free text, stored as one byte array plus an offset
+ * per row in the layout of Arrow and Parquet: the value of row {@code r} is
+ * {@code data[offsets[r] .. offsets[r + 1])}. Text is encoded as UTF-8.
+ *
+ * <p>Values are written by appending bytes and then ending the value with {@link #endValue()}.
+ * The data array grows as needed and is kept when the vector is cleared for the next batch, so a
+ * reused vector stops allocating once it has seen its largest batch.</p>
+ */
+public final class BytesColumnVector implements ColumnVector {
+    private static final int MAX_DATA_LENGTH = Integer.MAX_VALUE - 8;
+    /** The initial number of data bytes reserved per row. */
+    private static final int BYTES_PER_ROW = 16;
+
+    private final String name;
+    private final int[] offsets;
+    private byte[] data;
+    private ByteBuffer buffer;
+    /** Scratch space for the word indices of a text column, kept so that refills do not allocate. */
+    private int[] indices = new int[0];
+    private int valueCount;
+    private int length;
+
+    /**
+     * Creates an empty bytes column.
+     *
+     * @param name The column name
+     * @param capacity The maximum number of rows
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public BytesColumnVector(String name, int capacity) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.offsets = new int[ColumnBatch.checkCapacity(capacity) + 1];
+        this.data = new byte[(int) Math.min(MAX_DATA_LENGTH, (long) capacity * BYTES_PER_ROW)];
+        this.buffer = ByteBuffer.wrap(data);
+    }
+
+    /**
+     * Removes all values, keeping the allocated data array.
+     */
+    public void clear() {
+        valueCount = 0;
+        length = 0;
+    }
+
+    /**
+     * Appends a byte to the current value.
+     *
+     * @param b The byte to append
+     * @return This vector, for chaining
+     */
+    public BytesColumnVector append(byte b) {
+        ensureCapacity(length + 1);
+        data[length++] = b;
+        return this;
+    }
+
+    /**
+     * Appends a range of bytes to the current value.
+     *
+     * @param src The array to copy from
+     * @param off The index of the first byte to copy
+     * @param len The number of bytes to copy
+     * @return This vector, for chaining
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public BytesColumnVector append(byte[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        ensureCapacity(length + len);
+        System.arraycopy(src, off, data, length, len);
+        length += len;
+        return this;
+    }
+
+    /**
+     * Appends a dictionary entry to the current value, encoded as UTF-8 without creating a String.
+     *
+     * @param source The dictionary to copy from
+     * @param index The index of the entry
+     * @return This vector, for chaining
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public BytesColumnVector appendEntry(DictionarySource source, int index) {
+        while (true) {
+            buffer.position(length);
+            try {
+                length += source.writeUtf8(buffer, index);
+                return this;
+            } catch (BufferOverflowException e) {
+                // Rare once the vector has been reused; retry the entry in a larger array
+                ensureCapacity(data.length + 1);
+            }
+        }
+    }
+
+    /**
+     * Ends the current value, so that the bytes appended since the previous value form the next row.
+     *
+     * @return This vector, for chaining
+     * @throws IllegalStateException if the vector already holds as many values as its capacity
+     */
+    public BytesColumnVector endValue() {
+        if (valueCount == offsets.length - 1) {
+            throw new IllegalStateException("Column " + name + " is full: " + valueCount + " values");
+        }
+        offsets[++valueCount] = length;
+        return this;
+    }
+
+    /**
+     * Returns the data array. Only the first {@link #getByteCount()} bytes belong to the current batch.
+     *
+     * @return The backing array of value bytes
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Returns the array of offsets, one more than the number of values: the value of row
+     * {@code r} starts at {@code offsets[r]} and ends before {@code offsets[r + 1]}.
+     *
+     * @return The backing array of offsets
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the number of ended values.
+     *
+     * @return The number of values
+     */
+    public int getValueCount() {
+        return valueCount;
+    }
+
+    /**
+     * Returns the number of data bytes written, including those of a value that has not been ended yet.
+     *
+     * @return The number of bytes
+     */
+    public int getByteCount() {
+        return length;
+    }
+
+    /**
+     * Returns the length in bytes of the value of a row.
+     *
+     * @param row The row within the batch
+     * @return The number of bytes of the value
+     * @throws IndexOutOfBoundsException if the row has no value
+     */
+    public int getLength(int row) {
+        Objects.checkIndex(row, valueCount);
+        return offsets[row + 1] - offsets[row];
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getCapacity() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public String getString(int row) {
+        return new String(data, offsets[row], getLength(row), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns this vector's scratch array for dictionary indices, grown to at least the specified
+     * length. The array is reused by every later call, so its content is only valid until then.
+     */
+    int[] indices(int minLength) {
+        if (indices.length < minLength) {
+            indices = new int[minLength];
+        }
+        return indices;
+    }
+
+    private void ensureCapacity(int minLength) {
+        if (minLength <= data.length) {
+            return;
+        }
+        if (minLength < 0 || minLength > MAX_DATA_LENGTH) {
+            throw new IllegalStateException("Column " + name + " exceeds " + MAX_DATA_LENGTH + " bytes");
+        }
+        int newLength = (int) Math.min(MAX_DATA_LENGTH, Math.max(minLength, 2L * data.length + BYTES_PER_ROW));
+        data = Arrays.copyOf(data, newLength);
+        buffer = ByteBuffer.wrap(data);
+    }
+}
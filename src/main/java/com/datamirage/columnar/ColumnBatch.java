@@ -0,0 +1,124 @@
+package com.datamirage.columnar;
+
+import java.util.List;
+
+/**
+ * A fixed-capacity batch of rows stored column by column, one {@link ColumnVector} per column.
+ * Batches are created by {@link BatchGenerator#newBatch(int)} and refilled in place for every
+ * batch of rows, so generating a table allocates its vectors once.
+ */
+public final class ColumnBatch {
+    private final BatchGenerator owner;
+    private final List<ColumnVector> columns;
+    private final int capacity;
+    private long firstRow;
+    private int rowCount;
+
+    ColumnBatch(BatchGenerator owner, List<ColumnVector> columns, int capacity) {
+        this.owner = owner;
+        this.columns = List.copyOf(columns);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the maximum number of rows of this batch.
+     *
+     * @return The capacity in rows
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of rows of the current batch. Only this many values of each vector are valid.
+     *
+     * @return The number of rows
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the index of the first row of the current batch within the whole generated table.
+     *
+     * @return The index of the first row
+     */
+    public long getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Returns the vectors of all columns, in the order of the generators.
+     *
+     * @return An unmodifiable list of column vectors
+     */
+    public List<ColumnVector> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the vector of the column at the specified position.
+     *
+     * @param index The position of the column
+     * @return The column vector
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ColumnVector getColumn(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * Returns the vector of the column with the specified name.
+     *
+     * @param name The column name
+     * @return The column vector
+     * @throws IllegalArgumentException if there is no such column
+     */
+    public ColumnVector getColumn(String name) {
+        for (ColumnVector column : columns) {
+            if (column.getName().equals(name)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("No such column: " + name);
+    }
+
+    /**
+     * Returns the vector of the column with the specified name, cast to its vector type.
+     *
+     * @param name The column name
+     * @param type The class of the vector, e.g. {@code DictionaryColumnVector.class}
+     * @param <V> The type of the vector
+     * @return The column vector
+     * @throws IllegalArgumentException if there is no such column or it is stored in another type of vector
+     */
+    public <V extends ColumnVector> V getColumn(String name, Class<V> type) {
+        ColumnVector column = getColumn(name);
+        if (!type.isInstance(column)) {
+            throw new IllegalArgumentException("Column " + name + " is a " + column.getClass().getSimpleName()
+                + ", not a " + type.getSimpleName());
+        }
+        return type.cast(column);
+    }
+
+    BatchGenerator getOwner() {
+        return owner;
+    }
+
+    void setRows(long firstRow, int rowCount) {
+        this.firstRow = firstRow;
+        this.rowCount = rowCount;
+    }
+
+    static int checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnBatch[rows " + firstRow + ".." + (firstRow + rowCount) + ", " + columns.size() + " columns]";
+    }
+}
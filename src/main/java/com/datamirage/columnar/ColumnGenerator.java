@@ -0,0 +1,37 @@
+package com.datamirage.columnar;
+
+import com.datamirage.util.RandomService;
+
+/**
+ * Generates the values of one column a whole batch at a time. Standard generators are created
+ * through {@link Columns}; custom ones fill the typed arrays of their vector directly.
+ *
+ * @param <V> The type of vector the column is stored in
+ */
+public interface ColumnGenerator<V extends ColumnVector> {
+
+    /**
+     * Returns the name of the column.
+     *
+     * @return The column name
+     */
+    String getName();
+
+    /**
+     * Creates an empty vector for this column.
+     *
+     * @param capacity The maximum number of rows
+     * @return A new vector
+     */
+    V newVector(int capacity);
+
+    /**
+     * Fills the first rows of a vector with the values of the next rows of this column.
+     *
+     * @param vector The vector to fill, created by {@link #newVector(int)}
+     * @param random The random service to draw from
+     * @param firstRow The index of the first row within the whole generated table
+     * @param rows The number of rows to fill, at most the capacity of the vector
+     */
+    void fill(V vector, RandomService random, long firstRow, int rows);
+}
@@ -0,0 +1,33 @@
+package com.datamirage.columnar;
+
+/**
+ * A fixed-capacity vector holding the values of one column of a {@link ColumnBatch}.
+ * Each implementation exposes its backing arrays so that sinks can copy or encode whole columns
+ * without creating an object per value; only {@link #getString(int)} creates a String.
+ */
+public interface ColumnVector {
+
+    /**
+     * Returns the name of the column this vector belongs to.
+     *
+     * @return The column name
+     */
+    String getName();
+
+    /**
+     * Returns the maximum number of rows this vector can hold.
+     *
+     * @return The capacity in rows
+     */
+    int getCapacity();
+
+    /**
+     * Decodes the value of a row into a new String. Meant for inspection and tests;
+     * sinks should read the typed arrays instead.
+     *
+     * @param row The row within the batch
+     * @return The value of the row as a String
+     * @throws IndexOutOfBoundsException if the row is out of range
+     */
+    String getString(int row);
+}
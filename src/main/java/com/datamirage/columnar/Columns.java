@@ -0,0 +1,229 @@
+package com.datamirage.columnar;
+
+import com.datamirage.distribution.Distribution;
+import com.datamirage.distribution.LongGenerator;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.DictionarySource;
+import com.datamirage.util.RandomService;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Factory methods for the standard column generators. Dictionary-backed fields, such as the
+ * industries behind {@code CompanyProvider.industry()}, become dictionary-encoded columns:
+ * <pre>
+ * {@code
+ * LocaleData data = LocaleData.of(DataMirageLocale.EN_US);
+ * BatchGenerator generator = new BatchGenerator(RandomService.of("L64X128MixRandom", 42L), List.of(
+ *     Columns.sequence("id", 1),
+ *     Columns.dictionary("industry", data.dictionary("company", "industries")),
+ *     Columns.longs("employees", Distribution.lognormal(4, 1.5)),
+ *     Columns.doubles("revenue", Distribution.lognormal(15, 2)),
+ *     Columns.text("slogan", data.dictionary("company", "catch_phrases"))));
+ * }
+ * </pre>
+ */
+public final class Columns {
+    /** The maximum number of word indices a text column draws at once. */
+    private static final int TEXT_CHUNK = 1024;
+
+    private Columns() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Creates a column of dictionary codes, distributed like the picks of the dictionary: uniform,
+     * or in proportion to the weights of its entries. All codes of a batch are drawn with one bulk fill.
+     *
+     * @param name The column name
+     * @param dictionary The dictionary to draw from
+     * @return A new column generator
+     */
+    public static ColumnGenerator<DictionaryColumnVector> dictionary(String name, Dictionary dictionary) {
+        Objects.requireNonNull(dictionary, "dictionary");
+        return new Column<>(name, DictionaryColumnVector::new, (vector, random, firstRow, rows) -> {
+            DictionarySource values = dictionary.getSource().snapshot();
+            vector.setDictionary(values);
+            values.pickIndices(random, vector.getCodes(), 0, rows);
+        });
+    }
+
+    /**
+     * Creates a column of consecutive values, such as a primary key. The value of a row does not
+     * depend on the random service, only on the row's index in the generated table.
+     *
+     * @param name The column name
+     * @param start The value of the first row of the table
+     * @return A new column generator
+     */
+    public static ColumnGenerator<LongColumnVector> sequence(String name, long start) {
+        return new Column<>(name, LongColumnVector::new, (vector, random, firstRow, rows) -> {
+            long[] values = vector.getValues();
+            long first = start + firstRow;
+            for (int i = 0; i < rows; i++) {
+                values[i] = first + i;
+            }
+        });
+    }
+
+    /**
+     * Creates a column of uniform random integers.
+     *
+     * @param name The column name
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @return A new column generator
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    public static ColumnGenerator<LongColumnVector> longs(String name, long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        return new Column<>(name, LongColumnVector::new, (vector, random, firstRow, rows) -> {
+            long[] values = vector.getValues();
+            for (int i = 0; i < rows; i++) {
+                values[i] = random.nextLong(min, max);
+            }
+        });
+    }
+
+    /**
+     * Creates a column of integers drawn from a key distribution, such as a
+     * {@link com.datamirage.distribution.ZipfianGenerator}. The generator draws from the random
+     * service it was created with, not from the one of the batch generator.
+     *
+     * @param name The column name
+     * @param generator The generator of the values
+     * @return A new column generator
+     */
+    public static ColumnGenerator<LongColumnVector> longs(String name, LongGenerator generator) {
+        Objects.requireNonNull(generator, "generator");
+        return new Column<>(name, LongColumnVector::new,
+            (vector, random, firstRow, rows) -> generator.nextLongs(vector.getValues(), 0, rows));
+    }
+
+    /**
+     * Creates a column of integers sampled from a distribution and rounded to the nearest integer.
+     *
+     * @param name The column name
+     * @param distribution The distribution of the values
+     * @return A new column generator
+     */
+    public static ColumnGenerator<LongColumnVector> longs(String name, Distribution distribution) {
+        Objects.requireNonNull(distribution, "distribution");
+        return new Column<>(name, LongColumnVector::new,
+            (vector, random, firstRow, rows) -> distribution.fill(random, vector.getValues(), 0, rows));
+    }
+
+    /**
+     * Creates a column of values sampled from a distribution.
+     *
+     * @param name The column name
+     * @param distribution The distribution of the values
+     * @return A new column generator
+     */
+    public static ColumnGenerator<DoubleColumnVector> doubles(String name, Distribution distribution) {
+        Objects.requireNonNull(distribution, "distribution");
+        return new Column<>(name, DoubleColumnVector::new,
+            (vector, random, firstRow, rows) -> distribution.fill(random, vector.getValues(), 0, rows));
+    }
+
+    /**
+     * Creates a column of text holding one dictionary entry per row, copied into the column as UTF-8
+     * bytes. Use {@link #dictionary(String, Dictionary)} instead if the sink can store codes.
+     *
+     * @param name The column name
+     * @param dictionary The dictionary to draw from
+     * @return A new column generator
+     */
+    public static ColumnGenerator<BytesColumnVector> text(String name, Dictionary dictionary) {
+        return text(name, dictionary, 1, 1);
+    }
+
+    /**
+     * Creates a column of free text made of a random number of dictionary entries separated by
+     * spaces, such as a sentence of words. The text is copied into the column as UTF-8 bytes
+     * without creating a String.
+     *
+     * @param name The column name
+     * @param words The dictionary to draw the words from
+     * @param minWords The minimum number of words per row (inclusive)
+     * @param maxWords The maximum number of words per row (inclusive)
+     * @return A new column generator
+     * @throws IllegalArgumentException if minWords is negative or greater than maxWords
+     */
+    public static ColumnGenerator<BytesColumnVector> text(String name, Dictionary words, int minWords, int maxWords) {
+        Objects.requireNonNull(words, "words");
+        if (minWords < 0 || minWords > maxWords) {
+            throw new IllegalArgumentException("Invalid word count range: " + minWords + ".." + maxWords);
+        }
+        return new Column<>(name, BytesColumnVector::new, (vector, random, firstRow, rows) -> {
+            DictionarySource values = words.getSource().snapshot();
+            vector.clear();
+            // Word indices are drawn in bulk chunks, which is much cheaper than one pick per word
+            int chunk = (int) Math.max(1, Math.min(TEXT_CHUNK, (long) rows * maxWords));
+            int[] indices = vector.indices(chunk);
+            int next = chunk;
+            for (int i = 0; i < rows; i++) {
+                int count = minWords == maxWords ? minWords : random.nextInt(minWords, maxWords);
+                for (int word = 0; word < count; word++) {
+                    if (next == chunk) {
+                        values.pickIndices(random, indices, 0, chunk);
+                        next = 0;
+                    }
+                    if (word > 0) {
+                        vector.append((byte) ' ');
+                    }
+                    vector.appendEntry(values, indices[next++]);
+                }
+                vector.endValue();
+            }
+        });
+    }
+
+    /**
+     * Fills the rows of a vector.
+     *
+     * @param <V> The type of vector
+     */
+    @FunctionalInterface
+    private interface Filler<V extends ColumnVector> {
+        void fill(V vector, RandomService random, long firstRow, int rows);
+    }
+
+    /**
+     * A column generator made of a name, a vector factory and a filler.
+     */
+    private static final class Column<V extends ColumnVector> implements ColumnGenerator<V> {
+        private final String name;
+        private final BiFunction<String, Integer, V> vectors;
+        private final Filler<V> filler;
+
+        Column(String name, BiFunction<String, Integer, V> vectors, Filler<V> filler) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.vectors = vectors;
+            this.filler = filler;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public V newVector(int capacity) {
+            return vectors.apply(name, capacity);
+        }
+
+        @Override
+        public void fill(V vector, RandomService random, long firstRow, int rows) {
+            filler.fill(vector, random, firstRow, rows);
+        }
+
+        @Override
+        public String toString() {
+            return "Column[" + name + "]";
+        }
+    }
+}
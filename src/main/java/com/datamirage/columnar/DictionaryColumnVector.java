@@ -0,0 +1,84 @@
+package com.datamirage.columnar;
+
+import com.datamirage.util.DictionarySource;
+
+import java.util.Objects;
+
+/**
+ * A column of dictionary codes: each value is the index of an entry in a shared
+ * {@link DictionarySource}. Sinks that support dictionary encoding can write the codes as they are
+ * and the dictionary once, instead of one String per value.
+ *
+ * <p>The dictionary is the immutable snapshot the codes were drawn from, so it stays valid for the
+ * codes of this batch even if the underlying field is reloaded in the meantime.</p>
+ */
+public final class DictionaryColumnVector implements ColumnVector {
+    private final String name;
+    private final int[] codes;
+    private DictionarySource dictionary;
+
+    /**
+     * Creates an empty dictionary column.
+     *
+     * @param name The column name
+     * @param capacity The maximum number of rows
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public DictionaryColumnVector(String name, int capacity) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.codes = new int[ColumnBatch.checkCapacity(capacity)];
+    }
+
+    /**
+     * Returns the array of codes. Only the first {@link ColumnBatch#getRowCount()} codes belong to
+     * the current batch.
+     *
+     * @return The backing array of dictionary codes
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Returns the code of a row.
+     *
+     * @param row The row within the batch
+     * @return The index of the row's entry in {@link #getDictionary()}
+     */
+    public int getCode(int row) {
+        return codes[row];
+    }
+
+    /**
+     * Returns the dictionary the codes of the current batch refer to.
+     *
+     * @return The immutable dictionary snapshot, or null if the vector has never been filled
+     */
+    public DictionarySource getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Sets the dictionary the codes refer to. Generators call this before filling the codes.
+     *
+     * @param dictionary An immutable dictionary source
+     */
+    public void setDictionary(DictionarySource dictionary) {
+        this.dictionary = Objects.requireNonNull(dictionary, "dictionary");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getCapacity() {
+        return codes.length;
+    }
+
+    @Override
+    public String getString(int row) {
+        return dictionary.get(codes[row]);
+    }
+}
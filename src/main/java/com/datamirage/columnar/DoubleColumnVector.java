@@ -0,0 +1,58 @@
+package com.datamirage.columnar;
+
+import java.util.Objects;
+
+/**
+ * A column of double-precision values, such as amounts or measurements.
+ */
+public final class DoubleColumnVector implements ColumnVector {
+    private final String name;
+    private final double[] values;
+
+    /**
+     * Creates an empty double column.
+     *
+     * @param name The column name
+     * @param capacity The maximum number of rows
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public DoubleColumnVector(String name, int capacity) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.values = new double[ColumnBatch.checkCapacity(capacity)];
+    }
+
+    /**
+     * Returns the array of values. Only the first {@link ColumnBatch#getRowCount()} values belong
+     * to the current batch.
+     *
+     * @return The backing array of values
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the value of a row.
+     *
+     * @param row The row within the batch
+     * @return The value of the row
+     */
+    public double getDouble(int row) {
+        return values[row];
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+
+    @Override
+    public String getString(int row) {
+        return Double.toString(values[row]);
+    }
+}
@@ -0,0 +1,58 @@
+package com.datamirage.columnar;
+
+import java.util.Objects;
+
+/**
+ * A column of 64-bit integers, such as identifiers, counts or epoch timestamps.
+ */
+public final class LongColumnVector implements ColumnVector {
+    private final String name;
+    private final long[] values;
+
+    /**
+     * Creates an empty long column.
+     *
+     * @param name The column name
+     * @param capacity The maximum number of rows
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public LongColumnVector(String name, int capacity) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.values = new long[ColumnBatch.checkCapacity(capacity)];
+    }
+
+    /**
+     * Returns the array of values. Only the first {@link ColumnBatch#getRowCount()} values belong
+     * to the current batch.
+     *
+     * @return The backing array of values
+     */
+    public long[] getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the value of a row.
+     *
+     * @param row The row within the batch
+     * @return The value of the row
+     */
+    public long getLong(int row) {
+        return values[row];
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getCapacity() {
+        return values.length;
+    }
+
+    @Override
+    public String getString(int row) {
+        return Long.toString(values[row]);
+    }
+}
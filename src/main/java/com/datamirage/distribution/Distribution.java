@@ -0,0 +1,162 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+import java.util.Objects;
+
+/**
+ * A continuous or discrete probability distribution that values can be sampled from, such as the
+ * normal or lognormal distribution. A distribution only holds its parameters and precomputed
+ * constants, so one instance can be shared by any number of threads and providers; the random
+ * values are drawn from the RandomService passed to each call.
+ *
+ * <p>Sampling does not allocate. Normal and exponential values use the ziggurat method, and the
+ * lognormal, gamma and truncated distributions are built on them.</p>
+ */
+public interface Distribution {
+
+    /**
+     * Draws a value from this distribution.
+     *
+     * @param random The random service to draw from
+     * @return The sampled value
+     */
+    double sample(RandomService random);
+
+    /**
+     * Draws a value from this distribution, rounded to the nearest long.
+     *
+     * @param random The random service to draw from
+     * @return The sampled value
+     */
+    default long sampleLong(RandomService random) {
+        return Math.round(sample(random));
+    }
+
+    /**
+     * Fills a range of an array with values drawn from this distribution.
+     *
+     * @param random The random service to draw from
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    default void fill(RandomService random, double[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        for (int i = off; i < off + len; i++) {
+            dst[i] = sample(random);
+        }
+    }
+
+    /**
+     * Fills a range of an array with values drawn from this distribution, rounded to the nearest long.
+     *
+     * @param random The random service to draw from
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    default void fill(RandomService random, long[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        for (int i = off; i < off + len; i++) {
+            dst[i] = sampleLong(random);
+        }
+    }
+
+    /**
+     * Returns this distribution restricted to the specified bounds.
+     *
+     * @param min The smallest value to produce (inclusive)
+     * @param max The largest value to produce (inclusive)
+     * @return The truncated distribution
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    default TruncatedDistribution truncate(double min, double max) {
+        return new TruncatedDistribution(this, min, max);
+    }
+
+    /**
+     * Returns a uniform distribution over the specified range.
+     *
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (exclusive)
+     * @return The uniform distribution
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    static UniformDistribution uniform(double min, double max) {
+        return new UniformDistribution(min, max);
+    }
+
+    /**
+     * Returns a normal (Gaussian) distribution.
+     *
+     * @param mean The mean
+     * @param standardDeviation The standard deviation, not negative
+     * @return The normal distribution
+     * @throws IllegalArgumentException if the standard deviation is negative
+     */
+    static NormalDistribution normal(double mean, double standardDeviation) {
+        return new NormalDistribution(mean, standardDeviation);
+    }
+
+    /**
+     * Returns an exponential distribution.
+     *
+     * @param mean The mean, which is the inverse of the rate, positive
+     * @return The exponential distribution
+     * @throws IllegalArgumentException if the mean is not positive
+     */
+    static ExponentialDistribution exponential(double mean) {
+        return new ExponentialDistribution(mean);
+    }
+
+    /**
+     * Returns a lognormal distribution, whose logarithm is normally distributed.
+     *
+     * @param mu The mean of the logarithm; the median of the distribution is {@code exp(mu)}
+     * @param sigma The standard deviation of the logarithm, not negative
+     * @return The lognormal distribution
+     * @throws IllegalArgumentException if sigma is negative
+     */
+    static LogNormalDistribution lognormal(double mu, double sigma) {
+        return new LogNormalDistribution(mu, sigma);
+    }
+
+    /**
+     * Returns a gamma distribution.
+     *
+     * @param shape The shape parameter, positive
+     * @param scale The scale parameter, positive
+     * @return The gamma distribution
+     * @throws IllegalArgumentException if the shape or scale is not positive
+     */
+    static GammaDistribution gamma(double shape, double scale) {
+        return new GammaDistribution(shape, scale);
+    }
+
+    /**
+     * Returns a Poisson distribution of event counts.
+     *
+     * @param mean The mean number of events, positive
+     * @return The Poisson distribution
+     * @throws IllegalArgumentException if the mean is not positive
+     */
+    static PoissonDistribution poisson(double mean) {
+        return new PoissonDistribution(mean);
+    }
+
+    /**
+     * Returns the specified distribution restricted to the specified bounds.
+     *
+     * @param distribution The distribution to truncate
+     * @param min The smallest value to produce (inclusive)
+     * @param max The largest value to produce (inclusive)
+     * @return The truncated distribution
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    static TruncatedDistribution truncated(Distribution distribution, double min, double max) {
+        return new TruncatedDistribution(distribution, min, max);
+    }
+}
@@ -0,0 +1,55 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * An exponential distribution, such as the time between independent events, sampled with the
+ * ziggurat method.
+ */
+public final class ExponentialDistribution implements Distribution {
+    private final double mean;
+
+    /**
+     * Creates an exponential distribution.
+     *
+     * @param mean The mean, which is the inverse of the rate, positive
+     * @throws IllegalArgumentException if the mean is not positive
+     */
+    public ExponentialDistribution(double mean) {
+        if (!(mean > 0) || Double.isInfinite(mean)) {
+            throw new IllegalArgumentException("Mean must be positive and finite: " + mean);
+        }
+        this.mean = mean;
+    }
+
+    @Override
+    public double sample(RandomService random) {
+        return mean * Ziggurat.exponential(random.getGenerator());
+    }
+
+    @Override
+    public void fill(RandomService random, double[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        RandomGenerator generator = random.getGenerator();
+        for (int i = off; i < off + len; i++) {
+            dst[i] = mean * Ziggurat.exponential(generator);
+        }
+    }
+
+    /**
+     * Returns the mean of this distribution.
+     *
+     * @return The mean
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public String toString() {
+        return "Exponential[mean " + mean + "]";
+    }
+}
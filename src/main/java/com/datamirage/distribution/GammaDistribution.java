@@ -0,0 +1,100 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A gamma distribution, sampled with the method of Marsaglia and Tsang ("A Simple Method for
+ * Generating Gamma Variables", 2000) on top of the ziggurat normal sampler. Shapes below 1 are
+ * sampled with shape + 1 and scaled down by {@code u^(1/shape)}.
+ */
+public final class GammaDistribution implements Distribution {
+    private final double shape;
+    private final double scale;
+    private final double d;
+    private final double c;
+    private final double inverseShape;
+    private final boolean boosted;
+
+    /**
+     * Creates a gamma distribution.
+     *
+     * @param shape The shape parameter, positive
+     * @param scale The scale parameter, positive
+     * @throws IllegalArgumentException if the shape or scale is not positive
+     */
+    public GammaDistribution(double shape, double scale) {
+        if (!(shape > 0) || Double.isInfinite(shape)) {
+            throw new IllegalArgumentException("Shape must be positive and finite: " + shape);
+        }
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("Scale must be positive and finite: " + scale);
+        }
+        this.shape = shape;
+        this.scale = scale;
+        this.boosted = shape < 1;
+        this.d = (boosted ? shape + 1 : shape) - 1.0 / 3;
+        this.c = 1 / Math.sqrt(9 * d);
+        this.inverseShape = 1 / shape;
+    }
+
+    @Override
+    public double sample(RandomService random) {
+        RandomGenerator generator = random.getGenerator();
+        double value = standard(generator);
+        if (boosted) {
+            value *= Math.pow(Ziggurat.uniformPositive(generator), inverseShape);
+        }
+        return value * scale;
+    }
+
+    private double standard(RandomGenerator generator) {
+        while (true) {
+            double x;
+            double v;
+            do {
+                x = Ziggurat.normal(generator);
+                v = 1 + c * x;
+            } while (v <= 0);
+            v = v * v * v;
+            double u = Ziggurat.uniformPositive(generator);
+            double x2 = x * x;
+            if (u < 1 - 0.0331 * x2 * x2 || Math.log(u) < 0.5 * x2 + d * (1 - v + Math.log(v))) {
+                return d * v;
+            }
+        }
+    }
+
+    /**
+     * Returns the shape parameter of this distribution.
+     *
+     * @return The shape
+     */
+    public double getShape() {
+        return shape;
+    }
+
+    /**
+     * Returns the scale parameter of this distribution.
+     *
+     * @return The scale
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns the mean of this distribution, {@code shape * scale}.
+     *
+     * @return The mean
+     */
+    public double getMean() {
+        return shape * scale;
+    }
+
+    @Override
+    public String toString() {
+        return "Gamma[shape " + shape + ", scale " + scale + "]";
+    }
+}
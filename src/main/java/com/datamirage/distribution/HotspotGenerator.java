@@ -0,0 +1,77 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+/**
+ * Generates values of which a fixed fraction of draws hits a small "hot" set at the start of the
+ * range, e.g. 80% of the accesses to 20% of the keys. Values inside the hot set and inside the
+ * remaining cold set are uniform.
+ */
+public class HotspotGenerator implements LongGenerator {
+    private final RandomService random;
+    private final long min;
+    private final long max;
+    private final long hotMax;
+    private final double hotOperationFraction;
+
+    /**
+     * Creates a hotspot generator over the specified range.
+     *
+     * @param random The random service to draw from
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @param hotSetFraction The fraction of the range that is hot, between 0 and 1
+     * @param hotOperationFraction The fraction of draws that hit the hot set, between 0 and 1
+     * @throws IllegalArgumentException if min is greater than max or a fraction is out of range
+     */
+    public HotspotGenerator(RandomService random, long min, long max, double hotSetFraction,
+                            double hotOperationFraction) {
+        long items = ZipfianGenerator.items(min, max);
+        if (!(hotSetFraction >= 0 && hotSetFraction <= 1)) {
+            throw new IllegalArgumentException("Hot set fraction must be between 0 and 1: " + hotSetFraction);
+        }
+        if (!(hotOperationFraction >= 0 && hotOperationFraction <= 1)) {
+            throw new IllegalArgumentException("Hot operation fraction must be between 0 and 1: " + hotOperationFraction);
+        }
+        long hotItems = Math.max(1, (long) (items * hotSetFraction));
+        this.random = random;
+        this.min = min;
+        this.max = max;
+        this.hotMax = min + hotItems - 1;
+        // Without cold items every draw has to be hot
+        this.hotOperationFraction = hotMax == max ? 1.0 : hotOperationFraction;
+    }
+
+    @Override
+    public long nextLong() {
+        if (random.nextDouble(0.0, 1.0) < hotOperationFraction) {
+            return random.nextLong(min, hotMax);
+        }
+        return random.nextLong(hotMax + 1, max);
+    }
+
+    /**
+     * Checks if the specified value belongs to the hot set.
+     *
+     * @param value The value to check
+     * @return true if the value is in the hot set, false otherwise
+     */
+    public boolean isHot(long value) {
+        return value >= min && value <= hotMax;
+    }
+
+    @Override
+    public long min() {
+        return min;
+    }
+
+    @Override
+    public long max() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "HotspotGenerator[" + min + ".." + max + ", hot " + min + ".." + hotMax + "]";
+    }
+}
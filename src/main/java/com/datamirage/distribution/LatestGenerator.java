@@ -0,0 +1,122 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+/**
+ * Generates values skewed towards the most recently inserted one, as in the "latest" request
+ * distribution of YCSB: the latest value is the most popular and the popularity of older values
+ * falls off with a Zipfian distribution over their distance from it.
+ *
+ * <p>The latest value moves as the workload inserts new keys, through {@link #advance()} or
+ * {@link #setLatest(long)}. Small moves update the zeta constant term by term; larger ones recompute it.</p>
+ */
+public class LatestGenerator implements LongGenerator {
+    private final RandomService random;
+    private final long min;
+    private final double theta;
+    private final double alpha;
+    private final double halfPowTheta;
+    private long latest;
+    private long items;
+    private double zetan;
+    private double eta;
+
+    /**
+     * Creates a latest generator with the default skew of 0.99.
+     *
+     * @param random The random service to draw from
+     * @param min The oldest value (inclusive)
+     * @param latest The most recently inserted value
+     * @throws IllegalArgumentException if min is greater than latest
+     */
+    public LatestGenerator(RandomService random, long min, long latest) {
+        this(random, min, latest, ZipfianGenerator.DEFAULT_THETA);
+    }
+
+    /**
+     * Creates a latest generator.
+     *
+     * @param random The random service to draw from
+     * @param min The oldest value (inclusive)
+     * @param latest The most recently inserted value
+     * @param theta The skew, greater than 0 and less than 1; larger values are more skewed
+     * @throws IllegalArgumentException if min is greater than latest or theta is out of range
+     */
+    public LatestGenerator(RandomService random, long min, long latest, double theta) {
+        if (!(theta > 0 && theta < 1)) {
+            throw new IllegalArgumentException("Theta must be between 0 and 1 (exclusive): " + theta);
+        }
+        this.random = random;
+        this.min = min;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.halfPowTheta = 1.0 + Math.pow(0.5, theta);
+        this.items = ZipfianGenerator.items(min, latest);
+        this.zetan = ZipfianGenerator.zeta(items, theta);
+        this.latest = latest;
+        this.eta = ZipfianGenerator.eta(items, theta, zetan);
+    }
+
+    @Override
+    public long nextLong() {
+        return latest - ZipfianGenerator.rank(random.nextDouble(0.0, 1.0), items, zetan, eta, alpha, halfPowTheta);
+    }
+
+    /**
+     * Records the insertion of the value after the current latest one.
+     *
+     * @return The new latest value
+     */
+    public long advance() {
+        setLatest(latest + 1);
+        return latest;
+    }
+
+    /**
+     * Moves the most recently inserted value.
+     *
+     * @param latest The new latest value
+     * @throws IllegalArgumentException if latest is less than the minimum
+     */
+    public void setLatest(long latest) {
+        long newItems = ZipfianGenerator.items(min, latest);
+        long delta = newItems - items;
+        if (Math.abs(delta) <= ZipfianGenerator.EXACT_TERMS) {
+            for (long i = items + 1; i <= newItems; i++) {
+                zetan += 1 / Math.pow(i, theta);
+            }
+            for (long i = items; i > newItems; i--) {
+                zetan -= 1 / Math.pow(i, theta);
+            }
+        } else {
+            zetan = ZipfianGenerator.zeta(newItems, theta);
+        }
+        this.items = newItems;
+        this.latest = latest;
+        this.eta = ZipfianGenerator.eta(newItems, theta, zetan);
+    }
+
+    /**
+     * Returns the most recently inserted value.
+     *
+     * @return The latest value
+     */
+    public long getLatest() {
+        return latest;
+    }
+
+    @Override
+    public long min() {
+        return min;
+    }
+
+    @Override
+    public long max() {
+        return latest;
+    }
+
+    @Override
+    public String toString() {
+        return "LatestGenerator[" + min + ".." + latest + ", theta " + theta + "]";
+    }
+}
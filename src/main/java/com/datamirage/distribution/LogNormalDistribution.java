@@ -0,0 +1,76 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * A lognormal distribution, whose logarithm is normally distributed. Prices, amounts, file sizes
+ * and response times are typically lognormal: always positive, with a long tail to the right.
+ */
+public final class LogNormalDistribution implements Distribution {
+    private final double mu;
+    private final double sigma;
+
+    /**
+     * Creates a lognormal distribution.
+     *
+     * @param mu The mean of the logarithm; the median of the distribution is {@code exp(mu)}
+     * @param sigma The standard deviation of the logarithm, not negative
+     * @throws IllegalArgumentException if sigma is negative
+     */
+    public LogNormalDistribution(double mu, double sigma) {
+        if (!(sigma >= 0)) {
+            throw new IllegalArgumentException("Sigma cannot be negative: " + sigma);
+        }
+        this.mu = mu;
+        this.sigma = sigma;
+    }
+
+    @Override
+    public double sample(RandomService random) {
+        return Math.exp(mu + sigma * Ziggurat.normal(random.getGenerator()));
+    }
+
+    @Override
+    public void fill(RandomService random, double[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        RandomGenerator generator = random.getGenerator();
+        for (int i = off; i < off + len; i++) {
+            dst[i] = Math.exp(mu + sigma * Ziggurat.normal(generator));
+        }
+    }
+
+    /**
+     * Returns the mean of the logarithm of this distribution.
+     *
+     * @return The mu parameter
+     */
+    public double getMu() {
+        return mu;
+    }
+
+    /**
+     * Returns the standard deviation of the logarithm of this distribution.
+     *
+     * @return The sigma parameter
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Returns the mean of this distribution, {@code exp(mu + sigma^2 / 2)}.
+     *
+     * @return The mean
+     */
+    public double getMean() {
+        return Math.exp(mu + sigma * sigma / 2);
+    }
+
+    @Override
+    public String toString() {
+        return "LogNormal[mu " + mu + ", sigma " + sigma + "]";
+    }
+}
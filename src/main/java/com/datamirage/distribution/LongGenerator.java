@@ -0,0 +1,50 @@
+package com.datamirage.distribution;
+
+import java.util.Objects;
+
+/**
+ * A reusable generator of long values following a fixed distribution, such as the keys
+ * accessed by a cache or database benchmark. All constants of the distribution are computed
+ * when the generator is created, so {@link #nextLong()} does not allocate.
+ *
+ * <p>Generators draw from the RandomService they were created with and, like it, are not
+ * thread-safe: create one generator per thread, e.g. from a {@code DataMirage.fork()}.</p>
+ */
+public interface LongGenerator {
+
+    /**
+     * Generates the next value.
+     *
+     * @return A value between {@link #min()} and {@link #max()} (inclusive)
+     */
+    long nextLong();
+
+    /**
+     * Returns the smallest value this generator can produce.
+     *
+     * @return The minimum value (inclusive)
+     */
+    long min();
+
+    /**
+     * Returns the largest value this generator can produce.
+     *
+     * @return The maximum value (inclusive)
+     */
+    long max();
+
+    /**
+     * Fills a range of an array with generated values.
+     *
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    default void nextLongs(long[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        for (int i = off; i < off + len; i++) {
+            dst[i] = nextLong();
+        }
+    }
+}
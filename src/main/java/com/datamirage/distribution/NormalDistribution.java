@@ -0,0 +1,66 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * A normal (Gaussian) distribution, sampled with the ziggurat method.
+ */
+public final class NormalDistribution implements Distribution {
+    private final double mean;
+    private final double standardDeviation;
+
+    /**
+     * Creates a normal distribution.
+     *
+     * @param mean The mean
+     * @param standardDeviation The standard deviation, not negative
+     * @throws IllegalArgumentException if the standard deviation is negative
+     */
+    public NormalDistribution(double mean, double standardDeviation) {
+        if (!(standardDeviation >= 0)) {
+            throw new IllegalArgumentException("Standard deviation cannot be negative: " + standardDeviation);
+        }
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+    }
+
+    @Override
+    public double sample(RandomService random) {
+        return mean + standardDeviation * Ziggurat.normal(random.getGenerator());
+    }
+
+    @Override
+    public void fill(RandomService random, double[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        RandomGenerator generator = random.getGenerator();
+        for (int i = off; i < off + len; i++) {
+            dst[i] = mean + standardDeviation * Ziggurat.normal(generator);
+        }
+    }
+
+    /**
+     * Returns the mean of this distribution.
+     *
+     * @return The mean
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the standard deviation of this distribution.
+     *
+     * @return The standard deviation
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    @Override
+    public String toString() {
+        return "Normal[mean " + mean + ", sd " + standardDeviation + "]";
+    }
+}
@@ -0,0 +1,80 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+/**
+ * Generates values following a Zipfian distribution whose popular values are scattered over the
+ * range instead of clustered at its start, as in YCSB. A Zipfian rank is drawn and hashed with
+ * 64-bit FNV-1a into the range, so hot keys land in different pages, partitions or cache lines.
+ *
+ * <p>Because the hash is not a bijection, a few values of the range are never produced and a few
+ * are produced for more than one rank; the overall skew is the same as for {@link ZipfianGenerator}.</p>
+ */
+public class ScrambledZipfianGenerator implements LongGenerator {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final ZipfianGenerator zipfian;
+    private final long min;
+    private final long items;
+
+    /**
+     * Creates a scrambled Zipfian generator over the specified range with the default skew of 0.99.
+     *
+     * @param random The random service to draw from
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    public ScrambledZipfianGenerator(RandomService random, long min, long max) {
+        this(random, min, max, ZipfianGenerator.DEFAULT_THETA);
+    }
+
+    /**
+     * Creates a scrambled Zipfian generator over the specified range.
+     *
+     * @param random The random service to draw from
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @param theta The skew, greater than 0 and less than 1; larger values are more skewed
+     * @throws IllegalArgumentException if min is greater than max or theta is out of range
+     */
+    public ScrambledZipfianGenerator(RandomService random, long min, long max, double theta) {
+        this.zipfian = new ZipfianGenerator(random, 0, ZipfianGenerator.items(min, max) - 1, theta);
+        this.min = min;
+        this.items = zipfian.getItems();
+    }
+
+    @Override
+    public long nextLong() {
+        return min + Long.remainderUnsigned(fnv(zipfian.nextRank()), items);
+    }
+
+    @Override
+    public long min() {
+        return min;
+    }
+
+    @Override
+    public long max() {
+        return min + items - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "ScrambledZipfianGenerator[" + min() + ".." + max() + ", theta " + zipfian.getTheta() + "]";
+    }
+
+    /**
+     * Hashes the eight bytes of a value with 64-bit FNV-1a.
+     */
+    static long fnv(long value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= value & 0xFF;
+            hash *= FNV_PRIME;
+            value >>>= 8;
+        }
+        return hash;
+    }
+}
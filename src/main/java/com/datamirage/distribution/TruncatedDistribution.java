@@ -0,0 +1,79 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+/**
+ * A distribution restricted to a range, e.g. a normal distribution of film ratings kept between
+ * 1 and 10. Values outside the range are rejected and drawn again.
+ *
+ * <p>If the range holds almost none of the probability mass, a value is still returned after
+ * {@value #MAX_ATTEMPTS} rejected draws: the last draw, clamped to the range.</p>
+ */
+public final class TruncatedDistribution implements Distribution {
+    static final int MAX_ATTEMPTS = 1000;
+
+    private final Distribution distribution;
+    private final double min;
+    private final double max;
+
+    /**
+     * Creates a truncated distribution.
+     *
+     * @param distribution The distribution to truncate
+     * @param min The smallest value to produce (inclusive)
+     * @param max The largest value to produce (inclusive)
+     * @throws IllegalArgumentException if the distribution is null or min is greater than max
+     */
+    public TruncatedDistribution(Distribution distribution, double min, double max) {
+        if (distribution == null) {
+            throw new IllegalArgumentException("Distribution cannot be null");
+        }
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        this.distribution = distribution;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public double sample(RandomService random) {
+        double value = distribution.sample(random);
+        for (int attempt = 1; attempt < MAX_ATTEMPTS && (value < min || value > max); attempt++) {
+            value = distribution.sample(random);
+        }
+        return Math.min(max, Math.max(min, value));
+    }
+
+    /**
+     * Returns the distribution that is truncated.
+     *
+     * @return The underlying distribution
+     */
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    /**
+     * Returns the lower bound of this distribution.
+     *
+     * @return The minimum value (inclusive)
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the upper bound of this distribution.
+     *
+     * @return The maximum value (inclusive)
+     */
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return distribution + " truncated to [" + min + ".." + max + "]";
+    }
+}
@@ -0,0 +1,54 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+
+/**
+ * A uniform distribution over a range, the distribution of {@link RandomService#nextDouble(double, double)}.
+ */
+public final class UniformDistribution implements Distribution {
+    private final double min;
+    private final double max;
+
+    /**
+     * Creates a uniform distribution over the specified range.
+     *
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (exclusive)
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    public UniformDistribution(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public double sample(RandomService random) {
+        return random.nextDouble(min, max);
+    }
+
+    /**
+     * Returns the lower bound of this distribution.
+     *
+     * @return The minimum value (inclusive)
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the upper bound of this distribution.
+     *
+     * @return The maximum value (exclusive)
+     */
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "Uniform[" + min + ".." + max + "]";
+    }
+}
@@ -0,0 +1,154 @@
+package com.datamirage.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Standard normal and exponential samplers using the ziggurat method of Marsaglia and Tsang
+ * ("The Ziggurat Method for Generating Random Variables", 2000).
+ *
+ * <p>Each sample takes one 64-bit draw: the low bits select a layer, 7 bits for the 128 normal layers
+ * and 8 bits for the 256 exponential layers, and the value is taken from bits 8-63, signed for the
+ * normal sampler, disjoint from the layer bits, so the layer and the value are independent. About
+ * 99% of the samples are accepted with a single table lookup and multiplication; only the rest need
+ * an exponential or logarithm.</p>
+ */
+final class Ziggurat {
+    private static final int NORMAL_LAYERS = 128;
+    private static final int EXPONENTIAL_LAYERS = 256;
+    private static final double NORMAL_R = 3.442619855899;
+    private static final double NORMAL_V = 9.91256303526217e-3;
+    private static final double EXPONENTIAL_R = 7.697117470131487;
+    private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+    private static final double SIGNED_SCALE = 0x1.0p55;
+    private static final double UNSIGNED_SCALE = 0x1.0p56;
+
+    private static final long[] KN = new long[NORMAL_LAYERS];
+    private static final double[] WN = new double[NORMAL_LAYERS];
+    private static final double[] FN = new double[NORMAL_LAYERS];
+    private static final long[] KE = new long[EXPONENTIAL_LAYERS];
+    private static final double[] WE = new double[EXPONENTIAL_LAYERS];
+    private static final double[] FE = new double[EXPONENTIAL_LAYERS];
+
+    static {
+        double dn = NORMAL_R;
+        double tn = dn;
+        double q = NORMAL_V / Math.exp(-0.5 * dn * dn);
+        KN[0] = (long) ((dn / q) * SIGNED_SCALE);
+        KN[1] = 0;
+        WN[0] = q / SIGNED_SCALE;
+        WN[NORMAL_LAYERS - 1] = dn / SIGNED_SCALE;
+        FN[0] = 1.0;
+        FN[NORMAL_LAYERS - 1] = Math.exp(-0.5 * dn * dn);
+        for (int i = NORMAL_LAYERS - 2; i >= 1; i--) {
+            dn = Math.sqrt(-2 * Math.log(NORMAL_V / dn + Math.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (long) ((dn / tn) * SIGNED_SCALE);
+            tn = dn;
+            FN[i] = Math.exp(-0.5 * dn * dn);
+            WN[i] = dn / SIGNED_SCALE;
+        }
+
+        double de = EXPONENTIAL_R;
+        double te = de;
+        q = EXPONENTIAL_V / Math.exp(-de);
+        KE[0] = (long) ((de / q) * UNSIGNED_SCALE);
+        KE[1] = 0;
+        WE[0] = q / UNSIGNED_SCALE;
+        WE[EXPONENTIAL_LAYERS - 1] = de / UNSIGNED_SCALE;
+        FE[0] = 1.0;
+        FE[EXPONENTIAL_LAYERS - 1] = Math.exp(-de);
+        for (int i = EXPONENTIAL_LAYERS - 2; i >= 1; i--) {
+            de = -Math.log(EXPONENTIAL_V / de + Math.exp(-de));
+            KE[i + 1] = (long) ((de / te) * UNSIGNED_SCALE);
+            te = de;
+            FE[i] = Math.exp(-de);
+            WE[i] = de / UNSIGNED_SCALE;
+        }
+    }
+
+    private Ziggurat() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Draws a standard normal value, with mean 0 and standard deviation 1.
+     *
+     * @param random The generator to draw from
+     * @return A normally distributed value
+     */
+    static double normal(RandomGenerator random) {
+        long bits = random.nextLong();
+        int layer = (int) bits & (NORMAL_LAYERS - 1);
+        long value = bits >> 8;
+        if (Math.abs(value) < KN[layer]) {
+            return value * WN[layer];
+        }
+        return normalTail(random, layer, value);
+    }
+
+    /**
+     * Draws a standard exponential value, with rate 1.
+     *
+     * @param random The generator to draw from
+     * @return An exponentially distributed value
+     */
+    static double exponential(RandomGenerator random) {
+        long bits = random.nextLong();
+        int layer = (int) bits & (EXPONENTIAL_LAYERS - 1);
+        long value = bits >>> 8;
+        if (value < KE[layer]) {
+            return value * WE[layer];
+        }
+        return exponentialTail(random, layer, value);
+    }
+
+    /**
+     * Draws a uniform value between 0 (exclusive) and 1 (inclusive), which is safe to take the logarithm of.
+     *
+     * @param random The generator to draw from
+     * @return A uniform value in (0, 1]
+     */
+    static double uniformPositive(RandomGenerator random) {
+        return ((random.nextLong() >>> 11) + 1) * 0x1.0p-53;
+    }
+
+    private static double normalTail(RandomGenerator random, int layer, long value) {
+        while (true) {
+            double x = value * WN[layer];
+            if (layer == 0) {
+                double y;
+                do {
+                    x = -Math.log(uniformPositive(random)) / NORMAL_R;
+                    y = -Math.log(uniformPositive(random));
+                } while (y + y < x * x);
+                return value > 0 ? NORMAL_R + x : -NORMAL_R - x;
+            }
+            if (FN[layer] + random.nextDouble() * (FN[layer - 1] - FN[layer]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+            long bits = random.nextLong();
+            layer = (int) bits & (NORMAL_LAYERS - 1);
+            value = bits >> 8;
+            if (Math.abs(value) < KN[layer]) {
+                return value * WN[layer];
+            }
+        }
+    }
+
+    private static double exponentialTail(RandomGenerator random, int layer, long value) {
+        while (true) {
+            if (layer == 0) {
+                return EXPONENTIAL_R - Math.log(uniformPositive(random));
+            }
+            double x = value * WE[layer];
+            if (FE[layer] + random.nextDouble() * (FE[layer - 1] - FE[layer]) < Math.exp(-x)) {
+                return x;
+            }
+            long bits = random.nextLong();
+            layer = (int) bits & (EXPONENTIAL_LAYERS - 1);
+            value = bits >>> 8;
+            if (value < KE[layer]) {
+                return value * WE[layer];
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.datamirage.generation;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The complete state of a {@link GenerationJob} between two rows: the seed and size of the job, the
+ * next row to generate, the number of bytes written to the output, the seed of every random stream
+ * and the length of the log of unique values.
+ *
+ * <p>Because all streams are counter-based, their state is fully described by their seed and the
+ * row cursor, and the unique sets are kept in an append-only side log, so a checkpoint stays small
+ * no matter how many rows were generated. Checkpoints are written to a temporary file that is forced
+ * to the disk and then atomically replaces the previous one, so a crash while checkpointing leaves
+ * the previous checkpoint intact.</p>
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * int     magic ("DMC1")
+ * short   version
+ * long    seed, rows, next row, output offset
+ * int     stream count, then per stream: string name, long seed
+ * long    unique log length
+ * </pre>
+ * where a string is an int byte length followed by its UTF-8 bytes.</p>
+ */
+public final class Checkpoint {
+    private static final int MAGIC = 0x444D4331;
+    private static final short VERSION = 2;
+
+    private final long seed;
+    private final long rows;
+    private final long nextRow;
+    private final long outputOffset;
+    private final Map<String, Long> streamSeeds;
+    private final long uniqueLogLength;
+
+    /**
+     * Creates a checkpoint. The map is copied.
+     *
+     * @param seed The seed of the job
+     * @param rows The total number of rows of the job
+     * @param nextRow The next row to generate
+     * @param outputOffset The number of bytes of the output that belong to the rows before the next row
+     * @param streamSeeds The seeds of the named random streams
+     * @param uniqueLogLength The number of bytes of the unique log that belong to the rows before the next row
+     */
+    public Checkpoint(long seed, long rows, long nextRow, long outputOffset,
+                      Map<String, Long> streamSeeds, long uniqueLogLength) {
+        this.seed = seed;
+        this.rows = rows;
+        this.nextRow = nextRow;
+        this.outputOffset = outputOffset;
+        this.streamSeeds = Collections.unmodifiableMap(new LinkedHashMap<>(streamSeeds));
+        this.uniqueLogLength = uniqueLogLength;
+    }
+
+    /**
+     * Returns the seed of the job.
+     *
+     * @return The seed of the main stream
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the total number of rows of the job.
+     *
+     * @return The number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the next row to generate, which is also the number of rows already generated.
+     *
+     * @return The row cursor
+     */
+    public long getNextRow() {
+        return nextRow;
+    }
+
+    /**
+     * Returns the number of bytes of the output that belong to the rows before the next row.
+     * A resumed job truncates the output to this length.
+     *
+     * @return The output offset in bytes
+     */
+    public long getOutputOffset() {
+        return outputOffset;
+    }
+
+    /**
+     * Returns the seeds of the named random streams, in creation order.
+     *
+     * @return An unmodifiable map from stream name to seed
+     */
+    public Map<String, Long> getStreamSeeds() {
+        return streamSeeds;
+    }
+
+    /**
+     * Returns the number of bytes of the unique log that belong to the rows before the next row.
+     * A resumed job truncates the log to this length, see {@link GenerationJob#uniqueLogFile(Path)}.
+     *
+     * @return The unique log length in bytes
+     */
+    public long getUniqueLogLength() {
+        return uniqueLogLength;
+    }
+
+    /**
+     * Checks if the job has generated all of its rows.
+     *
+     * @return true if no rows are left, false otherwise
+     */
+    public boolean isComplete() {
+        return nextRow >= rows;
+    }
+
+    /**
+     * Writes this checkpoint to the specified file, atomically replacing any previous checkpoint.
+     *
+     * @param file The checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeLong(rows);
+        out.writeLong(nextRow);
+        out.writeLong(outputOffset);
+        out.writeInt(streamSeeds.size());
+        for (Map.Entry<String, Long> streamSeed : streamSeeds.entrySet()) {
+            writeString(out, streamSeed.getKey());
+            out.writeLong(streamSeed.getValue());
+        }
+        out.writeLong(uniqueLogLength);
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            // Without this, the rename may reach the disk before the data after a crash
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the rename of a file to the disk by forcing its directory, where the platform allows it.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or forced on every platform, e.g. on Windows
+        }
+    }
+
+    /**
+     * Reads a checkpoint from the specified file.
+     *
+     * @param file The checkpoint file
+     * @return The checkpoint
+     * @throws IOException if the file cannot be read or is not a supported checkpoint
+     */
+    public static Checkpoint read(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a DataMirage checkpoint: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version: " + version);
+            }
+            long seed = in.readLong();
+            long rows = in.readLong();
+            long nextRow = in.readLong();
+            long outputOffset = in.readLong();
+            Map<String, Long> streamSeeds = new LinkedHashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                streamSeeds.put(readString(in), in.readLong());
+            }
+            long uniqueLogLength = in.readLong();
+            return new Checkpoint(seed, rows, nextRow, outputOffset, streamSeeds, uniqueLogLength);
+        } catch (EOFException e) {
+            throw new IOException("Truncated checkpoint: " + file, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint[row " + nextRow + " of " + rows + ", offset " + outputOffset + "]";
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,20 @@
+package com.datamirage.generation;
+
+import java.io.IOException;
+
+/**
+ * Receives the chunks of rows produced by a {@link GenerationEngine}, one at a time and in row order.
+ */
+@FunctionalInterface
+public interface ChunkSink {
+
+    /**
+     * Consumes one chunk of generated rows.
+     *
+     * @param firstRow The number of the first row of the chunk
+     * @param rowCount The number of rows in the chunk
+     * @param bytes The UTF-8 encoded output of the rows; the array is not reused by the engine
+     * @throws IOException if the chunk cannot be written
+     */
+    void accept(long firstRow, int rowCount, byte[] bytes) throws IOException;
+}
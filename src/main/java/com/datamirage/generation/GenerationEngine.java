@@ -0,0 +1,212 @@
+package com.datamirage.generation;
+
+import com.datamirage.util.LocaleData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Generates a range of rows in parallel on a {@link ForkJoinPool} and hands the output to a sink in
+ * row order. The range is split into chunks of a fixed number of rows; every chunk is generated by
+ * its own task with its own {@link RowContext}, i.e. its own providers and random streams, so the
+ * tasks share no mutable state.
+ *
+ * <p>Since every row draws from counter-based streams positioned at the start of the row, the output
+ * of a row depends only on the seed and the row number. It is therefore byte-identical for any
+ * parallelism, and identical to the output of a {@link GenerationJob} with the same seed, as long as
+ * the row generator does not use {@link RowContext#unique(String, String)}. Unique sets only span one
+ * chunk here; rows that rely on them depend on the chunk size too, but still not on the parallelism.</p>
+ *
+ * <p>Finished chunks wait in a bounded reorder buffer until all chunks before them have been written:
+ * at most {@code maxPendingChunks} chunks are submitted or waiting at any time, so memory use does
+ * not grow with the number of rows even if one chunk is slow or the sink cannot keep up.</p>
+ * <pre>
+ * {@code
+ * GenerationEngine engine = new GenerationEngine(LocaleData.of(DataMirageLocale.EN_US), 42L,
+ *     (context, out) -> out.append(context.data().name().fullName()).append('\n'));
+ * try (OutputStream out = Files.newOutputStream(Path.of("people.txt"))) {
+ *     engine.run(100_000_000L, out);
+ * }
+ * }
+ * </pre>
+ */
+public final class GenerationEngine {
+    /** The default number of rows of a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /** The default number of pending chunks per thread of the pool. */
+    public static final int DEFAULT_PENDING_CHUNKS_PER_THREAD = 4;
+
+    private final LocaleData data;
+    private final long seed;
+    private final RowGenerator generator;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+
+    /**
+     * Creates an engine that runs on the common pool with the default chunk size.
+     *
+     * @param data The locale data to generate from
+     * @param seed The seed of the generated rows
+     * @param generator The generator of a single row; it is called from several threads at once
+     */
+    public GenerationEngine(LocaleData data, long seed, RowGenerator generator) {
+        this(data, seed, generator, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE,
+            DEFAULT_PENDING_CHUNKS_PER_THREAD * ForkJoinPool.commonPool().getParallelism());
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param data The locale data to generate from
+     * @param seed The seed of the generated rows
+     * @param generator The generator of a single row; it is called from several threads at once
+     * @param pool The pool to generate the chunks on
+     * @param chunkSize The number of rows of a chunk, positive
+     * @param maxPendingChunks The maximum number of chunks that are being generated or waiting to be written, positive
+     * @throws IllegalArgumentException if chunkSize or maxPendingChunks is not positive
+     */
+    public GenerationEngine(LocaleData data, long seed, RowGenerator generator, ForkJoinPool pool,
+                            int chunkSize, int maxPendingChunks) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        if (maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("Max pending chunks must be positive: " + maxPendingChunks);
+        }
+        this.data = data;
+        this.seed = seed;
+        this.generator = generator;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Generates rows 0 to {@code rows - 1} and writes them to a stream. The stream is neither flushed nor closed.
+     *
+     * @param rows The number of rows to generate
+     * @param out The stream to write the rows to
+     * @return The number of bytes written
+     * @throws IOException if the stream cannot be written
+     * @throws IllegalArgumentException if rows is negative
+     */
+    public long run(long rows, OutputStream out) throws IOException {
+        return run(0, rows, (firstRow, rowCount, bytes) -> out.write(bytes));
+    }
+
+    /**
+     * Generates the rows from {@code fromRow} (inclusive) to {@code toRow} (exclusive) and hands them
+     * to a sink, chunk by chunk and in row order. The sink is only called from the calling thread.
+     * Chunks start at {@code fromRow} and every {@code chunkSize} rows after it.
+     *
+     * <p>If a row generator or the sink fails, the chunks that have not been written yet are cancelled
+     * and the exception is rethrown.</p>
+     *
+     * @param fromRow The number of the first row
+     * @param toRow The number of the row after the last row
+     * @param sink The sink of the chunks
+     * @return The number of bytes handed to the sink
+     * @throws IOException if the sink fails
+     * @throws IllegalArgumentException if fromRow is negative or greater than toRow
+     */
+    public long run(long fromRow, long toRow, ChunkSink sink) throws IOException {
+        if (fromRow < 0 || fromRow > toRow) {
+            throw new IllegalArgumentException("Invalid row range: " + fromRow + ".." + toRow);
+        }
+        ArrayDeque<ChunkTask> pending = new ArrayDeque<>(maxPendingChunks);
+        long written = 0;
+        try {
+            long next = fromRow;
+            while (next < toRow || !pending.isEmpty()) {
+                if (next < toRow && pending.size() < maxPendingChunks) {
+                    int rowCount = (int) Math.min(chunkSize, toRow - next);
+                    ChunkTask task = new ChunkTask(next, rowCount);
+                    pool.execute(task);
+                    pending.add(task);
+                    next += rowCount;
+                } else {
+                    // The buffer is full or all chunks are submitted: write the oldest chunk, in order
+                    ChunkTask oldest = pending.poll();
+                    byte[] bytes = oldest.join();
+                    sink.accept(oldest.firstRow, oldest.rowCount, bytes);
+                    written += bytes.length;
+                }
+            }
+        } finally {
+            for (ChunkTask task : pending) {
+                task.cancel(false);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Generates the rows of one chunk with a context of its own.
+     */
+    @SuppressWarnings("serial")
+    private final class ChunkTask extends RecursiveTask<byte[]> {
+        private final long firstRow;
+        private final int rowCount;
+
+        ChunkTask(long firstRow, int rowCount) {
+            this.firstRow = firstRow;
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        protected byte[] compute() {
+            RowContext context = new RowContext(data, seed);
+            StringBuilder chunk = new StringBuilder((int) Math.min(1 << 20, rowCount * 64L));
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < rowCount; i++) {
+                context.seek(firstRow + i);
+                line.setLength(0);
+                generator.generate(context, line);
+                chunk.append(line);
+            }
+            return chunk.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Returns the seed of the generated rows.
+     *
+     * @return The seed of the main stream
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the pool the chunks are generated on.
+     *
+     * @return The fork-join pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the number of rows of a chunk.
+     *
+     * @return The chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the maximum number of chunks that are being generated or waiting to be written.
+     *
+     * @return The size of the reorder buffer, in chunks
+     */
+    public int getMaxPendingChunks() {
+        return maxPendingChunks;
+    }
+}
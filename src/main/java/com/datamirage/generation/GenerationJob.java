@@ -0,0 +1,193 @@
+package com.datamirage.generation;
+
+import com.datamirage.util.LocaleData;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A resumable job that generates a fixed number of rows into an output file, checkpointing its
+ * complete state every few rows. If the process dies, running the same job again continues from
+ * the last checkpoint and produces exactly the bytes that an uninterrupted run would have produced.
+ *
+ * <p>Rows draw their randomness from counter-based streams that are positioned at the start of each
+ * row (see {@link RowContext}), so no generator state has to be captured beyond the seed and the
+ * row cursor. A {@code java.util.Random} could not be resumed like this, since its state cannot be
+ * read back portably. Values added to unique sets are appended to a side log next to the checkpoint
+ * file (see {@link #uniqueLogFile(Path)}), so every checkpoint only writes the values of its own rows.</p>
+ * <pre>
+ * {@code
+ * GenerationJob job = new GenerationJob(LocaleData.of(DataMirageLocale.EN_US), 42L, 10_000_000L,
+ *     (context, out) -> out.append(context.data().name().fullName()).append('\n'));
+ * Checkpoint done = job.run(Path.of("people.txt"), Path.of("people.checkpoint"));
+ * }
+ * </pre>
+ */
+public final class GenerationJob {
+    /** The default number of rows between two checkpoints. */
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 10_000;
+
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final LocaleData data;
+    private final long seed;
+    private final long rows;
+    private final RowGenerator generator;
+    private final long checkpointInterval;
+
+    /**
+     * Creates a job that checkpoints every {@value #DEFAULT_CHECKPOINT_INTERVAL} rows.
+     *
+     * @param data The locale data to generate from
+     * @param seed The seed of the job
+     * @param rows The number of rows to generate
+     * @param generator The generator of a single row
+     * @throws IllegalArgumentException if rows is negative
+     */
+    public GenerationJob(LocaleData data, long seed, long rows, RowGenerator generator) {
+        this(data, seed, rows, generator, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a job.
+     *
+     * @param data The locale data to generate from
+     * @param seed The seed of the job
+     * @param rows The number of rows to generate
+     * @param generator The generator of a single row
+     * @param checkpointInterval The number of rows between two checkpoints, positive
+     * @throws IllegalArgumentException if rows is negative or the interval is not positive
+     */
+    public GenerationJob(LocaleData data, long seed, long rows, RowGenerator generator, long checkpointInterval) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows cannot be negative: " + rows);
+        }
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointInterval);
+        }
+        this.data = data;
+        this.seed = seed;
+        this.rows = rows;
+        this.generator = generator;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs the job, or resumes it if the checkpoint file exists. The output and the unique log are
+     * truncated to the lengths recorded in the checkpoint, discarding rows written after it, before
+     * generation continues.
+     *
+     * @param output The file to write the rows to
+     * @param checkpointFile The file to read the checkpoint from and write checkpoints to
+     * @return The final checkpoint, which is also left in the checkpoint file
+     * @throws IOException if a file cannot be read or written, or the output is shorter than the checkpoint
+     * @throws IllegalStateException if the checkpoint belongs to a job with a different seed or size
+     */
+    public Checkpoint run(Path output, Path checkpointFile) throws IOException {
+        RowContext context = new RowContext(data, seed);
+        Path logFile = uniqueLogFile(checkpointFile);
+        Checkpoint checkpoint = Files.exists(checkpointFile)
+            ? restore(Checkpoint.read(checkpointFile), context, logFile)
+            : new Checkpoint(seed, rows, 0, 0, Map.of(), 0);
+        long row = checkpoint.getNextRow();
+        long offset = checkpoint.getOutputOffset();
+
+        try (UniqueLog log = UniqueLog.open(logFile, checkpoint.getUniqueLogLength());
+             FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() < offset) {
+                throw new IOException("Output " + output + " is shorter than its checkpoint: "
+                    + channel.size() + " < " + offset + " bytes");
+            }
+            channel.truncate(offset);
+            channel.position(offset);
+            context.logUniqueValues(log);
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), OUTPUT_BUFFER_SIZE);
+            StringBuilder line = new StringBuilder();
+            while (row < rows) {
+                context.seek(row);
+                line.setLength(0);
+                generator.generate(context, line);
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                out.write(bytes);
+                offset += bytes.length;
+                row++;
+                if (row % checkpointInterval == 0 || row == rows) {
+                    out.flush();
+                    channel.force(false);
+                    checkpoint = new Checkpoint(seed, rows, row, offset, context.streamSeeds(), log.sync());
+                    checkpoint.write(checkpointFile);
+                }
+            }
+            out.flush();
+        }
+        if (!Files.exists(checkpointFile)) {
+            checkpoint.write(checkpointFile);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Returns the file that holds the values of the unique sets of a job, next to its checkpoint file.
+     * It belongs to the checkpoint and has to be kept and deleted together with it.
+     *
+     * @param checkpointFile The checkpoint file of the job
+     * @return The unique log file, named like the checkpoint file with a {@code .unique} suffix
+     */
+    public static Path uniqueLogFile(Path checkpointFile) {
+        return checkpointFile.resolveSibling(checkpointFile.getFileName() + ".unique");
+    }
+
+    private Checkpoint restore(Checkpoint checkpoint, RowContext context, Path logFile) throws IOException {
+        if (checkpoint.getSeed() != seed || checkpoint.getRows() != rows) {
+            throw new IllegalStateException("Checkpoint belongs to a different job: seed " + checkpoint.getSeed()
+                + ", " + checkpoint.getRows() + " rows");
+        }
+        for (Map.Entry<String, Long> stream : checkpoint.getStreamSeeds().entrySet()) {
+            if (RowContext.streamSeed(seed, stream.getKey()) != stream.getValue()) {
+                throw new IllegalStateException("Checkpoint has a different seed for stream " + stream.getKey());
+            }
+            context.stream(stream.getKey());
+        }
+        for (Map.Entry<String, Set<String>> set : UniqueLog.read(logFile, checkpoint.getUniqueLogLength()).entrySet()) {
+            context.uniqueSets().computeIfAbsent(set.getKey(), name -> new HashSet<>()).addAll(set.getValue());
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Returns the seed of this job.
+     *
+     * @return The seed of the main stream
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of rows this job generates.
+     *
+     * @return The number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of rows between two checkpoints.
+     *
+     * @return The checkpoint interval
+     */
+    public long getCheckpointInterval() {
+        return checkpointInterval;
+    }
+}
@@ -0,0 +1,269 @@
+package com.datamirage.generation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a {@link GenerationEngine} for slow, I/O-bound sinks such as JDBC inserts, HTTP posts or many
+ * small files. The rows are split into partitions with one sink each, and every partition is driven
+ * by a thread of its own that hands the partition's chunks to its sink. While a sink blocks, only its
+ * partition thread waits; the rows themselves are still generated on the engine's bounded pool, so
+ * the CPU stays busy with the other partitions.
+ *
+ * <p>Partition threads are virtual threads when the runtime supports them (Java 21, or 19 and 20 with
+ * preview features enabled) and platform threads otherwise, so thousands of partitions are cheap on a
+ * recent runtime and the runner still works on Java 17. The virtual thread API is looked up reflectively
+ * because this library is compiled for Java 17.</p>
+ *
+ * <p>Partitions are made of whole chunks of the engine, so the outputs of all partitions, concatenated
+ * in order, are byte-identical to the output of {@link GenerationEngine#run(long, java.io.OutputStream)}.
+ * Each partition may have up to {@link GenerationEngine#getMaxPendingChunks()} chunks pending.</p>
+ * <pre>
+ * {@code
+ * PartitionedRunner runner = new PartitionedRunner(engine, 32);
+ * runner.run(10_000_000L, partition -> new JdbcChunkSink(dataSource.getConnection()));
+ * }
+ * </pre>
+ */
+public final class PartitionedRunner {
+    private static final String THREAD_NAME_PREFIX = "datamirage-sink-";
+    private static final ThreadFactory VIRTUAL_THREADS = virtualThreadFactory();
+
+    private final GenerationEngine engine;
+    private final int partitions;
+    private final ThreadFactory threads;
+
+    /**
+     * Creates a runner whose partition threads are virtual threads if the runtime supports them.
+     *
+     * @param engine The engine that generates the rows
+     * @param partitions The number of partitions, and of sinks, positive
+     * @throws IllegalArgumentException if partitions is not positive
+     */
+    public PartitionedRunner(GenerationEngine engine, int partitions) {
+        this(engine, partitions, VIRTUAL_THREADS != null ? VIRTUAL_THREADS : platformThreadFactory());
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param engine The engine that generates the rows
+     * @param partitions The number of partitions, and of sinks, positive
+     * @param threads The factory of the partition threads
+     * @throws IllegalArgumentException if partitions is not positive
+     */
+    public PartitionedRunner(GenerationEngine engine, int partitions, ThreadFactory threads) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partitions must be positive: " + partitions);
+        }
+        this.engine = engine;
+        this.partitions = partitions;
+        this.threads = threads;
+    }
+
+    /**
+     * Returns whether the runtime supports virtual threads, i.e. whether
+     * {@link #PartitionedRunner(GenerationEngine, int)} runs its partitions on virtual threads.
+     *
+     * @return true if virtual threads are available, false otherwise
+     */
+    public static boolean isVirtualThreadAvailable() {
+        return VIRTUAL_THREADS != null;
+    }
+
+    /**
+     * Returns the number of the first row of a partition. Partition {@code p} generates the rows from
+     * {@code partitionStart(rows, p)} to {@code partitionStart(rows, p + 1)}.
+     *
+     * @param rows The number of rows of the run
+     * @param partition The number of the partition, from 0 to the number of partitions (inclusive)
+     * @return The number of the first row of the partition
+     * @throws IllegalArgumentException if rows is negative or partition is out of range
+     */
+    public long partitionStart(long rows, int partition) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows cannot be negative: " + rows);
+        }
+        if (partition < 0 || partition > partitions) {
+            throw new IllegalArgumentException("Invalid partition: " + partition);
+        }
+        long chunkSize = engine.getChunkSize();
+        long chunks = (rows + chunkSize - 1) / chunkSize;
+        // Multiplying first could overflow for huge runs, so split the chunks with a quotient and remainder
+        long chunk = chunks / partitions * partition + chunks % partitions * partition / partitions;
+        return Math.min(rows, chunk * chunkSize);
+    }
+
+    /**
+     * Generates rows 0 to {@code rows - 1}, handing every partition to its own sink on its own thread.
+     * The call returns when all partitions have ended. If a partition fails, the other partitions stop
+     * at their next chunk and the failure of the first failed partition is rethrown, with the
+     * failures of the others suppressed. If the calling thread is interrupted, the partition threads
+     * are interrupted and the partitions stop at their next chunk; the call still waits until every
+     * sink has been closed before it throws, so the caller may release their resources afterwards.
+     *
+     * @param rows The number of rows to generate
+     * @param sinks The factory of the sinks of the partitions
+     * @return The number of bytes handed to all sinks
+     * @throws IOException if a sink cannot be opened, written or closed, or the calling thread is interrupted
+     * @throws IllegalArgumentException if rows is negative
+     */
+    public long run(long rows, SinkFactory sinks) throws IOException {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows cannot be negative: " + rows);
+        }
+        Partition[] running = new Partition[partitions];
+        Thread[] started = new Thread[partitions];
+        for (int p = 0; p < partitions; p++) {
+            running[p] = new Partition(p, partitionStart(rows, p), partitionStart(rows, p + 1), sinks, running);
+            started[p] = threads.newThread(running[p]);
+            started[p].start();
+        }
+        try {
+            for (Thread thread : started) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            for (int p = 0; p < partitions; p++) {
+                running[p].cancelled = true;
+                // Wake sinks that block interruptibly, so that the partitions end sooner
+                started[p].interrupt();
+            }
+            // The sinks must be closed before the caller sees the exception and releases their resources
+            joinUninterruptibly(started);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the partitions");
+        }
+
+        Throwable failure = null;
+        long written = 0;
+        for (Partition partition : running) {
+            Throwable e = partition.failure;
+            if (e == null) {
+                written += partition.written;
+            } else if (failure == null || failure instanceof CancellationException) {
+                // A partition that was stopped by the failure of another one is not the cause
+                failure = e;
+            } else if (!(e instanceof CancellationException)) {
+                failure.addSuppressed(e);
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return written;
+    }
+
+    private static void joinUninterruptibly(Thread[] threads) {
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    // Keep waiting, the caller is interrupted again afterwards
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates one partition and hands its chunks to its sink.
+     */
+    private final class Partition implements Runnable {
+        private final int number;
+        private final long fromRow;
+        private final long toRow;
+        private final SinkFactory sinks;
+        private final Partition[] all;
+        volatile boolean cancelled;
+        volatile Throwable failure;
+        long written;
+
+        Partition(int number, long fromRow, long toRow, SinkFactory sinks, Partition[] all) {
+            this.number = number;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.sinks = sinks;
+            this.all = all;
+        }
+
+        @Override
+        public void run() {
+            try {
+                ChunkSink sink = sinks.open(number);
+                try {
+                    written = engine.run(fromRow, toRow, (firstRow, rowCount, bytes) -> {
+                        if (cancelled) {
+                            throw new CancellationException("Another partition failed");
+                        }
+                        sink.accept(firstRow, rowCount, bytes);
+                    });
+                } finally {
+                    if (sink instanceof Closeable) {
+                        ((Closeable) sink).close();
+                    }
+                }
+            } catch (Throwable e) {
+                failure = e;
+                for (Partition partition : all) {
+                    partition.cancelled = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the engine that generates the rows.
+     *
+     * @return The generation engine
+     */
+    public GenerationEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return The number of partitions, and of sinks
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Looks up {@code Thread.ofVirtual().name(prefix, 0).factory()}.
+     *
+     * @return A factory of virtual threads, or null if the runtime does not support them
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> type = Class.forName("java.lang.Thread$Builder");
+            builder = type.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 0L);
+            return (ThreadFactory) type.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 17 and 18 have no virtual threads; 19 and 20 throw unless preview features are enabled
+            return null;
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, THREAD_NAME_PREFIX + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
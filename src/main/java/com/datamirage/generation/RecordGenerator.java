@@ -0,0 +1,21 @@
+package com.datamirage.generation;
+
+/**
+ * Generates one record of a {@link RecordPublisher}.
+ *
+ * <p>Like a {@link RowGenerator}, a record generator should draw all of its randomness from the
+ * context, so that the records of a seed do not depend on how and when subscribers request them.</p>
+ *
+ * @param <T> The type of the records
+ */
+@FunctionalInterface
+public interface RecordGenerator<T> {
+
+    /**
+     * Generates one record.
+     *
+     * @param context The row number, random streams and unique sets of the record
+     * @return The record, not null
+     */
+    T generate(RowContext context);
+}
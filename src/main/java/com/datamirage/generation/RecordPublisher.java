@@ -0,0 +1,268 @@
+package com.datamirage.generation;
+
+import com.datamirage.util.LocaleData;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Publisher} of generated records that only generates records as subscribers request
+ * them. Records are generated and delivered in batches of at most {@code batchSize} records on the
+ * executor, so no more than one batch is ever generated ahead of delivery and memory use stays
+ * constant however slow the subscriber is; a subscriber that requests nothing costs nothing.
+ * Cancelling a subscription stops it before the next record is delivered.
+ *
+ * <p>The publisher is cold: every subscriber receives the same records, from row 0, generated from
+ * its own {@link RowContext}. Record {@code i} is generated from counter-based streams positioned at
+ * row {@code i}, so the records of a seed do not depend on the batch size, the executor or the
+ * pattern of requests. Unique sets span the whole subscription.</p>
+ * <pre>
+ * {@code
+ * RecordPublisher<Person> people = new RecordPublisher<>(LocaleData.of(DataMirageLocale.EN_US), 42L,
+ *     1_000_000L, context -> new Person(context.data().name().fullName(), context.data().internet().email()));
+ * people.subscribe(ingestSubscriber);
+ * }
+ * </pre>
+ *
+ * @param <T> The type of the records
+ */
+public final class RecordPublisher<T> implements Flow.Publisher<T> {
+    /** The default maximum number of records generated at once. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final LocaleData data;
+    private final long seed;
+    private final long rows;
+    private final RecordGenerator<T> generator;
+    private final Executor executor;
+    private final int batchSize;
+
+    /**
+     * Creates a publisher that generates on the common pool in batches of {@value #DEFAULT_BATCH_SIZE} records.
+     *
+     * @param data The locale data to generate from
+     * @param seed The seed of the records
+     * @param rows The number of records to publish to every subscriber, or {@code Long.MAX_VALUE} for an endless stream
+     * @param generator The generator of a single record
+     * @throws IllegalArgumentException if rows is negative
+     */
+    public RecordPublisher(LocaleData data, long seed, long rows, RecordGenerator<T> generator) {
+        this(data, seed, rows, generator, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param data The locale data to generate from
+     * @param seed The seed of the records
+     * @param rows The number of records to publish to every subscriber, or {@code Long.MAX_VALUE} for an endless stream
+     * @param generator The generator of a single record
+     * @param executor The executor to generate and deliver the records on
+     * @param batchSize The maximum number of records generated at once, and so ahead of delivery, positive
+     * @throws IllegalArgumentException if rows is negative or batchSize is not positive
+     */
+    public RecordPublisher(LocaleData data, long seed, long rows, RecordGenerator<T> generator,
+                           Executor executor, int batchSize) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Rows cannot be negative: " + rows);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.data = data;
+        this.seed = seed;
+        this.rows = rows;
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribes a subscriber. {@link Flow.Subscriber#onSubscribe(Flow.Subscription)} is called on the
+     * calling thread; all other signals are sent on the executor, one at a time.
+     *
+     * @param subscriber The subscriber
+     * @throws NullPointerException if subscriber is null
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        RecordSubscription subscription = new RecordSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        // The subscription was created holding the drain, so requests made from onSubscribe could not
+        // signal onNext before onSubscribe returned; hand the drain over to the executor now
+        subscription.schedule();
+    }
+
+    /**
+     * The state of one subscriber. Signals are serialized with a work-in-progress counter: only the
+     * thread that raised it from 0 runs the drain, and every request or cancellation made meanwhile
+     * makes the drain run once more.
+     */
+    private final class RecordSubscription implements Flow.Subscription, Runnable {
+        private final RowContext context = new RowContext(data, seed);
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger(1);
+        private final Object[] batch;
+        private Flow.Subscriber<? super T> subscriber;
+        private volatile boolean cancelled;
+        private volatile IllegalArgumentException badRequest;
+        private boolean done;
+        private long next;
+
+        RecordSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.batch = new Object[(int) Math.min(batchSize, Math.max(1, rows))];
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException("Requested a non-positive number of records: " + n);
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                schedule();
+            }
+        }
+
+        void schedule() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                if (!done) {
+                    done = true;
+                    subscriber.onError(e);
+                }
+                subscriber = null;
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            while (true) {
+                while (drainBatch()) {
+                    // Keep delivering batches while there is demand
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Handles cancellation, errors and completion, and delivers at most one batch.
+         *
+         * @return true if a batch was delivered, false if there was nothing to deliver
+         */
+        @SuppressWarnings("unchecked")
+        private boolean drainBatch() {
+            if (done) {
+                return false;
+            }
+            if (cancelled) {
+                done = true;
+                subscriber = null;
+                return false;
+            }
+            if (badRequest != null) {
+                terminate(badRequest);
+                return false;
+            }
+            if (next == rows) {
+                done = true;
+                Flow.Subscriber<? super T> s = subscriber;
+                subscriber = null;
+                s.onComplete();
+                return false;
+            }
+            long demand = requested.get();
+            int count = (int) Math.min(Math.min(demand, batch.length), rows - next);
+            if (count == 0) {
+                return false;
+            }
+            try {
+                for (int i = 0; i < count; i++) {
+                    context.seek(next + i);
+                    batch[i] = Objects.requireNonNull(generator.generate(context), "Generated a null record");
+                }
+            } catch (Throwable e) {
+                terminate(e);
+                return false;
+            }
+            next += count;
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-count);
+            }
+            try {
+                for (int i = 0; i < count && !cancelled; i++) {
+                    subscriber.onNext((T) batch[i]);
+                }
+            } catch (Throwable e) {
+                // A subscriber must not throw; treat it as cancelled and let the executor report the exception
+                cancelled = true;
+                done = true;
+                subscriber = null;
+                throw e;
+            } finally {
+                Arrays.fill(batch, 0, count, null);
+            }
+            return true;
+        }
+
+        private void terminate(Throwable failure) {
+            done = true;
+            cancelled = true;
+            Flow.Subscriber<? super T> s = subscriber;
+            subscriber = null;
+            s.onError(failure);
+        }
+    }
+
+    /**
+     * Returns the seed of the records.
+     *
+     * @return The seed of the main stream
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of records published to every subscriber.
+     *
+     * @return The number of records
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the maximum number of records generated at once.
+     *
+     * @return The batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,142 @@
+package com.datamirage.generation;
+
+import com.datamirage.DataMirage;
+import com.datamirage.util.CounterRandom;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state a {@link RowGenerator} may use: the current row, counter-based random streams that are
+ * positioned at the start of the row, and named sets of values that must be unique across the job.
+ *
+ * <p>Every stream is a counter-based RandomService, so its full state between two rows is its seed
+ * and the row number. The main stream uses the seed of the job; named streams use a seed derived
+ * from the seed of the job and the name, so adding a stream does not change the others.</p>
+ */
+public final class RowContext {
+    private final LocaleData data;
+    private final long seed;
+    private final DataMirage main;
+    private final Map<String, DataMirage> streams = new LinkedHashMap<>();
+    private final Map<String, Set<String>> uniqueSets = new LinkedHashMap<>();
+    private UniqueLog uniqueLog;
+    private long row;
+
+    RowContext(LocaleData data, long seed) {
+        this.data = data;
+        this.seed = seed;
+        this.main = new DataMirage(data, RandomService.counterBased(seed));
+    }
+
+    /**
+     * Returns the number of the row being generated, starting at 0.
+     *
+     * @return The row number
+     */
+    public long row() {
+        return row;
+    }
+
+    /**
+     * Returns the main random stream, positioned at the start of the row.
+     *
+     * @return The DataMirage instance of the main stream
+     */
+    public DataMirage data() {
+        return main;
+    }
+
+    /**
+     * Returns the named random stream, positioned at the start of the row. Streams let parts of a
+     * row, e.g. an optional column, draw values without shifting the values of the other parts.
+     *
+     * @param name The name of the stream
+     * @return The DataMirage instance of the stream
+     */
+    public DataMirage stream(String name) {
+        DataMirage stream = streams.get(name);
+        if (stream == null) {
+            stream = new DataMirage(data, RandomService.counterBased(streamSeed(seed, name)).seek(row));
+            streams.put(name, stream);
+        }
+        return stream;
+    }
+
+    /**
+     * Adds a value to the named unique set.
+     * <pre>
+     * {@code
+     * String email;
+     * do {
+     *     email = context.data().internet().email();
+     * } while (!context.unique("email", email));
+     * }
+     * </pre>
+     *
+     * @param set The name of the set
+     * @param value The value to add
+     * @return true if the value was not in the set yet, false otherwise
+     */
+    public boolean unique(String set, String value) {
+        boolean added = uniqueSets.computeIfAbsent(set, name -> new HashSet<>()).add(value);
+        if (added && uniqueLog != null) {
+            uniqueLog.add(set, value);
+        }
+        return added;
+    }
+
+    void logUniqueValues(UniqueLog log) {
+        this.uniqueLog = log;
+    }
+
+    void seek(long row) {
+        this.row = row;
+        main.getRandomService().seek(row);
+        for (DataMirage stream : streams.values()) {
+            stream.getRandomService().seek(row);
+        }
+    }
+
+    Map<String, Set<String>> uniqueSets() {
+        return uniqueSets;
+    }
+
+    Map<String, Long> streamSeeds() {
+        Map<String, Long> seeds = new LinkedHashMap<>();
+        for (String name : streams.keySet()) {
+            seeds.put(name, streamSeed(seed, name));
+        }
+        return seeds;
+    }
+
+    /**
+     * Derives the seed of a named stream. Row -1 is never generated, so the derived seeds do not
+     * collide with values of the main stream.
+     */
+    static long streamSeed(long seed, String name) {
+        return CounterRandom.valueAt(seed, -1, nameHash(name));
+    }
+
+    /**
+     * Hashes the UTF-8 bytes of a name to 64 bits, mixing them in eight at a time. Unlike
+     * {@link String#hashCode()}, names such as "Aa" and "BB" do not collide.
+     */
+    private static long nameHash(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        long hash = bytes.length;
+        for (int i = 0; i < bytes.length; i += Long.BYTES) {
+            long word = 0;
+            for (int j = Math.min(bytes.length, i + Long.BYTES) - 1; j >= i; j--) {
+                word = word << 8 | (bytes[j] & 0xFF);
+            }
+            hash = CounterRandom.valueAt(hash, -1, word);
+        }
+        return hash;
+    }
+}
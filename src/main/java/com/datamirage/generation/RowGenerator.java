@@ -0,0 +1,21 @@
+package com.datamirage.generation;
+
+/**
+ * Generates the output of one row of a {@link GenerationJob}.
+ *
+ * <p>To be resumable, a row generator must draw all of its randomness from the context, i.e. from
+ * {@link RowContext#data()} and {@link RowContext#stream(String)}, and keep no state between rows
+ * other than the unique sets of the context. A resumed job then produces exactly the same bytes
+ * as a job that never stopped.</p>
+ */
+@FunctionalInterface
+public interface RowGenerator {
+
+    /**
+     * Generates one row and appends it, including any line separator, to the output.
+     *
+     * @param context The row number, random streams and unique sets of the row
+     * @param out The builder to append the row to; it is empty when this method is called
+     */
+    void generate(RowContext context, StringBuilder out);
+}
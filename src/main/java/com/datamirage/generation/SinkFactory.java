@@ -0,0 +1,22 @@
+package com.datamirage.generation;
+
+import java.io.IOException;
+
+/**
+ * Opens the sink of one partition of a {@link PartitionedRunner}, such as a database connection or
+ * an output file per partition.
+ */
+@FunctionalInterface
+public interface SinkFactory {
+
+    /**
+     * Opens the sink of a partition. It is called from the partition's own thread, which then hands
+     * the partition's chunks to the sink in row order. If the sink is also {@link java.io.Closeable},
+     * it is closed when the partition ends, whether it succeeded or not.
+     *
+     * @param partition The number of the partition, starting at 0
+     * @return The sink of the partition
+     * @throws IOException if the sink cannot be opened
+     */
+    ChunkSink open(int partition) throws IOException;
+}
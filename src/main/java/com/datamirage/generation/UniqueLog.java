@@ -0,0 +1,151 @@
+package com.datamirage.generation;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The append-only log of the values added to the unique sets of a {@link GenerationJob}. Values are
+ * buffered as rows add them and appended to the log at every checkpoint, which records the length
+ * of the log; a checkpoint therefore only writes the values added since the previous one, instead
+ * of every set in full.
+ *
+ * <p>Every entry is the name of the set followed by the value, each written as an int byte length
+ * followed by its UTF-8 bytes. Entries after the length recorded in the checkpoint belong to rows
+ * that are generated again on resume, so the log is truncated to that length when it is opened.</p>
+ */
+final class UniqueLog implements Closeable {
+    private final FileChannel channel;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(pending);
+    private long length;
+
+    private UniqueLog(FileChannel channel, long length) {
+        this.channel = channel;
+        this.length = length;
+    }
+
+    /**
+     * Opens a log for appending, discarding any entries after the specified length.
+     *
+     * @param file The log file, created if it does not exist
+     * @param length The length of the log recorded in the last checkpoint
+     * @return The opened log
+     * @throws IOException if the file cannot be opened or is shorter than the length
+     */
+    static UniqueLog open(Path file, long length) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < length) {
+                throw new IOException("Unique log " + file + " is shorter than its checkpoint: "
+                    + channel.size() + " < " + length + " bytes");
+            }
+            channel.truncate(length);
+            channel.position(length);
+            return new UniqueLog(channel, length);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the unique sets from the first bytes of a log.
+     *
+     * @param file The log file
+     * @param length The number of bytes to read, as recorded in a checkpoint
+     * @return The values of every set, by set name
+     * @throws IOException if the file cannot be read or is shorter than the length
+     */
+    static Map<String, Set<String>> read(Path file, long length) throws IOException {
+        Map<String, Set<String>> sets = new LinkedHashMap<>();
+        if (length == 0) {
+            return sets;
+        }
+        try (InputStream stream = Files.newInputStream(file)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+            long position = 0;
+            while (position < length) {
+                byte[] set = readBytes(in);
+                byte[] value = readBytes(in);
+                sets.computeIfAbsent(new String(set, StandardCharsets.UTF_8), name -> new HashSet<>())
+                    .add(new String(value, StandardCharsets.UTF_8));
+                position += 8 + set.length + value.length;
+            }
+            if (position != length) {
+                throw new IOException("Unique log " + file + " does not end at an entry at " + length + " bytes");
+            }
+        } catch (EOFException e) {
+            throw new IOException("Unique log " + file + " is shorter than its checkpoint: " + length + " bytes", e);
+        }
+        return sets;
+    }
+
+    /**
+     * Buffers a value that was added to a unique set; it is written by the next {@link #sync()}.
+     *
+     * @param set The name of the set
+     * @param value The value
+     */
+    void add(String set, String value) {
+        try {
+            writeString(set);
+            writeString(value);
+        } catch (IOException e) {
+            // A ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the buffered values to the log and forces them to the disk.
+     *
+     * @return The length of the log, to record in the checkpoint
+     * @throws IOException if the log cannot be written
+     */
+    long sync() throws IOException {
+        if (pending.size() > 0) {
+            ByteBuffer buffer = ByteBuffer.wrap(pending.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            length += pending.size();
+            pending.reset();
+        }
+        channel.force(false);
+        return length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
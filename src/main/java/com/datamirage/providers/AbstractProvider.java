@@ -1,6 +1,7 @@
 package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
+import com.datamirage.util.Dictionary;
 import com.datamirage.util.RandomService;
 
 /**
@@ -47,4 +48,26 @@ public abstract class AbstractProvider {
     protected boolean hasLocaleSpecificData(String category, String field) {
         return DataLoader.hasLocaleSpecificField(category, field);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Checks if the dictionary's field exists in its locale's data.
+     * If not, throws an exception indicating the data is missing for this locale.
+     *
+     * @param dictionary The dictionary to check
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    protected void requireLocaleSpecificData(Dictionary dictionary) {
+        dictionary.requireLocaleSpecific();
+    }
+
+    /**
+     * Checks if the dictionary's field exists in its locale's data.
+     * Returns a boolean indicating whether the data exists.
+     *
+     * @param dictionary The dictionary to check
+     * @return true if the locale-specific data exists, false otherwise
+     */
+    protected boolean hasLocaleSpecificData(Dictionary dictionary) {
+        return dictionary.isLocaleSpecific();
+    }
+}
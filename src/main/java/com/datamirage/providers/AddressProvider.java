@@ -1,9 +1,12 @@
 package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 import com.datamirage.util.RandomService;
 
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import java.text.DecimalFormat;
 import java.util.List;
 
@@ -13,20 +16,44 @@ import java.util.List;
  * city names, street names, postal codes, and full addresses.
  */
 public class AddressProvider extends AbstractProvider {
-    private List<String> cities;
-    private List<String> streets;
-    private List<String> streetSuffixes;
-    private List<String> states;
-    private List<String> stateAbbrs;
-    private List<String> countries;
-    private List<String> countryCodes;
-    private List<String> districts;
-    private List<String> zipFormats;
-    private List<String> streetPatterns;
-    private List<String> fullPatterns;
-    private List<String> buildingNumbers;
-    private List<String> buildings;
-    private List<String> apartments;
+    /** The placeholders of street patterns, at the positions of the STREET_ constants. */
+    private static final List<String> STREET_PLACEHOLDERS =
+        List.of("streets", "street_suffixes", "building_number", "building", "apartment");
+    private static final int STREET_NAME = 0;
+    private static final int STREET_SUFFIX = 1;
+    private static final int STREET_BUILDING_NUMBER = 2;
+    private static final int STREET_BUILDING = 3;
+    private static final int STREET_APARTMENT = 4;
+
+    /** The placeholders of full address patterns, at the positions of the ADDRESS_ constants. */
+    private static final List<String> ADDRESS_PLACEHOLDERS =
+        List.of("street_patterns", "cities", "districts", "states", "postal_codes", "countries", "building_number");
+    private static final int ADDRESS_STREET = 0;
+    private static final int ADDRESS_CITY = 1;
+    private static final int ADDRESS_DISTRICT = 2;
+    private static final int ADDRESS_STATE = 3;
+    private static final int ADDRESS_POSTAL_CODE = 4;
+    private static final int ADDRESS_COUNTRY = 5;
+    private static final int ADDRESS_BUILDING_NUMBER = 6;
+
+    private final Dictionary cities;
+    private final Dictionary streets;
+    private final Dictionary streetSuffixes;
+    private final Dictionary states;
+    private final Dictionary stateAbbrs;
+    private final Dictionary countries;
+    private final Dictionary countryCodes;
+    private final Dictionary districts;
+    private final Dictionary zipFormats;
+    private final Dictionary streetPatterns;
+    private final Dictionary fullPatterns;
+    private final Dictionary buildingNumbers;
+    private final Dictionary buildings;
+    private final Dictionary apartments;
+    private final PatternDictionary streetTemplates;
+    private final PatternDictionary addressTemplates;
+    private final PatternTemplate.Filler streetParts = this::appendStreetPart;
+    private final PatternTemplate.Filler addressParts = this::appendAddressPart;
     private final DecimalFormat coordinateFormat = new DecimalFormat("###.######");
 
     /**
@@ -35,7 +62,33 @@ public class AddressProvider extends AbstractProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public AddressProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new AddressProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public AddressProvider(RandomService random, LocaleData data) {
         super(random);
+        this.cities = data.dictionary("address", "cities");
+        this.streets = data.dictionary("address", "streets");
+        this.streetSuffixes = data.dictionary("address", "street_suffixes");
+        this.states = data.dictionary("address", "states");
+        this.stateAbbrs = data.dictionary("address", "state_abbrs");
+        this.countries = data.dictionary("address", "countries");
+        this.countryCodes = data.dictionary("address", "country_codes");
+        this.districts = data.dictionary("address", "districts");
+        this.zipFormats = data.dictionary("address", "postal_codes");
+        this.streetPatterns = data.dictionary("address", "street_patterns");
+        this.fullPatterns = data.dictionary("address", "full_patterns");
+        this.buildingNumbers = data.dictionary("address", "building_number");
+        this.buildings = data.dictionary("address", "building");
+        this.apartments = data.dictionary("address", "apartment");
+        this.streetTemplates = new PatternDictionary(streetPatterns, STREET_PLACEHOLDERS);
+        this.addressTemplates = new PatternDictionary(fullPatterns, ADDRESS_PLACEHOLDERS);
     }
 
     /**
@@ -45,9 +98,34 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String city() {
-        requireLocaleSpecificData("address", "cities");
-        cities = LazyLoader.load("addressCities", () -> DataLoader.getListData("address", "cities"));
-        return random.randomElement(cities);
+        requireLocaleSpecificData(cities);
+        return cities.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #city()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] cities(int count) {
+        requireLocaleSpecificData(cities);
+        return cities.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #city()}, see {@link #cities(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] cities(String[] dst) {
+        requireLocaleSpecificData(cities);
+        cities.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -57,9 +135,34 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String streetName() {
-        requireLocaleSpecificData("address", "streets");
-        streets = LazyLoader.load("addressStreets", () -> DataLoader.getListData("address", "streets"));
-        return random.randomElement(streets);
+        requireLocaleSpecificData(streets);
+        return streets.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #streetName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] streetNames(int count) {
+        requireLocaleSpecificData(streets);
+        return streets.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #streetName()}, see {@link #streetNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] streetNames(String[] dst) {
+        requireLocaleSpecificData(streets);
+        streets.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -69,9 +172,34 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String streetSuffix() {
-        requireLocaleSpecificData("address", "street_suffixes");
-        streetSuffixes = LazyLoader.load("addressStreetSuffixes", () -> DataLoader.getListData("address", "street_suffixes"));
-        return random.randomElement(streetSuffixes);
+        requireLocaleSpecificData(streetSuffixes);
+        return streetSuffixes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #streetSuffix()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] streetSuffixes(int count) {
+        requireLocaleSpecificData(streetSuffixes);
+        return streetSuffixes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #streetSuffix()}, see {@link #streetSuffixes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] streetSuffixes(String[] dst) {
+        requireLocaleSpecificData(streetSuffixes);
+        streetSuffixes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -81,9 +209,34 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String state() {
-        requireLocaleSpecificData("address", "states");
-        states = LazyLoader.load("addressStates", () -> DataLoader.getListData("address", "states"));
-        return random.randomElement(states);
+        requireLocaleSpecificData(states);
+        return states.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #state()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] states(int count) {
+        requireLocaleSpecificData(states);
+        return states.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #state()}, see {@link #states(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] states(String[] dst) {
+        requireLocaleSpecificData(states);
+        states.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -93,11 +246,38 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String stateAbbr() {
-        if (!hasLocaleSpecificData("address", "state_abbrs")) {
-            throw new IllegalStateException("State abbreviations not available for locale: " + DataLoader.getCurrentLocale());
+        if (!hasLocaleSpecificData(stateAbbrs)) {
+            throw new IllegalStateException("State abbreviations not available for locale: " + stateAbbrs.getLocale());
         }
-        stateAbbrs = LazyLoader.load("addressStateAbbrs", () -> DataLoader.getListData("address", "state_abbrs"));
-        return random.randomElement(stateAbbrs);
+        return stateAbbrs.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #stateAbbr()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] stateAbbrs(int count) {
+        if (!hasLocaleSpecificData(stateAbbrs)) {
+            throw new IllegalStateException("State abbreviations not available for locale: " + stateAbbrs.getLocale());
+        }
+        return stateAbbrs.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #stateAbbr()}, see {@link #stateAbbrs(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] stateAbbrs(String[] dst) {
+        if (!hasLocaleSpecificData(stateAbbrs)) {
+            throw new IllegalStateException("State abbreviations not available for locale: " + stateAbbrs.getLocale());
+        }
+        stateAbbrs.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -107,9 +287,34 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String country() {
-        requireLocaleSpecificData("address", "countries");
-        countries = LazyLoader.load("addressCountries", () -> DataLoader.getListData("address", "countries"));
-        return random.randomElement(countries);
+        requireLocaleSpecificData(countries);
+        return countries.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #country()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] countries(int count) {
+        requireLocaleSpecificData(countries);
+        return countries.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #country()}, see {@link #countries(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] countries(String[] dst) {
+        requireLocaleSpecificData(countries);
+        countries.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -119,11 +324,38 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String countryCode() {
-        if (!hasLocaleSpecificData("address", "country_codes")) {
-            throw new IllegalStateException("Country codes not available for locale: " + DataLoader.getCurrentLocale());
+        if (!hasLocaleSpecificData(countryCodes)) {
+            throw new IllegalStateException("Country codes not available for locale: " + countryCodes.getLocale());
         }
-        countryCodes = LazyLoader.load("addressCountryCodes", () -> DataLoader.getListData("address", "country_codes"));
-        return random.randomElement(countryCodes);
+        return countryCodes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #countryCode()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] countryCodes(int count) {
+        if (!hasLocaleSpecificData(countryCodes)) {
+            throw new IllegalStateException("Country codes not available for locale: " + countryCodes.getLocale());
+        }
+        return countryCodes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #countryCode()}, see {@link #countryCodes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] countryCodes(String[] dst) {
+        if (!hasLocaleSpecificData(countryCodes)) {
+            throw new IllegalStateException("Country codes not available for locale: " + countryCodes.getLocale());
+        }
+        countryCodes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -133,9 +365,34 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String district() {
-        requireLocaleSpecificData("address", "districts");
-        districts = LazyLoader.load("addressDistricts", () -> DataLoader.getListData("address", "districts"));
-        return random.randomElement(districts);
+        requireLocaleSpecificData(districts);
+        return districts.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #district()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] districts(int count) {
+        requireLocaleSpecificData(districts);
+        return districts.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #district()}, see {@link #districts(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public String[] districts(String[] dst) {
+        requireLocaleSpecificData(districts);
+        districts.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -155,9 +412,20 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String zipCode() {
-        zipFormats = LazyLoader.load("addressZipFormats", () -> DataLoader.getListData("address", "postal_codes"));
-        String format = random.randomElement(zipFormats);
-        return random.randomize(format);
+        return appendZipCode(new StringBuilder(16)).toString();
+    }
+
+    /**
+     * Appends a random zip code based on locale-specific format to a StringBuilder without creating
+     * intermediate Strings. Draws exactly like {@link #zipCode()}.
+     *
+     * @param sb The StringBuilder to append to
+     * @return The StringBuilder, for chaining
+     */
+    public StringBuilder appendZipCode(StringBuilder sb) {
+        int start = sb.length();
+        zipFormats.appendPick(sb, random);
+        return random.randomize(sb, start);
     }
 
     /**
@@ -167,20 +435,20 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String streetAddress() {
-        requireLocaleSpecificData("address", "street_patterns");
-        streetPatterns = LazyLoader.load("addressStreetPatterns", () -> DataLoader.getListData("address", "street_patterns"));
-        buildingNumbers = LazyLoader.load("addressBuildingNumbers", () -> DataLoader.getListData("address", "building_number"));
-        buildings = LazyLoader.load("addressBuildings", () -> DataLoader.getListData("address", "building"));
-        apartments = LazyLoader.load("addressApartments", () -> DataLoader.getListData("address", "apartment"));
-        
-        String pattern = random.randomElement(streetPatterns);
-        pattern = pattern.replace("{{streets}}", streetName());
-        pattern = pattern.replace("{{street_suffixes}}", streetSuffix());
-        pattern = pattern.replace("{{building_number}}", random.randomElement(buildingNumbers));
-        pattern = pattern.replace("{{building}}", random.randomElement(buildings));
-        pattern = pattern.replace("{{apartment}}", random.randomElement(apartments));
-        
-        return pattern;
+        return appendStreetAddress(new StringBuilder(48)).toString();
+    }
+
+    /**
+     * Appends a random street address to a StringBuilder without creating intermediate Strings.
+     * Only the parts that the picked pattern contains are drawn.
+     *
+     * @param sb The StringBuilder to append to
+     * @return The StringBuilder, for chaining
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public StringBuilder appendStreetAddress(StringBuilder sb) {
+        requireLocaleSpecificData(streetPatterns);
+        return streetTemplates.pick(random).appendTo(sb, streetParts);
     }
 
     /**
@@ -190,18 +458,94 @@ public class AddressProvider extends AbstractProvider {
      * @throws IllegalStateException if the locale-specific data is missing
      */
     public String fullAddress() {
-        requireLocaleSpecificData("address", "full_patterns");
-        fullPatterns = LazyLoader.load("addressFullPatterns", () -> DataLoader.getListData("address", "full_patterns"));
-        
-        String pattern = random.randomElement(fullPatterns);
-        pattern = pattern.replace("{{cities}}", city());
-        pattern = pattern.replace("{{street_patterns}}", streetAddress());
-        pattern = pattern.replace("{{postal_codes}}", zipCode());
-        pattern = pattern.replace("{{countries}}", country());
-        pattern = pattern.replace("{{states}}", state());
-        pattern = pattern.replace("{{districts}}", district());
-        
-        return pattern;
+        return appendFullAddress(new StringBuilder(96)).toString();
+    }
+
+    /**
+     * Appends a random full address to a StringBuilder without creating intermediate Strings.
+     * The address pattern is filled part by part in place, and only the parts that the picked
+     * pattern contains are drawn.
+     *
+     * @param sb The StringBuilder to append to
+     * @return The StringBuilder, for chaining
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public StringBuilder appendFullAddress(StringBuilder sb) {
+        requireLocaleSpecificData(fullPatterns);
+        return addressTemplates.pick(random).appendTo(sb, addressParts);
+    }
+
+    /**
+     * Writes a random full address to a buffer, see {@link #appendFullAddress(StringBuilder)}.
+     *
+     * @param dst The buffer to write to
+     * @return The buffer, for chaining
+     * @throws BufferOverflowException if the buffer does not have enough room, in which case it is left unchanged
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public CharBuffer writeFullAddress(CharBuffer dst) {
+        return CharBuffers.write(dst, appendFullAddress(CharBuffers.scratch()));
+    }
+
+    /**
+     * Appends the value of a placeholder of {@link #STREET_PLACEHOLDERS}.
+     */
+    private void appendStreetPart(StringBuilder sb, int placeholder) {
+        switch (placeholder) {
+            case STREET_NAME:
+                appendPick(sb, streets);
+                break;
+            case STREET_SUFFIX:
+                appendPick(sb, streetSuffixes);
+                break;
+            case STREET_BUILDING_NUMBER:
+                buildingNumbers.appendPick(sb, random);
+                break;
+            case STREET_BUILDING:
+                buildings.appendPick(sb, random);
+                break;
+            case STREET_APARTMENT:
+                apartments.appendPick(sb, random);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown placeholder: " + placeholder);
+        }
+    }
+
+    /**
+     * Appends the value of a placeholder of {@link #ADDRESS_PLACEHOLDERS}.
+     */
+    private void appendAddressPart(StringBuilder sb, int placeholder) {
+        switch (placeholder) {
+            case ADDRESS_STREET:
+                appendStreetAddress(sb);
+                break;
+            case ADDRESS_CITY:
+                appendPick(sb, cities);
+                break;
+            case ADDRESS_DISTRICT:
+                appendPick(sb, districts);
+                break;
+            case ADDRESS_STATE:
+                appendPick(sb, states);
+                break;
+            case ADDRESS_POSTAL_CODE:
+                appendZipCode(sb);
+                break;
+            case ADDRESS_COUNTRY:
+                appendPick(sb, countries);
+                break;
+            case ADDRESS_BUILDING_NUMBER:
+                buildingNumbers.appendPick(sb, random);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown placeholder: " + placeholder);
+        }
+    }
+
+    private void appendPick(StringBuilder sb, Dictionary dictionary) {
+        requireLocaleSpecificData(dictionary);
+        dictionary.appendPick(sb, random);
     }
 
     /**
@@ -210,8 +554,29 @@ public class AddressProvider extends AbstractProvider {
      * @return A randomly generated building number
      */
     public String buildingNumber() {
-        buildingNumbers = LazyLoader.load("addressBuildingNumbers", () -> DataLoader.getListData("address", "building_number"));
-        return random.randomElement(buildingNumbers);
+        return buildingNumbers.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #buildingNumber()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] buildingNumbers(int count) {
+        return buildingNumbers.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #buildingNumber()}, see {@link #buildingNumbers(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] buildingNumbers(String[] dst) {
+        buildingNumbers.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -1,11 +1,10 @@
 package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 import com.datamirage.util.RandomService;
 
-import java.util.List;
-
 /**
  * A provider class for generating fake animal-related data.
  * This class provides methods to generate various animal-related information,
@@ -13,16 +12,16 @@ import java.util.List;
  */
 public class AnimalProvider {
     private final RandomService random;
-    private List<String> animals;
-    private List<String> animalTypes;
-    private List<String> animalScientificName;
-    private List<String> animalFamilies;
-    private List<String> animalKingdoms;
-    private List<String> animalPhyla;
-    private List<String> animalClasses;
-    private List<String> animalOrders;
-    private List<String> animalGenera;
-    private List<String> animalSpecies;
+    private final Dictionary animals;
+    private final Dictionary animalTypes;
+    private final Dictionary animalScientificName;
+    private final Dictionary animalFamilies;
+    private final Dictionary animalKingdoms;
+    private final Dictionary animalPhyla;
+    private final Dictionary animalClasses;
+    private final Dictionary animalOrders;
+    private final Dictionary animalGenera;
+    private final Dictionary animalSpecies;
 
     /**
      * Constructs a new AnimalProvider with the specified RandomService.
@@ -30,7 +29,27 @@ public class AnimalProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public AnimalProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new AnimalProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public AnimalProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.animals = data.dictionary("animal", "animal_names");
+        this.animalTypes = data.dictionary("animal", "types");
+        this.animalScientificName = data.dictionary("animal", "scientific_names");
+        this.animalFamilies = data.dictionary("animal", "families");
+        this.animalKingdoms = data.dictionary("animal", "kingdoms");
+        this.animalPhyla = data.dictionary("animal", "phyla");
+        this.animalClasses = data.dictionary("animal", "classes");
+        this.animalOrders = data.dictionary("animal", "orders");
+        this.animalGenera = data.dictionary("animal", "genera");
+        this.animalSpecies = data.dictionary("animal", "species");
     }
 
     /**
@@ -39,8 +58,29 @@ public class AnimalProvider {
      * @return A randomly selected animal name
      */
     public String animal() {
-        animals = LazyLoader.load("animalNames", () -> DataLoader.getListData("animal", "animal_names"));
-        return random.randomElement(animals);
+        return animals.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animal()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animals(int count) {
+        return animals.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animal()}, see {@link #animals(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animals(String[] dst) {
+        animals.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -49,8 +89,29 @@ public class AnimalProvider {
      * @return A randomly selected animal type
      */
     public String animalType() {
-        animalTypes = LazyLoader.load("animalTypes", () -> DataLoader.getListData("animal", "types"));
-        return random.randomElement(animalTypes);
+        return animalTypes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalType()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalTypes(int count) {
+        return animalTypes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalType()}, see {@link #animalTypes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalTypes(String[] dst) {
+        animalTypes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -60,8 +121,29 @@ public class AnimalProvider {
      * @return A randomly selected scientific name
      */
     public String animalScientificName() {
-        animalScientificName = LazyLoader.load("animalScienceName", () -> DataLoader.getListData("animal", "scientific_names"));
-        return random.randomElement(animalScientificName);
+        return animalScientificName.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalScientificName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalScientificNames(int count) {
+        return animalScientificName.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalScientificName()}, see {@link #animalScientificNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalScientificNames(String[] dst) {
+        animalScientificName.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -70,8 +152,29 @@ public class AnimalProvider {
      * @return A randomly selected animal family name
      */
     public String animalFamily() {
-        animalFamilies = LazyLoader.load("animalFamilies", () -> DataLoader.getListData("animal", "families"));
-        return random.randomElement(animalFamilies);
+        return animalFamilies.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalFamily()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalFamilies(int count) {
+        return animalFamilies.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalFamily()}, see {@link #animalFamilies(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalFamilies(String[] dst) {
+        animalFamilies.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -80,8 +183,29 @@ public class AnimalProvider {
      * @return A randomly selected animal kingdom name
      */
     public String animalKingdom() {
-        animalKingdoms = LazyLoader.load("animalKingdoms", () -> DataLoader.getListData("animal", "kingdoms"));
-        return random.randomElement(animalKingdoms);
+        return animalKingdoms.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalKingdom()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalKingdoms(int count) {
+        return animalKingdoms.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalKingdom()}, see {@link #animalKingdoms(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalKingdoms(String[] dst) {
+        animalKingdoms.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -90,8 +214,29 @@ public class AnimalProvider {
      * @return A randomly selected animal phylum name
      */
     public String animalPhylum() {
-        animalPhyla = LazyLoader.load("animalPhyla", () -> DataLoader.getListData("animal", "phyla"));
-        return random.randomElement(animalPhyla);
+        return animalPhyla.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalPhylum()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalPhyla(int count) {
+        return animalPhyla.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalPhylum()}, see {@link #animalPhyla(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalPhyla(String[] dst) {
+        animalPhyla.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -100,8 +245,29 @@ public class AnimalProvider {
      * @return A randomly selected animal class name
      */
     public String animalClass() {
-        animalClasses = LazyLoader.load("animalClasses", () -> DataLoader.getListData("animal", "classes"));
-        return random.randomElement(animalClasses);
+        return animalClasses.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalClass()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalClasses(int count) {
+        return animalClasses.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalClass()}, see {@link #animalClasses(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalClasses(String[] dst) {
+        animalClasses.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -110,8 +276,29 @@ public class AnimalProvider {
      * @return A randomly selected animal order name
      */
     public String animalOrder() {
-        animalOrders = LazyLoader.load("animalOrders", () -> DataLoader.getListData("animal", "orders"));
-        return random.randomElement(animalOrders);
+        return animalOrders.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalOrder()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalOrders(int count) {
+        return animalOrders.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalOrder()}, see {@link #animalOrders(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalOrders(String[] dst) {
+        animalOrders.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -120,8 +307,29 @@ public class AnimalProvider {
      * @return A randomly selected animal genus name
      */
     public String animalGenus() {
-        animalGenera = LazyLoader.load("animalGenera", () -> DataLoader.getListData("animal", "genera"));
-        return random.randomElement(animalGenera);
+        return animalGenera.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalGenus()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalGenera(int count) {
+        return animalGenera.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalGenus()}, see {@link #animalGenera(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalGenera(String[] dst) {
+        animalGenera.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -130,8 +338,29 @@ public class AnimalProvider {
      * @return A randomly selected animal species name
      */
     public String animalSpecies() {
-        animalSpecies = LazyLoader.load("animalSpecies", () -> DataLoader.getListData("animal", "species"));
-        return random.randomElement(animalSpecies);
+        return animalSpecies.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #animalSpecies()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] animalSpecies(int count) {
+        return animalSpecies.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #animalSpecies()}, see {@link #animalSpecies(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] animalSpecies(String[] dst) {
+        animalSpecies.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
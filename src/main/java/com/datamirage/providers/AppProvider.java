@@ -1,11 +1,10 @@
 package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 import com.datamirage.util.RandomService;
 
-import java.util.List;
-
 /**
  * A provider class for generating application-related data.
  * This class provides methods to generate various application information such as
@@ -13,9 +12,9 @@ import java.util.List;
  */
 public class AppProvider {
     private final RandomService random;
-    private List<String> appName;
-    private List<String> appPlatform;
-    private List<String> appCategory;
+    private final Dictionary appName;
+    private final Dictionary appPlatform;
+    private final Dictionary appCategory;
 
     /**
      * Constructs a new AppProvider with the specified RandomService.
@@ -23,7 +22,20 @@ public class AppProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public AppProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new AppProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public AppProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.appName = data.dictionary("app", "app_names");
+        this.appPlatform = data.dictionary("app", "platforms");
+        this.appCategory = data.dictionary("app", "categories");
     }
 
     /**
@@ -32,8 +44,29 @@ public class AppProvider {
      * @return A random application name as a string
      */
     public String name() {
-        appName = LazyLoader.load("appNames", () -> DataLoader.getListData("app", "app_names"));
-        return random.randomElement(appName);
+        return appName.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #name()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] names(int count) {
+        return appName.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #name()}, see {@link #names(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] names(String[] dst) {
+        appName.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -42,8 +75,29 @@ public class AppProvider {
      * @return A random application platform as a string
      */
     public String platform() {
-        appPlatform = LazyLoader.load("appPlatform", () -> DataLoader.getListData("app", "platforms"));
-        return random.randomElement(appPlatform);
+        return appPlatform.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #platform()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] platforms(int count) {
+        return appPlatform.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #platform()}, see {@link #platforms(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] platforms(String[] dst) {
+        appPlatform.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -52,8 +106,29 @@ public class AppProvider {
      * @return A random application category as a string
      */
     public String category() {
-        appCategory = LazyLoader.load("appCategory", () -> DataLoader.getListData("app", "categories"));
-        return random.randomElement(appCategory);
+        return appCategory.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #category()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] categories(int count) {
+        return appCategory.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #category()}, see {@link #categories(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] categories(String[] dst) {
+        appCategory.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -1,11 +1,10 @@
 package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 import com.datamirage.util.RandomService;
 
-import java.util.List;
-
 /**
  * A provider class for generating artist-related data.
  * This class provides methods to generate various artist information such as
@@ -13,10 +12,10 @@ import java.util.List;
  */
 public class ArtistProvider {
     private final RandomService random;
-    private List<String> artistName;
-    private List<String> artistGenre;
-    private List<String> artistNationality;
-    private List<String> artistArtwork;
+    private final Dictionary artistName;
+    private final Dictionary artistGenre;
+    private final Dictionary artistNationality;
+    private final Dictionary artistArtwork;
 
     /**
      * Constructs a new ArtistProvider with the specified RandomService.
@@ -24,7 +23,21 @@ public class ArtistProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public ArtistProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new ArtistProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public ArtistProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.artistName = data.dictionary("artist", "names");
+        this.artistGenre = data.dictionary("artist", "genres");
+        this.artistNationality = data.dictionary("artist", "nationalities");
+        this.artistArtwork = data.dictionary("artist", "artworks");
     }
 
     /**
@@ -33,8 +46,29 @@ public class ArtistProvider {
      * @return A randomly selected artist name
      */
     public String name() {
-        artistName = LazyLoader.load("artistName", () -> DataLoader.getListData("artist", "names"));
-        return random.randomElement(artistName);
+        return artistName.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #name()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] names(int count) {
+        return artistName.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #name()}, see {@link #names(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] names(String[] dst) {
+        artistName.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -43,8 +77,29 @@ public class ArtistProvider {
      * @return A randomly selected artist genre
      */
     public String genre() {
-        artistGenre = LazyLoader.load("artistGenre", () -> DataLoader.getListData("artist", "genres"));
-        return random.randomElement(artistGenre);
+        return artistGenre.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #genre()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] genres(int count) {
+        return artistGenre.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #genre()}, see {@link #genres(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] genres(String[] dst) {
+        artistGenre.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -53,8 +108,29 @@ public class ArtistProvider {
      * @return A randomly selected artist nationality
      */
     public String nationality() {
-        artistNationality = LazyLoader.load("artistNationality", () -> DataLoader.getListData("artist", "nationalities"));
-        return random.randomElement(artistNationality);
+        return artistNationality.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #nationality()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] nationalities(int count) {
+        return artistNationality.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #nationality()}, see {@link #nationalities(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] nationalities(String[] dst) {
+        artistNationality.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -63,8 +139,29 @@ public class ArtistProvider {
      * @return A randomly selected artwork name
      */
     public String artwork() {
-        artistArtwork = LazyLoader.load("artistArtwork", () -> DataLoader.getListData("artist", "artworks"));
-        return random.randomElement(artistArtwork);
+        return artistArtwork.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #artwork()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] artworks(int count) {
+        return artistArtwork.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #artwork()}, see {@link #artworks(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] artworks(String[] dst) {
+        artistArtwork.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -1,11 +1,10 @@
 package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 import com.datamirage.util.RandomService;
 
-import java.util.List;
-
 /**
  * A provider class for generating fake book-related data.
  * This class provides methods to generate various components of book information,
@@ -14,10 +13,10 @@ import java.util.List;
 @SuppressWarnings("ALL")
 public class BookProvider {
     private final RandomService random;
-    private List<String> titles;
-    private List<String> authors;
-    private List<String> publishers;
-    private List<String> genres;
+    private final Dictionary titles;
+    private final Dictionary authors;
+    private final Dictionary publishers;
+    private final Dictionary genres;
 
     /**
      * Constructs a new BookProvider with the specified RandomService.
@@ -25,7 +24,21 @@ public class BookProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public BookProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new BookProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public BookProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.titles = data.dictionary("book", "titles");
+        this.authors = data.dictionary("book", "authors");
+        this.publishers = data.dictionary("book", "publishers");
+        this.genres = data.dictionary("book", "genres");
     }
 
     /**
@@ -35,13 +48,29 @@ public class BookProvider {
      * @return A randomly selected book title
      */
     public String title() {
-        titles = LazyLoader.load("bookTitles", () -> {
-            List<?> rawTitles = DataLoader.getListData("book", "titles");
-            return rawTitles.stream()
-                    .map(Object::toString)
-                    .toList();
-        });
-        return random.randomElement(titles);
+        return titles.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #title()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] titles(int count) {
+        return titles.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #title()}, see {@link #titles(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] titles(String[] dst) {
+        titles.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -50,8 +79,29 @@ public class BookProvider {
      * @return A randomly selected book author name
      */
     public String author() {
-        authors = LazyLoader.load("bookAuthors", () -> DataLoader.getListData("book", "authors"));
-        return random.randomElement(authors);
+        return authors.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #author()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] authors(int count) {
+        return authors.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #author()}, see {@link #authors(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] authors(String[] dst) {
+        authors.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -60,8 +110,29 @@ public class BookProvider {
      * @return A randomly selected book publisher name
      */
     public String publisher() {
-        publishers = LazyLoader.load("bookPublishers", () -> DataLoader.getListData("book", "publishers"));
-        return random.randomElement(publishers);
+        return publishers.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #publisher()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] publishers(int count) {
+        return publishers.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #publisher()}, see {@link #publishers(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] publishers(String[] dst) {
+        publishers.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -70,8 +141,29 @@ public class BookProvider {
      * @return A randomly selected book genre
      */
     public String genre() {
-        genres = LazyLoader.load("bookGenre", () -> DataLoader.getListData("book", "genres"));
-        return random.randomElement(genres);
+        return genres.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #genre()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] genres(int count) {
+        return genres.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #genre()}, see {@link #genres(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] genres(String[] dst) {
+        genres.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.datamirage.providers;
+
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+
+/**
+ * Support for the {@code writeX(CharBuffer)} methods of the providers: a value is appended to a
+ * reusable per-thread StringBuilder and then copied into the caller's buffer, so that nothing is
+ * allocated once the builder has grown to the size of the largest value.
+ */
+final class CharBuffers {
+    private static final ThreadLocal<StringBuilder> SCRATCH = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private CharBuffers() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Returns this thread's scratch builder, emptied.
+     *
+     * @return An empty StringBuilder that is reused by the next call from the same thread
+     */
+    static StringBuilder scratch() {
+        StringBuilder sb = SCRATCH.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    /**
+     * Copies the content of a builder to a buffer and advances the buffer's position.
+     *
+     * @param dst The buffer to write to
+     * @param sb The characters to write
+     * @return The buffer, for chaining
+     * @throws BufferOverflowException if the buffer does not have enough room, in which case it is left unchanged
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    static CharBuffer write(CharBuffer dst, StringBuilder sb) {
+        int length = sb.length();
+        if (length > dst.remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            sb.getChars(0, length, dst.array(), dst.arrayOffset() + dst.position());
+            dst.position(dst.position() + length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst.put(sb.charAt(i));
+            }
+        }
+        return dst;
+    }
+}
@@ -27,19 +27,18 @@ public class CodeProvider {
      * @return A string containing the generated code with check digit
      */
     private String generateWithCheckDigit(int length, int[] weights) {
-        StringBuilder result = new StringBuilder();
+        char[] result = new char[length];
+        random.nextChars(result, 0, length - 1, '0', '9');
         int sum = 0;
         
         for (int i = 0; i < length - 1; i++) {
-            int digit = random.nextInt(0, 9);
-            result.append(digit);
-            sum += digit * weights[i];
+            sum += (result[i] - '0') * weights[i];
         }
         
         int checkDigit = (10 - (sum % 10)) % 10;
-        result.append(checkDigit);
+        result[length - 1] = (char) ('0' + checkDigit);
         
-        return result.toString();
+        return new String(result);
     }
 
     /**
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating fake color-related data.
@@ -12,7 +12,7 @@ import java.util.List;
  */
 public class ColorProvider {
     private final RandomService random;
-    private List<String> colorNames;
+    private final Dictionary colorNames;
 
     /**
      * Constructs a new ColorProvider with the specified RandomService.
@@ -20,7 +20,18 @@ public class ColorProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public ColorProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new ColorProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public ColorProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.colorNames = data.dictionary("color", "color_names");
     }
 
     /**
@@ -29,8 +40,29 @@ public class ColorProvider {
      * @return A randomly selected color name
      */
     public String name() {
-        colorNames = LazyLoader.load("colorNames", () -> DataLoader.getListData("color", "color_names"));
-        return random.randomElement(colorNames);
+        return colorNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #name()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] names(int count) {
+        return colorNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #name()}, see {@link #names(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] names(String[] dst) {
+        colorNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating e-commerce related data.
@@ -13,9 +13,9 @@ import java.util.List;
 @SuppressWarnings("ALL")
 public class CommerceProvider {
     private final RandomService random;
-    private List<String> productNames;
-    private List<String> departments;
-    private List<String> materials;
+    private final Dictionary productNames;
+    private final Dictionary departments;
+    private final Dictionary materials;
 
     /**
      * Constructs a new CommerceProvider with the specified RandomService.
@@ -23,7 +23,20 @@ public class CommerceProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public CommerceProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new CommerceProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public CommerceProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.productNames = data.dictionary("commerce", "product_names");
+        this.departments = data.dictionary("commerce", "departments");
+        this.materials = data.dictionary("commerce", "materials");
     }
 
     /**
@@ -32,8 +45,29 @@ public class CommerceProvider {
      * @return A random product name as a string
      */
     public String productName() {
-        productNames = LazyLoader.load("commerceProductNames", () -> DataLoader.getListData("commerce", "product_names"));
-        return random.randomElement(productNames);
+        return productNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #productName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] productNames(int count) {
+        return productNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #productName()}, see {@link #productNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] productNames(String[] dst) {
+        productNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -42,8 +76,29 @@ public class CommerceProvider {
      * @return A random department name as a string
      */
     public String department() {
-        departments = LazyLoader.load("commerceDepartments", () -> DataLoader.getListData("commerce", "departments"));
-        return random.randomElement(departments);
+        return departments.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #department()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] departments(int count) {
+        return departments.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #department()}, see {@link #departments(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] departments(String[] dst) {
+        departments.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -52,8 +107,29 @@ public class CommerceProvider {
      * @return A random material name as a string
      */
     public String material() {
-        materials = LazyLoader.load("commerceMaterials", () -> DataLoader.getListData("commerce", "materials"));
-        return random.randomElement(materials);
+        return materials.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #material()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] materials(int count) {
+        return materials.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #material()}, see {@link #materials(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] materials(String[] dst) {
+        materials.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating fake company-related data.
@@ -12,10 +12,10 @@ import java.util.List;
  */
 public class CompanyProvider {
     private final RandomService random;
-    private List<String> companyNames;
-    private List<String> companySuffixes;
-    private List<String> companyIndustries;
-    private List<String> companyCatchPhrases;
+    private final Dictionary companyNames;
+    private final Dictionary companySuffixes;
+    private final Dictionary companyIndustries;
+    private final Dictionary companyCatchPhrases;
 
     /**
      * Constructs a new CompanyProvider with the specified RandomService.
@@ -23,7 +23,21 @@ public class CompanyProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public CompanyProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new CompanyProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public CompanyProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.companyNames = data.dictionary("company", "names");
+        this.companySuffixes = data.dictionary("company", "suffixes");
+        this.companyIndustries = data.dictionary("company", "industries");
+        this.companyCatchPhrases = data.dictionary("company", "catch_phrases");
     }
 
     /**
@@ -32,8 +46,29 @@ public class CompanyProvider {
      * @return A randomly selected company name
      */
     public String name() {
-        companyNames = LazyLoader.load("companyNames", () -> DataLoader.getListData("company", "names"));
-        return random.randomElement(companyNames);
+        return companyNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #name()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] names(int count) {
+        return companyNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #name()}, see {@link #names(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] names(String[] dst) {
+        companyNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -42,8 +77,29 @@ public class CompanyProvider {
      * @return A randomly selected company suffix
      */
     public String suffix() {
-        companySuffixes = LazyLoader.load("companySuffixes", () -> DataLoader.getListData("company", "suffixes"));
-        return random.randomElement(companySuffixes);
+        return companySuffixes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #suffix()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] suffixes(int count) {
+        return companySuffixes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #suffix()}, see {@link #suffixes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] suffixes(String[] dst) {
+        companySuffixes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -52,8 +108,29 @@ public class CompanyProvider {
      * @return A randomly selected company industry
      */
     public String industry() {
-        companyIndustries = LazyLoader.load("companyIndustries", () -> DataLoader.getListData("company", "industries"));
-        return random.randomElement(companyIndustries);
+        return companyIndustries.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #industry()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] industries(int count) {
+        return companyIndustries.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #industry()}, see {@link #industries(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] industries(String[] dst) {
+        companyIndustries.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -62,8 +139,29 @@ public class CompanyProvider {
      * @return A randomly selected company catchphrase
      */
     public String catchPhrase() {
-        companyCatchPhrases = LazyLoader.load("companyCatchPhrases", () -> DataLoader.getListData("company", "catch_phrases"));
-        return random.randomElement(companyCatchPhrases);
+        return companyCatchPhrases.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #catchPhrase()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] catchPhrases(int count) {
+        return companyCatchPhrases.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #catchPhrase()}, see {@link #catchPhrases(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] catchPhrases(String[] dst) {
+        companyCatchPhrases.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating cryptocurrency-related data.
@@ -12,9 +12,9 @@ import java.util.List;
  */
 public class CryptoProvider {
     private final RandomService random;
-    private List<String> coinNames;
-    private List<String> coinSymbols;
-    private List<String> blockchains;
+    private final Dictionary coinNames;
+    private final Dictionary coinSymbols;
+    private final Dictionary blockchains;
 
     /**
      * Constructs a new CryptoProvider with the specified RandomService.
@@ -22,7 +22,20 @@ public class CryptoProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public CryptoProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new CryptoProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public CryptoProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.coinNames = data.dictionary("crypto", "coin_names");
+        this.coinSymbols = data.dictionary("crypto", "coin_symbols");
+        this.blockchains = data.dictionary("crypto", "blockchains");
     }
 
     /**
@@ -31,8 +44,29 @@ public class CryptoProvider {
      * @return A random cryptocurrency coin name as a string
      */
     public String coinName() {
-        coinNames = LazyLoader.load("cryptoCoinNames", () -> DataLoader.getListData("crypto", "coin_names"));
-        return random.randomElement(coinNames);
+        return coinNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #coinName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] coinNames(int count) {
+        return coinNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #coinName()}, see {@link #coinNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] coinNames(String[] dst) {
+        coinNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -41,8 +75,29 @@ public class CryptoProvider {
      * @return A random cryptocurrency coin symbol as a string
      */
     public String coinSymbol() {
-        coinSymbols = LazyLoader.load("cryptoCoinSymbols", () -> DataLoader.getListData("crypto", "coin_symbols"));
-        return random.randomElement(coinSymbols);
+        return coinSymbols.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #coinSymbol()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] coinSymbols(int count) {
+        return coinSymbols.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #coinSymbol()}, see {@link #coinSymbols(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] coinSymbols(String[] dst) {
+        coinSymbols.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -51,8 +106,29 @@ public class CryptoProvider {
      * @return A random blockchain name as a string
      */
     public String blockchain() {
-        blockchains = LazyLoader.load("cryptoBlockchains", () -> DataLoader.getListData("crypto", "blockchains"));
-        return random.randomElement(blockchains);
+        return blockchains.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #blockchain()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] blockchains(int count) {
+        return blockchains.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #blockchain()}, see {@link #blockchains(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] blockchains(String[] dst) {
+        blockchains.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -83,12 +159,7 @@ public class CryptoProvider {
      * @return A random transaction hash as a string
      */
     public String transactionHash() {
-        String hex = "abcdef0123456789";
-        StringBuilder sb = new StringBuilder(64);
-        for (int i = 0; i < 64; i++) {
-            sb.append(hex.charAt(random.nextInt(0, hex.length() - 1)));
-        }
-        return sb.toString();
+        return random.nextString(64, "abcdef0123456789");
     }
 
     /**
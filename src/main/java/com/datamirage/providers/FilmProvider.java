@@ -1,9 +1,10 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.Distribution;
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating film-related data.
@@ -12,12 +13,12 @@ import java.util.List;
  */
 public class FilmProvider {
     private final RandomService random;
-    private List<String> filmTitles;
-    private List<String> filmDirectors;
-    private List<String> filmActors;
-    private List<String> filmGenres;
-    private List<String> firstNames;
-    private List<String> quotes;
+    private final Dictionary filmTitles;
+    private final Dictionary filmDirectors;
+    private final Dictionary filmActors;
+    private final Dictionary filmGenres;
+    private final Dictionary firstNames;
+    private final Dictionary quotes;
 
     /**
      * Constructs a new FilmProvider with the specified RandomService.
@@ -25,7 +26,23 @@ public class FilmProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public FilmProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new FilmProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public FilmProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.filmTitles = data.dictionary("film", "titles");
+        this.filmDirectors = data.dictionary("film", "directors");
+        this.filmActors = data.dictionary("film", "actors");
+        this.filmGenres = data.dictionary("film", "genres");
+        this.firstNames = data.dictionary("name", "first_names");
+        this.quotes = data.dictionary("film", "quotes");
     }
 
     /**
@@ -34,8 +51,29 @@ public class FilmProvider {
      * @return A randomly selected film title
      */
     public String title() {
-        filmTitles = LazyLoader.load("filmTitles", () -> DataLoader.getListData("film", "titles"));
-        return random.randomElement(filmTitles);
+        return filmTitles.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #title()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] titles(int count) {
+        return filmTitles.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #title()}, see {@link #titles(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] titles(String[] dst) {
+        filmTitles.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -44,8 +82,29 @@ public class FilmProvider {
      * @return A randomly selected film director name
      */
     public String director() {
-        filmDirectors = LazyLoader.load("filmDirectors", () -> DataLoader.getListData("film", "directors"));
-        return random.randomElement(filmDirectors);
+        return filmDirectors.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #director()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] directors(int count) {
+        return filmDirectors.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #director()}, see {@link #directors(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] directors(String[] dst) {
+        filmDirectors.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -54,8 +113,29 @@ public class FilmProvider {
      * @return A randomly selected film actor name
      */
     public String actor() {
-        filmActors = LazyLoader.load("filmActors", () -> DataLoader.getListData("film", "actors"));
-        return random.randomElement(filmActors);
+        return filmActors.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #actor()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] actors(int count) {
+        return filmActors.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #actor()}, see {@link #actors(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] actors(String[] dst) {
+        filmActors.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -64,8 +144,29 @@ public class FilmProvider {
      * @return A randomly selected film genre
      */
     public String genre() {
-        filmGenres = LazyLoader.load("filmGenres", () -> DataLoader.getListData("film", "genres"));
-        return random.randomElement(filmGenres);
+        return filmGenres.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #genre()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] genres(int count) {
+        return filmGenres.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #genre()}, see {@link #genres(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] genres(String[] dst) {
+        filmGenres.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -74,8 +175,29 @@ public class FilmProvider {
      * @return A random character name as a string
      */
     public String character() {
-        firstNames = LazyLoader.load("nameFirstNames", () -> DataLoader.getListData("name", "first_names"));
-        return random.randomElement(firstNames);
+        return firstNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #character()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] characters(int count) {
+        return firstNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #character()}, see {@link #characters(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] characters(String[] dst) {
+        firstNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -84,8 +206,29 @@ public class FilmProvider {
      * @return A randomly selected film quote
      */
     public String quote() {
-        quotes = LazyLoader.load("filmQuotes", () -> DataLoader.getListData("film", "quotes"));
-        return random.randomElement(quotes);
+        return quotes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #quote()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] quotes(int count) {
+        return quotes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #quote()}, see {@link #quotes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] quotes(String[] dst) {
+        quotes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -107,6 +250,17 @@ public class FilmProvider {
         return String.format("%.1f", rating);
     }
 
+    /**
+     * Generates a random film rating drawn from the specified distribution, e.g.
+     * {@code rating(Distribution.normal(6.5, 1.2).truncate(1.0, 10.0))}.
+     *
+     * @param distribution The distribution to draw the rating from
+     * @return A random film rating with one decimal place
+     */
+    public String rating(Distribution distribution) {
+        return String.format("%.1f", distribution.sample(random));
+    }
+
     /**
      * Main method for testing the functionality of FilmProvider.
      * This method demonstrates the usage of various film-related data generation methods.
@@ -1,19 +1,25 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.Distribution;
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 public class FinanceProvider {
     private final RandomService random;
-    private List<String> ibanTemplates;
+    private final Dictionary ibanTemplates;
 
     public FinanceProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    public FinanceProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.ibanTemplates = data.dictionary("finance", "ibanTemplate");
     }
 
     public String creditCardNumber(String prefix, int length) {
@@ -61,11 +67,12 @@ public class FinanceProvider {
     }
 
     public String cvv(int digits) {
-        StringBuilder cvv = new StringBuilder();
-        for (int i = 0; i < digits; i++) {
-            cvv.append(random.nextInt(0, 9));
+        if (digits <= 0) {
+            return "";
         }
-        return cvv.toString();
+        char[] cvv = new char[digits];
+        random.nextChars(cvv, 0, digits, '0', '9');
+        return new String(cvv);
     }
 
     /**
@@ -75,11 +82,9 @@ public class FinanceProvider {
      * @return A randomly generated bank account number
      */
     public String bankAccountNumber() {
-        StringBuilder accountNumber = new StringBuilder();
-        for (int i = 0; i < 10; i++) {
-            accountNumber.append(random.nextInt(0, 9));
-        }
-        return accountNumber.toString();
+        char[] accountNumber = new char[10];
+        random.nextChars(accountNumber, 0, accountNumber.length, '0', '9');
+        return new String(accountNumber);
     }
 
     /**
@@ -88,8 +93,7 @@ public class FinanceProvider {
      * @return A randomly generated IBAN
      */
     public String ibanBuilder() {
-        ibanTemplates = LazyLoader.load("financeIbanTemplates", () -> DataLoader.getListData("finance", "ibanTemplate"));
-        String format = random.randomElement(ibanTemplates);
+        String format = ibanTemplates.pick(random);
         return random.randomize(format);
     }
 
@@ -105,6 +109,17 @@ public class FinanceProvider {
         return String.format("%.2f", amount);
     }
 
+    /**
+     * Generates a random monetary amount drawn from the specified distribution, e.g.
+     * {@code amount(Distribution.lognormal(4.0, 1.0))} for realistic, right-skewed order totals.
+     *
+     * @param distribution The distribution to draw the amount from
+     * @return A string representation of the amount with 2 decimal places
+     */
+    public String amount(Distribution distribution) {
+        return String.format("%.2f", distribution.sample(random));
+    }
+
     /**
      * Main method for testing the functionality of FinanceProvider.
      * This method demonstrates the usage of various financial data generation methods.
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating fake food-related data.
@@ -12,10 +12,10 @@ import java.util.List;
  */
 public class FoodProvider {
     private final RandomService random;
-    private List<String> ingredients;
-    private List<String> spices;
-    private List<String> measurements;
-    private List<String> dishes;
+    private final Dictionary ingredients;
+    private final Dictionary spices;
+    private final Dictionary measurements;
+    private final Dictionary dishes;
 
     /**
      * Constructs a new FoodProvider with the specified RandomService.
@@ -23,7 +23,21 @@ public class FoodProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public FoodProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new FoodProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public FoodProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.ingredients = data.dictionary("food", "ingredients");
+        this.spices = data.dictionary("food", "spices");
+        this.measurements = data.dictionary("food", "measurements");
+        this.dishes = data.dictionary("food", "dishes");
     }
 
     /**
@@ -32,8 +46,29 @@ public class FoodProvider {
      * @return Randomly selected food ingredient
      */
     public String ingredient() {
-        ingredients = LazyLoader.load("foodIngredients", () -> DataLoader.getListData("food", "ingredients"));
-        return random.randomElement(ingredients);
+        return ingredients.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #ingredient()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] ingredients(int count) {
+        return ingredients.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #ingredient()}, see {@link #ingredients(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] ingredients(String[] dst) {
+        ingredients.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -42,8 +77,29 @@ public class FoodProvider {
      * @return A randomly selected spice
      */
     public String spice() {
-        spices = LazyLoader.load("foodSpices", () -> DataLoader.getListData("food", "spices"));
-        return random.randomElement(spices);
+        return spices.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #spice()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] spices(int count) {
+        return spices.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #spice()}, see {@link #spices(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] spices(String[] dst) {
+        spices.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -52,8 +108,29 @@ public class FoodProvider {
      * @return A randomly selected measurement unit
      */
     public String measurement() {
-        measurements = LazyLoader.load("foodMeasurements", () -> DataLoader.getListData("food", "measurements"));
-        return random.randomElement(measurements);
+        return measurements.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #measurement()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] measurements(int count) {
+        return measurements.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #measurement()}, see {@link #measurements(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] measurements(String[] dst) {
+        measurements.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -62,8 +139,29 @@ public class FoodProvider {
      * @return A randomly selected dish name
      */
     public String dish() {
-        dishes = LazyLoader.load("foodDishes", () -> DataLoader.getListData("food", "dishes"));
-        return random.randomElement(dishes);
+        return dishes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #dish()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] dishes(int count) {
+        return dishes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #dish()}, see {@link #dishes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] dishes(String[] dst) {
+        dishes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -2,10 +2,13 @@ package com.datamirage.providers;
 
 import com.datamirage.util.RandomService;
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.ZonedDateTime;
-import java.util.List;
 
 /**
  * A provider class for generating Git-related data.
@@ -13,10 +16,16 @@ import java.util.List;
  * branch names, commit SHAs, commit messages, dates, and complete commit entries.
  */
 public class GitProvider {
+    private static final String SHA_DIGITS = "0123456789abcdef";
+    private static final String COMMIT_DATE_PATTERN = "EEE MMM d HH:mm:ss yyyy Z";
+
+    /** The last formatted commit date; the date only changes once a second. */
+    private static volatile CommitDate lastCommitDate;
+
     private final RandomService random;
-    private List<String> commitMessages;
-    private List<String> gitAuthors;
-    private List<String> gitEmails;
+    private final Dictionary commitMessages;
+    private final Dictionary gitAuthors;
+    private final Dictionary gitEmails;
 
     /**
      * Constructs a new GitProvider with the specified RandomService.
@@ -24,7 +33,20 @@ public class GitProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public GitProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new GitProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public GitProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.commitMessages = data.dictionary("git", "commit_messages");
+        this.gitAuthors = data.dictionary("git", "git_authors");
+        this.gitEmails = data.dictionary("git", "git_emails");
     }
 
     /**
@@ -55,14 +77,7 @@ public class GitProvider {
      * @return A random Git commit SHA as a string
      */
     public String commitSha() {
-        StringBuilder sha = new StringBuilder();
-        String hexChars = "0123456789abcdef";
-        
-        for (int i = 0; i < 40; i++) {
-            sha.append(hexChars.charAt(random.nextInt(0, hexChars.length() - 1)));
-        }
-        
-        return sha.toString();
+        return random.nextString(40, SHA_DIGITS);
     }
 
     /**
@@ -71,19 +86,48 @@ public class GitProvider {
      * @return A random Git commit message as a string
      */
     public String commitMessage() {
-        commitMessages = LazyLoader.load("gitCommitMessages", () -> DataLoader.getListData("git", "commit_messages"));
-        return random.randomElement(commitMessages);
+        return commitMessages.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #commitMessage()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] commitMessages(int count) {
+        return commitMessages.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #commitMessage()}, see {@link #commitMessages(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] commitMessages(String[] dst) {
+        commitMessages.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
      * Generates a formatted Git commit date.
-     * The date is in the format: "EEE MMM d HH:mm:ss yyyy Z"
+     * The date is the current time in the format: "EEE MMM d HH:mm:ss yyyy Z".
+     * It is formatted at most once per second and reused until the second changes.
      *
      * @return A formatted Git commit date as a string
      */
     public String commitDate() {
-        ZonedDateTime now = ZonedDateTime.now();
-        return now.format(DateTimeFormatter.ofPattern("EEE MMM d HH:mm:ss yyyy Z"));
+        long second = Math.floorDiv(System.currentTimeMillis(), 1000);
+        CommitDate last = lastCommitDate;
+        if (last == null || last.second() != second) {
+            String text = Instant.ofEpochSecond(second).atZone(ZoneId.systemDefault())
+                .format(DateTimeFormatter.ofPattern(COMMIT_DATE_PATTERN));
+            last = new CommitDate(second, text);
+            lastCommitDate = last;
+        }
+        return last.text();
     }
 
     /**
@@ -93,21 +137,41 @@ public class GitProvider {
      * @return A complete Git commit entry as a string
      */
     public String commitEntry() {
-        String sha = commitSha();
-        gitAuthors = LazyLoader.load("gitAuthors", () -> DataLoader.getListData("git", "git_authors"));
-        String author = random.randomElement(gitAuthors);
-        gitEmails = LazyLoader.load("gitEmails", () -> DataLoader.getListData("git", "git_emails"));
-        String email = random.randomElement(gitEmails);
-        String date = commitDate();
-        String message = commitMessage();
-
-        return String.format("commit %s | Author: %s <%s> | Date: %s | %s",
-            sha,
-            author,
-            email,
-            date,
-            message
-        );
+        return appendCommitEntry(new StringBuilder(160)).toString();
+    }
+
+    /**
+     * Appends a complete Git commit entry to a StringBuilder without creating intermediate Strings.
+     * Draws exactly like {@link #commitEntry()}, so the same seed produces the same entry.
+     *
+     * @param sb The StringBuilder to append to
+     * @return The StringBuilder, for chaining
+     */
+    public StringBuilder appendCommitEntry(StringBuilder sb) {
+        random.appendString(sb.append("commit "), 40, SHA_DIGITS).append(" | Author: ");
+        gitAuthors.appendPick(sb, random).append(" <");
+        gitEmails.appendPick(sb, random).append("> | Date: ").append(commitDate()).append(" | ");
+        return commitMessages.appendPick(sb, random);
+    }
+
+    /**
+     * Writes a complete Git commit entry to a buffer, see {@link #appendCommitEntry(StringBuilder)}.
+     *
+     * @param dst The buffer to write to
+     * @return The buffer, for chaining
+     * @throws BufferOverflowException if the buffer does not have enough room, in which case it is left unchanged
+     */
+    public CharBuffer writeCommitEntry(CharBuffer dst) {
+        return CharBuffers.write(dst, appendCommitEntry(CharBuffers.scratch()));
+    }
+
+    /**
+     * A commit date formatted for one second since the epoch.
+     *
+     * @param second The second since the epoch
+     * @param text The formatted date
+     */
+    private record CommitDate(long second, String text) {
     }
 
     /**
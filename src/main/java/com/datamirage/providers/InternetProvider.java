@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.RandomService;
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating fake internet-related data.
@@ -12,7 +12,8 @@ import java.util.List;
  */
 public class InternetProvider {
     private final RandomService random;
-    private List<String> domainNames;
+    private final Dictionary domainNames;
+    private final NameProvider names;
 
     /**
      * Constructs a new InternetProvider with the specified RandomService.
@@ -20,7 +21,19 @@ public class InternetProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public InternetProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new InternetProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public InternetProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.domainNames = data.dictionary("internet", "domainNames");
+        this.names = new NameProvider(random, data);
     }
 
     /**
@@ -29,7 +42,7 @@ public class InternetProvider {
      * @return A randomly generated email address
      */
     public String email() {
-        return new NameProvider(random).username() + "@" + domainName();
+        return names.username() + "@" + domainName();
     }
 
     /**
@@ -38,7 +51,7 @@ public class InternetProvider {
      * @return A randomly generated username
      */
     public String username() {
-        return new NameProvider(random).username();
+        return names.username();
     }
 
     /**
@@ -48,8 +61,7 @@ public class InternetProvider {
      * @return A randomly selected domain name
      */
     public String domainName() {
-        domainNames = LazyLoader.load("internetDomainNames", () -> DataLoader.getListData("internet", "domainNames"));
-        String domain = random.randomElement(domainNames);
+        String domain = domainNames.pick(random);
         // Eğer domain adı regex formatına uymuyorsa, geçerli bir domain adı oluştur
         if (!domain.matches("^[\\w-]+\\.[a-zA-Z]{2,}$")) {
             String[] parts = domain.split("\\.");
@@ -77,10 +89,9 @@ public class InternetProvider {
      * @return A string representation of a random IPv4 address
      */
     public String ipv4() {
-        return random.nextInt(0, 255) + "." +
-               random.nextInt(0, 255) + "." +
-               random.nextInt(0, 255) + "." +
-               random.nextInt(0, 255);
+        int[] octets = new int[4];
+        random.nextInts(octets, 0, octets.length, 0, 255);
+        return octets[0] + "." + octets[1] + "." + octets[2] + "." + octets[3];
     }
 
     /**
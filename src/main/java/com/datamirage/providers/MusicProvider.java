@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating music-related data.
@@ -12,16 +12,16 @@ import java.util.List;
  */
 public class MusicProvider {
     private final RandomService random;
-    private List<String> genres;
-    private List<String> artists;
-    private List<String> albums;
-    private List<String> songs;
-    private List<String> instruments;
-    private List<String> notes;
-    private List<String> scales;
-    private List<String> chordTypes;
-    private List<String> tempos;
-    private List<String> dynamics;
+    private final Dictionary genres;
+    private final Dictionary artists;
+    private final Dictionary albums;
+    private final Dictionary songs;
+    private final Dictionary instruments;
+    private final Dictionary notes;
+    private final Dictionary scales;
+    private final Dictionary chordTypes;
+    private final Dictionary tempos;
+    private final Dictionary dynamics;
 
     /**
      * Constructs a new MusicProvider with the specified RandomService.
@@ -29,7 +29,27 @@ public class MusicProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public MusicProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new MusicProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public MusicProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.genres = data.dictionary("music", "genres");
+        this.artists = data.dictionary("music", "artists");
+        this.albums = data.dictionary("music", "albums");
+        this.songs = data.dictionary("music", "songs");
+        this.instruments = data.dictionary("music", "instruments");
+        this.notes = data.dictionary("music", "notes");
+        this.chordTypes = data.dictionary("music", "chordTypes");
+        this.scales = data.dictionary("music", "scales");
+        this.tempos = data.dictionary("music", "tempos");
+        this.dynamics = data.dictionary("music", "dynamics");
     }
 
     /**
@@ -38,8 +58,29 @@ public class MusicProvider {
      * @return A random music genre as a string
      */
     public String genre() {
-        genres = LazyLoader.load("musicGenres", () -> DataLoader.getListData("music", "genres"));
-        return random.randomElement(genres);
+        return genres.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #genre()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] genres(int count) {
+        return genres.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #genre()}, see {@link #genres(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] genres(String[] dst) {
+        genres.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -48,8 +89,29 @@ public class MusicProvider {
      * @return A random artist name as a string
      */
     public String artist() {
-        artists = LazyLoader.load("musicArtists", () -> DataLoader.getListData("music", "artists"));
-        return random.randomElement(artists);
+        return artists.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #artist()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] artists(int count) {
+        return artists.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #artist()}, see {@link #artists(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] artists(String[] dst) {
+        artists.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -58,8 +120,29 @@ public class MusicProvider {
      * @return A random album name as a string
      */
     public String album() {
-        albums = LazyLoader.load("musicAlbums", () -> DataLoader.getListData("music", "albums"));
-        return random.randomElement(albums);
+        return albums.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #album()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] albums(int count) {
+        return albums.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #album()}, see {@link #albums(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] albums(String[] dst) {
+        albums.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -68,8 +151,29 @@ public class MusicProvider {
      * @return A random song title as a string
      */
     public String song() {
-        songs = LazyLoader.load("musicSongs", () -> DataLoader.getListData("music", "songs"));
-        return random.randomElement(songs);
+        return songs.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #song()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] songs(int count) {
+        return songs.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #song()}, see {@link #songs(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] songs(String[] dst) {
+        songs.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -78,8 +182,29 @@ public class MusicProvider {
      * @return A random musical instrument name as a string
      */
     public String instrument() {
-        instruments = LazyLoader.load("musicInstruments", () -> DataLoader.getListData("music", "instruments"));
-        return random.randomElement(instruments);
+        return instruments.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #instrument()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] instruments(int count) {
+        return instruments.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #instrument()}, see {@link #instruments(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] instruments(String[] dst) {
+        instruments.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -88,8 +213,7 @@ public class MusicProvider {
      * @return A random musical key as a string
      */
     public String key() {
-        notes = LazyLoader.load("musicNotes", () -> DataLoader.getListData("music", "notes"));
-        return random.randomElement(notes) + " " + scale();
+        return notes.pick(random) + " " + scale();
     }
 
     /**
@@ -98,9 +222,7 @@ public class MusicProvider {
      * @return A random chord as a string
      */
     public String chord() {
-        notes = LazyLoader.load("musicNotes", () -> DataLoader.getListData("music", "notes"));
-        chordTypes = LazyLoader.load("musicChordTypes", () -> DataLoader.getListData("music", "chordTypes"));
-        return random.randomElement(notes) + " " + random.randomElement(chordTypes);
+        return notes.pick(random) + " " + chordTypes.pick(random);
     }
 
     /**
@@ -109,8 +231,29 @@ public class MusicProvider {
      * @return A randomly selected musical note
      */
     public String note() {
-        notes = LazyLoader.load("musicNotes", () -> DataLoader.getListData("music", "notes"));
-        return random.randomElement(notes);
+        return notes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #note()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] notes(int count) {
+        return notes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #note()}, see {@link #notes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] notes(String[] dst) {
+        notes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -119,8 +262,29 @@ public class MusicProvider {
      * @return A randomly selected musical scale
      */
     public String scale() {
-        scales = LazyLoader.load("musicScales", () -> DataLoader.getListData("music", "scales"));
-        return random.randomElement(scales);
+        return scales.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #scale()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] scales(int count) {
+        return scales.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #scale()}, see {@link #scales(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] scales(String[] dst) {
+        scales.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -129,8 +293,29 @@ public class MusicProvider {
      * @return A randomly selected tempo marking
      */
     public String tempo() {
-        tempos = LazyLoader.load("musicTempos", () -> DataLoader.getListData("music", "tempos"));
-        return random.randomElement(tempos);
+        return tempos.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #tempo()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] tempos(int count) {
+        return tempos.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #tempo()}, see {@link #tempos(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] tempos(String[] dst) {
+        tempos.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -139,8 +324,29 @@ public class MusicProvider {
      * @return A randomly selected dynamic marking
      */
     public String dynamic() {
-        dynamics = LazyLoader.load("musicDynamics", () -> DataLoader.getListData("music", "dynamics"));
-        return random.randomElement(dynamics);
+        return dynamics.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #dynamic()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] dynamics(int count) {
+        return dynamics.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #dynamic()}, see {@link #dynamics(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] dynamics(String[] dst) {
+        dynamics.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -160,8 +366,29 @@ public class MusicProvider {
      * @return A randomly selected chord type
      */
     public String chordType() {
-        chordTypes = LazyLoader.load("musicChordTypes", () -> DataLoader.getListData("music", "chord_types"));
-        return random.randomElement(chordTypes);
+        return chordTypes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #chordType()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] chordTypes(int count) {
+        return chordTypes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #chordType()}, see {@link #chordTypes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] chordTypes(String[] dst) {
+        chordTypes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
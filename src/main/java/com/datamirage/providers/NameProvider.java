@@ -2,9 +2,11 @@ package com.datamirage.providers;
 
 import com.datamirage.util.RandomService;
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import java.util.Arrays;
-import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -15,12 +17,12 @@ import java.util.stream.IntStream;
  */
 public class NameProvider {
     private final RandomService random;
-    private List<String> firstNames;
-    private List<String> lastNames;
-    private List<String> prefixes;
-    private List<String> suffixes;
-    private List<String> titles;
-    private List<String> genders;
+    private final Dictionary firstNames;
+    private final Dictionary lastNames;
+    private final Dictionary prefixes;
+    private final Dictionary suffixes;
+    private final Dictionary titles;
+    private final Dictionary genders;
 
     /**
      * Constructs a new NameProvider with the specified RandomService.
@@ -28,7 +30,23 @@ public class NameProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public NameProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new NameProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public NameProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.firstNames = data.dictionary("name", "first_names");
+        this.lastNames = data.dictionary("name", "last_names");
+        this.prefixes = data.dictionary("name", "prefixes");
+        this.suffixes = data.dictionary("name", "suffixes");
+        this.titles = data.dictionary("name", "titles");
+        this.genders = data.dictionary("name", "gender");
     }
 
     /**
@@ -37,8 +55,29 @@ public class NameProvider {
      * @return A randomly selected first name
      */
     public String firstName() {
-        firstNames = LazyLoader.load("nameFirstNames", () -> DataLoader.getListData("name", "first_names"));
-        return random.randomElement(firstNames);
+        return firstNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #firstName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] firstNames(int count) {
+        return firstNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #firstName()}, see {@link #firstNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] firstNames(String[] dst) {
+        firstNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -47,8 +86,29 @@ public class NameProvider {
      * @return A randomly selected last name
      */
     public String lastName() {
-        lastNames = LazyLoader.load("nameLastNames", () -> DataLoader.getListData("name", "last_names"));
-        return random.randomElement(lastNames);
+        return lastNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #lastName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] lastNames(int count) {
+        return lastNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #lastName()}, see {@link #lastNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] lastNames(String[] dst) {
+        lastNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -60,14 +120,58 @@ public class NameProvider {
         return firstName() + " " + lastName();
     }
 
+    /**
+     * Appends a full name to a StringBuilder without creating intermediate Strings.
+     * Draws exactly like {@link #fullName()}, so the same seed produces the same name.
+     *
+     * @param sb The StringBuilder to append to
+     * @return The StringBuilder, for chaining
+     */
+    public StringBuilder appendFullName(StringBuilder sb) {
+        firstNames.appendPick(sb, random).append(' ');
+        return lastNames.appendPick(sb, random);
+    }
+
+    /**
+     * Writes a full name to a buffer, see {@link #appendFullName(StringBuilder)}.
+     *
+     * @param dst The buffer to write to
+     * @return The buffer, for chaining
+     * @throws BufferOverflowException if the buffer does not have enough room, in which case it is left unchanged
+     */
+    public CharBuffer writeFullName(CharBuffer dst) {
+        return CharBuffers.write(dst, appendFullName(CharBuffers.scratch()));
+    }
+
     /**
      * Generates a random name prefix (e.g., Mr., Mrs., Dr.).
      *
      * @return A randomly selected name prefix
      */
     public String prefix() {
-        prefixes = LazyLoader.load("namePrefixes", () -> DataLoader.getListData("name", "prefixes"));
-        return random.randomElement(prefixes);
+        return prefixes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #prefix()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] prefixes(int count) {
+        return prefixes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #prefix()}, see {@link #prefixes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] prefixes(String[] dst) {
+        prefixes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -76,8 +180,29 @@ public class NameProvider {
      * @return A randomly selected name suffix
      */
     public String suffix() {
-        suffixes = LazyLoader.load("nameSuffixes", () -> DataLoader.getListData("name", "suffixes"));
-        return random.randomElement(suffixes);
+        return suffixes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #suffix()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] suffixes(int count) {
+        return suffixes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #suffix()}, see {@link #suffixes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] suffixes(String[] dst) {
+        suffixes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -86,8 +211,29 @@ public class NameProvider {
      * @return A randomly selected title
      */
     public String title() {
-        titles = LazyLoader.load("nameTitles", () -> DataLoader.getListData("name", "titles"));
-        return random.randomElement(titles);
+        return titles.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #title()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] titles(int count) {
+        return titles.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #title()}, see {@link #titles(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] titles(String[] dst) {
+        titles.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -96,8 +242,29 @@ public class NameProvider {
      * @return A randomly selected gender
      */
     public String gender() {
-        genders = LazyLoader.load("nameGenders", () -> DataLoader.getListData("name", "gender"));
-        return random.randomElement(genders);
+        return genders.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #gender()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] genders(int count) {
+        return genders.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #gender()}, see {@link #genders(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] genders(String[] dst) {
+        genders.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -1,5 +1,9 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.HotspotGenerator;
+import com.datamirage.distribution.LatestGenerator;
+import com.datamirage.distribution.ScrambledZipfianGenerator;
+import com.datamirage.distribution.ZipfianGenerator;
 import com.datamirage.util.RandomService;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -10,6 +14,10 @@ import java.math.RoundingMode;
  * including integers, decimals, digits, and numbers in different bases (hex, binary, octal).
  */
 public class NumberProvider {
+    private static final String HEX_DIGITS = "0123456789abcdef";
+    private static final String BINARY_DIGITS = "01";
+    private static final String OCTAL_DIGITS = "01234567";
+
     private final RandomService random;
 
     /**
@@ -32,6 +40,78 @@ public class NumberProvider {
         return random.nextInt(min, max);
     }
 
+    /**
+     * Generates a random long within the specified range.
+     *
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @return A random long between min and max
+     */
+    public long number(long min, long max) {
+        return random.nextLong(min, max);
+    }
+
+    /**
+     * Creates a generator of Zipfian-distributed keys in which min is the most popular key,
+     * with the YCSB skew of 0.99.
+     *
+     * @param min The minimum key (inclusive)
+     * @param max The maximum key (inclusive)
+     * @return A reusable key generator drawing from this provider's random service
+     */
+    public ZipfianGenerator zipfian(long min, long max) {
+        return new ZipfianGenerator(random, min, max);
+    }
+
+    /**
+     * Creates a generator of Zipfian-distributed keys in which min is the most popular key.
+     *
+     * @param min The minimum key (inclusive)
+     * @param max The maximum key (inclusive)
+     * @param theta The skew, greater than 0 and less than 1
+     * @return A reusable key generator drawing from this provider's random service
+     */
+    public ZipfianGenerator zipfian(long min, long max, double theta) {
+        return new ZipfianGenerator(random, min, max, theta);
+    }
+
+    /**
+     * Creates a generator of Zipfian-distributed keys whose popular keys are scattered over the range,
+     * with the YCSB skew of 0.99.
+     *
+     * @param min The minimum key (inclusive)
+     * @param max The maximum key (inclusive)
+     * @return A reusable key generator drawing from this provider's random service
+     */
+    public ScrambledZipfianGenerator scrambledZipfian(long min, long max) {
+        return new ScrambledZipfianGenerator(random, min, max);
+    }
+
+    /**
+     * Creates a generator of keys of which a fraction of the draws hits a hot set at the start of the range,
+     * e.g. {@code hotspot(0, 999_999, 0.2, 0.8)} for 80% of the accesses to 20% of the keys.
+     *
+     * @param min The minimum key (inclusive)
+     * @param max The maximum key (inclusive)
+     * @param hotSetFraction The fraction of the keys that is hot
+     * @param hotOperationFraction The fraction of the draws that hits the hot keys
+     * @return A reusable key generator drawing from this provider's random service
+     */
+    public HotspotGenerator hotspot(long min, long max, double hotSetFraction, double hotOperationFraction) {
+        return new HotspotGenerator(random, min, max, hotSetFraction, hotOperationFraction);
+    }
+
+    /**
+     * Creates a generator of keys skewed towards the most recently inserted key, with the YCSB skew of 0.99.
+     *
+     * @param min The oldest key (inclusive)
+     * @param latest The most recently inserted key
+     * @return A reusable key generator drawing from this provider's random service
+     */
+    public LatestGenerator latest(long min, long latest) {
+        return new LatestGenerator(random, min, latest);
+    }
+
     /**
      * Generates a random decimal number within the specified range.
      *
@@ -73,11 +153,12 @@ public class NumberProvider {
      * @return A string containing the specified number of random digits
      */
     public String digits(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(digit());
+        if (count <= 0) {
+            return "";
         }
-        return result.toString();
+        char[] digits = new char[count];
+        random.nextChars(digits, 0, count, '0', '9');
+        return new String(digits);
     }
 
     /**
@@ -87,11 +168,7 @@ public class NumberProvider {
      * @return A string containing the specified number of random hexadecimal digits
      */
     public String hex(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(Integer.toHexString(random.nextInt(0, 15)));
-        }
-        return result.toString();
+        return random.nextString(count, HEX_DIGITS);
     }
 
     /**
@@ -101,11 +178,7 @@ public class NumberProvider {
      * @return A string containing the specified number of random binary digits
      */
     public String binary(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(random.nextInt(0, 1));
-        }
-        return result.toString();
+        return random.nextString(count, BINARY_DIGITS);
     }
 
     /**
@@ -115,11 +188,7 @@ public class NumberProvider {
      * @return A string containing the specified number of random octal digits
      */
     public String octal(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(random.nextInt(0, 7));
-        }
-        return result.toString();
+        return random.nextString(count, OCTAL_DIGITS);
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.datamirage.providers;
+
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.DictionarySource;
+import com.datamirage.util.RandomService;
+
+import java.util.List;
+
+/**
+ * A dictionary of patterns, such as the address formats of a locale, whose entries are compiled
+ * into {@link PatternTemplate}s the first time they are picked. The compiled templates belong to
+ * one snapshot of the dictionary and are recompiled if the dictionary is reloaded.
+ */
+final class PatternDictionary {
+    private final Dictionary patterns;
+    private final List<String> names;
+    private volatile Compiled compiled;
+
+    /**
+     * The templates compiled from one snapshot of the dictionary.
+     */
+    private static final class Compiled {
+        final DictionarySource source;
+        final PatternTemplate[] templates;
+
+        Compiled(DictionarySource source) {
+            this.source = source;
+            this.templates = new PatternTemplate[source.size()];
+        }
+    }
+
+    /**
+     * Creates a pattern dictionary.
+     *
+     * @param patterns The dictionary of patterns
+     * @param names The names of the placeholders the patterns may contain
+     */
+    PatternDictionary(Dictionary patterns, List<String> names) {
+        this.patterns = patterns;
+        this.names = List.copyOf(names);
+    }
+
+    /**
+     * Picks a random pattern, drawing like {@link Dictionary#pick(RandomService)}.
+     *
+     * @param random The random service to draw from
+     * @return The template of the picked pattern
+     */
+    PatternTemplate pick(RandomService random) {
+        DictionarySource source = patterns.getSource().snapshot();
+        Compiled current = compiled;
+        if (current == null || current.source != source) {
+            current = new Compiled(source);
+            compiled = current;
+        }
+        int index = source.pickIndex(random);
+        PatternTemplate template = current.templates[index];
+        if (template == null) {
+            // Racing threads may compile the same entry twice, which is harmless
+            template = PatternTemplate.compile(source.get(index), names);
+            current.templates[index] = template;
+        }
+        return template;
+    }
+}
@@ -0,0 +1,87 @@
+package com.datamirage.providers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A pattern such as {@code "{{streets}} {{building_number}}"}, split once into its literal text
+ * and its placeholders, so that it can be filled by appending to a StringBuilder instead of through
+ * a chain of {@code String.replace} calls that creates an intermediate String per placeholder.
+ * Placeholders with unknown names are kept as literal text.
+ */
+final class PatternTemplate {
+
+    /**
+     * Appends the value of a placeholder.
+     */
+    @FunctionalInterface
+    interface Filler {
+
+        /**
+         * Appends a value for the specified placeholder.
+         *
+         * @param sb The StringBuilder to append to
+         * @param placeholder The position of the placeholder's name in the list the template was compiled with
+         */
+        void append(StringBuilder sb, int placeholder);
+    }
+
+    private final String[] literals;
+    private final int[] placeholders;
+
+    private PatternTemplate(String[] literals, int[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Splits a pattern into literal text and placeholders.
+     *
+     * @param pattern The pattern, with placeholders written as {@code {{name}}}
+     * @param names The names of the known placeholders
+     * @return The compiled template
+     */
+    static PatternTemplate compile(String pattern, List<String> names) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            int open = pattern.indexOf("{{", i);
+            int close = open < 0 ? -1 : pattern.indexOf("}}", open + 2);
+            if (close < 0) {
+                literal.append(pattern, i, pattern.length());
+                break;
+            }
+            int placeholder = names.indexOf(pattern.substring(open + 2, close));
+            if (placeholder < 0) {
+                literal.append(pattern, i, close + 2);
+            } else {
+                literal.append(pattern, i, open);
+                literals.add(literal.toString());
+                placeholders.add(placeholder);
+                literal.setLength(0);
+            }
+            i = close + 2;
+        }
+        literals.add(literal.toString());
+        return new PatternTemplate(literals.toArray(new String[0]),
+            placeholders.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Appends the pattern to a StringBuilder, letting the filler append a value in place of each placeholder.
+     *
+     * @param sb The StringBuilder to append to
+     * @param filler The source of the placeholder values
+     * @return The StringBuilder, for chaining
+     */
+    StringBuilder appendTo(StringBuilder sb, Filler filler) {
+        sb.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            filler.append(sb, placeholders[i]);
+            sb.append(literals[i + 1]);
+        }
+        return sb;
+    }
+}
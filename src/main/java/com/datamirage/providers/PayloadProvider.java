@@ -0,0 +1,296 @@
+package com.datamirage.providers;
+
+import com.datamirage.distribution.Distribution;
+import com.datamirage.util.RandomService;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * A provider class for generating binary payloads, such as blobs for object-store tests or
+ * message bodies for broker tests.
+ *
+ * <p>Random payloads are written eight bytes per 64-bit draw, straight into the target array or
+ * buffer. Compressible payloads mix random noise with text in blocks of {@value #BLOCK_SIZE} bytes;
+ * the share of noise is chosen so that DEFLATE and similar compressors reach roughly the requested
+ * compression ratio on payloads of some tens of kilobytes and more. Smaller payloads compress less,
+ * because the compressor sees the text for the first time.</p>
+ *
+ * <p>{@link #buffer(int)} returns a buffer that is reused by every call from the same thread, so
+ * payloads can be generated in a loop without allocating.</p>
+ */
+public class PayloadProvider {
+    static final int BLOCK_SIZE = 512;
+
+    /** The largest payload that fits in an array. */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+    /** The compressed size of the text part of a block, measured with DEFLATE. */
+    private static final int TEXT_OVERHEAD = 8;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final byte[] TEXT = text();
+    /** Shared by all providers, so a thread keeps one buffer however many providers it creates. */
+    private static final ThreadLocal<ByteBuffer> BUFFERS = new ThreadLocal<>();
+
+    private final RandomService random;
+
+    /**
+     * Constructs a new PayloadProvider with the specified RandomService.
+     *
+     * @param random The RandomService instance to use for generating random values
+     */
+    public PayloadProvider(RandomService random) {
+        this.random = random;
+    }
+
+    /**
+     * Generates a payload of random bytes.
+     *
+     * @param size The number of bytes
+     * @return A new array of random bytes
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public byte[] bytes(int size) {
+        byte[] payload = new byte[checkSize(size)];
+        fill(payload, 0, size);
+        return payload;
+    }
+
+    /**
+     * Generates a payload of the specified size that compresses by roughly the specified ratio.
+     *
+     * @param size The number of bytes
+     * @param compressionRatio The target ratio of the original to the compressed size, at least 1;
+     *                         1 gives incompressible random bytes
+     * @return A new array holding the payload
+     * @throws IllegalArgumentException if the size is negative or the ratio is less than 1
+     */
+    public byte[] bytes(int size, double compressionRatio) {
+        byte[] payload = new byte[checkSize(size)];
+        fill(payload, 0, size, compressionRatio);
+        return payload;
+    }
+
+    /**
+     * Generates a payload of random bytes whose size is drawn from the specified distribution, e.g.
+     * {@code bytes(Distribution.lognormal(11, 1.5).truncate(1024, 4 << 20))} for 1 KB to 4 MB blobs.
+     *
+     * @param sizes The distribution of payload sizes in bytes
+     * @return A new array of random bytes
+     */
+    public byte[] bytes(Distribution sizes) {
+        return bytes(size(sizes));
+    }
+
+    /**
+     * Draws a payload size from the specified distribution, clamped to the sizes an array can hold.
+     *
+     * @param sizes The distribution of payload sizes in bytes
+     * @return A size between 0 and the largest array size
+     */
+    public int size(Distribution sizes) {
+        return (int) Math.max(0, Math.min(MAX_SIZE, sizes.sampleLong(random)));
+    }
+
+    /**
+     * Fills a range of an array with random bytes.
+     *
+     * @param dst The array to fill
+     * @param off The index of the first byte to fill
+     * @param len The number of bytes to fill
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public void fill(byte[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        RandomGenerator generator = random.getGenerator();
+        int end = off + len;
+        int i = off;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            LONGS.set(dst, i, generator.nextLong());
+        }
+        if (i < end) {
+            long bits = generator.nextLong();
+            for (; i < end; i++, bits >>>= 8) {
+                dst[i] = (byte) bits;
+            }
+        }
+    }
+
+    /**
+     * Fills a range of an array with a payload that compresses by roughly the specified ratio.
+     *
+     * @param dst The array to fill
+     * @param off The index of the first byte to fill
+     * @param len The number of bytes to fill
+     * @param compressionRatio The target ratio of the original to the compressed size, at least 1
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     * @throws IllegalArgumentException if the ratio is less than 1
+     */
+    public void fill(byte[] dst, int off, int len, double compressionRatio) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        int noise = noisePerBlock(compressionRatio);
+        if (noise == BLOCK_SIZE) {
+            fill(dst, off, len);
+            return;
+        }
+        int end = off + len;
+        for (int block = off; block < end; block += BLOCK_SIZE) {
+            int blockEnd = Math.min(end, block + BLOCK_SIZE);
+            int noiseEnd = Math.min(blockEnd, block + noise);
+            fill(dst, block, noiseEnd - block);
+            int textLength = blockEnd - noiseEnd;
+            if (textLength > 0) {
+                int start = random.nextIndex(TEXT.length - BLOCK_SIZE);
+                System.arraycopy(TEXT, start, dst, noiseEnd, textLength);
+            }
+        }
+    }
+
+    /**
+     * Fills the remaining bytes of a buffer with random bytes and advances its position to its limit.
+     * The content does not depend on the byte order of the buffer.
+     *
+     * @param dst The buffer to fill
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public void fill(ByteBuffer dst) {
+        if (dst.hasArray()) {
+            fill(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+            dst.position(dst.limit());
+            return;
+        }
+        RandomGenerator generator = random.getGenerator();
+        boolean reverse = dst.order() == ByteOrder.BIG_ENDIAN;
+        while (dst.remaining() >= Long.BYTES) {
+            long bits = generator.nextLong();
+            dst.putLong(reverse ? Long.reverseBytes(bits) : bits);
+        }
+        if (dst.hasRemaining()) {
+            long bits = generator.nextLong();
+            while (dst.hasRemaining()) {
+                dst.put((byte) bits);
+                bits >>>= 8;
+            }
+        }
+    }
+
+    /**
+     * Fills the remaining bytes of a buffer with a payload that compresses by roughly the specified
+     * ratio and advances its position to its limit.
+     *
+     * @param dst The buffer to fill
+     * @param compressionRatio The target ratio of the original to the compressed size, at least 1
+     * @throws IllegalArgumentException if the ratio is less than 1
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public void fill(ByteBuffer dst, double compressionRatio) {
+        if (dst.hasArray()) {
+            fill(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining(), compressionRatio);
+            dst.position(dst.limit());
+            return;
+        }
+        int noise = noisePerBlock(compressionRatio);
+        while (dst.hasRemaining()) {
+            int blockEnd = dst.position() + Math.min(BLOCK_SIZE, dst.remaining());
+            int limit = dst.limit();
+            dst.limit(Math.min(blockEnd, dst.position() + noise));
+            fill(dst);
+            dst.limit(limit);
+            int textLength = blockEnd - dst.position();
+            if (textLength > 0) {
+                dst.put(TEXT, random.nextIndex(TEXT.length - BLOCK_SIZE), textLength);
+            }
+        }
+    }
+
+    /**
+     * Returns this thread's reusable buffer, filled with the specified number of random bytes and
+     * ready to be read. The buffer is shared by all providers and overwritten by the next call from
+     * the same thread to any of them, and only reallocated when a larger payload than ever before is requested.
+     *
+     * @param size The number of bytes
+     * @return The reused buffer, with position 0 and limit size
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public ByteBuffer buffer(int size) {
+        ByteBuffer buffer = reusable(size);
+        fill(buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Returns this thread's reusable buffer, filled with a payload of the specified size that
+     * compresses by roughly the specified ratio, and ready to be read. The buffer is overwritten by
+     * the next call from the same thread to any provider.
+     *
+     * @param size The number of bytes
+     * @param compressionRatio The target ratio of the original to the compressed size, at least 1
+     * @return The reused buffer, with position 0 and limit size
+     * @throws IllegalArgumentException if the size is negative or the ratio is less than 1
+     */
+    public ByteBuffer buffer(int size, double compressionRatio) {
+        ByteBuffer buffer = reusable(size);
+        fill(buffer, compressionRatio);
+        return buffer.flip();
+    }
+
+    private ByteBuffer reusable(int size) {
+        checkSize(size);
+        ByteBuffer buffer = BUFFERS.get();
+        if (buffer == null || buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(size);
+            BUFFERS.set(buffer);
+        }
+        return buffer.clear().limit(size);
+    }
+
+    private static int checkSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Computes how many bytes of each block are noise for the specified compression ratio. Noise
+     * does not compress, and the text of a block costs about {@value #TEXT_OVERHEAD} bytes once
+     * compressed, so a block compresses to about {@code noise + TEXT_OVERHEAD} bytes.
+     */
+    static int noisePerBlock(double compressionRatio) {
+        if (!(compressionRatio >= 1)) {
+            throw new IllegalArgumentException("Compression ratio must be at least 1: " + compressionRatio);
+        }
+        long noise = Math.round(BLOCK_SIZE / compressionRatio) - TEXT_OVERHEAD;
+        return compressionRatio == 1 ? BLOCK_SIZE : (int) Math.max(0, Math.min(BLOCK_SIZE, noise));
+    }
+
+    /**
+     * Builds the text that compressible payloads copy from: a few kilobytes of prose, short enough
+     * to stay within the window of common compressors.
+     */
+    private static byte[] text() {
+        String prose = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor "
+            + "incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation "
+            + "ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit "
+            + "in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat "
+            + "non proident, sunt in culpa qui officia deserunt mollit anim id est laborum. ";
+        return prose.repeat(8).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Main method for testing the functionality of PayloadProvider.
+     * This method demonstrates the usage of various payload generation methods.
+     *
+     * @param args Command line arguments (not used)
+     */
+    public static void main(String[] args) {
+        PayloadProvider payloadProvider = new PayloadProvider(new RandomService());
+        System.out.println("Random Payload: " + payloadProvider.bytes(16).length + " bytes");
+        System.out.println("Compressible Payload: " + payloadProvider.bytes(4096, 4.0).length + " bytes");
+        System.out.println("Reusable Buffer: " + payloadProvider.buffer(1024).remaining() + " bytes");
+    }
+}
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating fake phone number-related data.
@@ -12,9 +12,9 @@ import java.util.List;
  */
 public class PhoneNumberProvider {
     private final RandomService random;
-    private List<String> landlineFormats;
-    private List<String> cellPhoneFormats;
-    private List<String> internationalFormats;
+    private final Dictionary landlineFormats;
+    private final Dictionary cellPhoneFormats;
+    private final Dictionary internationalFormats;
 
     /**
      * Constructs a new PhoneNumberProvider with the specified RandomService.
@@ -22,7 +22,20 @@ public class PhoneNumberProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public PhoneNumberProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new PhoneNumberProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public PhoneNumberProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.landlineFormats = data.dictionary("phone", "landlineFormats");
+        this.cellPhoneFormats = data.dictionary("phone", "cellPhoneFormats");
+        this.internationalFormats = data.dictionary("phone", "internationalFormats");
     }
 
     /**
@@ -40,8 +53,7 @@ public class PhoneNumberProvider {
      * @return A randomly generated landline phone number
      */
     public String landline() {
-        landlineFormats = LazyLoader.load("phoneLandlineFormats", () -> DataLoader.getListData("phone", "landlineFormats"));
-        String format = random.randomElement(landlineFormats);
+        String format = landlineFormats.pick(random);
         return random.randomize(format);
     }
 
@@ -51,8 +63,7 @@ public class PhoneNumberProvider {
      * @return A randomly generated cell phone number
      */
     public String cellPhone() {
-        cellPhoneFormats = LazyLoader.load("phoneCellPhoneFormats", () -> DataLoader.getListData("phone", "cellPhoneFormats"));
-        String format = random.randomElement(cellPhoneFormats);
+        String format = cellPhoneFormats.pick(random);
         return random.randomize(format);
     }
 
@@ -62,8 +73,7 @@ public class PhoneNumberProvider {
      * @return A randomly generated international phone number
      */
     public String internationalPhoneFormat() {
-        internationalFormats = LazyLoader.load("phoneInternationalFormats", () -> DataLoader.getListData("phone", "internationalFormats"));
-        String format = random.randomElement(internationalFormats);
+        String format = internationalFormats.pick(random);
         return random.randomize(format);
     }
 
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.RandomService;
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating science-related data.
@@ -12,12 +12,12 @@ import java.util.List;
  */
 public class ScienceProvider {
     private final RandomService random;
-    private List<String> elements;
-    private List<String> symbols;
-    private List<String> units;
-    private List<String> unitSymbols;
-    private List<String> unitPrefixes;
-    private List<String> unitPrefixSymbols;
+    private final Dictionary elements;
+    private final Dictionary symbols;
+    private final Dictionary units;
+    private final Dictionary unitSymbols;
+    private final Dictionary unitPrefixes;
+    private final Dictionary unitPrefixSymbols;
 
     /**
      * Constructs a new ScienceProvider with the specified RandomService.
@@ -25,7 +25,23 @@ public class ScienceProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public ScienceProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new ScienceProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public ScienceProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.elements = data.dictionary("science", "elements");
+        this.symbols = data.dictionary("science", "symbols");
+        this.units = data.dictionary("science", "units");
+        this.unitSymbols = data.dictionary("science", "unit_symbols");
+        this.unitPrefixes = data.dictionary("science", "unit_prefixes");
+        this.unitPrefixSymbols = data.dictionary("science", "unit_prefix_symbols");
     }
 
     /**
@@ -34,8 +50,29 @@ public class ScienceProvider {
      * @return A random chemical element name as a string
      */
     public String chemicalElement() {
-        elements = LazyLoader.load("scienceElements", () -> DataLoader.getListData("science", "elements"));
-        return random.randomElement(elements);
+        return elements.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #chemicalElement()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] chemicalElements(int count) {
+        return elements.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #chemicalElement()}, see {@link #chemicalElements(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] chemicalElements(String[] dst) {
+        elements.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -44,8 +81,29 @@ public class ScienceProvider {
      * @return A random chemical element symbol as a string
      */
     public String chemicalSymbol() {
-        symbols = LazyLoader.load("scienceSymbols", () -> DataLoader.getListData("science", "symbols"));
-        return random.randomElement(symbols);
+        return symbols.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #chemicalSymbol()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] chemicalSymbols(int count) {
+        return symbols.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #chemicalSymbol()}, see {@link #chemicalSymbols(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] chemicalSymbols(String[] dst) {
+        symbols.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -77,8 +135,29 @@ public class ScienceProvider {
      * @return A random unit of measurement as a string
      */
     public String unit() {
-        units = LazyLoader.load("scienceUnits", () -> DataLoader.getListData("science", "units"));
-        return random.randomElement(units);
+        return units.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #unit()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] units(int count) {
+        return units.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #unit()}, see {@link #units(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] units(String[] dst) {
+        units.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -87,8 +166,29 @@ public class ScienceProvider {
      * @return A random unit symbol as a string
      */
     public String unitSymbol() {
-        unitSymbols = LazyLoader.load("scienceUnitSymbols", () -> DataLoader.getListData("science", "unit_symbols"));
-        return random.randomElement(unitSymbols);
+        return unitSymbols.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #unitSymbol()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] unitSymbols(int count) {
+        return unitSymbols.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #unitSymbol()}, see {@link #unitSymbols(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] unitSymbols(String[] dst) {
+        unitSymbols.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -97,8 +197,29 @@ public class ScienceProvider {
      * @return A random unit prefix as a string
      */
     public String unitPrefix() {
-        unitPrefixes = LazyLoader.load("scienceUnitPrefixes", () -> DataLoader.getListData("science", "unit_prefixes"));
-        return random.randomElement(unitPrefixes);
+        return unitPrefixes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #unitPrefix()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] unitPrefixes(int count) {
+        return unitPrefixes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #unitPrefix()}, see {@link #unitPrefixes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] unitPrefixes(String[] dst) {
+        unitPrefixes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -107,8 +228,29 @@ public class ScienceProvider {
      * @return A random unit prefix symbol as a string
      */
     public String unitPrefixSymbol() {
-        unitPrefixSymbols = LazyLoader.load("scienceUnitPrefixSymbols", () -> DataLoader.getListData("science", "unit_prefix_symbols"));
-        return random.randomElement(unitPrefixSymbols);
+        return unitPrefixSymbols.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #unitPrefixSymbol()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] unitPrefixSymbols(int count) {
+        return unitPrefixSymbols.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #unitPrefixSymbol()}, see {@link #unitPrefixSymbols(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] unitPrefixSymbols(String[] dst) {
+        unitPrefixSymbols.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -8,6 +8,10 @@ import com.datamirage.util.RandomService;
  * including alphabetic, alphanumeric, numeric, hexadecimal, binary, and octal characters.
  */
 public class StringProvider {
+    private static final String HEX_DIGITS = "0123456789abcdef";
+    private static final String BINARY_DIGITS = "01";
+    private static final String OCTAL_DIGITS = "01234567";
+
     private final RandomService random;
 
     /**
@@ -66,11 +70,7 @@ public class StringProvider {
      * @return A string containing random hexadecimal characters
      */
     public String hex(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(Integer.toHexString(random.nextInt(0, 15)));
-        }
-        return result.toString();
+        return random.nextString(count, HEX_DIGITS);
     }
 
     /**
@@ -80,11 +80,7 @@ public class StringProvider {
      * @return A string containing random binary characters
      */
     public String binary(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(random.nextInt(0, 1));
-        }
-        return result.toString();
+        return random.nextString(count, BINARY_DIGITS);
     }
 
     /**
@@ -94,11 +90,7 @@ public class StringProvider {
      * @return A string containing random octal characters
      */
     public String octal(int count) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            result.append(random.nextInt(0, 7));
-        }
-        return result.toString();
+        return random.nextString(count, OCTAL_DIGITS);
     }
 
     /**
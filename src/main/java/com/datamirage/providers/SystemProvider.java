@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.RandomService;
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating system-related data.
@@ -12,13 +12,13 @@ import java.util.List;
  */
 public class SystemProvider {
     private final RandomService random;
-    private List<String> fileNames;
-    private List<String> fileExtensions;
-    private List<String> directoryPaths;
-    private List<String> mimeTypes;
-    private List<String> commonFileTypes;
-    private List<String> commonFileExtensions;
-    private List<String> commonFileNames;
+    private final Dictionary fileNames;
+    private final Dictionary fileExtensions;
+    private final Dictionary directoryPaths;
+    private final Dictionary mimeTypes;
+    private final Dictionary commonFileTypes;
+    private final Dictionary commonFileExtensions;
+    private final Dictionary commonFileNames;
 
     /**
      * Constructs a new SystemProvider with the specified RandomService.
@@ -26,7 +26,24 @@ public class SystemProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public SystemProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new SystemProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public SystemProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.fileNames = data.dictionary("system", "file_names");
+        this.fileExtensions = data.dictionary("system", "file_extensions");
+        this.directoryPaths = data.dictionary("system", "directory_paths");
+        this.mimeTypes = data.dictionary("system", "mime_types");
+        this.commonFileTypes = data.dictionary("system", "common_file_types");
+        this.commonFileExtensions = data.dictionary("system", "common_file_extensions");
+        this.commonFileNames = data.dictionary("system", "common_file_names");
     }
 
     /**
@@ -35,8 +52,29 @@ public class SystemProvider {
      * @return A random file name as a string
      */
     public String fileName() {
-        fileNames = LazyLoader.load("systemFileNames", () -> DataLoader.getListData("system", "file_names"));
-        return random.randomElement(fileNames);
+        return fileNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #fileName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] fileNames(int count) {
+        return fileNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #fileName()}, see {@link #fileNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] fileNames(String[] dst) {
+        fileNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -45,8 +83,29 @@ public class SystemProvider {
      * @return A random file extension as a string
      */
     public String fileExtension() {
-        fileExtensions = LazyLoader.load("systemFileExtensions", () -> DataLoader.getListData("system", "file_extensions"));
-        return random.randomElement(fileExtensions);
+        return fileExtensions.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #fileExtension()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] fileExtensions(int count) {
+        return fileExtensions.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #fileExtension()}, see {@link #fileExtensions(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] fileExtensions(String[] dst) {
+        fileExtensions.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -67,8 +126,29 @@ public class SystemProvider {
      * @return A random directory path as a string
      */
     public String directoryPath() {
-        directoryPaths = LazyLoader.load("systemDirectoryPaths", () -> DataLoader.getListData("system", "directory_paths"));
-        return random.randomElement(directoryPaths);
+        return directoryPaths.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #directoryPath()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] directoryPaths(int count) {
+        return directoryPaths.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #directoryPath()}, see {@link #directoryPaths(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] directoryPaths(String[] dst) {
+        directoryPaths.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -89,8 +169,29 @@ public class SystemProvider {
      * @return A random MIME type as a string
      */
     public String mimeType() {
-        mimeTypes = LazyLoader.load("systemMimeTypes", () -> DataLoader.getListData("system", "mime_types"));
-        return random.randomElement(mimeTypes);
+        return mimeTypes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #mimeType()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] mimeTypes(int count) {
+        return mimeTypes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #mimeType()}, see {@link #mimeTypes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] mimeTypes(String[] dst) {
+        mimeTypes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -99,8 +200,29 @@ public class SystemProvider {
      * @return A random common file type as a string
      */
     public String commonFileType() {
-        commonFileTypes = LazyLoader.load("systemCommonFileTypes", () -> DataLoader.getListData("system", "common_file_types"));
-        return random.randomElement(commonFileTypes);
+        return commonFileTypes.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #commonFileType()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] commonFileTypes(int count) {
+        return commonFileTypes.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #commonFileType()}, see {@link #commonFileTypes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] commonFileTypes(String[] dst) {
+        commonFileTypes.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -109,8 +231,29 @@ public class SystemProvider {
      * @return A random common file extension as a string
      */
     public String commonFileExtension() {
-        commonFileExtensions = LazyLoader.load("systemCommonFileExtensions", () -> DataLoader.getListData("system", "common_file_extensions"));
-        return random.randomElement(commonFileExtensions);
+        return commonFileExtensions.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #commonFileExtension()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] commonFileExtensions(int count) {
+        return commonFileExtensions.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #commonFileExtension()}, see {@link #commonFileExtensions(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] commonFileExtensions(String[] dst) {
+        commonFileExtensions.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -119,8 +262,29 @@ public class SystemProvider {
      * @return A random common file name as a string
      */
     public String commonFileName() {
-        commonFileNames = LazyLoader.load("systemCommonFileNames", () -> DataLoader.getListData("system", "common_file_names"));
-        return random.randomElement(commonFileNames);
+        return commonFileNames.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #commonFileName()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] commonFileNames(int count) {
+        return commonFileNames.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #commonFileName()}, see {@link #commonFileNames(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] commonFileNames(String[] dst) {
+        commonFileNames.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -2,8 +2,8 @@ package com.datamirage.providers;
 
 import com.datamirage.util.RandomService;
 import com.datamirage.util.DataLoader;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
 
 /**
  * A provider class for generating vehicle-related data.
@@ -12,13 +12,13 @@ import java.util.List;
  */
 public class VehicleProvider {
     private final RandomService random;
-    private List<String> vehicles;
-    private List<String> manufacturers;
-    private List<String> models;
-    private List<String> types;
-    private List<String> fuels;
-    private List<String> colors;
-    private List<String> licensePlateFormats;
+    private final Dictionary vehicles;
+    private final Dictionary manufacturers;
+    private final Dictionary models;
+    private final Dictionary types;
+    private final Dictionary fuels;
+    private final Dictionary colors;
+    private final Dictionary licensePlateFormats;
     private static final String VIN_CHARS = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
     private static final String[] WMI_CODES = {"1HG", "2HG", "3HG", "1G1", "2G1", "3G1", "1GC", "2GC", "3GC"};
 
@@ -28,7 +28,24 @@ public class VehicleProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public VehicleProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new VehicleProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public VehicleProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.vehicles = data.dictionary("vehicle", "vehicles");
+        this.manufacturers = data.dictionary("vehicle", "manufacturers");
+        this.models = data.dictionary("vehicle", "models");
+        this.types = data.dictionary("vehicle", "types");
+        this.fuels = data.dictionary("vehicle", "fuels");
+        this.colors = data.dictionary("color", "color_names");
+        this.licensePlateFormats = data.dictionary("vehicle", "license_plate_formats");
     }
 
     /**
@@ -37,8 +54,29 @@ public class VehicleProvider {
      * @return A random vehicle name as a string
      */
     public String vehicle() {
-        vehicles = LazyLoader.load("vehicleVehicles", () -> DataLoader.getListData("vehicle", "vehicles"));
-        return random.randomElement(vehicles);
+        return vehicles.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #vehicle()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] vehicles(int count) {
+        return vehicles.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #vehicle()}, see {@link #vehicles(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] vehicles(String[] dst) {
+        vehicles.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -47,8 +85,29 @@ public class VehicleProvider {
      * @return A random vehicle manufacturer name as a string
      */
     public String manufacturer() {
-        manufacturers = LazyLoader.load("vehicleManufacturers", () -> DataLoader.getListData("vehicle", "manufacturers"));
-        return random.randomElement(manufacturers);
+        return manufacturers.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #manufacturer()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] manufacturers(int count) {
+        return manufacturers.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #manufacturer()}, see {@link #manufacturers(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] manufacturers(String[] dst) {
+        manufacturers.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -57,8 +116,29 @@ public class VehicleProvider {
      * @return A random vehicle model name as a string
      */
     public String model() {
-        models = LazyLoader.load("vehicleModels", () -> DataLoader.getListData("vehicle", "models"));
-        return random.randomElement(models);
+        return models.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #model()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] models(int count) {
+        return models.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #model()}, see {@link #models(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] models(String[] dst) {
+        models.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -67,8 +147,29 @@ public class VehicleProvider {
      * @return A random vehicle type as a string
      */
     public String type() {
-        types = LazyLoader.load("vehicleTypes", () -> DataLoader.getListData("vehicle", "types"));
-        return random.randomElement(types);
+        return types.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #type()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] types(int count) {
+        return types.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #type()}, see {@link #types(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] types(String[] dst) {
+        types.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -77,8 +178,29 @@ public class VehicleProvider {
      * @return A random fuel type as a string
      */
     public String fuel() {
-        fuels = LazyLoader.load("vehicleFuels", () -> DataLoader.getListData("vehicle", "fuels"));
-        return random.randomElement(fuels);
+        return fuels.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #fuel()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] fuels(int count) {
+        return fuels.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #fuel()}, see {@link #fuels(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] fuels(String[] dst) {
+        fuels.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -128,8 +250,29 @@ public class VehicleProvider {
      * @return A random vehicle color as a string
      */
     public String color() {
-        colors = LazyLoader.load("vehicleColors", () -> DataLoader.getListData("color", "color_names"));
-        return random.randomElement(colors);
+        return colors.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #color()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] colors(int count) {
+        return colors.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #color()}, see {@link #colors(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] colors(String[] dst) {
+        colors.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -138,8 +281,7 @@ public class VehicleProvider {
      * @return A random license plate number as a string
      */
     public String licensePlate() {
-        licensePlateFormats = LazyLoader.load("vehicleLicensePlateFormats", () -> DataLoader.getListData("vehicle", "license_plate_formats"));
-        return random.randomize(random.randomElement(licensePlateFormats));
+        return random.randomize(licensePlateFormats.pick(random));
     }
 
     /**
@@ -148,8 +290,29 @@ public class VehicleProvider {
      * @return A randomly selected vehicle make
      */
     public String make() {
-        manufacturers = LazyLoader.load("vehicleManufacturers", () -> DataLoader.getListData("vehicle", "manufacturers"));
-        return random.randomElement(manufacturers);
+        return manufacturers.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #make()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] makes(int count) {
+        return manufacturers.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #make()}, see {@link #makes(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] makes(String[] dst) {
+        manufacturers.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
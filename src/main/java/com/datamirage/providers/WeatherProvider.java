@@ -1,9 +1,13 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.Distribution;
 import com.datamirage.util.DataLoader;
 import com.datamirage.util.RandomService;
-import com.datamirage.util.LazyLoader;
-import java.util.List;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
+
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 
 /**
  * A provider class for generating weather-related data.
@@ -26,8 +30,8 @@ public class WeatherProvider {
     private static final String MPH_PARAM = " mph";
 
     private final RandomService random;
-    private List<String> descriptions;
-    private List<String> windDirections;
+    private final Dictionary descriptions;
+    private final Dictionary windDirections;
 
     /**
      * Constructs a new WeatherProvider with the specified RandomService.
@@ -35,7 +39,19 @@ public class WeatherProvider {
      * @param random The RandomService instance to use for generating random values
      */
     public WeatherProvider(RandomService random) {
+        this(random, LocaleData.of(DataLoader.getCurrentLocale()));
+    }
+
+    /**
+     * Constructs a new WeatherProvider that draws its dictionaries from the specified locale data.
+     *
+     * @param random The RandomService instance to use for generating random values
+     * @param data The data of the locale to generate values for
+     */
+    public WeatherProvider(RandomService random, LocaleData data) {
         this.random = random;
+        this.descriptions = data.dictionary("weather", "descriptions");
+        this.windDirections = data.dictionary("weather", "wind_directions");
     }
 
     /**
@@ -44,8 +60,29 @@ public class WeatherProvider {
      * @return A random weather description as a string
      */
     public String getDescription() {
-        descriptions = LazyLoader.load("weatherDescriptions", () -> DataLoader.getListData("weather", "descriptions"));
-        return random.randomElement(descriptions);
+        return descriptions.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #getDescription()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] descriptions(int count) {
+        return descriptions.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #getDescription()}, see {@link #descriptions(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] descriptions(String[] dst) {
+        descriptions.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -68,6 +105,17 @@ public class WeatherProvider {
         return temperature(minTemperature, maxTemperature, CELCIUS_PARAM);
     }
 
+    /**
+     * Generates a random temperature in Celsius drawn from the specified distribution, e.g.
+     * {@code temperatureCelsius(Distribution.normal(18, 6))}. The value is rounded to a whole degree.
+     *
+     * @param distribution The distribution to draw the temperature from
+     * @return A random temperature in Celsius as a string
+     */
+    public String temperatureCelsius(Distribution distribution) {
+        return distribution.sampleLong(random) + CELCIUS_PARAM;
+    }
+
     /**
      * Generates a random temperature in Fahrenheit using default range (-22°F to 100°F).
      *
@@ -106,8 +154,29 @@ public class WeatherProvider {
      * @return A random wind direction as a string
      */
     public String getWindDirection() {
-        windDirections = LazyLoader.load("weatherWindDirections", () -> DataLoader.getListData("weather", "wind_directions"));
-        return random.randomElement(windDirections);
+        return windDirections.pick(random);
+    }
+
+    /**
+     * Generates the specified number of values of {@link #getWindDirection()}.
+     *
+     * @param count The number of values to generate
+     * @return A new array of random values
+     * @throws IllegalArgumentException if count is negative
+     */
+    public String[] windDirections(int count) {
+        return windDirections.pick(random, count);
+    }
+
+    /**
+     * Fills an array with values of {@link #getWindDirection()}, see {@link #windDirections(int)}.
+     *
+     * @param dst The array to fill
+     * @return The filled array
+     */
+    public String[] windDirections(String[] dst) {
+        windDirections.pick(random, dst, 0, dst.length);
+        return dst;
     }
 
     /**
@@ -196,13 +265,35 @@ public class WeatherProvider {
      * @return A string containing a complete weather report
      */
     public String weatherReport() {
-        return String.format("Temperature: %s, Wind: %s %s, Humidity: %s, Description: %s",
-            temperatureCelsius(),
-            windSpeedKm(),
-            getWindDirection(),
-            humidity(),
-            getDescription()
-        );
+        return appendWeatherReport(new StringBuilder(96)).toString();
+    }
+
+    /**
+     * Appends a weather report to a StringBuilder without creating intermediate Strings.
+     * Draws exactly like {@link #weatherReport()}, so the same seed produces the same report.
+     *
+     * @param sb The StringBuilder to append to
+     * @return The StringBuilder, for chaining
+     */
+    public StringBuilder appendWeatherReport(StringBuilder sb) {
+        sb.append("Temperature: ").append(random.nextInt(DEFAULT_MIN_TEMP_C, DEFAULT_MAX_TEMP_C)).append(CELCIUS_PARAM)
+            .append(", Wind: ").append(random.nextInt(DEFAULT_MIN_WIND_SPEED_KM, DEFAULT_MAX_WIND_SPEED_KM)).append(KM_PARAM)
+            .append(' ');
+        windDirections.appendPick(sb, random)
+            .append(", Humidity: ").append(random.nextInt(0, 100)).append('%')
+            .append(", Description: ");
+        return descriptions.appendPick(sb, random);
+    }
+
+    /**
+     * Writes a weather report to a buffer, see {@link #appendWeatherReport(StringBuilder)}.
+     *
+     * @param dst The buffer to write to
+     * @return The buffer, for chaining
+     * @throws BufferOverflowException if the buffer does not have enough room, in which case it is left unchanged
+     */
+    public CharBuffer writeWeatherReport(CharBuffer dst) {
+        return CharBuffers.write(dst, appendWeatherReport(CharBuffers.scratch()));
     }
 
     /**
@@ -0,0 +1,167 @@
+package com.datamirage.util;
+
+import java.util.Arrays;
+
+/**
+ * A Vose alias table for sampling indexes from a fixed discrete distribution in constant time.
+ * The table is built once in O(n) from the weights; every sample then takes one uniform column
+ * and one coin flip, without searching a cumulative sum.
+ *
+ * <p>Instances are immutable and can be shared between threads.</p>
+ */
+public final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    private AliasTable(double[] probability, int[] alias) {
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Builds an alias table for the specified weights. Index i is sampled with probability
+     * {@code weights[i] / sum(weights)}.
+     *
+     * @param weights The non-negative weights, at least one of which must be positive
+     * @return A new alias table
+     * @throws IllegalArgumentException if there are no weights, a weight is negative or not finite,
+     *                                  or all weights are zero
+     */
+    public static AliasTable of(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Weights cannot be empty");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight: " + weight);
+            }
+            sum += weight;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding errors
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+        return new AliasTable(probability, alias);
+    }
+
+    /**
+     * Returns the number of indexes of this table.
+     *
+     * @return The number of weights the table was built from
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Samples an index according to the weights of this table.
+     *
+     * @param random The random service to draw from
+     * @return An index between 0 (inclusive) and {@link #size()} (exclusive)
+     */
+    public int sample(RandomService random) {
+        int column = random.nextIndex(probability.length);
+        return random.nextDouble(0.0, 1.0) < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Fills a range of an array with indices sampled according to the weights of this table.
+     * The columns of all samples are drawn with one bulk fill before the coin flips.
+     *
+     * @param random The random service to draw from
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public void sample(RandomService random, int[] dst, int off, int len) {
+        random.nextInts(dst, off, len, 0, probability.length - 1);
+        for (int i = off; i < off + len; i++) {
+            int column = dst[i];
+            if (random.nextDouble(0.0, 1.0) >= probability[column]) {
+                dst[i] = alias[column];
+            }
+        }
+    }
+
+    /**
+     * Returns the probability with which the specified index is sampled.
+     *
+     * @param index The index
+     * @return The probability of the index, between 0 and 1
+     */
+    public double probability(int index) {
+        double result = probability[index];
+        for (int i = 0; i < alias.length; i++) {
+            if (alias[i] == index && i != index) {
+                result += 1.0 - probability[i];
+            }
+        }
+        return result / probability.length;
+    }
+
+    /**
+     * Estimates the heap size retained by this table, using the same assumptions as {@link MemoryEstimator}.
+     *
+     * @return The estimated retained size in bytes
+     */
+    long retainedBytes() {
+        return 16 + align(16 + 8L * probability.length) + align(16 + 4L * alias.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AliasTable other)) {
+            return false;
+        }
+        return Arrays.equals(probability, other.probability) && Arrays.equals(alias, other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(probability) + Arrays.hashCode(alias);
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
@@ -0,0 +1,120 @@
+package com.datamirage.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A counter-based random generator: every value is a pure function of a seed, a row number and
+ * the position of the value within the row. There is no state carried over from one row to the next,
+ * so row N can be produced without producing rows 0 to N-1, and any row can be regenerated in
+ * isolation, e.g. to debug a single bad record or to resume a shard.
+ *
+ * <p>Values are computed with the SplitMix64 finalizer: the row number is hashed together with the
+ * seed into a row key once per {@link #seek(long)}, and the k-th value of the row is the mix of the
+ * row key and k. The sequence of a row is therefore the same as long as the same calls are made
+ * for that row in the same order.</p>
+ *
+ * <p>Instances are not thread-safe; use {@link #at(long)} to give every thread its own generator.</p>
+ */
+public final class CounterRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private long row;
+    private long rowKey;
+    private long counter;
+
+    /**
+     * Creates a generator with the specified seed, positioned at row 0.
+     *
+     * @param seed The seed shared by all rows
+     */
+    public CounterRandom(long seed) {
+        this.seed = seed;
+        seek(0);
+    }
+
+    /**
+     * Returns the value at the specified position, without creating a generator.
+     *
+     * @param seed The seed
+     * @param row The row number
+     * @param counter The position within the row, starting at 0
+     * @return The value at the position
+     */
+    public static long valueAt(long seed, long row, long counter) {
+        return mix(rowKey(seed, row) + (counter + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Moves this generator to the start of the specified row.
+     *
+     * @param row The row number
+     * @return This generator, for chaining
+     */
+    public CounterRandom seek(long row) {
+        this.row = row;
+        this.rowKey = rowKey(seed, row);
+        this.counter = 0;
+        return this;
+    }
+
+    /**
+     * Creates a new generator with the same seed, positioned at the start of the specified row.
+     *
+     * @param row The row number
+     * @return A new generator
+     */
+    public CounterRandom at(long row) {
+        return new CounterRandom(seed).seek(row);
+    }
+
+    /**
+     * Returns the seed of this generator.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the row this generator is positioned at.
+     *
+     * @return The current row number
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the number of values drawn from the current row so far.
+     *
+     * @return The position within the current row
+     */
+    public long getCounter() {
+        return counter;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix(rowKey + ++counter * GOLDEN_GAMMA);
+    }
+
+    @Override
+    public String toString() {
+        return "CounterRandom[row " + row + ", counter " + counter + "]";
+    }
+
+    private static long rowKey(long seed, long row) {
+        return mix(seed ^ mix(row * GOLDEN_GAMMA + GOLDEN_GAMMA));
+    }
+
+    /**
+     * The SplitMix64 finalizer (Stafford's variant 13).
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -6,24 +6,34 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.datamirage.locale.DataMirageLocale;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.LinkedHashMap;
 
 /**
- * A utility class for loading and caching YAML data files.
- * This class provides functionality to load data from YAML files based on the current locale
- * and cache the loaded data for better performance.
+ * A utility class for loading YAML data files.
+ * This class provides functionality to load data from YAML files based on the current locale.
+ * Loaded data is cached per locale by {@link LocaleData}, so the static methods of this class
+ * are thin shortcuts to {@code LocaleData.of(locale)}.
+ *
+ * <p>Every bundled data file is precompiled into a binary snapshot at build time (see
+ * {@link SnapshotCompiler}). When a snapshot exists for a file it is loaded with a single bulk
+ * read; the YAML parser is only used for files without a snapshot and for user-supplied YAML files
+ * that override a bundled file from another classpath entry.</p>
  */
 public final class DataLoader {
-    private static final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
-    private static final Map<String, Map<String, Object>> dataCache = new ConcurrentHashMap<>();
-    private static final Map<String, Map<String, Object>> localeSpecificCache = new ConcurrentHashMap<>();
-    private static DataMirageLocale currentLocale = DataMirageLocale.TR_TR;
+    private static volatile DataMirageLocale currentLocale = DataMirageLocale.TR_TR;
     private static final String DATA_PATH = "data/";
-    private static final String COMMON_PATH = "data/common/";
+    private static final String SNAPSHOT_PATH = "snapshots/";
+
+    /**
+     * Holds the YAML mapper so that Jackson is only initialized when a YAML file actually has to be parsed.
+     */
+    private static final class YamlHolder {
+        private static final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
+    }
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -35,15 +45,14 @@ public final class DataLoader {
     }
 
     /**
-     * Sets the current locale for data loading.
-     * This method also clears the data cache to ensure fresh data is loaded for the new locale.
+     * Sets the current locale used by the locale-less methods of this class and by providers
+     * constructed without an explicit {@link LocaleData}.
+     * Data already loaded for other locales stays cached in their {@link LocaleData}.
      *
      * @param locale The new locale to set
      */
     public static void setLocale(DataMirageLocale locale) {
         currentLocale = locale;
-        dataCache.clear();
-        localeSpecificCache.clear();
     }
 
     /**
@@ -65,14 +74,23 @@ public final class DataLoader {
      * @return An unmodifiable list of strings from the specified field
      * @throws RuntimeException if the field is not found in both locale-specific and common data
      */
-    @SuppressWarnings("unchecked")
     public static List<String> getListData(String category, String field) {
-        Map<String, Object> data = loadYamlData(category);
-        Object result = getFieldValue(data, field);
-        if (result instanceof List) {
-            return Collections.unmodifiableList((List<String>) result);
-        }
-        throw new RuntimeException("Field " + field + " not found in data for " + category);
+        return getListData(currentLocale, category, field);
+    }
+
+    /**
+     * Retrieves a list of strings from the specified category and field in the YAML data of the given locale.
+     * The field can be specified using dot notation for nested fields.
+     * First tries to get the field from locale-specific data, if not found tries common data.
+     *
+     * @param locale The locale to load the data for
+     * @param category The category of data to load
+     * @param field The field to retrieve, using dot notation for nested fields
+     * @return An unmodifiable list of strings from the specified field
+     * @throws RuntimeException if the field is not found in both locale-specific and common data
+     */
+    public static List<String> getListData(DataMirageLocale locale, String category, String field) {
+        return LocaleData.of(locale).getListData(category, field);
     }
     
     /**
@@ -84,123 +102,115 @@ public final class DataLoader {
      * @return true if the field exists in locale-specific data, false otherwise
      */
     public static boolean hasLocaleSpecificField(String category, String field) {
-        Map<String, Object> localeData = loadLocaleSpecificYamlData(category);
-        if (localeData == null) {
-            return false;
-        }
-        Object result = getFieldValue(localeData, field);
-        return result instanceof List && !((List<?>) result).isEmpty();
+        return hasLocaleSpecificField(currentLocale, category, field);
     }
 
     /**
-     * Gets the value of a field from a map using dot notation.
+     * Checks if the specified field exists directly in the locale-specific data file of the given locale,
+     * without falling back to common data.
      *
-     * @param data The map containing the data
-     * @param field The field to retrieve, using dot notation for nested fields
-     * @return The value of the field, or null if not found
+     * @param locale The locale to check
+     * @param category The category of data to check
+     * @param field The field to check, using dot notation for nested fields
+     * @return true if the field exists in locale-specific data, false otherwise
      */
-    @SuppressWarnings("unchecked")
-    private static Object getFieldValue(Map<String, Object> data, String field) {
-        String[] fieldParts = field.split("\\.");
-        Object current = data;
-
-        for (String part : fieldParts) {
-            if (current instanceof Map) {
-                current = ((Map<String, Object>) current).get(part);
-                if (current == null) {
-                    return null;
-                }
-            } else {
-                return null;
-            }
-        }
+    public static boolean hasLocaleSpecificField(DataMirageLocale locale, String category, String field) {
+        return LocaleData.of(locale).hasLocaleSpecificField(category, field);
+    }
 
-        return current;
+    /**
+     * Reads a single data file, preferring its precompiled snapshot over the YAML source.
+     *
+     * @param directory The data directory, either "common" or a locale code
+     * @param category The category of data to load
+     * @return The parsed data, or null if neither a snapshot nor a YAML file exists
+     */
+    static Map<String, Object> readDataFile(String directory, String category) {
+        return readDataFile(DataLoader.class.getClassLoader(), directory, category);
     }
 
     /**
-     * Loads YAML data for the specified category from the appropriate locale directory.
-     * First tries to load from the locale-specific directory, then falls back to common directory.
-     * The data is cached to improve performance on subsequent requests.
+     * Reads a single data file through a class loader. The snapshot is only used if the YAML file the
+     * class loader finds sits in the same classpath entry as the snapshot, i.e. is the bundled file;
+     * a YAML file from another entry, such as a user's override, is parsed instead.
      *
+     * @param loader The class loader to find the files with
+     * @param directory The data directory, either "common" or a locale code
      * @param category The category of data to load
-     * @return A map containing the loaded YAML data
-     * @throws RuntimeException if the data file cannot be found or loaded
+     * @return The parsed data, or null if neither a snapshot nor a YAML file exists
      */
-    private static Map<String, Object> loadYamlData(String category) {
-        String cacheKey = currentLocale.getCode() + "/" + category;
-        return dataCache.computeIfAbsent(cacheKey, key -> {
-            Map<String, Object> mergedData = new LinkedHashMap<>();
-
-            // Load common data first
-            String commonPath = COMMON_PATH + category + ".yaml";
-            InputStream commonIs = DataLoader.class.getClassLoader().getResourceAsStream(commonPath);
-            if (commonIs != null) {
-                try {
-                    Map<String, Object> commonData = objectMapper.readValue(commonIs, new TypeReference<>() {});
-                    deepMerge(mergedData, commonData);
-                } catch (IOException e) {
-                    System.out.println("Error loading common data from " + commonPath + ": " + e.getMessage());
-                }
+    static Map<String, Object> readDataFile(ClassLoader loader, String directory, String category) {
+        String yamlPath = DATA_PATH + directory + "/" + category + ".yaml";
+        String snapshotPath = SNAPSHOT_PATH + directory + "/" + category + DictionarySnapshot.EXTENSION;
+        URL yaml = loader.getResource(yamlPath);
+        URL snapshot = loader.getResource(snapshotPath);
+        if (snapshot != null && (yaml == null || root(yaml, yamlPath).equals(root(snapshot, snapshotPath)))) {
+            Map<String, Object> data = readSnapshot(snapshot);
+            if (data != null) {
+                return data;
             }
+        }
+        return yaml != null ? readYaml(yaml) : null;
+    }
 
-            // Load locale-specific data, which should override common data if keys conflict
-            String localePath = DATA_PATH + currentLocale.getCode() + "/" + category + ".yaml";
-            InputStream localeIs = DataLoader.class.getClassLoader().getResourceAsStream(localePath);
-            if (localeIs != null) {
-                try {
-                    Map<String, Object> localeData = objectMapper.readValue(localeIs, new TypeReference<>() {});
-                    deepMerge(mergedData, localeData);
-                } catch (IOException e) {
-                    System.out.println("Error loading locale data from " + localePath + ": " + e.getMessage());
-                }
-            }
+    /**
+     * Returns the classpath entry a resource was found in, e.g. the directory or jar of its URL.
+     */
+    private static String root(URL url, String path) {
+        String location = url.toExternalForm();
+        return location.endsWith(path) ? location.substring(0, location.length() - path.length()) : location;
+    }
 
-            if (mergedData.isEmpty()) {
-                System.out.println("Resource not found in both: " + localePath + " and " + commonPath);
-                throw new RuntimeException("Data file not found: " + category);
-            }
-            return mergedData;
-        });
+    /**
+     * Reads a precompiled snapshot from the classpath.
+     *
+     * @param path The classpath location of the snapshot
+     * @return The decoded data, or null if the snapshot does not exist or cannot be read
+     */
+    static Map<String, Object> readSnapshot(String path) {
+        URL url = DataLoader.class.getClassLoader().getResource(path);
+        return url != null ? readSnapshot(url) : null;
     }
-    
+
+    private static Map<String, Object> readSnapshot(URL url) {
+        try (InputStream is = url.openStream()) {
+            return DictionarySnapshot.read(is.readAllBytes());
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Error loading snapshot from " + url + ": " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
-     * Loads YAML data ONLY from the locale-specific directory, without merging common data.
+     * Parses a YAML data file from the classpath.
      *
-     * @param category The category of data to load
-     * @return A map containing the loaded locale-specific YAML data, or null if file doesn't exist
+     * @param path The classpath location of the YAML file
+     * @return The parsed data, or null if the file does not exist or cannot be parsed
      */
-    private static Map<String, Object> loadLocaleSpecificYamlData(String category) {
-        String cacheKey = currentLocale.getCode() + "/" + category;
-        return localeSpecificCache.computeIfAbsent(cacheKey, key -> {
-            // Load only locale-specific data
-            String localePath = DATA_PATH + currentLocale.getCode() + "/" + category + ".yaml";
-            InputStream localeIs = DataLoader.class.getClassLoader().getResourceAsStream(localePath);
-            if (localeIs != null) {
-                try {
-                    return objectMapper.readValue(localeIs, new TypeReference<>() {});
-                } catch (IOException e) {
-                    System.out.println("Error loading locale data from " + localePath + ": " + e.getMessage());
-                }
-            }
+    static Map<String, Object> readYaml(String path) {
+        URL url = DataLoader.class.getClassLoader().getResource(path);
+        return url != null ? readYaml(url) : null;
+    }
+
+    private static Map<String, Object> readYaml(URL url) {
+        try (InputStream is = url.openStream()) {
+            return YamlHolder.objectMapper.readValue(is, new TypeReference<>() {});
+        } catch (IOException e) {
+            System.out.println("Error loading data from " + url + ": " + e.getMessage());
             return null;
-        });
-    }
-
-    private static void deepMerge(Map<String, Object> original, Map<String, Object> newData) {
-        for (Map.Entry<String, Object> entry : newData.entrySet()) {
-            String key = entry.getKey();
-            Object newValue = entry.getValue();
-            if (original.containsKey(key)) {
-                Object existingValue = original.get(key);
-                if (existingValue instanceof Map && newValue instanceof Map) {
-                    deepMerge((Map<String, Object>) existingValue, (Map<String, Object>) newValue);
-                } else {
-                    original.put(key, newValue);
-                }
-            } else {
-                original.put(key, newValue);
-            }
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Parses a YAML data file from the file system.
+     *
+     * @param file The YAML file
+     * @return The parsed data
+     * @throws IOException if the file cannot be read or parsed
+     */
+    static Map<String, Object> readYaml(Path file) throws IOException {
+        try (InputStream is = Files.newInputStream(file)) {
+            return YamlHolder.objectMapper.readValue(is, new TypeReference<>() {});
+        }
+    }
+}
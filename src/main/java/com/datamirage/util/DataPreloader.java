@@ -0,0 +1,144 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Loads all data categories of one or more locales eagerly, in parallel.
+ * Without a preload every category is loaded by the first provider call that needs it, on the
+ * calling thread. A preload moves that cost to a point of the application's choosing, such as the
+ * warm-up phase of a load generator, and reports what it cost.
+ *
+ * <p>Categories are discovered by listing the {@code data/common} and {@code data/<locale>}
+ * directories on the classpath, both from directories and from jar files.</p>
+ */
+public final class DataPreloader {
+    private static final String DATA_PATH = "data/";
+    private static final String EXTENSION = ".yaml";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws IllegalStateException if an attempt is made to instantiate this class
+     */
+    private DataPreloader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Loads every category of the specified locales on the common fork-join pool.
+     * If no locale is given, all supported locales are loaded.
+     *
+     * @param locales The locales to load
+     * @return A report of the load time and retained size of every category
+     * @throws RuntimeException if a category cannot be loaded
+     */
+    public static PreloadReport preload(DataMirageLocale... locales) {
+        return preload(ForkJoinPool.commonPool(), locales);
+    }
+
+    /**
+     * Loads every category of the specified locales on the given fork-join pool.
+     * If no locale is given, all supported locales are loaded.
+     *
+     * @param pool The pool to load the categories on
+     * @param locales The locales to load
+     * @return A report of the load time and retained size of every category
+     * @throws RuntimeException if a category cannot be loaded
+     */
+    public static PreloadReport preload(ForkJoinPool pool, DataMirageLocale... locales) {
+        if (locales.length == 0) {
+            locales = DataMirageLocale.values();
+        }
+        long start = System.nanoTime();
+
+        Set<String> commonCategories = categories("common");
+        List<ForkJoinTask<PreloadReport.CategoryLoad>> tasks = new ArrayList<>();
+        for (DataMirageLocale locale : locales) {
+            Set<String> localeCategories = new TreeSet<>(commonCategories);
+            localeCategories.addAll(categories(locale.getCode()));
+            LocaleData data = LocaleData.of(locale);
+            for (String category : localeCategories) {
+                tasks.add(pool.submit(() -> load(data, category)));
+            }
+        }
+
+        List<PreloadReport.CategoryLoad> loads = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<PreloadReport.CategoryLoad> task : tasks) {
+            loads.add(task.join());
+        }
+        return new PreloadReport(loads, System.nanoTime() - start);
+    }
+
+    /**
+     * Lists the category names of a data directory on the classpath.
+     *
+     * @param directory The data directory, either "common" or a locale code
+     * @return The sorted category names, without file extension
+     * @throws UncheckedIOException if the classpath cannot be listed
+     */
+    static Set<String> categories(String directory) {
+        String path = DATA_PATH + directory + "/";
+        Set<String> categories = new TreeSet<>();
+        try {
+            Enumeration<URL> urls = DataPreloader.class.getClassLoader().getResources(path);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    String[] files = new File(url.toURI()).list();
+                    if (files != null) {
+                        for (String file : files) {
+                            addCategory(categories, file);
+                        }
+                    }
+                } else if ("jar".equals(url.getProtocol())) {
+                    URLConnection connection = url.openConnection();
+                    connection.setUseCaches(false);
+                    try (JarFile jar = ((JarURLConnection) connection).getJarFile()) {
+                        Enumeration<JarEntry> entries = jar.entries();
+                        while (entries.hasMoreElements()) {
+                            String name = entries.nextElement().getName();
+                            if (name.startsWith(path) && name.indexOf('/', path.length()) < 0) {
+                                addCategory(categories, name.substring(path.length()));
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list " + path, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Could not list " + path, e);
+        }
+        return categories;
+    }
+
+    private static void addCategory(Set<String> categories, String file) {
+        if (file.endsWith(EXTENSION)) {
+            categories.add(file.substring(0, file.length() - EXTENSION.length()));
+        }
+    }
+
+    private static PreloadReport.CategoryLoad load(LocaleData data, String category) {
+        long start = System.nanoTime();
+        data.load(category);
+        long loadNanos = System.nanoTime() - start;
+        return new PreloadReport.CategoryLoad(data.getLocale(), category, loadNanos, data.retainedBytes(category));
+    }
+}
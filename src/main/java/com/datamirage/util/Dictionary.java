@@ -0,0 +1,246 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A handle to one dictionary field of one locale, such as the first names of en_US.
+ * Providers obtain their handles once from their {@link LocaleData} and keep them in final fields,
+ * so a random pick costs one random draw plus one copy out of the backing {@link DictionarySource}
+ * instead of a cache lookup. The source is resolved on first use and kept by the handle afterwards.
+ * It is usually a {@link DictionaryTable} of bundled data, or a {@link MappedDictionary} if the field
+ * was overridden through {@link LocaleData#withDictionary}.
+ */
+public final class Dictionary {
+    /** The maximum number of indices drawn at once by the bulk picks. */
+    static final int BULK_CHUNK = 1024;
+
+    private final LocaleData data;
+    private final String category;
+    private final String field;
+    private volatile DictionarySource source;
+    private volatile Boolean localeSpecific;
+
+    /**
+     * Constructs a new Dictionary handle. Use {@link LocaleData#dictionary} to obtain shared instances.
+     *
+     * @param data The locale data the dictionary belongs to
+     * @param category The data category, e.g. "name"
+     * @param field The field within the category, using dot notation for nested fields
+     */
+    Dictionary(LocaleData data, String category, String field) {
+        this.data = data;
+        this.category = category;
+        this.field = field;
+    }
+
+    /**
+     * Returns the locale this dictionary belongs to.
+     *
+     * @return The locale of this dictionary
+     */
+    public DataMirageLocale getLocale() {
+        return data.getLocale();
+    }
+
+    /**
+     * Returns the locale data this dictionary belongs to.
+     *
+     * @return The locale data of this dictionary
+     */
+    public LocaleData getLocaleData() {
+        return data;
+    }
+
+    /**
+     * Returns the data category of this dictionary.
+     *
+     * @return The category name
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the field of this dictionary within its category.
+     *
+     * @return The field name, using dot notation for nested fields
+     */
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Selects a random entry from this dictionary. If the entries carry weights,
+     * they are selected in proportion to their weight.
+     *
+     * @param random The RandomService to draw the index from
+     * @return A randomly selected entry
+     * @throws RuntimeException if the field does not exist for this locale
+     */
+    public String pick(RandomService random) {
+        DictionarySource values = source().snapshot();
+        return values.get(values.pickIndex(random));
+    }
+
+    /**
+     * Selects the specified number of random entries from this dictionary, distributed like
+     * {@link #pick(RandomService)}. The source is resolved once and all indices are drawn with
+     * {@link DictionarySource#pickIndices}, so the entries differ from those of the same number of
+     * single picks.
+     *
+     * @param random The RandomService to draw the indices from
+     * @param count The number of entries to select
+     * @return A new array of randomly selected entries
+     * @throws IllegalArgumentException if count is negative
+     * @throws RuntimeException if the field does not exist for this locale
+     */
+    public String[] pick(RandomService random, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        String[] entries = new String[count];
+        pick(random, entries, 0, count);
+        return entries;
+    }
+
+    /**
+     * Fills a range of an array with random entries from this dictionary, see {@link #pick(RandomService, int)}.
+     * Indices are drawn in chunks of at most {@value #BULK_CHUNK}, so filling a large array does
+     * not need an index array of the same size. If the array is at least as long as the dictionary,
+     * every entry is materialized at most once and repeated picks share the same String.
+     *
+     * @param random The RandomService to draw the indices from
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     * @throws RuntimeException if the field does not exist for this locale
+     */
+    public void pick(RandomService random, String[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        if (len == 0) {
+            return;
+        }
+        DictionarySource values = source().snapshot();
+        // When entries repeat, each one is materialized once and shared by all of its picks
+        String[] materialized = values.size() <= len ? new String[values.size()] : null;
+        int[] indices = new int[Math.min(len, BULK_CHUNK)];
+        for (int done = 0; done < len; done += indices.length) {
+            int count = Math.min(indices.length, len - done);
+            values.pickIndices(random, indices, 0, count);
+            for (int i = 0; i < count; i++) {
+                int index = indices[i];
+                String entry;
+                if (materialized == null) {
+                    entry = values.get(index);
+                } else if ((entry = materialized[index]) == null) {
+                    entry = values.get(index);
+                    materialized[index] = entry;
+                }
+                dst[off + done + i] = entry;
+            }
+        }
+    }
+
+    /**
+     * Selects a random entry from this dictionary and appends it to a StringBuilder
+     * without creating a String.
+     *
+     * @param sb The StringBuilder to append to
+     * @param random The RandomService to draw the index from
+     * @return The StringBuilder, for chaining
+     * @throws RuntimeException if the field does not exist for this locale
+     */
+    public StringBuilder appendPick(StringBuilder sb, RandomService random) {
+        DictionarySource values = source().snapshot();
+        return values.appendTo(sb, values.pickIndex(random));
+    }
+
+    /**
+     * Returns the entry at the specified index.
+     *
+     * @param index The index of the entry
+     * @return The entry at the index
+     */
+    public String get(int index) {
+        return source().get(index);
+    }
+
+    /**
+     * Returns the number of entries in this dictionary.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return source().size();
+    }
+
+    /**
+     * Returns the source backing this dictionary, for callers that copy entries into their own buffers.
+     *
+     * @return The source of this dictionary
+     * @throws RuntimeException if the field does not exist for this locale
+     */
+    public DictionarySource getSource() {
+        return source();
+    }
+
+    /**
+     * Returns all entries of this dictionary as an unmodifiable list.
+     *
+     * @return The entries of this dictionary
+     */
+    public List<String> asList() {
+        return source().asList();
+    }
+
+    /**
+     * Checks if this field exists in the locale-specific data file, without falling back to common data.
+     * The result is computed once and cached by the handle.
+     *
+     * @return true if the field exists in locale-specific data, false otherwise
+     */
+    public boolean isLocaleSpecific() {
+        Boolean result = localeSpecific;
+        if (result == null) {
+            result = data.hasLocaleSpecificField(category, field);
+            localeSpecific = result;
+        }
+        return result;
+    }
+
+    /**
+     * Checks if this field exists in the locale-specific data file.
+     *
+     * @throws IllegalStateException if the locale-specific data is missing
+     */
+    public void requireLocaleSpecific() {
+        if (!isLocaleSpecific()) {
+            throw new IllegalStateException(
+                "Missing locale-specific data for " + this + " in locale " + data.getLocale()
+            );
+        }
+    }
+
+    private DictionarySource source() {
+        DictionarySource result = source;
+        if (result == null) {
+            result = data.source(category, field);
+            source = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dictionary name in the form category.field.
+     *
+     * @return The dictionary name
+     */
+    @Override
+    public String toString() {
+        return category + "." + field;
+    }
+}
@@ -0,0 +1,218 @@
+package com.datamirage.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary codec for precompiled data files.
+ * A snapshot holds the same tree that Jackson produces for a YAML data file, but every string
+ * is stored once in a UTF-8 string table addressed by an offset array, and the tree refers to
+ * strings by their table index. Reading a snapshot is a single bulk read followed by a linear
+ * decode, without any YAML tokenizing.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ * int     magic ("DMS1")
+ * short   version
+ * int     string count n
+ * int[n+1] byte offsets into the string data
+ * byte[]  UTF-8 string data
+ * node    root
+ * </pre>
+ * where a node is a one byte tag followed by its payload.</p>
+ */
+public final class DictionarySnapshot {
+    /** File extension used for compiled snapshots. */
+    public static final String EXTENSION = ".bin";
+
+    private static final int MAGIC = 0x444D5331;
+    private static final short VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LIST = 2;
+    private static final byte TAG_MAP = 3;
+    private static final byte TAG_INT = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BOOLEAN = 7;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws IllegalStateException if an attempt is made to instantiate this class
+     */
+    private DictionarySnapshot() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Encodes a parsed data file into its snapshot representation.
+     *
+     * @param data The parsed data, as produced by Jackson for a YAML data file
+     * @return The encoded snapshot
+     * @throws IllegalArgumentException if the data contains an unsupported value type
+     */
+    public static byte[] write(Map<String, Object> data) {
+        Map<String, Integer> stringIndex = new LinkedHashMap<>();
+        collectStrings(data, stringIndex);
+
+        try {
+            ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+            int[] offsets = new int[stringIndex.size() + 1];
+            int i = 0;
+            for (String value : stringIndex.keySet()) {
+                offsets[i++] = stringBytes.size();
+                stringBytes.write(value.getBytes(StandardCharsets.UTF_8));
+            }
+            offsets[i] = stringBytes.size();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(stringIndex.size());
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+            stringBytes.writeTo(out);
+            writeNode(out, data, stringIndex);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode snapshot", e);
+        }
+    }
+
+    /**
+     * Decodes a snapshot back into the tree produced by Jackson for the original YAML file.
+     *
+     * @param bytes The snapshot contents
+     * @return A mutable map containing the decoded data
+     * @throws IllegalArgumentException if the bytes are not a supported snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> read(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (bytes.length < 10 || in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a DataMirage snapshot");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+
+        int count = in.getInt();
+        int[] offsets = new int[count + 1];
+        for (int i = 0; i <= count; i++) {
+            offsets[i] = in.getInt();
+        }
+        int base = in.position();
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = new String(bytes, base + offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+        }
+        in.position(base + offsets[count]);
+
+        Object root = readNode(in, strings);
+        if (!(root instanceof Map)) {
+            throw new IllegalArgumentException("Snapshot root is not a map");
+        }
+        return (Map<String, Object>) root;
+    }
+
+    private static void collectStrings(Object node, Map<String, Integer> stringIndex) {
+        if (node instanceof String value) {
+            stringIndex.putIfAbsent(value, stringIndex.size());
+        } else if (node instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                stringIndex.putIfAbsent(String.valueOf(entry.getKey()), stringIndex.size());
+                collectStrings(entry.getValue(), stringIndex);
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object item : list) {
+                collectStrings(item, stringIndex);
+            }
+        }
+    }
+
+    private static void writeNode(DataOutputStream out, Object node, Map<String, Integer> stringIndex) throws IOException {
+        if (node == null) {
+            out.writeByte(TAG_NULL);
+        } else if (node instanceof String value) {
+            out.writeByte(TAG_STRING);
+            out.writeInt(stringIndex.get(value));
+        } else if (node instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeNode(out, item, stringIndex);
+            }
+        } else if (node instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeInt(stringIndex.get(String.valueOf(entry.getKey())));
+                writeNode(out, entry.getValue(), stringIndex);
+            }
+        } else if (node instanceof Integer value) {
+            out.writeByte(TAG_INT);
+            out.writeInt(value);
+        } else if (node instanceof Long value) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(value);
+        } else if (node instanceof Double value) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(value);
+        } else if (node instanceof Boolean value) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(value);
+        } else {
+            throw new IllegalArgumentException("Unsupported value type: " + node.getClass().getName());
+        }
+    }
+
+    private static Object readNode(ByteBuffer in, String[] strings) {
+        byte tag = in.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return strings[in.getInt()];
+            case TAG_LIST: {
+                int size = in.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readNode(in, strings));
+                }
+                return list;
+            }
+            case TAG_MAP: {
+                int size = in.getInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = strings[in.getInt()];
+                    map.put(key, readNode(in, strings));
+                }
+                return map;
+            }
+            case TAG_INT:
+                return in.getInt();
+            case TAG_LONG:
+                return in.getLong();
+            case TAG_DOUBLE:
+                return in.getDouble();
+            case TAG_BOOLEAN:
+                return in.get() != 0;
+            default:
+                throw new IllegalArgumentException("Corrupt snapshot, unknown tag: " + tag);
+        }
+    }
+}
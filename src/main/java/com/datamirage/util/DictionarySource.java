@@ -0,0 +1,132 @@
+package com.datamirage.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An indexed, immutable source of dictionary entries.
+ * The bundled data is held in {@link DictionaryTable}s; large custom data sets can be served from a
+ * memory-mapped file through {@link MappedDictionary}. Providers only see the {@link Dictionary}
+ * handle and work the same with either source.
+ *
+ * @see LocaleData#withDictionary(String, String, DictionarySource)
+ */
+public interface DictionarySource {
+
+    /**
+     * Returns the number of entries in this source.
+     *
+     * @return The number of entries
+     */
+    int size();
+
+    /**
+     * Returns the entry at the specified index as a new String.
+     *
+     * @param index The index of the entry
+     * @return The entry at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    String get(int index);
+
+    /**
+     * Appends the entry at the specified index to a StringBuilder without creating a String.
+     *
+     * @param sb The StringBuilder to append to
+     * @param index The index of the entry
+     * @return The StringBuilder, for chaining
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    StringBuilder appendTo(StringBuilder sb, int index);
+
+    /**
+     * Writes the entry at the specified index to a buffer, encoded as UTF-8.
+     * The buffer position is advanced by the number of bytes written.
+     *
+     * @param buffer The buffer to write to
+     * @param index The index of the entry
+     * @return The number of bytes written
+     * @throws BufferOverflowException if the buffer does not have enough room for the entry, in which case
+     *                                  its position is left unchanged
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int writeUtf8(ByteBuffer buffer, int index);
+
+    /**
+     * Picks the index of a random entry. Entries are picked uniformly unless the source
+     * carries weights, in which case they are picked in proportion to their weight.
+     *
+     * @param random The random service to draw from
+     * @return The index of the picked entry
+     * @throws IllegalArgumentException if the source is empty
+     */
+    default int pickIndex(RandomService random) {
+        return random.nextIndex(size());
+    }
+
+    /**
+     * Fills a range of an array with random entry indices, distributed like {@link #pickIndex}.
+     * This is what the bulk methods of the providers, such as {@code NameProvider.firstNames(int)},
+     * are built on: the source is resolved once per array and the indices are drawn together, instead
+     * of paying a lookup and a generator call for every value. The default implementation draws all
+     * indices with one bulk fill of uniform integers, which takes two indices from every 64-bit draw,
+     * so the indices differ from those of the same number of {@link #pickIndex} calls from the same seed.
+     *
+     * @param random The random service to draw from
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @throws IllegalArgumentException if this source is empty
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    default void pickIndices(RandomService random, int[] dst, int off, int len) {
+        random.nextInts(dst, off, len, 0, size() - 1);
+    }
+
+    /**
+     * Returns a source whose content is guaranteed not to change, for callers that make several
+     * calls that must agree with each other, such as {@code size()} followed by {@code get(int)}.
+     * Immutable sources return themselves; a {@link ReloadableDictionary} returns its current snapshot.
+     *
+     * @return An immutable source with the current content
+     */
+    default DictionarySource snapshot() {
+        return this;
+    }
+
+    /**
+     * Returns an unmodifiable list view of this source. Every {@code get} call on the view creates a new String.
+     *
+     * @return A list view of the entries
+     */
+    default List<String> asList() {
+        return new ListView(this);
+    }
+
+    /**
+     * A read-only list view over a dictionary source.
+     */
+    final class ListView extends AbstractList<String> implements RandomAccess {
+        private final DictionarySource source;
+
+        ListView(DictionarySource source) {
+            this.source = source;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= source.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + source.size());
+            }
+            return source.get(index);
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.datamirage.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A compact, immutable table holding all entries of one dictionary field.
+ * The characters of every entry are stored back to back in a single array, addressed by an offset
+ * table, instead of as one String object per entry. If every character of every entry fits into
+ * Latin-1 the table uses a byte array with one byte per character, otherwise a UTF-16 char array.
+ *
+ * <p>A String is only created when {@link #get(int)} is called. Callers that build larger strings
+ * can use {@link #appendTo(StringBuilder, int)} or {@link #writeUtf8(ByteBuffer, int)} to copy an
+ * entry without materializing it.</p>
+ *
+ * <p>A table built with weights samples its entries through an {@link AliasTable} that is built
+ * once with the table, so a weighted pick costs the same as a uniform one.</p>
+ */
+public final class DictionaryTable implements DictionarySource {
+    private static final DictionaryTable EMPTY = new DictionaryTable(new byte[0], null, new int[]{0}, null);
+
+    private final byte[] latin1;
+    private final char[] utf16;
+    private final int[] offsets;
+    private final AliasTable weights;
+    /** Whether every entry is plain ASCII, so that its Latin-1 bytes are also its UTF-8 encoding. */
+    private final boolean ascii;
+    private final List<String> view = new ListView(this);
+
+    private DictionaryTable(byte[] latin1, char[] utf16, int[] offsets, AliasTable weights) {
+        this.latin1 = latin1;
+        this.utf16 = utf16;
+        this.offsets = offsets;
+        this.weights = weights;
+        this.ascii = latin1 != null && isAscii(latin1);
+    }
+
+    private static boolean isAscii(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a table from the specified entries.
+     *
+     * @param entries The entries of the table, in order
+     * @return A new table containing the entries
+     * @throws NullPointerException if an entry is null
+     */
+    public static DictionaryTable of(List<String> entries) {
+        return of(entries, null);
+    }
+
+    /**
+     * Builds a table from the specified entries, picked in proportion to the specified weights.
+     *
+     * @param entries The entries of the table, in order
+     * @param weights The weight of every entry, or null to pick the entries uniformly
+     * @return A new table containing the entries
+     * @throws NullPointerException if an entry is null
+     * @throws IllegalArgumentException if the number of weights does not match the number of entries,
+     *                                  or the weights are invalid, see {@link AliasTable#of(double[])}
+     */
+    @SuppressWarnings("deprecation")
+    public static DictionaryTable of(List<String> entries, double[] weights) {
+        if (weights != null && weights.length != entries.size()) {
+            throw new IllegalArgumentException("Expected " + entries.size() + " weights, got " + weights.length);
+        }
+        if (entries.isEmpty()) {
+            return EMPTY;
+        }
+        boolean isLatin1 = true;
+        int length = 0;
+        for (String entry : entries) {
+            length += entry.length();
+            for (int i = 0; i < entry.length() && isLatin1; i++) {
+                isLatin1 = entry.charAt(i) <= 0xFF;
+            }
+        }
+
+        byte[] bytes = isLatin1 ? new byte[length] : null;
+        char[] chars = isLatin1 ? null : new char[length];
+        int[] offsets = new int[entries.size() + 1];
+        int position = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            offsets[i] = position;
+            String entry = entries.get(i);
+            if (isLatin1) {
+                entry.getBytes(0, entry.length(), bytes, position);
+            } else {
+                entry.getChars(0, entry.length(), chars, position);
+            }
+            position += entry.length();
+        }
+        offsets[entries.size()] = position;
+        return new DictionaryTable(bytes, chars, offsets, weights != null ? AliasTable.of(weights) : null);
+    }
+
+    /**
+     * Returns the number of entries in this table.
+     *
+     * @return The number of entries
+     */
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the length of the entry at the specified index, in chars.
+     *
+     * @param index The index of the entry
+     * @return The length of the entry
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int length(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Returns the entry at the specified index as a new String.
+     *
+     * @param index The index of the entry
+     * @return The entry at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public String get(int index) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        if (latin1 != null) {
+            // The hibyte constructor copies Latin-1 bytes straight into a compact string
+            return new String(latin1, 0, start, length);
+        }
+        return new String(utf16, start, length);
+    }
+
+    /**
+     * Appends the entry at the specified index to a StringBuilder without creating a String.
+     *
+     * @param sb The StringBuilder to append to
+     * @param index The index of the entry
+     * @return The StringBuilder, for chaining
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public StringBuilder appendTo(StringBuilder sb, int index) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        if (latin1 == null) {
+            return sb.append(utf16, start, length);
+        }
+        // Appending char by char beats widening into a scratch array, which costs a ThreadLocal lookup
+        sb.ensureCapacity(sb.length() + length);
+        for (int i = start; i < start + length; i++) {
+            sb.append((char) (latin1[i] & 0xFF));
+        }
+        return sb;
+    }
+
+    /**
+     * Writes the entry at the specified index to a buffer, encoded as UTF-8.
+     * The buffer position is advanced by the number of bytes written. Entries that are not ASCII are
+     * encoded straight into the buffer, so on overflow the bytes after the position may have been
+     * overwritten, but the position itself is reset.
+     *
+     * @param buffer The buffer to write to
+     * @param index The index of the entry
+     * @return The number of bytes written
+     * @throws BufferOverflowException if the buffer does not have enough room for the entry, in which case
+     *                                  its position is left unchanged
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public int writeUtf8(ByteBuffer buffer, int index) {
+        int start = offsets[index];
+        int end = offsets[index + 1];
+        if (ascii) {
+            buffer.put(latin1, start, end - start);
+            return end - start;
+        }
+        int begin = buffer.position();
+        try {
+            if (latin1 != null) {
+                int asciiEnd = start;
+                while (asciiEnd < end && latin1[asciiEnd] >= 0) {
+                    asciiEnd++;
+                }
+                buffer.put(latin1, start, asciiEnd - start);
+                for (int i = asciiEnd; i < end; i++) {
+                    byte b = latin1[i];
+                    if (b >= 0) {
+                        buffer.put(b);
+                    } else {
+                        buffer.put((byte) (0xC0 | ((b & 0xFF) >> 6)));
+                        buffer.put((byte) (0x80 | (b & 0x3F)));
+                    }
+                }
+            } else {
+                for (int i = start; i < end; i++) {
+                    char c = utf16[i];
+                    if (c < 0x80) {
+                        buffer.put((byte) c);
+                    } else if (c < 0x800) {
+                        buffer.put((byte) (0xC0 | (c >> 6)));
+                        buffer.put((byte) (0x80 | (c & 0x3F)));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(utf16[i + 1])) {
+                        int codePoint = Character.toCodePoint(c, utf16[++i]);
+                        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                    } else {
+                        buffer.put((byte) (0xE0 | (c >> 12)));
+                        buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                        buffer.put((byte) (0x80 | (c & 0x3F)));
+                    }
+                }
+            }
+        } catch (BufferOverflowException e) {
+            buffer.position(begin);
+            throw e;
+        }
+        return buffer.position() - begin;
+    }
+
+    /**
+     * Picks the index of a random entry, in proportion to the weights of the entries if the table has any.
+     *
+     * @param random The random service to draw from
+     * @return The index of the picked entry
+     * @throws IllegalArgumentException if the table is empty
+     */
+    @Override
+    public int pickIndex(RandomService random) {
+        return weights != null ? weights.sample(random) : random.nextIndex(size());
+    }
+
+    @Override
+    public void pickIndices(RandomService random, int[] dst, int off, int len) {
+        if (weights != null) {
+            weights.sample(random, dst, off, len);
+        } else {
+            DictionarySource.super.pickIndices(random, dst, off, len);
+        }
+    }
+
+    /**
+     * Checks if the entries of this table carry weights.
+     *
+     * @return true if entries are picked in proportion to their weight, false if they are picked uniformly
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * Returns the probability with which the entry at the specified index is picked.
+     *
+     * @param index The index of the entry
+     * @return The probability of the entry, between 0 and 1
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double probability(int index) {
+        if (weights == null) {
+            Objects.checkIndex(index, size());
+            return 1.0 / size();
+        }
+        return weights.probability(index);
+    }
+
+    /**
+     * Returns an unmodifiable list view of this table. Every {@code get} call on the view creates a new String.
+     *
+     * @return A list view of the entries
+     */
+    @Override
+    public List<String> asList() {
+        return view;
+    }
+
+    /**
+     * Checks if this table stores one byte per character.
+     *
+     * @return true if all entries are Latin-1, false if the table uses UTF-16
+     */
+    public boolean isLatin1() {
+        return latin1 != null;
+    }
+
+    /**
+     * Estimates the heap size retained by this table, using the same assumptions as {@link MemoryEstimator}.
+     *
+     * @return The estimated retained size in bytes
+     */
+    public long retainedBytes() {
+        // Table object (five references), list view, character array, offset array and alias table
+        long characters = latin1 != null ? latin1.length : 2L * utf16.length;
+        long alias = weights != null ? weights.retainedBytes() : 0;
+        return 32 + 16 + align(16 + characters) + align(16 + 4L * offsets.length) + alias;
+    }
+
+    /**
+     * Compares the entries of two tables. Tables with the same entries and weights in the same order are equal.
+     *
+     * @param o The object to compare with
+     * @return true if the other object is a table with the same entries and weights, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DictionaryTable other)) {
+            return false;
+        }
+        return Arrays.equals(offsets, other.offsets)
+            && Arrays.equals(latin1, other.latin1)
+            && Arrays.equals(utf16, other.utf16)
+            && Objects.equals(weights, other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(offsets);
+        return 31 * hash + (latin1 != null ? Arrays.hashCode(latin1) : Arrays.hashCode(utf16));
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
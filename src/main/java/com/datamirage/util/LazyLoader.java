@@ -8,7 +8,11 @@ import java.util.function.Supplier;
  * A utility class that provides lazy loading functionality with caching.
  * This class maintains a cache of loaded values and ensures that each value
  * is loaded only once, even if requested multiple times.
+ *
+ * @deprecated Cache keys do not include the locale, so values loaded for one locale keep being served
+ * after {@link DataLoader#setLocale}. Use {@link LocaleData#dictionary} handles for dictionary data instead.
  */
+@Deprecated
 public class LazyLoader {
 
     private static final Map<String, Object> cache = new ConcurrentHashMap<>();
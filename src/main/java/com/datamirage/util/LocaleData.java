@@ -0,0 +1,357 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * The data of one locale, shared by every generator of that locale.
+ * There is exactly one instance per locale, obtained through {@link #of(DataMirageLocale)}. Categories
+ * are loaded on first use and never modified afterwards, so an instance can be handed to any number of
+ * providers and used from any number of threads. Generators of different locales do not share any
+ * mutable state and can run concurrently.
+ *
+ * <p>A loaded category is kept as a flat map from dotted field path (e.g. {@code "first_names"}, or
+ * {@code "parent.child"} for nested fields) to a {@link DictionaryTable}, so a lookup is a single hash probe and the
+ * entries of a field share one backing array.</p>
+ *
+ * <p>Entries of a list can carry weights, in which case they are picked in proportion to their weight:
+ * <pre>
+ * last_names:
+ *   - {value: "Smith", w: 828}
+ *   - {value: "Johnson", w: 655}
+ *   - Nguyen
+ * </pre>
+ * Plain entries in a weighted list have weight 1.</p>
+ */
+public final class LocaleData {
+    private static final String VALUE_KEY = "value";
+    private static final String WEIGHT_KEY = "w";
+
+    private static final Map<DataMirageLocale, LocaleData> instances = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, DictionaryTable>> commonCategories = new ConcurrentHashMap<>();
+    private static final Map<DictionaryTable, DictionaryTable> internedTables = new ConcurrentHashMap<>();
+
+    private final DataMirageLocale locale;
+    private final Map<String, Map<String, DictionaryTable>> categories;
+    private final Map<String, Set<String>> localeSpecificFields;
+    private final Map<String, DictionarySource> overrides;
+    private final Map<String, Dictionary> dictionaries = new ConcurrentHashMap<>();
+
+    private LocaleData(DataMirageLocale locale) {
+        this(locale, new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), Map.of());
+    }
+
+    private LocaleData(DataMirageLocale locale, Map<String, Map<String, DictionaryTable>> categories,
+                       Map<String, Set<String>> localeSpecificFields, Map<String, DictionarySource> overrides) {
+        this.locale = locale;
+        this.categories = categories;
+        this.localeSpecificFields = localeSpecificFields;
+        this.overrides = overrides;
+    }
+
+    /**
+     * Returns the shared data of the specified locale.
+     * Obtaining the instance does not load any data; categories are loaded on first use.
+     *
+     * @param locale The locale
+     * @return The shared LocaleData of the locale
+     */
+    public static LocaleData of(DataMirageLocale locale) {
+        return instances.computeIfAbsent(locale, LocaleData::new);
+    }
+
+    /**
+     * Returns the locale of this data.
+     *
+     * @return The locale
+     */
+    public DataMirageLocale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns a copy of this data in which the specified field is served by the given source instead
+     * of the bundled data, for example a {@link MappedDictionary} with millions of entries.
+     * The copy shares all other data with this instance, and this instance is not changed.
+     * Overridden fields count as locale-specific data.
+     *
+     * @param category The data category, e.g. "name"
+     * @param field The field within the category, using dot notation for nested fields
+     * @param source The source to serve the field from
+     * @return A new LocaleData with the field overridden
+     */
+    public LocaleData withDictionary(String category, String field, DictionarySource source) {
+        Map<String, DictionarySource> copy = new HashMap<>(overrides);
+        copy.put(category + "." + field, Objects.requireNonNull(source, "source"));
+        return new LocaleData(locale, categories, localeSpecificFields, Map.copyOf(copy));
+    }
+
+    /**
+     * Returns the dictionary handle for the specified category and field.
+     * Each category and field is resolved to exactly one handle per locale.
+     *
+     * @param category The data category, e.g. "name"
+     * @param field The field within the category, using dot notation for nested fields
+     * @return The shared dictionary handle
+     */
+    public Dictionary dictionary(String category, String field) {
+        return dictionaries.computeIfAbsent(category + "." + field, key -> new Dictionary(this, category, field));
+    }
+
+    /**
+     * Retrieves a list of strings from the specified category and field.
+     * The field is looked up in the locale-specific data first and in the common data otherwise.
+     *
+     * @param category The category of data to load
+     * @param field The field to retrieve, using dot notation for nested fields
+     * @return An unmodifiable list of strings from the specified field
+     * @throws RuntimeException if the field is not found in both locale-specific and common data
+     */
+    public List<String> getListData(String category, String field) {
+        return source(category, field).asList();
+    }
+
+    /**
+     * Checks if the specified field exists directly in the locale-specific data file,
+     * without falling back to common data.
+     *
+     * @param category The category of data to check
+     * @param field The field to check, using dot notation for nested fields
+     * @return true if the field exists in locale-specific data, false otherwise
+     */
+    public boolean hasLocaleSpecificField(String category, String field) {
+        return overrides.containsKey(category + "." + field) || localeSpecificFields(category).contains(field);
+    }
+
+    /**
+     * Returns the source serving the entries of the specified category and field.
+     *
+     * @param category The category of data to load
+     * @param field The field to retrieve, using dot notation for nested fields
+     * @return The source of the field
+     * @throws RuntimeException if the field is not found in both locale-specific and common data
+     */
+    DictionarySource source(String category, String field) {
+        DictionarySource source = overrides.get(category + "." + field);
+        return source != null ? source : table(category, field);
+    }
+
+    /**
+     * Returns the table holding the bundled entries of the specified category and field.
+     *
+     * @param category The category of data to load
+     * @param field The field to retrieve, using dot notation for nested fields
+     * @return The table of the field
+     * @throws RuntimeException if the field is not found in both locale-specific and common data
+     */
+    DictionaryTable table(String category, String field) {
+        DictionaryTable table = category(category).get(field);
+        if (table == null) {
+            throw new RuntimeException("Field " + field + " not found in data for " + category);
+        }
+        return table;
+    }
+
+    /**
+     * Loads the specified category eagerly, including its locale-specific part.
+     *
+     * @param category The category to load
+     * @throws RuntimeException if the category does not exist
+     */
+    void load(String category) {
+        localeSpecificFields(category);
+        category(category);
+    }
+
+    /**
+     * Estimates the heap size retained by the specified category, loading it if necessary.
+     *
+     * @param category The category to measure
+     * @return The estimated retained size in bytes
+     */
+    long retainedBytes(String category) {
+        return MemoryEstimator.estimate(category(category), localeSpecificFields(category));
+    }
+
+    /**
+     * Returns the tables of the specified category, loading it if necessary.
+     *
+     * @param category The category to load
+     * @return An immutable map from field path to table
+     * @throws RuntimeException if the category does not exist
+     */
+    Map<String, DictionaryTable> categoryTables(String category) {
+        return category(category);
+    }
+
+    /**
+     * Checks if the specified category has already been loaded.
+     *
+     * @param category The category to check
+     * @return true if the merged data of the category is cached, false otherwise
+     */
+    boolean isLoaded(String category) {
+        return categories.containsKey(category);
+    }
+
+    /**
+     * Returns the tables of a category keyed by their dotted field path, loading them on first use.
+     * Common tables are shared by all locales and locale-specific tables replace common tables of the
+     * same field. The parsed tree is only needed while the tables are built and is dropped afterwards.
+     */
+    private Map<String, DictionaryTable> category(String category) {
+        return categories.computeIfAbsent(category, key -> {
+            Map<String, DictionaryTable> common = commonCategory(key);
+            Map<String, DictionaryTable> specific = localeCategory(key);
+            localeSpecificFields.putIfAbsent(key, nonEmptyFields(specific));
+
+            if (common.isEmpty() && specific.isEmpty()) {
+                System.out.println("Resource not found in both: data/" + locale.getCode() + "/" + key
+                    + ".yaml and data/common/" + key + ".yaml");
+                throw new RuntimeException("Data file not found: " + key);
+            }
+            if (specific.isEmpty()) {
+                return common;
+            }
+            if (common.isEmpty()) {
+                return specific;
+            }
+            Map<String, DictionaryTable> merged = new HashMap<>(common);
+            merged.putAll(specific);
+            return Map.copyOf(merged);
+        });
+    }
+
+    /**
+     * Returns the tables of the locale-specific data file of a category, or an empty map if there is none.
+     */
+    private Map<String, DictionaryTable> localeCategory(String category) {
+        Map<String, Object> data = DataLoader.readDataFile(locale.getCode(), category);
+        return data != null ? intern(tables(data)) : Map.of();
+    }
+
+    /**
+     * Returns the tables of the common data file of a category, which are parsed once and shared by all locales.
+     */
+    private static Map<String, DictionaryTable> commonCategory(String category) {
+        return commonCategories.computeIfAbsent(category, key -> {
+            Map<String, Object> data = DataLoader.readDataFile("common", key);
+            return data != null ? intern(tables(data)) : Map.of();
+        });
+    }
+
+    /**
+     * Replaces every table with the canonical table of the same content, so that identical lists in
+     * several data files are stored once.
+     */
+    private static Map<String, DictionaryTable> intern(Map<String, DictionaryTable> tables) {
+        Map<String, DictionaryTable> interned = new HashMap<>();
+        for (Map.Entry<String, DictionaryTable> entry : tables.entrySet()) {
+            DictionaryTable table = internedTables.putIfAbsent(entry.getValue(), entry.getValue());
+            interned.put(entry.getKey(), table != null ? table : entry.getValue());
+        }
+        return Map.copyOf(interned);
+    }
+
+    private static Set<String> nonEmptyFields(Map<String, DictionaryTable> tables) {
+        Set<String> fields = new HashSet<>();
+        for (Map.Entry<String, DictionaryTable> entry : tables.entrySet()) {
+            if (entry.getValue().size() > 0) {
+                fields.add(entry.getKey());
+            }
+        }
+        return Set.copyOf(fields);
+    }
+
+    /**
+     * Builds a table for every list in a parsed data tree, keyed by the dotted path of the list.
+     *
+     * @param data The parsed data
+     * @return An immutable map from field path to table
+     */
+    static Map<String, DictionaryTable> tables(Map<String, Object> data) {
+        Map<String, DictionaryTable> tables = new HashMap<>();
+        flatten("", data, (path, list) -> tables.put(path, toTable(path, list)));
+        return Map.copyOf(tables);
+    }
+
+    /**
+     * Returns the dotted paths of the non-empty lists in the locale-specific data file of a category.
+     * They are recorded when the category is loaded, or read on their own if the category is not
+     * needed otherwise.
+     */
+    private Set<String> localeSpecificFields(String category) {
+        return localeSpecificFields.computeIfAbsent(category, key -> nonEmptyFields(localeCategory(key)));
+    }
+
+    /**
+     * Visits every list in a data tree together with its path in dot notation.
+     */
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> node, BiConsumer<String, List<?>> visitor) {
+        for (Map.Entry<String, Object> entry : node.entrySet()) {
+            String path = prefix + entry.getKey();
+            if (entry.getValue() instanceof List<?> list) {
+                visitor.accept(path, list);
+            } else if (entry.getValue() instanceof Map) {
+                flatten(path + ".", (Map<String, Object>) entry.getValue(), visitor);
+            }
+        }
+    }
+
+    /**
+     * Converts raw list items to a dictionary table. An item of the form {@code {value: "Smith", w: 828}}
+     * is a weighted entry; if a list contains weighted entries, plain entries have weight 1. YAML turns
+     * other unquoted entries containing ": " into single-entry maps, which are joined back to their
+     * original text here.
+     */
+    private static DictionaryTable toTable(String path, List<?> values) {
+        List<String> entries = new ArrayList<>(values.size());
+        double[] weights = null;
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value instanceof Map<?, ?> map && map.containsKey(VALUE_KEY) && map.containsKey(WEIGHT_KEY)
+                    && map.size() == 2) {
+                if (weights == null) {
+                    weights = new double[values.size()];
+                    Arrays.fill(weights, 0, i, 1.0);
+                }
+                entries.add(String.valueOf(map.get(VALUE_KEY)));
+                weights[i] = weight(path, map.get(WEIGHT_KEY));
+                continue;
+            }
+            if (value instanceof Map<?, ?> map && map.size() == 1) {
+                Map.Entry<?, ?> entry = map.entrySet().iterator().next();
+                entries.add(entry.getKey() + ": " + entry.getValue());
+            } else {
+                entries.add(String.valueOf(value));
+            }
+            if (weights != null) {
+                weights[i] = 1.0;
+            }
+        }
+        return DictionaryTable.of(entries, weights);
+    }
+
+    private static double weight(String path, Object weight) {
+        if (weight instanceof Number number && number.doubleValue() >= 0) {
+            return number.doubleValue();
+        }
+        throw new IllegalArgumentException("Invalid weight " + weight + " in field " + path);
+    }
+
+    @Override
+    public String toString() {
+        return "LocaleData[" + locale.getCode() + "]";
+    }
+}
@@ -0,0 +1,268 @@
+package com.datamirage.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A dictionary source backed by a memory-mapped, newline-delimited UTF-8 file.
+ * Every line of the file is one entry; a trailing carriage return is ignored, so files with Windows
+ * line endings work as well. The entries are never loaded onto the heap: the file is mapped with
+ * {@link FileChannel#map} and an offset index locates each line, so a data set with tens of millions
+ * of entries costs a few objects of heap.
+ *
+ * <p>The offset index is read from a sidecar file named {@code <file>.idx} if one exists and matches
+ * the data file, see {@link #writeIndex(Path)}. Otherwise it is built by scanning the file once and
+ * kept in off-heap memory.</p>
+ *
+ * <p>Files are limited to 2 GB. Usage:
+ * <pre>
+ * {@code
+ * LocaleData data = LocaleData.of(DataMirageLocale.EN_US)
+ *     .withDictionary("name", "last_names", MappedDictionary.open(Path.of("surnames.txt")));
+ * DataMirage dataMirage = new DataMirage(data);
+ * }
+ * </pre>
+ * </p>
+ */
+public final class MappedDictionary implements DictionarySource {
+    /** File name suffix of the sidecar index. */
+    public static final String INDEX_EXTENSION = ".idx";
+
+    private static final int INDEX_MAGIC = 0x444D4931;
+    private static final int INDEX_HEADER = 4 + 8 + 8 + 4;
+
+    private final Path file;
+    private final ByteBuffer data;
+    private final IntBuffer offsets;
+    private final int size;
+
+    private MappedDictionary(Path file, ByteBuffer data, IntBuffer offsets) {
+        this.file = file;
+        this.data = data;
+        this.offsets = offsets;
+        this.size = offsets.limit() - 1;
+    }
+
+    /**
+     * Maps the specified file, using its sidecar index if one exists and is up to date.
+     *
+     * @param file The newline-delimited UTF-8 file to map
+     * @return A dictionary serving the lines of the file
+     * @throws IOException if the file cannot be read or mapped
+     * @throws IllegalArgumentException if the file is larger than 2 GB
+     */
+    public static MappedDictionary open(Path file) throws IOException {
+        ByteBuffer data = map(file);
+        IntBuffer offsets = readIndex(file, data.limit());
+        if (offsets == null) {
+            ByteBuffer index = ByteBuffer.allocateDirect(4 * (countLines(data) + 1)).order(ByteOrder.nativeOrder());
+            offsets = index.asIntBuffer();
+            buildIndex(data, offsets);
+        }
+        return new MappedDictionary(file, data, offsets);
+    }
+
+    /**
+     * Builds the offset index of the specified file and writes it next to the file as {@code <file>.idx}.
+     * A written index lets {@link #open(Path)} skip the scan of the data file. The index records the
+     * size and modification time of the data file and is ignored once either changes.
+     *
+     * @param file The newline-delimited UTF-8 file to index
+     * @return The path of the written index
+     * @throws IOException if the file cannot be read or the index cannot be written
+     * @throws IllegalArgumentException if the file is larger than 2 GB
+     */
+    public static Path writeIndex(Path file) throws IOException {
+        ByteBuffer data = map(file);
+        int count = countLines(data);
+        Path indexFile = indexPath(file);
+        long indexSize = INDEX_HEADER + 4L * (count + 1);
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize);
+            index.putInt(INDEX_MAGIC);
+            index.putLong(data.limit());
+            index.putLong(Files.getLastModifiedTime(file).toMillis());
+            index.putInt(count);
+            buildIndex(data, index.slice().asIntBuffer());
+            index.force();
+        }
+        return indexFile;
+    }
+
+    /**
+     * Returns the mapped file.
+     *
+     * @return The path of the data file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String get(int index) {
+        int start = start(index);
+        byte[] bytes = new byte[end(index) - start];
+        data.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a read-only view of the UTF-8 bytes of the entry at the specified index, without copying.
+     *
+     * @param index The index of the entry
+     * @return A buffer positioned at the first byte of the entry and limited to its last byte
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ByteBuffer slice(int index) {
+        int start = start(index);
+        return data.slice(start, end(index) - start);
+    }
+
+    @Override
+    public StringBuilder appendTo(StringBuilder sb, int index) {
+        int end = end(index);
+        for (int i = start(index); i < end; ) {
+            int b = data.get(i++);
+            if (b >= 0) {
+                sb.append((char) b);
+            } else if ((b & 0xE0) == 0xC0) {
+                sb.append((char) (((b & 0x1F) << 6) | (data.get(i++) & 0x3F)));
+            } else if ((b & 0xF0) == 0xE0) {
+                sb.append((char) (((b & 0x0F) << 12) | ((data.get(i++) & 0x3F) << 6) | (data.get(i++) & 0x3F)));
+            } else {
+                int codePoint = ((b & 0x07) << 18) | ((data.get(i++) & 0x3F) << 12)
+                    | ((data.get(i++) & 0x3F) << 6) | (data.get(i++) & 0x3F);
+                sb.appendCodePoint(codePoint);
+            }
+        }
+        return sb;
+    }
+
+    @Override
+    public int writeUtf8(ByteBuffer buffer, int index) {
+        int start = start(index);
+        int length = end(index) - start;
+        buffer.put(data.slice(start, length));
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedDictionary[" + file + ", " + size + " entries]";
+    }
+
+    private int start(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return offsets.get(index);
+    }
+
+    /**
+     * Returns the end of an entry, excluding its line terminator.
+     */
+    private int end(int index) {
+        int end = offsets.get(index + 1) - 1;
+        if (end > offsets.get(index) && data.get(end - 1) == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 1) {
+                throw new IllegalArgumentException("Dictionary file is larger than 2 GB: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private static Path indexPath(Path file) {
+        return file.resolveSibling(file.getFileName() + INDEX_EXTENSION);
+    }
+
+    /**
+     * Maps the sidecar index of a file, or returns null if there is none or it does not match the file.
+     */
+    private static IntBuffer readIndex(Path file, int dataSize) throws IOException {
+        Path indexFile = indexPath(file);
+        if (!Files.isRegularFile(indexFile) || Files.size(indexFile) < INDEX_HEADER) {
+            return null;
+        }
+        ByteBuffer index = map(indexFile);
+        if (index.getInt() != INDEX_MAGIC
+                || index.getLong() != dataSize
+                || index.getLong() != Files.getLastModifiedTime(file).toMillis()) {
+            return null;
+        }
+        int count = index.getInt();
+        if (index.remaining() != 4L * (count + 1)) {
+            return null;
+        }
+        return index.slice().asIntBuffer();
+    }
+
+    /**
+     * Counts the entries of a file. A final line without a line terminator counts as an entry.
+     */
+    private static int countLines(ByteBuffer data) {
+        int count = 0;
+        int limit = data.limit();
+        for (int i = bom(data); i < limit; i++) {
+            if (data.get(i) == '\n') {
+                count++;
+            }
+        }
+        if (limit > bom(data) && data.get(limit - 1) != '\n') {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the start offset of every entry, followed by the end offset of the last entry plus one,
+     * so that entry i always spans {@code [offsets[i], offsets[i + 1] - 1)}.
+     */
+    private static void buildIndex(ByteBuffer data, IntBuffer offsets) {
+        int limit = data.limit();
+        int start = bom(data);
+        int entry = 0;
+        for (int i = start; i < limit; i++) {
+            if (data.get(i) == '\n') {
+                offsets.put(entry++, start);
+                start = i + 1;
+            }
+        }
+        if (start < limit) {
+            offsets.put(entry++, start);
+            start = limit + 1;
+        }
+        offsets.put(entry, start);
+    }
+
+    /**
+     * Returns the length of the UTF-8 byte order mark at the start of the data, if any.
+     */
+    private static int bom(ByteBuffer data) {
+        boolean bom = data.limit() >= 3
+            && (data.get(0) & 0xFF) == 0xEF && (data.get(1) & 0xFF) == 0xBB && (data.get(2) & 0xFF) == 0xBF;
+        return bom ? 3 : 0;
+    }
+}
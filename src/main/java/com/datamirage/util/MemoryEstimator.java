@@ -0,0 +1,113 @@
+package com.datamirage.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the retained heap size of loaded data trees.
+ * The estimate assumes a 64-bit JVM with compressed object pointers and compact strings
+ * (12 byte object headers, 4 byte references, 8 byte alignment), which is the default for heaps
+ * below 32 GB. Only the node types produced by the data loaders are understood: strings, lists,
+ * sets, maps, dictionary tables, boxed numbers and booleans. Objects reachable more than once are
+ * counted once.
+ */
+public final class MemoryEstimator {
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws IllegalStateException if an attempt is made to instantiate this class
+     */
+    private MemoryEstimator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Estimates the number of heap bytes retained by the specified data trees.
+     * Nodes shared between the trees are counted once.
+     *
+     * @param roots The roots of the trees, usually maps produced by the data loader
+     * @return The estimated retained size in bytes
+     */
+    public static long estimate(Object... roots) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        long size = 0;
+        for (Object root : roots) {
+            size += estimate(root, visited);
+        }
+        return size;
+    }
+
+    private static long estimate(Object node, Set<Object> visited) {
+        if (node == null || !visited.add(node)) {
+            return 0;
+        }
+        if (node instanceof String value) {
+            return string(value);
+        }
+        if (node instanceof DictionaryTable table) {
+            return table.retainedBytes();
+        }
+        if (node instanceof Collection<?> list) {
+            // Array-backed collection: size, modCount and the element array reference
+            long size = align(HEADER + 4 + 4 + REFERENCE) + array(list.size(), REFERENCE);
+            for (Object item : list) {
+                size += estimate(item, visited);
+            }
+            return size;
+        }
+        if (node instanceof Map<?, ?> map) {
+            // LinkedHashMap: HashMap fields plus head, tail and accessOrder
+            long size = align(HEADER + 4 * REFERENCE + 4 * 4 + 2 * REFERENCE + 1);
+            size += array(tableSize(map.size()), REFERENCE);
+            // LinkedHashMap.Entry: hash, key, value, next, before, after
+            size += (long) map.size() * align(HEADER + 4 + 5 * REFERENCE);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), visited);
+                size += estimate(entry.getValue(), visited);
+            }
+            return size;
+        }
+        if (node instanceof Long || node instanceof Double) {
+            return align(HEADER + 8);
+        }
+        return align(HEADER + 4);
+    }
+
+    /**
+     * Estimates the size of a string including its value array.
+     *
+     * @param value The string
+     * @return The estimated size in bytes
+     */
+    static long string(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) <= 0xFF;
+        }
+        // String: value reference, hash, coder and hashIsZero
+        return align(HEADER + REFERENCE + 4 + 1 + 1) + array(value.length(), latin1 ? 1 : 2);
+    }
+
+    private static long array(int length, int elementSize) {
+        return align(ARRAY_HEADER + (long) length * elementSize);
+    }
+
+    private static int tableSize(int entries) {
+        int capacity = 16;
+        while (capacity * 0.75 < entries) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
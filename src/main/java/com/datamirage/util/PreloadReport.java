@@ -0,0 +1,87 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of an eager preload, listing the load time and retained size of every loaded category.
+ *
+ * @see DataPreloader
+ */
+public final class PreloadReport {
+    private final List<CategoryLoad> categories;
+    private final long elapsedNanos;
+
+    /**
+     * The load statistics of one category of one locale.
+     *
+     * @param locale The locale the category was loaded for
+     * @param category The category name, e.g. "address"
+     * @param loadNanos The time spent loading and merging the category, in nanoseconds
+     * @param retainedBytes The estimated heap size retained by the loaded category
+     */
+    public record CategoryLoad(DataMirageLocale locale, String category, long loadNanos, long retainedBytes) {
+    }
+
+    PreloadReport(List<CategoryLoad> categories, long elapsedNanos) {
+        this.categories = List.copyOf(categories);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the statistics of every loaded category, ordered by locale and category name.
+     *
+     * @return An unmodifiable list of category statistics
+     */
+    public List<CategoryLoad> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Returns the wall-clock time of the whole preload.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the summed load time of all categories. With parallel loading this is
+     * usually larger than the elapsed wall-clock time.
+     *
+     * @return The summed load time in nanoseconds
+     */
+    public long getTotalLoadNanos() {
+        return categories.stream().mapToLong(CategoryLoad::loadNanos).sum();
+    }
+
+    /**
+     * Returns the summed retained size of all categories.
+     *
+     * @return The estimated retained size in bytes
+     */
+    public long getTotalRetainedBytes() {
+        return categories.stream().mapToLong(CategoryLoad::retainedBytes).sum();
+    }
+
+    /**
+     * Formats the report as a table with one line per category and a total line.
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-8s %-14s %10s %12s%n", "locale", "category", "load (ms)", "retained (B)"));
+        for (CategoryLoad load : categories) {
+            sb.append(String.format("%-8s %-14s %10.2f %12d%n",
+                load.locale(), load.category(), load.loadNanos() / 1e6, load.retainedBytes()));
+        }
+        sb.append(String.format("%-23s %10.2f %12d%n", "total", getTotalLoadNanos() / 1e6, getTotalRetainedBytes()));
+        sb.append(String.format("elapsed %d ms", TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        return sb.toString();
+    }
+}
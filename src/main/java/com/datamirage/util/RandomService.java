@@ -1,21 +1,47 @@
 package com.datamirage.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 /**
  * A utility class that provides various random data generation methods.
- * This class serves as a wrapper around Java's Random class with additional functionality
+ * This class serves as a wrapper around a Java {@link RandomGenerator} with additional functionality
  * for generating random numbers, strings, and selecting random elements from collections.
+ *
+ * <p>By default the service is backed by {@link Random}, so a given seed produces the same data as in
+ * earlier versions. Any other algorithm of the JDK can be selected by name, for example
+ * {@code "L64X128MixRandom"}, {@code "Xoshiro256PlusPlus"} or {@code "SplittableRandom"}:
+ * <pre>
+ * {@code
+ * RandomService random = RandomService.of("L64X128MixRandom", 42L);
+ * DataMirage dataMirage = new DataMirage(DataMirageLocale.EN_US, random);
+ * }
+ * </pre>
+ * Seeded services of the same algorithm always produce the same sequence.</p>
+ *
+ * <p>{@link Random} is thread-safe but updates its seed with a compare-and-set, which becomes a point
+ * of contention when one service is shared by many threads. The other algorithms are faster and have
+ * better statistical quality, but are not thread-safe: give every thread its own service.</p>
  */
 public class RandomService {
-    private final Random random;
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[64]);
+
+    private final RandomGenerator random;
+    private final Random legacy;
+    private final boolean pooledBooleans;
+    private long booleanPool = 1;
 
     /**
      * Constructs a new RandomService with a random seed.
      */
     public RandomService() {
-        this.random = new Random();
+        this(new Random());
     }
 
     /**
@@ -24,16 +50,183 @@ public class RandomService {
      * @param seed The seed value for the random number generator
      */
     public RandomService(long seed) {
-        this.random = new Random(seed);
+        this(new Random(seed));
+    }
+
+    /**
+     * Constructs a new RandomService backed by the specified generator.
+     * The generator is used directly, so it must not be shared with code that expects its own sequence.
+     *
+     * @param generator The random number generator to draw from
+     */
+    public RandomService(RandomGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("Generator cannot be null");
+        }
+        this.random = generator;
+        this.legacy = generator instanceof Random r ? r : new GeneratorRandom(generator);
+        // A Random is thread-safe, so a service backed by one may be shared and cannot pool unsynchronized
+        this.pooledBooleans = !(generator instanceof Random);
+    }
+
+    /**
+     * Creates a RandomService backed by the named algorithm, with a random seed.
+     *
+     * @param algorithm The name of the algorithm, e.g. "L64X128MixRandom"
+     * @return A new RandomService
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public static RandomService of(String algorithm) {
+        return new RandomService(RandomGeneratorFactory.of(algorithm).create());
+    }
+
+    /**
+     * Creates a RandomService backed by the named algorithm, with the specified seed.
+     * Services created with the same algorithm and seed produce the same sequence.
+     *
+     * @param algorithm The name of the algorithm, e.g. "L64X128MixRandom"
+     * @param seed The seed value for the random number generator
+     * @return A new RandomService
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public static RandomService of(String algorithm, long seed) {
+        return new RandomService(RandomGeneratorFactory.of(algorithm).create(seed));
+    }
+
+    /**
+     * Creates a counter-based RandomService, in which every value is a pure function of the seed,
+     * the current row and the position of the value within the row. Use {@link #seek(long)} or
+     * {@link #at(long)} to move to a row; the service starts at row 0.
+     * <pre>
+     * {@code
+     * RandomService random = RandomService.counterBased(42L);
+     * int value = random.seek(9_999_999_999L).nextInt(1, 100);
+     * }
+     * </pre>
+     *
+     * @param seed The seed shared by all rows
+     * @return A new counter-based RandomService
+     * @see CounterRandom
+     */
+    public static RandomService counterBased(long seed) {
+        return new RandomService(new CounterRandom(seed));
     }
 
     /**
-     * Returns the underlying Random instance.
+     * Returns the generator this service draws from.
+     *
+     * @return The RandomGenerator used by this service
+     */
+    public RandomGenerator getGenerator() {
+        return random;
+    }
+
+    /**
+     * Returns the underlying Random instance. If the service is backed by another algorithm,
+     * this is a view of that generator; its seed cannot be set.
      *
      * @return The Random instance used by this service
      */
     public Random getRandom() {
-        return random;
+        return legacy;
+    }
+
+    /**
+     * Derives a new, independent service from this one, for use by another thread.
+     * Splittable algorithms such as SplittableRandom and the LXM family split off a child generator,
+     * and jumpable algorithms such as Xoshiro256PlusPlus hand out the current state and jump ahead.
+     * The default {@link Random} seeds a new Random from its next value, a counter-based service
+     * a new counter-based service, and any other generator seeds a SplittableRandom.
+     *
+     * <p>The child shares no state with this service. Splitting advances this service, so the children
+     * are only reproducible if they are split off in a fixed order, e.g. all on one thread before
+     * the workers start:
+     * <pre>
+     * {@code
+     * RandomService root = RandomService.of("L64X128MixRandom", 42L);
+     * List<RandomService> partitions = root.split(8);
+     * }
+     * </pre>
+     * </p>
+     *
+     * @return A new RandomService with its own generator
+     */
+    public RandomService split() {
+        if (random instanceof RandomGenerator.SplittableGenerator splittable) {
+            return new RandomService(splittable.split());
+        }
+        if (random instanceof RandomGenerator.JumpableGenerator jumpable) {
+            return new RandomService(jumpable.copyAndJump());
+        }
+        if (random instanceof Random) {
+            return new RandomService(new Random(random.nextLong()));
+        }
+        if (random instanceof CounterRandom) {
+            return counterBased(random.nextLong());
+        }
+        return new RandomService(new SplittableRandom(random.nextLong()));
+    }
+
+    /**
+     * Derives the specified number of independent services from this one, in order.
+     * For a given seed the same partition always receives the same sequence.
+     *
+     * @param count The number of services to derive
+     * @return The derived services, one per partition
+     * @throws IllegalArgumentException if count is negative
+     * @see #split()
+     */
+    public List<RandomService> split(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        List<RandomService> services = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            services.add(split());
+        }
+        return services;
+    }
+
+    /**
+     * Checks if this service is counter-based and supports {@link #seek(long)} and {@link #at(long)}.
+     *
+     * @return true if the service was created with {@link #counterBased(long)}, false otherwise
+     */
+    public boolean isCounterBased() {
+        return random instanceof CounterRandom;
+    }
+
+    /**
+     * Moves this counter-based service to the start of the specified row, in constant time.
+     * All values drawn afterwards depend only on the seed, the row and the order of the calls.
+     *
+     * @param row The row number
+     * @return This service, for chaining
+     * @throws UnsupportedOperationException if this service is not counter-based
+     */
+    public RandomService seek(long row) {
+        counter().seek(row);
+        booleanPool = 1;
+        return this;
+    }
+
+    /**
+     * Creates a new counter-based service with the same seed, positioned at the start of the
+     * specified row. This service is not changed.
+     *
+     * @param row The row number
+     * @return A new RandomService positioned at the row
+     * @throws UnsupportedOperationException if this service is not counter-based
+     */
+    public RandomService at(long row) {
+        return new RandomService(counter().at(row));
+    }
+
+    private CounterRandom counter() {
+        if (!(random instanceof CounterRandom counter)) {
+            throw new UnsupportedOperationException("Seeking requires a counter-based RandomService");
+        }
+        return counter;
     }
 
     /**
@@ -47,6 +240,37 @@ public class RandomService {
         return random.nextInt(max - min + 1) + min;
     }
 
+    /**
+     * Generates a random long between the specified minimum and maximum values (inclusive).
+     *
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @return A random long between min and max
+     * @throws IllegalArgumentException if min is greater than max
+     */
+    public long nextLong(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        if (max < Long.MAX_VALUE) {
+            return random.nextLong(min, max + 1);
+        }
+        if (min > Long.MIN_VALUE) {
+            return random.nextLong(min - 1, max) + 1;
+        }
+        return random.nextLong();
+    }
+
+    /**
+     * Generates a random index between 0 (inclusive) and the specified bound (exclusive).
+     *
+     * @param bound The upper bound (exclusive), must be positive
+     * @return A random index between 0 and bound - 1
+     */
+    public int nextIndex(int bound) {
+        return random.nextInt(bound);
+    }
+
     /**
      * Generates a random double between the specified minimum and maximum values.
      *
@@ -60,11 +284,220 @@ public class RandomService {
 
     /**
      * Generates a random boolean value.
+     * Services that are not backed by a {@link Random} are not thread-safe, so they take booleans one
+     * bit at a time from a pool that is refilled with 63 bits per 64-bit draw. A {@link Random}-backed
+     * service draws every boolean from the Random and stays safe to share between threads.
      *
      * @return A random boolean value
      */
     public boolean nextBoolean() {
-        return random.nextBoolean();
+        if (!pooledBooleans) {
+            return random.nextBoolean();
+        }
+        // The pool holds the unused bits below a single marker bit, so it is empty when only the marker is left
+        long pool = booleanPool;
+        if (pool == 1) {
+            pool = (random.nextLong() >>> 1) | Long.MIN_VALUE;
+        }
+        booleanPool = pool >>> 1;
+        return (pool & 1) != 0;
+    }
+
+    /**
+     * Fills a range of an array with random integers between the specified minimum and maximum values (inclusive).
+     * Each 64-bit draw yields two values, which are mapped to the range with Lemire's multiply-shift
+     * method instead of a modulo, so that almost no value needs a division or a second draw.
+     *
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @throws IllegalArgumentException if min is greater than max
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public void nextInts(int[] dst, int off, int len, int min, int max) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        long range = range(min, max);
+        int end = off + len;
+        for (int i = off; i < end; ) {
+            long word = random.nextLong();
+            long value = bounded(word >>> 32, range);
+            if (value >= 0) {
+                dst[i++] = (int) (min + value);
+            }
+            if (i < end && (value = bounded(word & 0xFFFFFFFFL, range)) >= 0) {
+                dst[i++] = (int) (min + value);
+            }
+        }
+    }
+
+    /**
+     * Fills a range of an array with random bytes between the specified minimum and maximum values (inclusive).
+     *
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @param min The minimum value (inclusive)
+     * @param max The maximum value (inclusive)
+     * @throws IllegalArgumentException if min is greater than max
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     * @see #nextInts(int[], int, int, int, int)
+     */
+    public void nextBytes(byte[] dst, int off, int len, byte min, byte max) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        long range = range(min, max);
+        int end = off + len;
+        for (int i = off; i < end; ) {
+            long word = random.nextLong();
+            long value = bounded(word >>> 32, range);
+            if (value >= 0) {
+                dst[i++] = (byte) (min + value);
+            }
+            if (i < end && (value = bounded(word & 0xFFFFFFFFL, range)) >= 0) {
+                dst[i++] = (byte) (min + value);
+            }
+        }
+    }
+
+    /**
+     * Fills a range of an array with random characters between the specified minimum and maximum characters
+     * (inclusive), e.g. {@code '0'} and {@code '9'} for decimal digits.
+     *
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @param min The minimum character (inclusive)
+     * @param max The maximum character (inclusive)
+     * @throws IllegalArgumentException if min is greater than max
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     * @see #nextInts(int[], int, int, int, int)
+     */
+    public void nextChars(char[] dst, int off, int len, char min, char max) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        long range = range(min, max);
+        int end = off + len;
+        for (int i = off; i < end; ) {
+            long word = random.nextLong();
+            long value = bounded(word >>> 32, range);
+            if (value >= 0) {
+                dst[i++] = (char) (min + value);
+            }
+            if (i < end && (value = bounded(word & 0xFFFFFFFFL, range)) >= 0) {
+                dst[i++] = (char) (min + value);
+            }
+        }
+    }
+
+    /**
+     * Fills a range of an array with characters picked uniformly from the specified alphabet.
+     * If the size of the alphabet is a power of two, every 64-bit draw is split into as many indexes
+     * as it has bits for, without any rejection: 16 hexadecimal digits, 21 octal digits or 64 binary
+     * digits per draw, so a 40-character SHA-1 takes three draws. Other alphabets are sampled two
+     * indexes per draw, see {@link #nextInts(int[], int, int, int, int)}.
+     *
+     * @param dst The array to fill
+     * @param off The index of the first element to fill
+     * @param len The number of elements to fill
+     * @param alphabet The characters to pick from
+     * @throws IllegalArgumentException if the alphabet is empty
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public void nextChars(char[] dst, int off, int len, String alphabet) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        int size = alphabet.length();
+        if (size == 0) {
+            throw new IllegalArgumentException("Alphabet cannot be empty");
+        }
+        int end = off + len;
+        if (size == 1) {
+            Arrays.fill(dst, off, end, alphabet.charAt(0));
+        } else if ((size & (size - 1)) == 0) {
+            int bits = Integer.numberOfTrailingZeros(size);
+            int perWord = Long.SIZE / bits;
+            for (int i = off; i < end; ) {
+                long word = random.nextLong();
+                for (int k = Math.min(perWord, end - i); k > 0; k--) {
+                    dst[i++] = alphabet.charAt((int) word & (size - 1));
+                    word >>>= bits;
+                }
+            }
+        } else {
+            for (int i = off; i < end; ) {
+                long word = random.nextLong();
+                long value = bounded(word >>> 32, size);
+                if (value >= 0) {
+                    dst[i++] = alphabet.charAt((int) value);
+                }
+                if (i < end && (value = bounded(word & 0xFFFFFFFFL, size)) >= 0) {
+                    dst[i++] = alphabet.charAt((int) value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates a string of characters picked uniformly from the specified alphabet.
+     *
+     * @param length The length of the string to generate
+     * @param alphabet The characters to pick from
+     * @return A random string, or an empty string if length is not positive
+     * @throws IllegalArgumentException if the alphabet is empty
+     * @see #nextChars(char[], int, int, String)
+     */
+    public String nextString(int length, String alphabet) {
+        if (length <= 0) {
+            return "";
+        }
+        char[] chars = new char[length];
+        nextChars(chars, 0, length, alphabet);
+        return new String(chars);
+    }
+
+    /**
+     * Appends characters picked uniformly from the specified alphabet to a StringBuilder, drawing
+     * exactly like {@link #nextString(int, String)} but without creating a String.
+     *
+     * @param sb The StringBuilder to append to
+     * @param length The number of characters to append
+     * @param alphabet The characters to pick from
+     * @return The StringBuilder, for chaining
+     * @throws IllegalArgumentException if the alphabet is empty
+     */
+    public StringBuilder appendString(StringBuilder sb, int length, String alphabet) {
+        if (length <= 0) {
+            return sb;
+        }
+        char[] chars = SCRATCH.get();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            SCRATCH.set(chars);
+        }
+        nextChars(chars, 0, length, alphabet);
+        return sb.append(chars, 0, length);
+    }
+
+    private static long range(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Min cannot be greater than max");
+        }
+        return (long) max - min + 1;
+    }
+
+    /**
+     * Maps 32 random bits to a uniform value between 0 (inclusive) and range (exclusive) using Lemire's
+     * method: the high half of the bits multiplied by the range is the result, and the low half tells
+     * whether the bits fell into the small biased zone that has to be rejected.
+     *
+     * @return The value, or -1 if the bits are rejected
+     */
+    private static long bounded(long bits, long range) {
+        long product = bits * range;
+        long low = product & 0xFFFFFFFFL;
+        if (low < range && low < (0x100000000L - range) % range) {
+            return -1;
+        }
+        return product >>> 32;
     }
 
     /**
@@ -120,6 +553,30 @@ public class RandomService {
         return result.toString();
     }
 
+    /**
+     * Randomizes the pattern at the end of a StringBuilder in place, drawing exactly like
+     * {@link #randomize(String)}: every '?' from the specified index on is replaced with a random
+     * letter and every '#' with a random digit. Appending a pattern and randomizing it this way
+     * creates no intermediate String.
+     *
+     * @param sb The StringBuilder holding the pattern
+     * @param start The index of the first character of the pattern
+     * @return The StringBuilder, for chaining
+     * @throws IndexOutOfBoundsException if start is negative or greater than the length of sb
+     */
+    public StringBuilder randomize(StringBuilder sb, int start) {
+        Objects.checkIndex(start, sb.length() + 1);
+        for (int i = start; i < sb.length(); i++) {
+            char c = sb.charAt(i);
+            if (c == '?') {
+                sb.setCharAt(i, (char) (random.nextInt(26) + 'A'));
+            } else if (c == '#') {
+                sb.setCharAt(i, (char) (random.nextInt(10) + '0'));
+            }
+        }
+        return sb;
+    }
+
     /**
      * Replaces all '#' characters in the text with random digits.
      *
@@ -235,4 +692,65 @@ public class RandomService {
 
         return result.toString();
     }
-} 
\ No newline at end of file
+
+    /**
+     * Exposes a RandomGenerator through the Random API for callers that need a {@link Random}.
+     */
+    @SuppressWarnings("serial")
+    private static final class GeneratorRandom extends Random {
+        private final RandomGenerator generator;
+
+        GeneratorRandom(RandomGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (generator.nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public int nextInt() {
+            return generator.nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return generator.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return generator.nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return generator.nextDouble();
+        }
+
+        @Override
+        public float nextFloat() {
+            return generator.nextFloat();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return generator.nextBoolean();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return generator.nextGaussian();
+        }
+
+        @Override
+        public synchronized void setSeed(long seed) {
+            // Random's constructor sets a seed before the generator is assigned
+            if (generator != null) {
+                throw new UnsupportedOperationException("The seed of a " + generator.getClass().getSimpleName()
+                    + " cannot be reset");
+            }
+        }
+    }
+}
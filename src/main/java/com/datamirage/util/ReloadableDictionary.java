@@ -0,0 +1,302 @@
+package com.datamirage.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A dictionary source that follows a file and reloads it in the background when it changes.
+ * Every load produces a new immutable snapshot which is published through a single volatile
+ * reference, so readers never block and never see a half-built list: a pick that started on the
+ * old snapshot finishes on it, and every pick started after the switch-over sees the new one.
+ * If a reload fails, the previous snapshot stays in place.
+ *
+ * <p>Callers that make several calls which must agree with each other, such as {@code size()}
+ * followed by {@code get(int)}, should take a {@link #snapshot()} first. {@link Dictionary} does
+ * this for every pick. Usage:
+ * <pre>
+ * {@code
+ * ReloadableDictionary domains = ReloadableDictionary.watchYaml(Path.of("internet.yaml"), "domainNames");
+ * LocaleData data = LocaleData.of(DataMirageLocale.EN_US).withDictionary("internet", "domainNames", domains);
+ * DataMirage dataMirage = new DataMirage(data);
+ * }
+ * </pre>
+ * </p>
+ */
+public final class ReloadableDictionary implements DictionarySource, Closeable {
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final Path file;
+    private final Loader loader;
+    private final WatchService watchService;
+    private final Thread watcher;
+    private volatile DictionarySource current;
+    private volatile Metrics metrics;
+    private volatile Consumer<Metrics> listener = metrics -> { };
+
+    /**
+     * Loads a file into an immutable dictionary source.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Loads the specified file.
+         *
+         * @param file The file to load
+         * @return An immutable source with the content of the file
+         * @throws IOException if the file cannot be read or parsed
+         */
+        DictionarySource load(Path file) throws IOException;
+    }
+
+    /**
+     * Reload statistics of a dictionary.
+     *
+     * @param version The number of snapshots published so far, including the initial load
+     * @param failures The number of failed reloads
+     * @param lastReloadDuration The time it took to load the current snapshot
+     * @param lastSwitchOver The time the current snapshot was published
+     * @param lastFailure The exception of the most recent failed reload, or null if no reload failed
+     */
+    public record Metrics(long version, long failures, Duration lastReloadDuration, Instant lastSwitchOver,
+                          Exception lastFailure) {
+    }
+
+    private ReloadableDictionary(Path file, Loader loader) throws IOException {
+        this.file = file.toAbsolutePath();
+        if (this.file.getParent() == null) {
+            throw new IllegalArgumentException("Cannot watch a file without a parent directory: " + this.file);
+        }
+        this.loader = loader;
+        this.metrics = new Metrics(0, 0, Duration.ZERO, null, null);
+        if (!reload()) {
+            throw new IOException("Could not load " + this.file, metrics.lastFailure());
+        }
+
+        this.watchService = this.file.getFileSystem().newWatchService();
+        try {
+            this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        this.watcher = new Thread(this::watch, "datamirage-reload-" + this.file.getFileName());
+        this.watcher.setDaemon(true);
+        this.watcher.start();
+    }
+
+    /**
+     * Watches the specified file with a custom loader.
+     *
+     * @param file The file to watch
+     * @param loader The loader turning the file into a dictionary source
+     * @return A dictionary serving the latest successfully loaded content of the file
+     * @throws IOException if the initial load fails or the file cannot be watched
+     * @throws IllegalArgumentException if the file has no parent directory
+     */
+    public static ReloadableDictionary watch(Path file, Loader loader) throws IOException {
+        return new ReloadableDictionary(file, loader);
+    }
+
+    /**
+     * Watches a newline-delimited UTF-8 file. Every line is one entry; blank lines are skipped.
+     *
+     * @param file The file to watch
+     * @return A dictionary serving the latest successfully loaded lines of the file
+     * @throws IOException if the initial load fails or the file cannot be watched
+     * @throws IllegalArgumentException if the file has no parent directory
+     */
+    public static ReloadableDictionary watchLines(Path file) throws IOException {
+        return watch(file, path -> {
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            lines.removeIf(String::isBlank);
+            return DictionaryTable.of(lines);
+        });
+    }
+
+    /**
+     * Watches one list field of a YAML data file, in the same format as the bundled data files.
+     *
+     * @param file The YAML file to watch
+     * @param field The field to serve, using dot notation for nested fields
+     * @return A dictionary serving the latest successfully loaded content of the field
+     * @throws IOException if the initial load fails or the file cannot be watched
+     * @throws IllegalArgumentException if the file has no parent directory
+     */
+    public static ReloadableDictionary watchYaml(Path file, String field) throws IOException {
+        return watch(file, path -> {
+            DictionaryTable table = LocaleData.tables(DataLoader.readYaml(path)).get(field);
+            if (table == null) {
+                throw new IOException("Field " + field + " not found in " + path);
+            }
+            return table;
+        });
+    }
+
+    /**
+     * Loads the file now, on the calling thread, and publishes the result if the load succeeds.
+     * Changes are picked up automatically; this method is for callers that need the new content
+     * to be visible before they continue.
+     *
+     * @return true if a new snapshot was published, false if the load failed
+     */
+    public synchronized boolean reload() {
+        long start = System.nanoTime();
+        Metrics previous = metrics;
+        try {
+            DictionarySource next = loader.load(file).snapshot();
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            current = next;
+            metrics = new Metrics(previous.version() + 1, previous.failures(), duration, Instant.now(),
+                previous.lastFailure());
+        } catch (IOException | RuntimeException e) {
+            if (previous.version() > 0) {
+                System.out.println("Error reloading " + file + ": " + e.getMessage());
+            }
+            metrics = new Metrics(previous.version(), previous.failures() + 1, previous.lastReloadDuration(),
+                previous.lastSwitchOver(), e);
+            return false;
+        }
+        try {
+            listener.accept(metrics);
+        } catch (RuntimeException e) {
+            System.out.println("Error in reload listener of " + file + ": " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the reload statistics of this dictionary.
+     *
+     * @return The current metrics
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers a callback that is invoked with the new metrics after every published snapshot,
+     * on the thread that performed the reload. Replaces any previously registered callback.
+     * Exceptions thrown by the callback are reported and do not affect the reload.
+     *
+     * @param listener The callback to invoke
+     */
+    public void onReload(Consumer<Metrics> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns the watched file.
+     *
+     * @return The absolute path of the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public DictionarySource snapshot() {
+        return current;
+    }
+
+    @Override
+    public int size() {
+        return current.size();
+    }
+
+    @Override
+    public String get(int index) {
+        return current.get(index);
+    }
+
+    @Override
+    public StringBuilder appendTo(StringBuilder sb, int index) {
+        return current.appendTo(sb, index);
+    }
+
+    @Override
+    public int pickIndex(RandomService random) {
+        return current.pickIndex(random);
+    }
+
+    @Override
+    public void pickIndices(RandomService random, int[] dst, int off, int len) {
+        current.pickIndices(random, dst, off, len);
+    }
+
+    @Override
+    public int writeUtf8(ByteBuffer buffer, int index) {
+        return current.writeUtf8(buffer, index);
+    }
+
+    /**
+     * Returns a list view of the current snapshot. The view keeps showing that snapshot after later reloads.
+     *
+     * @return A list view of the current entries
+     */
+    @Override
+    public List<String> asList() {
+        return current.asList();
+    }
+
+    /**
+     * Stops watching the file. The current snapshot stays readable.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ReloadableDictionary[" + file + ", version " + metrics.version() + "]";
+    }
+
+    private void watch() {
+        while (true) {
+            try {
+                boolean changed = isChanged(watchService.take());
+                // Editors often write a file in several steps, so wait until the events settle
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isChanged(key);
+                }
+                if (changed) {
+                    reload();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // Closed, stop watching
+                return;
+            } catch (RuntimeException e) {
+                // Keep watching, the next change may load fine
+                System.out.println("Error watching " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                || file.getFileName().equals(event.context());
+        }
+        key.reset();
+        return changed;
+    }
+}
@@ -0,0 +1,73 @@
+package com.datamirage.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Build-time tool that compiles every YAML data file into a binary snapshot.
+ * The Maven build runs it during the process-classes phase so that the packaged jar contains
+ * a {@code snapshots/<locale>/<category>.bin} file next to every {@code data/<locale>/<category>.yaml}.
+ * Usage: java -cp datamirage.jar com.datamirage.util.SnapshotCompiler [data_dir] [snapshot_dir]
+ */
+public final class SnapshotCompiler {
+    private static final ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     *
+     * @throws IllegalStateException if an attempt is made to instantiate this class
+     */
+    private SnapshotCompiler() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Compiles all YAML files below the data directory into the snapshot directory.
+     *
+     * @param args The data directory and the snapshot output directory
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: java -cp datamirage.jar com.datamirage.util.SnapshotCompiler [data_dir] [snapshot_dir]");
+            return;
+        }
+        int count = compile(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Compiled " + count + " data files into " + args[1]);
+    }
+
+    /**
+     * Compiles all YAML files below the source directory, mirroring the directory layout
+     * in the target directory.
+     *
+     * @param sourceDir The directory containing the YAML data files
+     * @param targetDir The directory to write the snapshots to
+     * @return The number of compiled files
+     * @throws IOException if a file cannot be read or written
+     */
+    public static int compile(Path sourceDir, Path targetDir) throws IOException {
+        List<Path> yamlFiles;
+        try (Stream<Path> paths = Files.walk(sourceDir)) {
+            yamlFiles = paths.filter(path -> path.toString().endsWith(".yaml")).sorted().collect(Collectors.toList());
+        }
+
+        for (Path yamlFile : yamlFiles) {
+            Map<String, Object> data = objectMapper.readValue(yamlFile.toFile(), new TypeReference<>() {});
+            String relative = sourceDir.relativize(yamlFile).toString();
+            Path target = targetDir.resolve(relative.substring(0, relative.length() - ".yaml".length()) + DictionarySnapshot.EXTENSION);
+            Files.createDirectories(target.getParent());
+            Files.write(target, DictionarySnapshot.write(data));
+        }
+        return yamlFiles.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.datamirage;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares an unsized {@code Stream.generate} over one shared instance with the sized, splittable
+ * {@link DataMirage#stream} stream, sequentially and on the common fork-join pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DataMirageStreamBenchmark {
+
+    @Param({"100000"})
+    public long rows;
+
+    private DataMirage shared;
+    private DataMirage counterBased;
+
+    @Setup
+    public void setUp() {
+        shared = new DataMirage(DataMirageLocale.EN_US, new RandomService(42L));
+        counterBased = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L));
+    }
+
+    private static int row(DataMirage mirage) {
+        return mirage.name().fullName().length() + mirage.internet().email().length();
+    }
+
+    @Benchmark
+    public long generateSequential() {
+        return Stream.generate(() -> row(shared)).limit(rows).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long generateParallel() {
+        return Stream.generate(() -> row(shared)).parallel().limit(rows).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long streamSequential() {
+        return counterBased.stream(rows, DataMirageStreamBenchmark::row).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long streamParallel() {
+        return counterBased.stream(rows, DataMirageStreamBenchmark::row).parallel().mapToLong(Integer::longValue).sum();
+    }
+}
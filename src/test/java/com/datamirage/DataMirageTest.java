@@ -3,15 +3,27 @@ package com.datamirage;
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.providers.*;
 import com.datamirage.util.DataLoader;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,6 +63,118 @@ class DataMirageTest {
         assertNotNull(localizedDataMirage);
     }
 
+    @Test
+    void constructor_ShouldNotChangeGlobalLocale() {
+        DataMirageLocale original = DataLoader.getCurrentLocale();
+        DataMirageLocale other = original == DataMirageLocale.DE_DE ? DataMirageLocale.FR_FR : DataMirageLocale.DE_DE;
+        DataMirage localizedDataMirage = new DataMirage(other);
+        assertEquals(original, DataLoader.getCurrentLocale());
+        assertEquals(other, localizedDataMirage.getLocale());
+        assertSame(LocaleData.of(other), localizedDataMirage.getLocaleData());
+    }
+
+    @Test
+    void constructor_ShouldUseGivenRandomService() {
+        DataMirage first = new DataMirage(DataMirageLocale.EN_US, RandomService.of("Xoshiro256PlusPlus", 7L));
+        DataMirage second = new DataMirage(DataMirageLocale.EN_US, RandomService.of("Xoshiro256PlusPlus", 7L));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.name().fullName(), second.name().fullName());
+            assertEquals(first.address().city(), second.address().city());
+        }
+    }
+
+    @Test
+    void fork_ShouldGenerateSameDataForEveryRunRegardlessOfThreads() throws Exception {
+        List<List<String>> sequential = new ArrayList<>();
+        for (DataMirage fork : new DataMirage(DataMirageLocale.EN_US, RandomService.of("L64X128MixRandom", 42L)).fork(4)) {
+            sequential.add(generateRows(fork));
+        }
+
+        List<DataMirage> forks = new DataMirage(DataMirageLocale.EN_US, RandomService.of("L64X128MixRandom", 42L)).fork(4);
+        ExecutorService executor = Executors.newFixedThreadPool(forks.size());
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (DataMirage fork : forks) {
+                futures.add(executor.submit(() -> generateRows(fork)));
+            }
+            for (int partition = 0; partition < forks.size(); partition++) {
+                assertEquals(sequential.get(partition), futures.get(partition).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertNotEquals(sequential.get(0), sequential.get(1));
+    }
+
+    @Test
+    void fork_ShouldKeepLocaleAndUseNewRandomService() {
+        DataMirage parent = new DataMirage(DataMirageLocale.DE_DE, new RandomService(1L));
+        DataMirage fork = parent.fork();
+        assertEquals(DataMirageLocale.DE_DE, fork.getLocale());
+        assertNotSame(parent.getRandomService(), fork.getRandomService());
+    }
+
+    @Test
+    void at_ShouldGenerateRowIndependentlyOfOtherRows() {
+        DataMirage dataMirage = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L));
+        List<String> forward = new ArrayList<>();
+        for (long row = 0; row < 50; row++) {
+            forward.add(generateRow(dataMirage.at(row)));
+        }
+        for (long row = 49; row >= 0; row--) {
+            assertEquals(forward.get((int) row), generateRow(dataMirage.at(row)));
+        }
+        assertEquals(generateRow(dataMirage.at(9_999_999_999L)), generateRow(dataMirage.at(9_999_999_999L)));
+        assertNotEquals(forward.get(0), forward.get(1));
+    }
+
+    @Test
+    void at_ShouldThrowExceptionForSequentialRandomService() {
+        assertThrows(UnsupportedOperationException.class, () -> new DataMirage(DataMirageLocale.EN_US).at(1));
+    }
+
+    private static String generateRow(DataMirage dataMirage) {
+        return dataMirage.name().fullName() + "|" + dataMirage.address().city() + "|" + dataMirage.internet().email();
+    }
+
+    private static List<String> generateRows(DataMirage dataMirage) {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rows.add(generateRow(dataMirage));
+        }
+        return rows;
+    }
+
+    @Test
+    void generatorsOfDifferentLocales_ShouldRunConcurrently() throws Exception {
+        DataMirageLocale[] locales = {DataMirageLocale.TR_TR, DataMirageLocale.DE_DE};
+        ExecutorService executor = Executors.newFixedThreadPool(locales.length);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future<?>[locales.length];
+            for (int i = 0; i < locales.length; i++) {
+                DataMirageLocale locale = locales[i];
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    DataMirage localizedDataMirage = new DataMirage(locale);
+                    List<String> firstNames = DataLoader.getListData(locale, "name", "first_names");
+                    List<String> cities = DataLoader.getListData(locale, "address", "cities");
+                    for (int j = 0; j < 10_000; j++) {
+                        assertTrue(firstNames.contains(localizedDataMirage.name().firstName()));
+                        assertTrue(cities.contains(localizedDataMirage.address().city()));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(DataMirageLocale.class)
     void address_ShouldReturnAddressProviderForAllLocales(DataMirageLocale locale) {
@@ -200,4 +324,83 @@ class DataMirageTest {
         assertNotNull(provider);
         assertInstanceOf(VehicleProvider.class, provider);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void payload_ShouldUseSharedRandomService() {
+        DataMirage first = new DataMirage(DataMirageLocale.EN_US, new RandomService(42L));
+        DataMirage second = new DataMirage(DataMirageLocale.EN_US, new RandomService(42L));
+        PayloadProvider provider = first.payload();
+        assertNotNull(provider);
+        assertArrayEquals(second.payload().bytes(64), provider.bytes(64));
+    }
+
+    @Test
+    void stream_ShouldBeIdenticalInSequentialAndParallelMode() {
+        DataMirage seeded = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L));
+        List<String> sequential = seeded.stream(5_000, mirage -> mirage.name().fullName() + " " + mirage.number().digits(6))
+            .collect(Collectors.toList());
+        List<String> parallel = seeded.stream(5_000, mirage -> mirage.name().fullName() + " " + mirage.number().digits(6))
+            .parallel()
+            .collect(Collectors.toList());
+        assertEquals(5_000, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void stream_ShouldMatchRowsOfCounterBasedInstance() {
+        DataMirage seeded = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L));
+        List<String> rows = seeded.stream(10, mirage -> mirage.name().fullName()).collect(Collectors.toList());
+        for (int row = 0; row < rows.size(); row++) {
+            assertEquals(seeded.at(row).name().fullName(), rows.get(row));
+        }
+    }
+
+    @Test
+    void stream_ShouldBeReproducibleForSeededInstance() {
+        List<String> first = new DataMirage(DataMirageLocale.EN_US, new RandomService(42L))
+            .stream(100, mirage -> mirage.internet().email()).parallel().collect(Collectors.toList());
+        List<String> second = new DataMirage(DataMirageLocale.EN_US, new RandomService(42L))
+            .stream(100, mirage -> mirage.internet().email()).collect(Collectors.toList());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void stream_ShouldBeSized() {
+        DataMirage seeded = new DataMirage(DataMirageLocale.EN_US, RandomService.counterBased(42L));
+        assertEquals(1_000_000_000_000L, seeded.stream(1_000_000_000_000L, mirage -> 1).spliterator().getExactSizeIfKnown());
+        assertEquals(0, seeded.stream(0, mirage -> 1).count());
+        assertEquals(12_345, seeded.stream(12_345, mirage -> 1).parallel().count());
+        assertThrows(IllegalArgumentException.class, () -> seeded.stream(-1, mirage -> 1));
+    }
+
+    @Test
+    void bulkMethods_ShouldReturnRequestedNumberOfValues() throws Exception {
+        DataMirage dataMirage = new DataMirage(DataMirageLocale.EN_US, new RandomService(42L));
+        int checked = 0;
+        for (Method accessor : DataMirage.class.getMethods()) {
+            if (accessor.getParameterCount() != 0 || !accessor.getReturnType().getSimpleName().endsWith("Provider")) {
+                continue;
+            }
+            Object provider = accessor.invoke(dataMirage);
+            for (Method bulk : provider.getClass().getMethods()) {
+                if (bulk.getReturnType() != String[].class || !Arrays.equals(bulk.getParameterTypes(), new Class<?>[]{int.class})) {
+                    continue;
+                }
+                String[] values;
+                try {
+                    values = (String[]) bulk.invoke(provider, 50);
+                } catch (InvocationTargetException e) {
+                    // Same as the single-value method for locales that lack the data
+                    assertInstanceOf(IllegalStateException.class, e.getCause(), bulk.toString());
+                    continue;
+                }
+                assertEquals(50, values.length, bulk.toString());
+                for (String value : values) {
+                    assertNotNull(value, bulk.toString());
+                }
+                checked++;
+            }
+        }
+        assertTrue(checked >= 80, "Only " + checked + " bulk methods found");
+    }
+}
@@ -0,0 +1,64 @@
+package com.datamirage;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowSpliteratorTest {
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+
+    private static RowSpliterator<String> rows(long origin, long fence) {
+        return new RowSpliterator<>(DATA, 42L, mirage -> mirage.name().firstName(), origin, fence);
+    }
+
+    @Test
+    void trySplit_ShouldReturnPrefixHalf() {
+        RowSpliterator<String> suffix = rows(0, 101);
+        Spliterator<String> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(51, suffix.estimateSize());
+
+        List<String> split = new ArrayList<>();
+        prefix.forEachRemaining(split::add);
+        suffix.forEachRemaining(split::add);
+        List<String> whole = new ArrayList<>();
+        rows(0, 101).forEachRemaining(whole::add);
+        assertEquals(whole, split);
+    }
+
+    @Test
+    void trySplit_ShouldStopAtSingleRow() {
+        RowSpliterator<String> single = rows(7, 8);
+        assertNull(single.trySplit());
+        assertEquals(1, single.estimateSize());
+    }
+
+    @Test
+    void tryAdvance_ShouldMatchForEachRemaining() {
+        RowSpliterator<String> stepped = rows(0, 20);
+        List<String> advanced = new ArrayList<>();
+        while (stepped.tryAdvance(advanced::add)) {
+            assertEquals(20 - advanced.size(), stepped.estimateSize());
+        }
+        List<String> remaining = new ArrayList<>();
+        rows(0, 20).forEachRemaining(remaining::add);
+        assertEquals(remaining, advanced);
+        assertFalse(stepped.tryAdvance(advanced::add));
+    }
+
+    @Test
+    void characteristics_ShouldBeSizedSubsizedAndOrdered() {
+        RowSpliterator<String> rows = rows(0, 10);
+        assertTrue(rows.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(rows.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(rows.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(10, rows.getExactSizeIfKnown());
+    }
+}
@@ -0,0 +1,186 @@
+package com.datamirage.columnar;
+
+import com.datamirage.distribution.Distribution;
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.DictionaryTable;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchGeneratorTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+
+    private static List<ColumnGenerator<?>> companyColumns() {
+        return List.of(
+            Columns.sequence("id", 1),
+            Columns.dictionary("industry", DATA.dictionary("company", "industries")),
+            Columns.longs("employees", 1, 10_000),
+            Columns.doubles("revenue", Distribution.lognormal(10, 1)),
+            Columns.text("slogan", DATA.dictionary("company", "catch_phrases")));
+    }
+
+    private static BatchGenerator companies() {
+        return new BatchGenerator(new RandomService(TEST_SEED), companyColumns());
+    }
+
+    /** Renders every row of a batch as strings, so that batches can be compared. */
+    private static List<String> rows(ColumnBatch batch) {
+        List<String> rows = new ArrayList<>();
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            StringBuilder sb = new StringBuilder();
+            for (ColumnVector column : batch.getColumns()) {
+                sb.append(column.getString(row)).append('|');
+            }
+            rows.add(sb.toString());
+        }
+        return rows;
+    }
+
+    @Test
+    void newBatch_ShouldCreateVectorOfEachColumnType() {
+        ColumnBatch batch = companies().newBatch(16);
+        assertEquals(16, batch.getCapacity());
+        assertEquals(0, batch.getRowCount());
+        assertInstanceOf(LongColumnVector.class, batch.getColumn("id"));
+        assertInstanceOf(DictionaryColumnVector.class, batch.getColumn("industry"));
+        assertInstanceOf(DoubleColumnVector.class, batch.getColumn(3));
+        assertInstanceOf(BytesColumnVector.class, batch.getColumn("slogan"));
+        for (ColumnVector column : batch.getColumns()) {
+            assertEquals(16, column.getCapacity());
+        }
+    }
+
+    @Test
+    void fill_ShouldFillEveryColumnOfTheBatch() {
+        BatchGenerator generator = companies();
+        ColumnBatch batch = generator.fill(generator.newBatch(256));
+        assertEquals(256, batch.getRowCount());
+        assertEquals(0, batch.getFirstRow());
+
+        DictionaryColumnVector industries = batch.getColumn("industry", DictionaryColumnVector.class);
+        List<String> known = DATA.dictionary("company", "industries").asList();
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            int code = industries.getCode(row);
+            assertTrue(code >= 0 && code < industries.getDictionary().size());
+            assertTrue(known.contains(industries.getString(row)));
+
+            long employees = batch.getColumn("employees", LongColumnVector.class).getLong(row);
+            assertTrue(employees >= 1 && employees <= 10_000);
+            assertTrue(batch.getColumn("revenue", DoubleColumnVector.class).getDouble(row) > 0);
+            assertFalse(batch.getColumn("slogan").getString(row).isEmpty());
+        }
+    }
+
+    @Test
+    void fill_ShouldContinueWhereThePreviousBatchEnded() {
+        BatchGenerator generator = companies();
+        ColumnBatch batch = generator.newBatch(100);
+        generator.fill(batch);
+        generator.fill(batch, 40);
+
+        assertEquals(100, batch.getFirstRow());
+        assertEquals(40, batch.getRowCount());
+        assertEquals(140, generator.getNextRow());
+        LongColumnVector ids = batch.getColumn("id", LongColumnVector.class);
+        for (int row = 0; row < batch.getRowCount(); row++) {
+            assertEquals(101 + row, ids.getLong(row));
+        }
+    }
+
+    @Test
+    void fill_ShouldBeReproducibleWithTheSameSeed() {
+        BatchGenerator first = companies();
+        BatchGenerator second = companies();
+        ColumnBatch firstBatch = first.newBatch(64);
+        ColumnBatch secondBatch = second.newBatch(64);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(rows(first.fill(firstBatch)), rows(second.fill(secondBatch)));
+        }
+    }
+
+    @Test
+    void fill_ShouldRejectBatchOfAnotherGenerator() {
+        ColumnBatch batch = companies().newBatch(8);
+        BatchGenerator generator = companies();
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(batch));
+    }
+
+    @Test
+    void fill_ShouldRejectMoreRowsThanTheCapacity() {
+        BatchGenerator generator = companies();
+        ColumnBatch batch = generator.newBatch(8);
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(batch, 9));
+        assertThrows(IllegalArgumentException.class, () -> generator.fill(batch, -1));
+    }
+
+    @Test
+    void generate_ShouldHandAllRowsToTheSinkInBatches() {
+        BatchGenerator generator = companies();
+        List<Long> firstRows = new ArrayList<>();
+        long[] rows = new long[1];
+        long batches = generator.generate(1000, 300, batch -> {
+            firstRows.add(batch.getFirstRow());
+            rows[0] += batch.getRowCount();
+        });
+
+        assertEquals(4, batches);
+        assertEquals(1000, rows[0]);
+        assertEquals(List.of(0L, 300L, 600L, 900L), firstRows);
+    }
+
+    @Test
+    void generate_ShouldMatchFillingBatchesOneByOne() {
+        List<String> generated = new ArrayList<>();
+        companies().generate(150, 64, batch -> generated.addAll(rows(batch)));
+
+        BatchGenerator generator = companies();
+        ColumnBatch batch = generator.newBatch(64);
+        List<String> filled = new ArrayList<>();
+        filled.addAll(rows(generator.fill(batch)));
+        filled.addAll(rows(generator.fill(batch)));
+        filled.addAll(rows(generator.fill(batch, 22)));
+        assertEquals(filled, generated);
+    }
+
+    @Test
+    void dictionaryColumn_ShouldFollowEntryWeights() {
+        Dictionary colors = DATA.withDictionary("color", "names",
+                DictionaryTable.of(List.of("red", "green"), new double[]{9, 1}))
+            .dictionary("color", "names");
+        BatchGenerator generator = new BatchGenerator(new RandomService(TEST_SEED),
+            List.of(Columns.dictionary("color", colors)));
+        DictionaryColumnVector codes = generator.fill(generator.newBatch(10_000))
+            .getColumn("color", DictionaryColumnVector.class);
+
+        int red = 0;
+        for (int row = 0; row < 10_000; row++) {
+            if (codes.getString(row).equals("red")) {
+                red++;
+            }
+        }
+        assertEquals(9_000, red, 300);
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidColumns() {
+        RandomService random = new RandomService(TEST_SEED);
+        assertThrows(IllegalArgumentException.class, () -> new BatchGenerator(random, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new BatchGenerator(random,
+            List.of(Columns.sequence("id", 0), Columns.longs("id", 0, 1))));
+        assertThrows(IllegalArgumentException.class, () -> companies().newBatch(0));
+    }
+
+    @Test
+    void getColumn_ShouldRejectUnknownNameAndWrongType() {
+        ColumnBatch batch = companies().newBatch(8);
+        assertThrows(IllegalArgumentException.class, () -> batch.getColumn("missing"));
+        assertThrows(IllegalArgumentException.class, () -> batch.getColumn("id", DoubleColumnVector.class));
+    }
+}
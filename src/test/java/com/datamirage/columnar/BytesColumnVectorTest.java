@@ -0,0 +1,72 @@
+package com.datamirage.columnar;
+
+import com.datamirage.util.DictionaryTable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BytesColumnVectorTest {
+
+    @Test
+    void endValue_ShouldRecordOffsetsOfEachValue() {
+        BytesColumnVector vector = new BytesColumnVector("text", 3);
+        byte[] abc = "abc".getBytes(StandardCharsets.US_ASCII);
+        vector.append(abc, 0, 3).endValue();
+        vector.endValue();
+        vector.append(abc, 1, 2).append((byte) '!').endValue();
+
+        assertEquals(3, vector.getValueCount());
+        assertEquals(6, vector.getByteCount());
+        assertArrayEquals(new int[]{0, 3, 3, 6}, vector.getOffsets());
+        assertEquals("abc", vector.getString(0));
+        assertEquals("", vector.getString(1));
+        assertEquals("bc!", vector.getString(2));
+        assertEquals(3, vector.getLength(2));
+    }
+
+    @Test
+    void endValue_ShouldRejectMoreValuesThanTheCapacity() {
+        BytesColumnVector vector = new BytesColumnVector("text", 1);
+        vector.endValue();
+        assertThrows(IllegalStateException.class, vector::endValue);
+    }
+
+    @Test
+    void appendEntry_ShouldEncodeEntriesAsUtf8AndGrow() {
+        DictionaryTable table = DictionaryTable.of(List.of("İstanbul", "Zürich", "東京"));
+        BytesColumnVector vector = new BytesColumnVector("city", 1000);
+        for (int row = 0; row < 1000; row++) {
+            vector.appendEntry(table, row % 3).append((byte) ' ').appendEntry(table, (row + 1) % 3).endValue();
+        }
+
+        assertTrue(vector.getData().length >= vector.getByteCount());
+        for (int row = 0; row < 1000; row++) {
+            assertEquals(table.get(row % 3) + " " + table.get((row + 1) % 3), vector.getString(row));
+        }
+    }
+
+    @Test
+    void clear_ShouldKeepTheDataArray() {
+        BytesColumnVector vector = new BytesColumnVector("text", 2);
+        byte[] large = new byte[1000];
+        vector.append(large, 0, large.length).endValue();
+        byte[] data = vector.getData();
+        vector.clear();
+
+        assertEquals(0, vector.getValueCount());
+        assertEquals(0, vector.getByteCount());
+        vector.append(large, 0, 10).endValue();
+        assertSame(data, vector.getData());
+        assertEquals(10, vector.getLength(0));
+    }
+
+    @Test
+    void getLength_ShouldRejectRowWithoutValue() {
+        BytesColumnVector vector = new BytesColumnVector("text", 4);
+        vector.endValue();
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.getLength(1));
+    }
+}
@@ -0,0 +1,132 @@
+package com.datamirage.columnar;
+
+import com.datamirage.distribution.Distribution;
+import com.datamirage.distribution.ZipfianGenerator;
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnsTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+    private static final int ROWS = 500;
+
+    private static <V extends ColumnVector> V fill(ColumnGenerator<V> column) {
+        V vector = column.newVector(ROWS);
+        column.fill(vector, new RandomService(TEST_SEED), 0, ROWS);
+        return vector;
+    }
+
+    @Test
+    void dictionary_ShouldDrawCodesFromTheDictionary() {
+        Dictionary cities = DATA.dictionary("address", "cities");
+        DictionaryColumnVector vector = fill(Columns.dictionary("city", cities));
+
+        assertEquals("city", vector.getName());
+        assertEquals(cities.size(), vector.getDictionary().size());
+        for (int row = 0; row < ROWS; row++) {
+            assertEquals(cities.get(vector.getCode(row)), vector.getString(row));
+        }
+    }
+
+    @Test
+    void sequence_ShouldNumberRowsFromTheFirstRow() {
+        ColumnGenerator<LongColumnVector> ids = Columns.sequence("id", 1000);
+        LongColumnVector vector = ids.newVector(4);
+        ids.fill(vector, new RandomService(TEST_SEED), 20, 4);
+        assertArrayEquals(new long[]{1020, 1021, 1022, 1023}, vector.getValues());
+    }
+
+    @Test
+    void longs_ShouldStayInRange() {
+        LongColumnVector vector = fill(Columns.longs("quantity", -5, 5));
+        for (long value : vector.getValues()) {
+            assertTrue(value >= -5 && value <= 5);
+        }
+        assertThrows(IllegalArgumentException.class, () -> Columns.longs("quantity", 5, -5));
+    }
+
+    @Test
+    void longs_ShouldDrawFromKeyDistribution() {
+        ZipfianGenerator zipfian = new ZipfianGenerator(new RandomService(TEST_SEED), 0, 999);
+        LongColumnVector vector = fill(Columns.longs("key", zipfian));
+        int hottest = 0;
+        for (long value : vector.getValues()) {
+            assertTrue(value >= 0 && value <= 999);
+            if (value == 0) {
+                hottest++;
+            }
+        }
+        assertTrue(hottest > ROWS / 20, "The most popular key should be drawn often: " + hottest);
+    }
+
+    @Test
+    void longsAndDoubles_ShouldSampleFromDistribution() {
+        Distribution bounded = Distribution.normal(100, 10).truncate(50, 150);
+        LongColumnVector longs = fill(Columns.longs("count", bounded));
+        DoubleColumnVector doubles = fill(Columns.doubles("amount", bounded));
+        for (int row = 0; row < ROWS; row++) {
+            assertTrue(longs.getLong(row) >= 50 && longs.getLong(row) <= 150);
+            assertTrue(doubles.getDouble(row) >= 50 && doubles.getDouble(row) <= 150);
+        }
+    }
+
+    @Test
+    void text_ShouldJoinTheRequestedNumberOfWords() {
+        Dictionary words = DATA.dictionary("company", "industries");
+        BytesColumnVector vector = fill(Columns.text("words", words, 2, 4));
+
+        assertEquals(ROWS, vector.getValueCount());
+        for (int row = 0; row < ROWS; row++) {
+            String text = vector.getString(row);
+            int entries = 0;
+            for (String entry : words.asList()) {
+                if (text.contains(entry)) {
+                    entries++;
+                }
+            }
+            assertTrue(entries >= 1, text);
+            assertFalse(text.startsWith(" ") || text.endsWith(" "), text);
+        }
+    }
+
+    @Test
+    void text_ShouldClearTheVectorOnEveryFill() {
+        ColumnGenerator<BytesColumnVector> column = Columns.text("industry", DATA.dictionary("company", "industries"));
+        BytesColumnVector vector = column.newVector(10);
+        RandomService random = new RandomService(TEST_SEED);
+        column.fill(vector, random, 0, 10);
+        column.fill(vector, random, 10, 3);
+
+        assertEquals(3, vector.getValueCount());
+        List<String> industries = DATA.dictionary("company", "industries").asList();
+        for (int row = 0; row < 3; row++) {
+            assertTrue(industries.contains(vector.getString(row)));
+        }
+    }
+
+    @Test
+    void text_ShouldReuseTheIndexScratchOfTheVector() {
+        ColumnGenerator<BytesColumnVector> column = Columns.text("words", DATA.dictionary("company", "industries"), 1, 5);
+        BytesColumnVector vector = column.newVector(500);
+        RandomService random = new RandomService(TEST_SEED);
+        column.fill(vector, random, 0, 500);
+        int[] scratch = vector.indices(0);
+        column.fill(vector, random, 500, 500);
+        column.fill(vector, random, 1_000, 10);
+        assertSame(scratch, vector.indices(0));
+    }
+
+    @Test
+    void text_ShouldRejectInvalidWordCounts() {
+        Dictionary words = DATA.dictionary("company", "industries");
+        assertThrows(IllegalArgumentException.class, () -> Columns.text("words", words, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> Columns.text("words", words, 3, 2));
+    }
+}
@@ -0,0 +1,102 @@
+package com.datamirage.columnar;
+
+import com.datamirage.distribution.Distribution;
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-row cost of generating a table of 12 dictionary columns, 5 integer columns,
+ * 2 double columns and 1 text column row by row, with a String or boxed value per cell, against
+ * filling dictionary-encoded column batches of {@value #ROWS} rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WideTableBenchmark {
+    private static final int ROWS = 4096;
+    private static final String[][] FIELDS = {
+        {"name", "first_names"}, {"name", "last_names"}, {"name", "prefixes"},
+        {"address", "cities"}, {"address", "states"}, {"address", "countries"}, {"address", "districts"},
+        {"company", "industries"}, {"company", "suffixes"},
+        {"commerce", "product_names"}, {"commerce", "departments"}, {"commerce", "materials"}
+    };
+
+    private RandomService random;
+    private Dictionary[] dictionaries;
+    private Dictionary phrases;
+    private Distribution amounts;
+    private Object[][] rows;
+    private BatchGenerator generator;
+    private ColumnBatch batch;
+
+    @Setup
+    public void setUp() {
+        LocaleData data = LocaleData.of(DataMirageLocale.EN_US);
+        random = RandomService.of("L64X128MixRandom", 42L);
+        dictionaries = new Dictionary[FIELDS.length];
+        List<ColumnGenerator<?>> columns = new ArrayList<>();
+        columns.add(Columns.sequence("id", 1));
+        for (int i = 0; i < FIELDS.length; i++) {
+            dictionaries[i] = data.dictionary(FIELDS[i][0], FIELDS[i][1]);
+            columns.add(Columns.dictionary(FIELDS[i][1], dictionaries[i]));
+        }
+        phrases = data.dictionary("company", "catch_phrases");
+        amounts = Distribution.lognormal(5, 1);
+        for (int i = 0; i < 4; i++) {
+            columns.add(Columns.longs("quantity" + i, 0, 1_000_000));
+        }
+        columns.add(Columns.doubles("price", amounts));
+        columns.add(Columns.doubles("discount", amounts));
+        columns.add(Columns.text("slogan", phrases));
+        rows = new Object[ROWS][columns.size()];
+        generator = new BatchGenerator(RandomService.of("L64X128MixRandom", 42L), columns);
+        batch = generator.newBatch(ROWS);
+        generator.fill(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object[][] rowByRow() {
+        for (int r = 0; r < ROWS; r++) {
+            Object[] row = rows[r];
+            int c = 0;
+            row[c++] = (long) r;
+            for (Dictionary dictionary : dictionaries) {
+                row[c++] = dictionary.pick(random);
+            }
+            for (int i = 0; i < 4; i++) {
+                row[c++] = random.nextLong(0, 1_000_000);
+            }
+            row[c++] = amounts.sample(random);
+            row[c++] = amounts.sample(random);
+            row[c] = phrases.pick(random);
+        }
+        return rows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ColumnBatch columnar() {
+        return generator.fill(batch);
+    }
+}
@@ -0,0 +1,93 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ziggurat normal and exponential samplers with the generator's own
+ * {@code nextGaussian()} and {@code nextExponential()}, and measures the other distributions
+ * per sample and as a bulk fill of 1024 values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DistributionBenchmark {
+
+    @Param({"Random", "L64X128MixRandom"})
+    public String algorithm;
+
+    private RandomService random;
+    private Distribution normal;
+    private Distribution exponential;
+    private Distribution lognormal;
+    private Distribution gamma;
+    private Distribution poisson;
+    private double[] buffer;
+
+    @Setup
+    public void setUp() {
+        random = RandomService.of(algorithm, 42L);
+        normal = Distribution.normal(0, 1);
+        exponential = Distribution.exponential(1);
+        lognormal = Distribution.lognormal(4, 1);
+        gamma = Distribution.gamma(2.5, 1);
+        poisson = Distribution.poisson(100);
+        buffer = new double[1024];
+    }
+
+    @Benchmark
+    public double nextGaussian() {
+        return random.getGenerator().nextGaussian();
+    }
+
+    @Benchmark
+    public double zigguratNormal() {
+        return normal.sample(random);
+    }
+
+    @Benchmark
+    public double nextExponential() {
+        return random.getGenerator().nextExponential();
+    }
+
+    @Benchmark
+    public double zigguratExponential() {
+        return exponential.sample(random);
+    }
+
+    @Benchmark
+    public double lognormal() {
+        return lognormal.sample(random);
+    }
+
+    @Benchmark
+    public double gamma() {
+        return gamma.sample(random);
+    }
+
+    @Benchmark
+    public long poisson() {
+        return poisson.sampleLong(random);
+    }
+
+    @Benchmark
+    public double[] normalFill() {
+        normal.fill(random, buffer, 0, buffer.length);
+        return buffer;
+    }
+}
@@ -0,0 +1,164 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributionTest {
+    private static final long TEST_SEED = 12345L;
+    private static final int SAMPLES = 200_000;
+
+    private static double[] moments(Distribution distribution) {
+        double[] values = new double[SAMPLES];
+        distribution.fill(RandomService.of("L64X128MixRandom", TEST_SEED), values, 0, SAMPLES);
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        double mean = sum / SAMPLES;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        return new double[]{mean, squares / SAMPLES};
+    }
+
+    @Test
+    void normal_ShouldMatchMeanAndVariance() {
+        double[] moments = moments(Distribution.normal(50, 5));
+        assertEquals(50, moments[0], 0.05);
+        assertEquals(25, moments[1], 0.5);
+    }
+
+    @Test
+    void exponential_ShouldMatchMeanAndVariance() {
+        double[] moments = moments(Distribution.exponential(4));
+        assertEquals(4, moments[0], 0.05);
+        assertEquals(16, moments[1], 0.5);
+    }
+
+    @Test
+    void lognormal_ShouldMatchMeanAndMedian() {
+        LogNormalDistribution distribution = Distribution.lognormal(1.0, 0.5);
+        assertEquals(distribution.getMean(), moments(distribution)[0], 0.02);
+        RandomService random = new RandomService(TEST_SEED);
+        int belowMedian = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double value = distribution.sample(random);
+            assertTrue(value > 0);
+            belowMedian += value < Math.E ? 1 : 0;
+        }
+        assertEquals(0.5, belowMedian / (double) SAMPLES, 0.005);
+    }
+
+    @Test
+    void gamma_ShouldMatchMeanAndVariance() {
+        for (double shape : new double[]{0.5, 1.0, 3.0}) {
+            double[] moments = moments(Distribution.gamma(shape, 2));
+            assertEquals(shape * 2, moments[0], 0.03 * shape * 2, "shape " + shape);
+            assertEquals(shape * 4, moments[1], 0.05 * shape * 4, "shape " + shape);
+        }
+    }
+
+    @Test
+    void poisson_ShouldMatchMeanAndVarianceForSmallAndLargeMeans() {
+        for (double mean : new double[]{0.5, 4, 9.9, 10, 250, 1e6}) {
+            PoissonDistribution distribution = Distribution.poisson(mean);
+            long[] counts = new long[SAMPLES];
+            distribution.fill(new RandomService(TEST_SEED), counts, 0, SAMPLES);
+            double sum = 0;
+            for (long count : counts) {
+                assertTrue(count >= 0);
+                sum += count;
+            }
+            double sampleMean = sum / SAMPLES;
+            double squares = 0;
+            for (long count : counts) {
+                squares += (count - sampleMean) * (count - sampleMean);
+            }
+            double tolerance = 5 * Math.sqrt(mean / SAMPLES);
+            assertEquals(mean, sampleMean, tolerance, "mean " + mean);
+            assertEquals(mean, squares / SAMPLES, 0.03 * mean, "mean " + mean);
+        }
+    }
+
+    @Test
+    void poisson_ShouldMatchProbabilityOfZero() {
+        RandomService random = new RandomService(TEST_SEED);
+        PoissonDistribution distribution = Distribution.poisson(2);
+        int zeros = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            zeros += distribution.sampleLong(random) == 0 ? 1 : 0;
+        }
+        assertEquals(Math.exp(-2), zeros / (double) SAMPLES, 0.003);
+    }
+
+    @Test
+    void logFactorial_ShouldMatchExactSum() {
+        double exact = 0;
+        for (int k = 1; k <= 200; k++) {
+            exact += Math.log(k);
+            assertEquals(exact, PoissonDistribution.logFactorial(k), 1e-9 * Math.max(1, exact), "k " + k);
+        }
+        assertEquals(0, PoissonDistribution.logFactorial(0));
+    }
+
+    @Test
+    void truncated_ShouldStayWithinBounds() {
+        RandomService random = new RandomService(TEST_SEED);
+        Distribution distribution = Distribution.normal(6.5, 3).truncate(1, 10);
+        for (int i = 0; i < 10_000; i++) {
+            double value = distribution.sample(random);
+            assertTrue(value >= 1 && value <= 10);
+        }
+    }
+
+    @Test
+    void truncated_ShouldClampWhenRangeHasNoMass() {
+        RandomService random = new RandomService(TEST_SEED);
+        Distribution distribution = Distribution.truncated(Distribution.normal(0, 1), 100, 101);
+        assertEquals(100, distribution.sample(random));
+    }
+
+    @Test
+    void uniform_ShouldStayWithinRange() {
+        double[] values = new double[1_000];
+        Distribution.uniform(-1, 1).fill(new RandomService(TEST_SEED), values, 0, values.length);
+        for (double value : values) {
+            assertTrue(value >= -1 && value < 1);
+        }
+    }
+
+    @Test
+    void sample_ShouldBeDeterministicForSameSeed() {
+        Distribution distribution = Distribution.gamma(2, 3);
+        double[] first = new double[100];
+        double[] second = new double[100];
+        distribution.fill(new RandomService(TEST_SEED), first, 0, 100);
+        distribution.fill(new RandomService(TEST_SEED), second, 0, 100);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void fill_ShouldThrowExceptionForInvalidRange() {
+        RandomService random = new RandomService(TEST_SEED);
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> Distribution.normal(0, 1).fill(random, new double[4], 2, 3));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> Distribution.poisson(3).fill(random, new long[4], -1, 2));
+    }
+
+    @Test
+    void factories_ShouldThrowExceptionForInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> Distribution.normal(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.exponential(0));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.lognormal(0, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.gamma(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.gamma(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.poisson(-3));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.uniform(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.truncated(null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Distribution.normal(0, 1).truncate(1, 0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotspotGeneratorTest {
+    private static final long TEST_SEED = 12345L;
+
+    @Test
+    void nextLong_ShouldHitHotSetWithConfiguredFraction() {
+        HotspotGenerator generator = new HotspotGenerator(new RandomService(TEST_SEED), 0, 999, 0.2, 0.8);
+        int hot = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 0 && value <= 999);
+            hot += generator.isHot(value) ? 1 : 0;
+        }
+        assertEquals(80_000, hot, 1_000);
+        assertTrue(generator.isHot(199));
+        assertFalse(generator.isHot(200));
+    }
+
+    @Test
+    void nextLong_ShouldSupportHugeRanges() {
+        long max = (1L << 40) - 1;
+        HotspotGenerator generator = new HotspotGenerator(new RandomService(TEST_SEED), 0, max, 0.01, 0.99);
+        for (int i = 0; i < 1_000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 0 && value <= max);
+        }
+    }
+
+    @Test
+    void nextLong_ShouldOnlyReturnHotKeysWhenEverythingIsHot() {
+        HotspotGenerator generator = new HotspotGenerator(new RandomService(TEST_SEED), 5, 9, 1.0, 0.5);
+        for (int i = 0; i < 100; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 5 && value <= 9);
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForInvalidFractions() {
+        RandomService random = new RandomService(TEST_SEED);
+        assertThrows(IllegalArgumentException.class, () -> new HotspotGenerator(random, 0, 9, 1.5, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new HotspotGenerator(random, 0, 9, 0.5, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new HotspotGenerator(random, 9, 0, 0.5, 0.5));
+    }
+}
@@ -0,0 +1,79 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of one key from each {@link LongGenerator} over a range of up to 2^40 keys,
+ * against a uniform {@link RandomService#nextLong(long, long)} baseline, and the cost of creating a
+ * Zipfian generator, which is dominated by its zeta constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class KeyDistributionBenchmark {
+
+    @Param({"1000000", "1099511627776"})
+    public long keys;
+
+    private RandomService random;
+    private ZipfianGenerator zipfian;
+    private ScrambledZipfianGenerator scrambled;
+    private HotspotGenerator hotspot;
+    private LatestGenerator latest;
+
+    @Setup
+    public void setUp() {
+        random = RandomService.of("L64X128MixRandom", 42L);
+        zipfian = new ZipfianGenerator(random, 0, keys - 1);
+        scrambled = new ScrambledZipfianGenerator(random, 0, keys - 1);
+        hotspot = new HotspotGenerator(random, 0, keys - 1, 0.2, 0.8);
+        latest = new LatestGenerator(random, 0, keys - 1);
+    }
+
+    @Benchmark
+    public long uniform() {
+        return random.nextLong(0, keys - 1);
+    }
+
+    @Benchmark
+    public long zipfian() {
+        return zipfian.nextLong();
+    }
+
+    @Benchmark
+    public long scrambledZipfian() {
+        return scrambled.nextLong();
+    }
+
+    @Benchmark
+    public long hotspot() {
+        return hotspot.nextLong();
+    }
+
+    @Benchmark
+    public long latest() {
+        return latest.nextLong();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ZipfianGenerator createZipfian() {
+        return new ZipfianGenerator(random, 0, keys - 1);
+    }
+}
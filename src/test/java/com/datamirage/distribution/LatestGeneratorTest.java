@@ -0,0 +1,57 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatestGeneratorTest {
+    private static final long TEST_SEED = 12345L;
+
+    @Test
+    void nextLong_ShouldFavorLatestValue() {
+        LatestGenerator generator = new LatestGenerator(new RandomService(TEST_SEED), 0, 999);
+        int latest = 0;
+        int oldest = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 0 && value <= 999);
+            latest += value == 999 ? 1 : 0;
+            oldest += value == 0 ? 1 : 0;
+        }
+        assertTrue(latest > 10 * Math.max(1, oldest), latest + " vs " + oldest);
+    }
+
+    @Test
+    void advance_ShouldFollowInsertedValues() {
+        LatestGenerator generator = new LatestGenerator(new RandomService(TEST_SEED), 0, 9);
+        for (int i = 0; i < 1_000; i++) {
+            generator.advance();
+        }
+        assertEquals(1_009, generator.getLatest());
+        assertEquals(1_009, generator.max());
+        long maxSeen = Long.MIN_VALUE;
+        for (int i = 0; i < 1_000; i++) {
+            maxSeen = Math.max(maxSeen, generator.nextLong());
+        }
+        assertEquals(1_009, maxSeen);
+    }
+
+    @Test
+    void setLatest_ShouldMatchFreshGenerator() {
+        LatestGenerator moved = new LatestGenerator(new RandomService(TEST_SEED), 0, 100);
+        moved.setLatest(3_000);
+        moved.setLatest(50_000_000);
+        moved.setLatest(49_999_000);
+        LatestGenerator fresh = new LatestGenerator(new RandomService(TEST_SEED), 0, 49_999_000);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(fresh.nextLong(), moved.nextLong());
+        }
+    }
+
+    @Test
+    void setLatest_ShouldThrowExceptionBelowMin() {
+        LatestGenerator generator = new LatestGenerator(new RandomService(TEST_SEED), 10, 20);
+        assertThrows(IllegalArgumentException.class, () -> generator.setLatest(9));
+    }
+}
@@ -0,0 +1,46 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScrambledZipfianGeneratorTest {
+    private static final long TEST_SEED = 12345L;
+
+    @Test
+    void nextLong_ShouldStayWithinRange() {
+        ScrambledZipfianGenerator generator = new ScrambledZipfianGenerator(new RandomService(TEST_SEED), 1_000, 1_999);
+        for (int i = 0; i < 10_000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 1_000 && value <= 1_999, "Out of range: " + value);
+        }
+    }
+
+    @Test
+    void nextLong_ShouldKeepSkewButScatterHotKeys() {
+        ScrambledZipfianGenerator generator = new ScrambledZipfianGenerator(new RandomService(TEST_SEED), 0, 9_999);
+        int[] counts = new int[10_000];
+        for (int i = 0; i < 100_000; i++) {
+            counts[(int) generator.nextLong()]++;
+        }
+        int hottest = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[hottest]) {
+                hottest = i;
+            }
+        }
+        assertNotEquals(0, hottest);
+        int[] sorted = counts.clone();
+        Arrays.sort(sorted);
+        assertTrue(sorted[sorted.length - 1] > 50 * sorted[sorted.length / 2]);
+    }
+
+    @Test
+    void fnv_ShouldMatchReferenceValue() {
+        // FNV-1a of eight zero bytes
+        assertEquals(0xA8C7F832281A39C5L, ScrambledZipfianGenerator.fnv(0));
+    }
+}
@@ -0,0 +1,63 @@
+package com.datamirage.distribution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZigguratTest {
+    private static final int SAMPLES = 400_000;
+
+    @Test
+    void normal_ShouldHaveStandardMoments() {
+        RandomGenerator random = new SplittableRandom(42);
+        double sum = 0;
+        double squares = 0;
+        int beyondTwo = 0;
+        int beyondR = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = Ziggurat.normal(random);
+            sum += x;
+            squares += x * x;
+            beyondTwo += Math.abs(x) > 2 ? 1 : 0;
+            beyondR += Math.abs(x) > 3.442619855899 ? 1 : 0;
+        }
+        assertEquals(0.0, sum / SAMPLES, 0.01);
+        assertEquals(1.0, squares / SAMPLES, 0.01);
+        // P(|x| > 2) = 0.0455, P(|x| > r) = 0.000576
+        assertEquals(0.0455, beyondTwo / (double) SAMPLES, 0.002);
+        assertEquals(0.000576, beyondR / (double) SAMPLES, 0.0002);
+    }
+
+    @Test
+    void exponential_ShouldHaveStandardMoments() {
+        RandomGenerator random = new SplittableRandom(42);
+        double sum = 0;
+        double squares = 0;
+        int beyondThree = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double x = Ziggurat.exponential(random);
+            assertTrue(x >= 0);
+            sum += x;
+            squares += x * x;
+            beyondThree += x > 3 ? 1 : 0;
+        }
+        assertEquals(1.0, sum / SAMPLES, 0.01);
+        assertEquals(2.0, squares / SAMPLES, 0.03);
+        assertEquals(Math.exp(-3), beyondThree / (double) SAMPLES, 0.002);
+    }
+
+    @Test
+    void uniformPositive_ShouldNeverReturnZero() {
+        RandomGenerator zeros = new RandomGenerator() {
+            @Override
+            public long nextLong() {
+                return 0;
+            }
+        };
+        assertEquals(0x1.0p-53, Ziggurat.uniformPositive(zeros));
+        assertTrue(Double.isFinite(Math.log(Ziggurat.uniformPositive(zeros))));
+    }
+}
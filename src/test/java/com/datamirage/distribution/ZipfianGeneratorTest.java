@@ -0,0 +1,85 @@
+package com.datamirage.distribution;
+
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfianGeneratorTest {
+    private static final long TEST_SEED = 12345L;
+
+    @Test
+    void zeta_ShouldMatchExactSumBeyondExactTerms() {
+        long n = 200_000;
+        for (double theta : new double[]{0.5, 0.99}) {
+            double exact = 0;
+            for (long i = 1; i <= n; i++) {
+                exact += 1 / Math.pow(i, theta);
+            }
+            assertEquals(exact, ZipfianGenerator.zeta(n, theta), exact * 1e-12);
+        }
+    }
+
+    @Test
+    void nextLong_ShouldStayWithinRange() {
+        ZipfianGenerator generator = new ZipfianGenerator(new RandomService(TEST_SEED), 100, 199);
+        for (int i = 0; i < 10_000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 100 && value <= 199, "Out of range: " + value);
+        }
+        assertEquals(100, generator.min());
+        assertEquals(199, generator.max());
+    }
+
+    @Test
+    void nextLong_ShouldFavorSmallestValues() {
+        ZipfianGenerator generator = new ZipfianGenerator(new RandomService(TEST_SEED), 0, 999);
+        int samples = 200_000;
+        int[] counts = new int[1000];
+        for (int i = 0; i < samples; i++) {
+            counts[(int) generator.nextLong()]++;
+        }
+        assertEquals(generator.probability(0), counts[0] / (double) samples, 0.01);
+        assertEquals(generator.probability(1), counts[1] / (double) samples, 0.01);
+        assertTrue(counts[0] > counts[10] && counts[10] > counts[500]);
+    }
+
+    @Test
+    void nextLong_ShouldSupportHugeRanges() {
+        long max = (1L << 40) - 1;
+        ZipfianGenerator generator = new ZipfianGenerator(new RandomService(TEST_SEED), 0, max);
+        long large = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 0 && value <= max);
+            large += value > (1L << 20) ? 1 : 0;
+        }
+        assertTrue(large > 0);
+    }
+
+    @Test
+    void nextLong_ShouldBeDeterministicForSameSeed() {
+        long[] first = new long[100];
+        long[] second = new long[100];
+        new ZipfianGenerator(new RandomService(TEST_SEED), 0, 1_000_000).nextLongs(first, 0, 100);
+        new ZipfianGenerator(new RandomService(TEST_SEED), 0, 1_000_000).nextLongs(second, 0, 100);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void nextLong_ShouldHandleSingleValue() {
+        ZipfianGenerator generator = new ZipfianGenerator(new RandomService(TEST_SEED), 7, 7);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(7, generator.nextLong());
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForInvalidArguments() {
+        RandomService random = new RandomService(TEST_SEED);
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(random, 10, 9));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(random, 0, 9, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(random, 0, 9, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(random, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+}
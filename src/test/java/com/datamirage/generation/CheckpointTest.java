@@ -0,0 +1,71 @@
+package com.datamirage.generation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ShouldRoundTripAllState() throws IOException {
+        Map<String, Long> streams = new LinkedHashMap<>();
+        streams.put("notes", 7L);
+        streams.put("ünïcode", -3L);
+        Checkpoint checkpoint = new Checkpoint(42L, 1_000, 400, 12_345, streams, 678);
+        Path file = directory.resolve("job.checkpoint");
+
+        checkpoint.write(file);
+        Checkpoint read = Checkpoint.read(file);
+
+        assertEquals(42L, read.getSeed());
+        assertEquals(1_000, read.getRows());
+        assertEquals(400, read.getNextRow());
+        assertEquals(12_345, read.getOutputOffset());
+        assertEquals(streams, read.getStreamSeeds());
+        assertEquals(678, read.getUniqueLogLength());
+        assertFalse(read.isComplete());
+        assertFalse(Files.exists(directory.resolve("job.checkpoint.tmp")));
+    }
+
+    @Test
+    void write_ShouldReplacePreviousCheckpoint() throws IOException {
+        Path file = directory.resolve("job.checkpoint");
+        new Checkpoint(1, 10, 5, 50, Map.of(), 0).write(file);
+        new Checkpoint(1, 10, 10, 100, Map.of(), 0).write(file);
+        assertTrue(Checkpoint.read(file).isComplete());
+    }
+
+    @Test
+    void constructor_ShouldCopyState() {
+        Map<String, Long> streams = new LinkedHashMap<>(Map.of("s", 1L));
+        Checkpoint checkpoint = new Checkpoint(1, 10, 5, 50, streams, 0);
+        streams.put("t", 2L);
+        assertEquals(Map.of("s", 1L), checkpoint.getStreamSeeds());
+        assertThrows(UnsupportedOperationException.class, () -> checkpoint.getStreamSeeds().put("u", 3L));
+    }
+
+    @Test
+    void read_ShouldThrowExceptionForInvalidFiles() throws IOException {
+        Path garbage = directory.resolve("garbage.checkpoint");
+        Files.write(garbage, new byte[]{1, 2, 3, 4, 5, 6});
+        assertThrows(IOException.class, () -> Checkpoint.read(garbage));
+
+        Path file = directory.resolve("job.checkpoint");
+        new Checkpoint(1, 10, 5, 50, Map.of("s", 1L), 0).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = directory.resolve("truncated.checkpoint");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> Checkpoint.read(truncated));
+    }
+}
@@ -0,0 +1,79 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to generate {@value #ROWS} rows into a discarding stream, on a single thread
+ * without the engine and with the engine on pools of different sizes. On a machine with enough
+ * cores the time per operation should drop close to linearly with the parallelism.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GenerationEngineBenchmark {
+    private static final int ROWS = 100_000;
+    private static final long SEED = 42L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+    private static final RowGenerator PEOPLE = (context, out) -> out.append(context.row()).append(',')
+        .append(context.data().name().fullName()).append(',')
+        .append(context.data().internet().email()).append(',')
+        .append(context.data().address().fullAddress()).append('\n');
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private GenerationEngine engine;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        engine = new GenerationEngine(DATA, SEED, PEOPLE, pool, GenerationEngine.DEFAULT_CHUNK_SIZE,
+            GenerationEngine.DEFAULT_PENDING_CHUNKS_PER_THREAD * parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sequential() {
+        RowContext context = new RowContext(DATA, SEED);
+        StringBuilder line = new StringBuilder();
+        long bytes = 0;
+        for (long row = 0; row < ROWS; row++) {
+            context.seek(row);
+            line.setLength(0);
+            PEOPLE.generate(context, line);
+            bytes += line.length();
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public long engine() throws IOException {
+        return engine.run(ROWS, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,177 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationEngineTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+
+    @TempDir
+    Path directory;
+
+    /** A row generator that uses the main stream and a named stream, but no unique sets. */
+    private static final RowGenerator PEOPLE = (context, out) -> {
+        out.append(context.row()).append(',')
+            .append(context.data().name().fullName()).append(',')
+            .append(context.data().internet().email());
+        if (context.data().bool().bool()) {
+            out.append(',').append(context.stream("notes").word().words(3));
+        }
+        out.append('\n');
+    };
+
+    @SuppressWarnings("serial")
+    private static class Crash extends RuntimeException {
+    }
+
+    private static byte[] generate(int parallelism, int chunkSize, int maxPendingChunks, long rows) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long written = new GenerationEngine(DATA, TEST_SEED, PEOPLE, pool, chunkSize, maxPendingChunks)
+                .run(rows, out);
+            assertEquals(out.size(), written);
+            return out.toByteArray();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void run_ShouldGenerateAllRowsInOrder() throws IOException {
+        String[] lines = new String(generate(4, 64, 8, 1_000), StandardCharsets.UTF_8).split("\n");
+        assertEquals(1_000, lines.length);
+        for (int row = 0; row < lines.length; row++) {
+            assertTrue(lines[row].startsWith(row + ","), lines[row]);
+        }
+    }
+
+    @Test
+    void run_ShouldProduceIdenticalBytesForAnyParallelism() throws IOException {
+        byte[] sequential = generate(1, 100, 1, 2_000);
+        assertArrayEquals(sequential, generate(2, 100, 4, 2_000));
+        assertArrayEquals(sequential, generate(8, 37, 3, 2_000));
+        assertArrayEquals(sequential, generate(3, 5_000, 16, 2_000));
+    }
+
+    @Test
+    void run_ShouldMatchGenerationJob() throws IOException {
+        Path output = directory.resolve("people.csv");
+        new GenerationJob(DATA, TEST_SEED, 1_500, PEOPLE).run(output, directory.resolve("people.checkpoint"));
+        assertArrayEquals(Files.readAllBytes(output), generate(4, 128, 6, 1_500));
+    }
+
+    @Test
+    void run_ShouldHandChunksToTheSinkInOrder() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Long> firstRows = new ArrayList<>();
+            List<Integer> rowCounts = new ArrayList<>();
+            new GenerationEngine(DATA, TEST_SEED, PEOPLE, pool, 300, 2).run(100, 1_100, (firstRow, rowCount, bytes) -> {
+                firstRows.add(firstRow);
+                rowCounts.add(rowCount);
+            });
+            assertEquals(List.of(100L, 400L, 700L, 1_000L), firstRows);
+            assertEquals(List.of(300, 300, 300, 100), rowCounts);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void run_ShouldGenerateSubrangeLikeTheFullRange() throws IOException {
+        ByteArrayOutputStream tail = new ByteArrayOutputStream();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            new GenerationEngine(DATA, TEST_SEED, PEOPLE, pool, 50, 4)
+                .run(500, 1_000, (firstRow, rowCount, bytes) -> tail.write(bytes));
+        } finally {
+            pool.shutdown();
+        }
+        String full = new String(generate(2, 50, 4, 1_000), StandardCharsets.UTF_8);
+        assertTrue(full.endsWith(tail.toString(StandardCharsets.UTF_8)));
+        assertTrue(tail.toString(StandardCharsets.UTF_8).startsWith("500,"));
+    }
+
+    @Test
+    void run_ShouldBoundTheChunksInFlight() throws IOException {
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        RowGenerator counting = (context, out) -> {
+            if (context.row() % 10 == 0) {
+                int ahead = generated.incrementAndGet() - consumed.get();
+                maxAhead.accumulateAndGet(ahead, Math::max);
+            }
+            out.append(context.row()).append('\n');
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new GenerationEngine(DATA, TEST_SEED, counting, pool, 10, 3)
+                .run(0, 1_000, (firstRow, rowCount, bytes) -> consumed.incrementAndGet());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(100, consumed.get());
+        assertTrue(maxAhead.get() <= 3, "Chunks ahead of the sink: " + maxAhead.get());
+    }
+
+    @Test
+    void run_ShouldRethrowFailureOfARow() {
+        RowGenerator crashing = (context, out) -> {
+            if (context.row() == 777) {
+                throw new Crash();
+            }
+            PEOPLE.generate(context, out);
+        };
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<Long> firstRows = new ArrayList<>();
+            GenerationEngine engine = new GenerationEngine(DATA, TEST_SEED, crashing, pool, 100, 4);
+            assertThrows(Crash.class, () -> engine.run(0, 2_000, (firstRow, rowCount, bytes) -> firstRows.add(firstRow)));
+            assertEquals(List.of(0L, 100L, 200L, 300L, 400L, 500L, 600L), firstRows);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void run_ShouldRethrowFailureOfTheSink() {
+        GenerationEngine engine = new GenerationEngine(DATA, TEST_SEED, PEOPLE);
+        assertThrows(IOException.class, () -> engine.run(0, 100_000, (firstRow, rowCount, bytes) -> {
+            throw new IOException("Disk full");
+        }));
+    }
+
+    @Test
+    void run_ShouldWriteNothingForEmptyRange() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, new GenerationEngine(DATA, TEST_SEED, PEOPLE).run(0, out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForInvalidArguments() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(IllegalArgumentException.class, () -> new GenerationEngine(DATA, TEST_SEED, PEOPLE, pool, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GenerationEngine(DATA, TEST_SEED, PEOPLE, pool, 1, 0));
+        GenerationEngine engine = new GenerationEngine(DATA, TEST_SEED, PEOPLE);
+        assertThrows(IllegalArgumentException.class, () -> engine.run(-1, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> engine.run(10, 5, (firstRow, rowCount, bytes) -> { }));
+    }
+}
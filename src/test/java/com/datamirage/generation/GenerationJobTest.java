@@ -0,0 +1,180 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationJobTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+
+    @TempDir
+    Path directory;
+
+    /** A row generator that uses every kind of state a job has to restore. */
+    private static final RowGenerator PEOPLE = (context, out) -> {
+        String email;
+        do {
+            email = context.data().internet().email();
+        } while (!context.unique("email", email));
+        out.append(context.row()).append(',')
+            .append(context.data().name().fullName()).append(',')
+            .append(email);
+        if (context.data().bool().bool()) {
+            out.append(',').append(context.stream("notes").word().words(3));
+        }
+        out.append('\n');
+    };
+
+    @SuppressWarnings("serial")
+    private static class Crash extends RuntimeException {
+    }
+
+    private static RowGenerator crashingAt(long crashRow) {
+        return (context, out) -> {
+            if (context.row() == crashRow) {
+                throw new Crash();
+            }
+            PEOPLE.generate(context, out);
+        };
+    }
+
+    private static Map<String, Set<String>> uniqueSets(Path checkpointFile, Checkpoint checkpoint) throws IOException {
+        return UniqueLog.read(GenerationJob.uniqueLogFile(checkpointFile), checkpoint.getUniqueLogLength());
+    }
+
+    private byte[] uninterrupted(long rows) throws IOException {
+        Path output = directory.resolve("reference.csv");
+        new GenerationJob(DATA, TEST_SEED, rows, PEOPLE, 100).run(output, directory.resolve("reference.checkpoint"));
+        return Files.readAllBytes(output);
+    }
+
+    @Test
+    void run_ShouldGenerateAllRows() throws IOException {
+        Path output = directory.resolve("people.csv");
+        Checkpoint checkpoint = new GenerationJob(DATA, TEST_SEED, 1_000, PEOPLE, 100)
+            .run(output, directory.resolve("people.checkpoint"));
+
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(1_000, lines.size());
+        assertTrue(checkpoint.isComplete());
+        assertEquals(Files.size(output), checkpoint.getOutputOffset());
+        assertEquals(1_000, uniqueSets(directory.resolve("people.checkpoint"), checkpoint).get("email").size());
+        Set<String> emails = new HashSet<>();
+        for (String line : lines) {
+            assertTrue(emails.add(line.split(",")[2]));
+        }
+    }
+
+    @Test
+    void run_ShouldBeDeterministicForSameSeed() throws IOException {
+        Path output = directory.resolve("people.csv");
+        new GenerationJob(DATA, TEST_SEED, 500, PEOPLE, 100).run(output, directory.resolve("people.checkpoint"));
+        assertArrayEquals(uninterrupted(500), Files.readAllBytes(output));
+    }
+
+    @Test
+    void run_ShouldResumeAfterCrashWithIdenticalBytes() throws IOException {
+        Path output = directory.resolve("people.csv");
+        Path checkpointFile = directory.resolve("people.checkpoint");
+
+        assertThrows(Crash.class, () -> new GenerationJob(DATA, TEST_SEED, 1_000, crashingAt(457), 100)
+            .run(output, checkpointFile));
+        Checkpoint crashed = Checkpoint.read(checkpointFile);
+        assertEquals(400, crashed.getNextRow());
+        assertEquals(400, uniqueSets(checkpointFile, crashed).get("email").size());
+
+        Checkpoint resumed = new GenerationJob(DATA, TEST_SEED, 1_000, PEOPLE, 100).run(output, checkpointFile);
+        assertTrue(resumed.isComplete());
+        assertArrayEquals(uninterrupted(1_000), Files.readAllBytes(output));
+    }
+
+    @Test
+    void run_ShouldOnlyAppendNewUniqueValuesAtEveryCheckpoint() throws IOException {
+        Path small = directory.resolve("small.checkpoint");
+        Path large = directory.resolve("large.checkpoint");
+        Checkpoint smallCheckpoint = new GenerationJob(DATA, TEST_SEED, 100, PEOPLE, 100)
+            .run(directory.resolve("small.csv"), small);
+        Checkpoint largeCheckpoint = new GenerationJob(DATA, TEST_SEED, 1_000, PEOPLE, 100)
+            .run(directory.resolve("large.csv"), large);
+
+        assertEquals(Files.size(small), Files.size(large));
+        assertEquals(largeCheckpoint.getUniqueLogLength(), Files.size(GenerationJob.uniqueLogFile(large)));
+        assertTrue(largeCheckpoint.getUniqueLogLength() < 11 * smallCheckpoint.getUniqueLogLength());
+    }
+
+    @Test
+    void run_ShouldResumeAfterRepeatedCrashes() throws IOException {
+        Path output = directory.resolve("people.csv");
+        Path checkpointFile = directory.resolve("people.checkpoint");
+        for (long crashRow : new long[]{150, 151, 640, 999}) {
+            assertThrows(Crash.class, () -> new GenerationJob(DATA, TEST_SEED, 1_000, crashingAt(crashRow), 100)
+                .run(output, checkpointFile));
+        }
+        new GenerationJob(DATA, TEST_SEED, 1_000, PEOPLE, 100).run(output, checkpointFile);
+        assertArrayEquals(uninterrupted(1_000), Files.readAllBytes(output));
+    }
+
+    @Test
+    void run_ShouldDoNothingWhenAlreadyComplete() throws IOException {
+        Path output = directory.resolve("people.csv");
+        Path checkpointFile = directory.resolve("people.checkpoint");
+        new GenerationJob(DATA, TEST_SEED, 200, PEOPLE, 100).run(output, checkpointFile);
+        byte[] first = Files.readAllBytes(output);
+        RowGenerator failing = (context, out) -> {
+            throw new UncheckedIOException(new IOException("Should not generate"));
+        };
+        assertTrue(new GenerationJob(DATA, TEST_SEED, 200, failing, 100).run(output, checkpointFile).isComplete());
+        assertArrayEquals(first, Files.readAllBytes(output));
+    }
+
+    @Test
+    void run_ShouldWriteCheckpointForEmptyJob() throws IOException {
+        Path output = directory.resolve("empty.csv");
+        Path checkpointFile = directory.resolve("empty.checkpoint");
+        assertTrue(new GenerationJob(DATA, TEST_SEED, 0, PEOPLE).run(output, checkpointFile).isComplete());
+        assertEquals(0, Files.size(output));
+        assertTrue(Files.exists(checkpointFile));
+    }
+
+    @Test
+    void run_ShouldRejectCheckpointOfDifferentJob() throws IOException {
+        Path output = directory.resolve("people.csv");
+        Path checkpointFile = directory.resolve("people.checkpoint");
+        assertThrows(Crash.class, () -> new GenerationJob(DATA, TEST_SEED, 1_000, crashingAt(250), 100)
+            .run(output, checkpointFile));
+        assertThrows(IllegalStateException.class,
+            () -> new GenerationJob(DATA, TEST_SEED + 1, 1_000, PEOPLE, 100).run(output, checkpointFile));
+        assertThrows(IllegalStateException.class,
+            () -> new GenerationJob(DATA, TEST_SEED, 2_000, PEOPLE, 100).run(output, checkpointFile));
+    }
+
+    @Test
+    void run_ShouldRejectOutputShorterThanCheckpoint() throws IOException {
+        Path output = directory.resolve("people.csv");
+        Path checkpointFile = directory.resolve("people.checkpoint");
+        assertThrows(Crash.class, () -> new GenerationJob(DATA, TEST_SEED, 1_000, crashingAt(250), 100)
+            .run(output, checkpointFile));
+        Files.write(output, new byte[10]);
+        assertThrows(IOException.class,
+            () -> new GenerationJob(DATA, TEST_SEED, 1_000, PEOPLE, 100).run(output, checkpointFile));
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new GenerationJob(DATA, TEST_SEED, -1, PEOPLE));
+        assertThrows(IllegalArgumentException.class, () -> new GenerationJob(DATA, TEST_SEED, 10, PEOPLE, 0));
+    }
+}
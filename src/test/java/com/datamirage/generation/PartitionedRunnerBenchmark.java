@@ -0,0 +1,192 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time to write {@value #ROWS} rows to I/O-bound sinks with one partition, i.e. one
+ * sink that waits for every chunk, and with several partitions whose sinks wait concurrently. The
+ * rows are always generated on a pool of {@value #GENERATION_THREADS} threads.
+ *
+ * <p>The {@code file} sink forces every chunk to disk, like a commit. The {@code socket} sink sends
+ * every chunk to a server on the loopback interface and waits for an acknowledgement, which the
+ * server sends {@value #SERVER_LATENCY_MILLIS} ms after receiving the chunk to emulate a database.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PartitionedRunnerBenchmark {
+    private static final int ROWS = 20_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final int GENERATION_THREADS = 2;
+    private static final int SERVER_LATENCY_MILLIS = 5;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+    private static final RowGenerator PEOPLE = (context, out) -> out.append(context.row()).append(',')
+        .append(context.data().name().fullName()).append(',')
+        .append(context.data().internet().email()).append('\n');
+
+    @Param({"file", "socket"})
+    public String sink;
+
+    @Param({"1", "16"})
+    public int partitions;
+
+    private ForkJoinPool pool;
+    private PartitionedRunner runner;
+    private Path directory;
+    private ServerSocket server;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(GENERATION_THREADS);
+        runner = new PartitionedRunner(new GenerationEngine(DATA, 42L, PEOPLE, pool, CHUNK_SIZE, 4), partitions);
+        directory = Files.createTempDirectory("datamirage-sinks");
+        server = new ServerSocket(0, 64, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "datamirage-benchmark-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        server.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long run() throws IOException {
+        if (sink.equals("file")) {
+            return runner.run(ROWS, partition -> new FileSink(directory.resolve("partition-" + partition + ".csv")));
+        }
+        return runner.run(ROWS, partition -> new SocketSink(server.getLocalPort()));
+    }
+
+    /** Writes every chunk to a file and forces it to the disk. */
+    private static final class FileSink implements ChunkSink, Closeable {
+        private final FileChannel channel;
+
+        FileSink(Path file) throws IOException {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        @Override
+        public void accept(long firstRow, int rowCount, byte[] bytes) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /** Sends every chunk to the loopback server and waits for its acknowledgement. */
+    private static final class SocketSink implements ChunkSink, Closeable {
+        private final Socket socket;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+
+        SocketSink(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setTcpNoDelay(true);
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            in = new DataInputStream(socket.getInputStream());
+        }
+
+        @Override
+        public void accept(long firstRow, int rowCount, byte[] bytes) throws IOException {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.flush();
+            in.readByte();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.writeInt(-1);
+            out.flush();
+            socket.close();
+        }
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket client = server.accept();
+                Thread handler = new Thread(() -> serve(client), "datamirage-benchmark-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                // The server was closed at the end of the trial
+            }
+        }
+    }
+
+    private static void serve(Socket client) {
+        try (Socket socket = client) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            byte[] buffer = new byte[0];
+            int length;
+            while ((length = in.readInt()) >= 0) {
+                if (buffer.length < length) {
+                    buffer = new byte[length];
+                }
+                in.readFully(buffer, 0, length);
+                Thread.sleep(SERVER_LATENCY_MILLIS);
+                out.writeByte(0);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The client went away
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedRunnerTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+
+    private static final RowGenerator PEOPLE = (context, out) -> out.append(context.row()).append(',')
+        .append(context.data().name().fullName()).append(',')
+        .append(context.data().internet().email()).append('\n');
+
+    private ForkJoinPool pool;
+    private GenerationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        engine = new GenerationEngine(DATA, TEST_SEED, PEOPLE, pool, 50, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    /** A sink that collects the bytes of one partition and records whether it was closed. */
+    private static final class CollectingSink implements ChunkSink, Closeable {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long rows;
+        boolean closed;
+
+        @Override
+        public void accept(long firstRow, int rowCount, byte[] chunk) {
+            bytes.writeBytes(chunk);
+            rows += rowCount;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void run_ShouldMatchTheOutputOfTheEngine() throws IOException {
+        CollectingSink[] sinks = new CollectingSink[7];
+        long written = new PartitionedRunner(engine, sinks.length).run(1_234, partition -> {
+            sinks[partition] = new CollectingSink();
+            return sinks[partition];
+        });
+
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        for (CollectingSink sink : sinks) {
+            assertTrue(sink.closed);
+            concatenated.writeBytes(sink.bytes.toByteArray());
+        }
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        engine.run(1_234, expected);
+        assertEquals(expected.size(), written);
+        assertArrayEquals(expected.toByteArray(), concatenated.toByteArray());
+    }
+
+    @Test
+    void run_ShouldHandEveryPartitionItsOwnRows() throws IOException {
+        PartitionedRunner runner = new PartitionedRunner(engine, 4);
+        List<List<Long>> firstRows = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            firstRows.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+        runner.run(1_000, partition -> (firstRow, rowCount, bytes) -> firstRows.get(partition).add(firstRow));
+
+        for (int p = 0; p < 4; p++) {
+            long from = runner.partitionStart(1_000, p);
+            List<Long> expected = new ArrayList<>();
+            for (long row = from; row < runner.partitionStart(1_000, p + 1); row += 50) {
+                expected.add(row);
+            }
+            assertEquals(expected, firstRows.get(p));
+        }
+    }
+
+    @Test
+    void partitionStart_ShouldSplitTheRowsIntoWholeChunks() {
+        PartitionedRunner runner = new PartitionedRunner(engine, 3);
+        assertEquals(0, runner.partitionStart(1_000, 0));
+        assertEquals(300, runner.partitionStart(1_000, 1));
+        assertEquals(650, runner.partitionStart(1_000, 2));
+        assertEquals(1_000, runner.partitionStart(1_000, 3));
+
+        assertEquals(0, runner.partitionStart(70, 1));
+        assertEquals(50, runner.partitionStart(70, 2));
+        assertEquals(70, runner.partitionStart(70, 3));
+
+        long huge = Long.MAX_VALUE - 100;
+        long previous = 0;
+        for (int p = 1; p <= 3; p++) {
+            long start = runner.partitionStart(huge, p);
+            assertTrue(start >= previous);
+            previous = start;
+        }
+        assertEquals(huge, previous);
+    }
+
+    @Test
+    void run_ShouldUseTheThreadFactory() throws IOException {
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        AtomicInteger created = new AtomicInteger();
+        PartitionedRunner runner = new PartitionedRunner(engine, 3,
+            task -> new Thread(task, "partition-" + created.getAndIncrement()));
+        runner.run(500, partition -> (firstRow, rowCount, bytes) -> threadNames.add(Thread.currentThread().getName()));
+        assertEquals(Set.of("partition-0", "partition-1", "partition-2"), threadNames);
+    }
+
+    @Test
+    void run_ShouldRethrowFailureOfAPartitionAndCloseAllSinks() {
+        List<CollectingSink> opened = Collections.synchronizedList(new ArrayList<>());
+        PartitionedRunner runner = new PartitionedRunner(engine, 4);
+        IOException e = assertThrows(IOException.class, () -> runner.run(1_000_000, partition -> {
+            if (partition == 2) {
+                throw new IOException("Connection refused");
+            }
+            CollectingSink sink = new CollectingSink();
+            opened.add(sink);
+            return sink;
+        }));
+        assertEquals("Connection refused", e.getMessage());
+        assertEquals(3, opened.size());
+        for (CollectingSink sink : opened) {
+            assertTrue(sink.closed);
+            assertTrue(sink.rows < 250_000, "A partition kept running after the failure");
+        }
+    }
+
+    @Test
+    void run_ShouldCloseAllSinksBeforeThrowingWhenInterrupted() throws InterruptedException {
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger openWhenThrown = new AtomicInteger(-1);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                new PartitionedRunner(engine, 3).run(1_000, partition -> {
+                    open.incrementAndGet();
+                    return new BlockingSink(open, blocking, release);
+                });
+            } catch (Throwable e) {
+                openWhenThrown.set(open.get());
+                thrown.set(e);
+            }
+        });
+        caller.start();
+        assertTrue(blocking.await(10, TimeUnit.SECONDS));
+
+        caller.interrupt();
+        Thread.sleep(200);
+        // The sink ignores interrupts, so the runner must still be waiting for it
+        assertNull(thrown.get());
+        release.countDown();
+        caller.join(10_000);
+
+        assertInstanceOf(InterruptedIOException.class, thrown.get());
+        assertEquals(0, openWhenThrown.get());
+    }
+
+    /** A sink that blocks in its first chunk until released, ignoring interrupts. */
+    private static final class BlockingSink implements ChunkSink, Closeable {
+        private final AtomicInteger open;
+        private final CountDownLatch blocking;
+        private final CountDownLatch release;
+
+        BlockingSink(AtomicInteger open, CountDownLatch blocking, CountDownLatch release) {
+            this.open = open;
+            this.blocking = blocking;
+            this.release = release;
+        }
+
+        @Override
+        public void accept(long firstRow, int rowCount, byte[] chunk) {
+            blocking.countDown();
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    // Like a blocking socket write, which does not react to interrupts
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            open.decrementAndGet();
+        }
+    }
+
+    @Test
+    void isVirtualThreadAvailable_ShouldMatchTheRuntime() {
+        int version = Runtime.version().feature();
+        if (version >= 21) {
+            assertTrue(PartitionedRunner.isVirtualThreadAvailable());
+        } else if (version < 19) {
+            assertFalse(PartitionedRunner.isVirtualThreadAvailable());
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedRunner(engine, 0));
+        PartitionedRunner runner = new PartitionedRunner(engine, 2);
+        assertThrows(IllegalArgumentException.class, () -> runner.run(-1, partition -> (firstRow, rowCount, bytes) -> { }));
+        assertThrows(IllegalArgumentException.class, () -> runner.partitionStart(10, 3));
+        assertThrows(IllegalArgumentException.class, () -> runner.partitionStart(10, -1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to publish {@value #ROWS} records to a subscriber that requests
+ * {@value #REQUEST_SIZE} records at a time, compared with generating them in a plain loop. The
+ * publisher runs on the calling thread, so the difference is the cost of the publisher itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecordPublisherBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int REQUEST_SIZE = 1024;
+    private static final long SEED = 42L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+    private static final RecordGenerator<String> NAMES = context -> context.data().name().fullName();
+
+    @Param({"1", "16", "256"})
+    public int batchSize;
+
+    @Benchmark
+    public long loop() {
+        RowContext context = new RowContext(DATA, SEED);
+        long length = 0;
+        for (long row = 0; row < ROWS; row++) {
+            context.seek(row);
+            length += NAMES.generate(context).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long publisher() {
+        LengthSubscriber subscriber = new LengthSubscriber();
+        new RecordPublisher<>(DATA, SEED, ROWS, NAMES, Runnable::run, batchSize).subscribe(subscriber);
+        return subscriber.length;
+    }
+
+    /** Sums the lengths of the records, requesting more whenever the previous request is used up. */
+    private static final class LengthSubscriber implements Flow.Subscriber<String> {
+        private Flow.Subscription subscription;
+        private long length;
+        private int outstanding;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            outstanding = REQUEST_SIZE;
+            subscription.request(REQUEST_SIZE);
+        }
+
+        @Override
+        public void onNext(String record) {
+            length += record.length();
+            if (--outstanding == 0) {
+                outstanding = REQUEST_SIZE;
+                subscription.request(REQUEST_SIZE);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
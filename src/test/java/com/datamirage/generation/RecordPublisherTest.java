@@ -0,0 +1,253 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordPublisherTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+    private static final RecordGenerator<String> PEOPLE =
+        context -> context.row() + "," + context.data().name().fullName() + "," + context.data().internet().email();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /** A subscriber that requests a fixed number of records at a time and records every signal. */
+    private static class TestSubscriber implements Flow.Subscriber<String> {
+        final List<String> records = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final long requestSize;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+        long received;
+
+        TestSubscriber(long requestSize) {
+            this.requestSize = requestSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (requestSize > 0) {
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onNext(String record) {
+            records.add(record);
+            if (requestSize > 0 && requestSize != Long.MAX_VALUE && ++received % requestSize == 0) {
+                subscription.request(requestSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(terminated.await(10, TimeUnit.SECONDS), "The publisher did not terminate");
+        }
+    }
+
+    private List<String> publish(long rows, int batchSize, long requestSize) throws InterruptedException {
+        TestSubscriber subscriber = new TestSubscriber(requestSize);
+        new RecordPublisher<>(DATA, TEST_SEED, rows, PEOPLE, executor, batchSize).subscribe(subscriber);
+        subscriber.await();
+        assertNull(subscriber.error);
+        assertTrue(subscriber.completed);
+        return subscriber.records;
+    }
+
+    @Test
+    void subscribe_ShouldPublishAllRecordsInOrderAndComplete() throws InterruptedException {
+        List<String> records = publish(1_000, 64, Long.MAX_VALUE);
+        assertEquals(1_000, records.size());
+        for (int row = 0; row < records.size(); row++) {
+            assertTrue(records.get(row).startsWith(row + ","), records.get(row));
+        }
+    }
+
+    @Test
+    void subscribe_ShouldPublishSameRecordsForAnyBatchSizeAndRequestPattern() throws InterruptedException {
+        List<String> expected = publish(500, 500, Long.MAX_VALUE);
+        assertEquals(expected, publish(500, 1, 1));
+        assertEquals(expected, publish(500, 64, 7));
+        assertEquals(expected, publish(500, 16, 1_000));
+
+        List<String> synchronous = new ArrayList<>();
+        new RecordPublisher<>(DATA, TEST_SEED, 500, PEOPLE, Runnable::run, 32).subscribe(new TestSubscriber(3) {
+            @Override
+            public void onNext(String record) {
+                synchronous.add(record);
+                super.onNext(record);
+            }
+        });
+        assertEquals(expected, synchronous);
+    }
+
+    @Test
+    void subscribe_ShouldMatchRecordsGeneratedRowByRow() throws InterruptedException {
+        List<String> records = publish(50, 8, 5);
+        RowContext context = new RowContext(DATA, TEST_SEED);
+        for (int row = 0; row < records.size(); row++) {
+            context.seek(row);
+            assertEquals(PEOPLE.generate(context), records.get(row));
+        }
+    }
+
+    @Test
+    void subscribe_ShouldGenerateOnlyRequestedRecords() throws InterruptedException {
+        AtomicInteger generated = new AtomicInteger();
+        RecordGenerator<String> counting = context -> {
+            generated.incrementAndGet();
+            return PEOPLE.generate(context);
+        };
+        TestSubscriber subscriber = new TestSubscriber(0);
+        new RecordPublisher<>(DATA, TEST_SEED, Long.MAX_VALUE, counting, executor, 64).subscribe(subscriber);
+        subscriber.subscription.request(10);
+        Thread.sleep(200);
+        assertEquals(10, generated.get());
+        assertEquals(10, subscriber.records.size());
+
+        subscriber.subscription.request(100);
+        Thread.sleep(200);
+        assertEquals(110, generated.get());
+        subscriber.subscription.cancel();
+    }
+
+    @Test
+    void subscribe_ShouldGenerateAtMostOneBatchAheadOfDelivery() throws InterruptedException {
+        AtomicLong generated = new AtomicLong();
+        AtomicLong maxAhead = new AtomicLong();
+        RecordGenerator<String> counting = context -> {
+            generated.incrementAndGet();
+            return Long.toString(context.row());
+        };
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(String record) {
+                maxAhead.accumulateAndGet(generated.get() - records.size(), Math::max);
+                super.onNext(record);
+            }
+        };
+        new RecordPublisher<>(DATA, TEST_SEED, 10_000, counting, executor, 32).subscribe(subscriber);
+        subscriber.await();
+        assertEquals(10_000, subscriber.records.size());
+        assertTrue(maxAhead.get() <= 32, "Records generated ahead of delivery: " + maxAhead.get());
+    }
+
+    @Test
+    void cancel_ShouldStopDelivery() throws InterruptedException {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(String record) {
+                super.onNext(record);
+                if (records.size() == 5) {
+                    subscription.cancel();
+                    cancelled.countDown();
+                }
+            }
+        };
+        new RecordPublisher<>(DATA, TEST_SEED, Long.MAX_VALUE, PEOPLE, executor, 16).subscribe(subscriber);
+        assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(5, subscriber.records.size());
+        assertNull(subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void request_ShouldSignalErrorForNonPositiveRequest() throws InterruptedException {
+        TestSubscriber subscriber = new TestSubscriber(0);
+        new RecordPublisher<>(DATA, TEST_SEED, 100, PEOPLE, executor, 16).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        subscriber.await();
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    void subscribe_ShouldSignalErrorOfTheGenerator() throws InterruptedException {
+        RecordGenerator<String> failing = context -> {
+            if (context.row() == 42) {
+                throw new IllegalStateException("Broken row");
+            }
+            return PEOPLE.generate(context);
+        };
+        TestSubscriber subscriber = new TestSubscriber(10);
+        new RecordPublisher<>(DATA, TEST_SEED, 100, failing, executor, 16).subscribe(subscriber);
+        subscriber.await();
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertEquals(40, subscriber.records.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void subscribe_ShouldCompleteEmptyPublisherWithoutRequest() throws InterruptedException {
+        TestSubscriber subscriber = new TestSubscriber(0);
+        new RecordPublisher<>(DATA, TEST_SEED, 0, PEOPLE, executor, 16).subscribe(subscriber);
+        subscriber.await();
+        assertTrue(subscriber.completed);
+        assertTrue(subscriber.records.isEmpty());
+    }
+
+    @Test
+    void subscribe_ShouldSignalErrorWhenTheExecutorRejects() throws InterruptedException {
+        ExecutorService stopped = Executors.newSingleThreadExecutor();
+        stopped.shutdown();
+        TestSubscriber subscriber = new TestSubscriber(10);
+        new RecordPublisher<>(DATA, TEST_SEED, 100, PEOPLE, stopped, 16).subscribe(subscriber);
+        subscriber.await();
+        assertNotNull(subscriber.error);
+    }
+
+    @Test
+    void subscribe_ShouldStartEverySubscriberAtTheFirstRecord() throws InterruptedException {
+        RecordPublisher<String> publisher = new RecordPublisher<>(DATA, TEST_SEED, 200, PEOPLE, executor, 16);
+        TestSubscriber first = new TestSubscriber(Long.MAX_VALUE);
+        TestSubscriber second = new TestSubscriber(3);
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        first.await();
+        second.await();
+        assertEquals(first.records, second.records);
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RecordPublisher<>(DATA, TEST_SEED, -1, PEOPLE));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RecordPublisher<>(DATA, TEST_SEED, 10, PEOPLE, executor, 0));
+        assertThrows(NullPointerException.class,
+            () -> new RecordPublisher<>(DATA, TEST_SEED, 10, PEOPLE).subscribe(null));
+    }
+}
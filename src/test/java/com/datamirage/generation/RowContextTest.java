@@ -0,0 +1,37 @@
+package com.datamirage.generation;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowContextTest {
+    private static final long TEST_SEED = 12345L;
+    private static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+
+    @Test
+    void stream_ShouldDifferForNamesWithCollidingHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(RowContext.streamSeed(TEST_SEED, "Aa"), RowContext.streamSeed(TEST_SEED, "BB"));
+
+        RowContext context = new RowContext(DATA, TEST_SEED);
+        context.seek(0);
+        assertNotEquals(context.stream("Aa").getRandomService().nextLong(0, Long.MAX_VALUE),
+            context.stream("BB").getRandomService().nextLong(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void streamSeed_ShouldDependOnEveryByteOfTheName() {
+        Set<Long> seeds = new HashSet<>();
+        for (String name : new String[]{"", "a", "b", "ab", "ba", "notes", "notes\0", "notes-0123456789",
+                "notes-0123456788", "ünïcode", "unicode"}) {
+            assertTrue(seeds.add(RowContext.streamSeed(TEST_SEED, name)), name);
+        }
+        assertEquals(RowContext.streamSeed(TEST_SEED, "notes"), RowContext.streamSeed(TEST_SEED, "notes"));
+        assertNotEquals(RowContext.streamSeed(TEST_SEED, "notes"), RowContext.streamSeed(TEST_SEED + 1, "notes"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.datamirage.generation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UniqueLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sync_ShouldAppendOnlyValuesAddedSinceLastSync() throws IOException {
+        Path file = directory.resolve("job.unique");
+        try (UniqueLog log = UniqueLog.open(file, 0)) {
+            log.add("email", "a@example.com");
+            log.add("ünïcode", "ß");
+            long first = log.sync();
+            assertEquals(first, Files.size(file));
+            assertEquals(first, log.sync());
+
+            log.add("email", "b@example.com");
+            long second = log.sync();
+            assertEquals(first + 8 + "email".length() + "b@example.com".length(), second);
+        }
+        assertEquals(Map.of("email", Set.of("a@example.com", "b@example.com"), "ünïcode", Set.of("ß")),
+            UniqueLog.read(file, Files.size(file)));
+    }
+
+    @Test
+    void open_ShouldDiscardEntriesAfterLength() throws IOException {
+        Path file = directory.resolve("job.unique");
+        long length;
+        try (UniqueLog log = UniqueLog.open(file, 0)) {
+            log.add("set", "kept");
+            length = log.sync();
+            log.add("set", "discarded");
+            log.sync();
+        }
+        try (UniqueLog log = UniqueLog.open(file, length)) {
+            log.add("set", "appended");
+            length = log.sync();
+        }
+        assertEquals(length, Files.size(file));
+        assertEquals(Map.of("set", Set.of("kept", "appended")), UniqueLog.read(file, length));
+    }
+
+    @Test
+    void read_ShouldReturnNothingForEmptyLength() throws IOException {
+        assertTrue(UniqueLog.read(directory.resolve("missing.unique"), 0).isEmpty());
+    }
+
+    @Test
+    void read_ShouldThrowExceptionForInvalidLengths() throws IOException {
+        Path file = directory.resolve("job.unique");
+        long length;
+        try (UniqueLog log = UniqueLog.open(file, 0)) {
+            log.add("set", "value");
+            length = log.sync();
+        }
+        assertThrows(IOException.class, () -> UniqueLog.read(file, length + 1));
+        assertThrows(IOException.class, () -> UniqueLog.read(file, length - 1));
+        assertThrows(IOException.class, () -> UniqueLog.open(file, length + 1));
+    }
+}
@@ -3,12 +3,14 @@ package com.datamirage.providers;
 import com.datamirage.util.RandomService;
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
+import com.datamirage.util.LocaleData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -220,4 +222,56 @@ class AddressProviderTest {
         assertTrue(missingFields.isEmpty(), 
                    "The following locales are missing required address fields: " + missingFields);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void cities_ShouldFillArray() {
+        String[] cities = new String[500];
+        assertSame(cities, addressProvider.cities(cities));
+        for (String city : cities) {
+            assertNotNull(city);
+            assertFalse(city.isEmpty());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataMirageLocale.class)
+    void fullAddress_ShouldReplaceAllPlaceholders(DataMirageLocale locale) {
+        AddressProvider provider = new AddressProvider(new RandomService(42L), LocaleData.of(locale));
+        for (int i = 0; i < 200; i++) {
+            String address = provider.fullAddress();
+            assertFalse(address.contains("{{") || address.contains("}}"), address);
+            assertFalse(address.contains("#") || address.contains("?"), address);
+        }
+    }
+
+    @Test
+    void appendFullAddress_ShouldMatchFullAddressWithTheSameSeed() {
+        AddressProvider first = new AddressProvider(new RandomService(42L));
+        AddressProvider second = new AddressProvider(new RandomService(42L));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            sb.setLength(0);
+            assertEquals(first.fullAddress(), second.appendFullAddress(sb).toString());
+            sb.setLength(0);
+            assertEquals(first.streetAddress(), second.appendStreetAddress(sb).toString());
+            sb.setLength(0);
+            assertEquals(first.zipCode(), second.appendZipCode(sb).toString());
+        }
+    }
+
+    @Test
+    void writeFullAddress_ShouldWriteToBuffer() {
+        AddressProvider first = new AddressProvider(new RandomService(42L));
+        AddressProvider second = new AddressProvider(new RandomService(42L));
+        CharBuffer buffer = CharBuffer.allocate(512);
+        String expected = first.fullAddress();
+        assertEquals(expected, second.writeFullAddress(buffer).flip().toString());
+    }
+
+    @Test
+    void cities_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("address", "cities",
+            random -> new AddressProvider(random, BulkPicks.DATA).cities(BulkPicks.COUNT),
+            random -> new AddressProvider(random, BulkPicks.DATA).cities(new String[BulkPicks.COUNT]));
+    }
+}
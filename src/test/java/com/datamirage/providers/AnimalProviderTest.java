@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,4 +98,11 @@ class AnimalProviderTest {
         assertFalse(species.isEmpty());
         assertTrue(species.matches("^[a-z]+$"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void animals_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("animal", "animal_names",
+            random -> new AnimalProvider(random, BulkPicks.DATA).animals(BulkPicks.COUNT),
+            random -> new AnimalProvider(random, BulkPicks.DATA).animals(new String[BulkPicks.COUNT]));
+    }
+}
@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,4 +46,11 @@ class AppProviderTest {
         assertNotNull(category);
         assertFalse(category.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void names_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("app", "app_names",
+            random -> new AppProvider(random, BulkPicks.DATA).names(BulkPicks.COUNT),
+            random -> new AppProvider(random, BulkPicks.DATA).names(new String[BulkPicks.COUNT]));
+    }
+}
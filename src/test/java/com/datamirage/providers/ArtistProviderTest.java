@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,4 +45,11 @@ class ArtistProviderTest {
         assertNotNull(artwork);
         assertFalse(artwork.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void names_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("artist", "names",
+            random -> new ArtistProvider(random, BulkPicks.DATA).names(BulkPicks.COUNT),
+            random -> new ArtistProvider(random, BulkPicks.DATA).names(new String[BulkPicks.COUNT]));
+    }
+}
@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,4 +53,11 @@ class BookProviderTest {
         assertFalse(isbn.isEmpty());
         assertTrue(isbn.matches("^\\d{13}$"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void titles_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("book", "titles",
+            random -> new BookProvider(random, BulkPicks.DATA).titles(BulkPicks.COUNT),
+            random -> new BookProvider(random, BulkPicks.DATA).titles(new String[BulkPicks.COUNT]));
+    }
+}
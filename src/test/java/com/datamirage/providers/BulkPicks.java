@@ -0,0 +1,48 @@
+package com.datamirage.providers;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.Dictionary;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the bulk methods of the providers. A bulk method draws all of its indices with one
+ * {@code DictionarySource.pickIndices} call, which takes two indices from every 64-bit draw, so its
+ * values cannot match the same number of single calls from the same seed. They must be the entries
+ * at the indices of one bulk draw from the same seed instead, for both the array-returning and the
+ * array-filling variant.
+ */
+final class BulkPicks {
+    static final LocaleData DATA = LocaleData.of(DataMirageLocale.EN_US);
+    static final int COUNT = 300;
+    private static final long SEED = 42L;
+
+    private BulkPicks() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Asserts that both variants of a bulk method return the entries of one bulk index draw.
+     *
+     * @param category The category of the dictionary the method picks from
+     * @param field The field of the dictionary the method picks from
+     * @param bulk Creates a provider from the random service and returns {@value #COUNT} values
+     * @param fill Creates a provider from the random service and fills an array of {@value #COUNT} values
+     */
+    static void assertBulkDraw(String category, String field, Function<RandomService, String[]> bulk,
+                               Function<RandomService, String[]> fill) {
+        Dictionary dictionary = DATA.dictionary(category, field);
+        int[] indices = new int[COUNT];
+        dictionary.getSource().snapshot().pickIndices(new RandomService(SEED), indices, 0, COUNT);
+        String[] expected = new String[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            expected[i] = dictionary.get(indices[i]);
+        }
+        assertArrayEquals(expected, bulk.apply(new RandomService(SEED)));
+        assertArrayEquals(expected, fill.apply(new RandomService(SEED)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.datamirage.providers;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows the per-element cost of filling an array of {@value #COUNT} dictionary values with scalar
+ * calls next to the bulk provider methods, for a uniform dictionary of first names, a uniform
+ * dictionary of cities and a dictionary of product names.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkProviderBenchmark {
+    private static final int COUNT = 4096;
+
+    @Param({"Random", "L64X128MixRandom"})
+    public String algorithm;
+
+    private NameProvider names;
+    private AddressProvider addresses;
+    private CommerceProvider commerce;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        LocaleData data = LocaleData.of(DataMirageLocale.EN_US);
+        RandomService random = RandomService.of(algorithm, 42L);
+        names = new NameProvider(random, data);
+        addresses = new AddressProvider(random, data);
+        commerce = new CommerceProvider(random, data);
+        values = new String[COUNT];
+        names.firstNames(values);
+        addresses.cities(values);
+        commerce.productNames(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] firstNameScalar() {
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = names.firstName();
+        }
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] firstNameBulk() {
+        return names.firstNames(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] cityScalar() {
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = addresses.city();
+        }
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] cityBulk() {
+        return addresses.cities(values);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] productNameScalar() {
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = commerce.productName();
+        }
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public String[] productNameBulk() {
+        return commerce.productNames(values);
+    }
+}
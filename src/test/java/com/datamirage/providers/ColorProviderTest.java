@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,4 +56,11 @@ class ColorProviderTest {
         assertFalse(hsl.isEmpty());
         assertTrue(hsl.matches("^hsl\\(\\d{1,3}, \\d{1,3}%, \\d{1,3}%\\)$"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void names_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("color", "color_names",
+            random -> new ColorProvider(random, BulkPicks.DATA).names(BulkPicks.COUNT),
+            random -> new ColorProvider(random, BulkPicks.DATA).names(new String[BulkPicks.COUNT]));
+    }
+}
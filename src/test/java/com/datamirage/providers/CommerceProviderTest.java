@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,4 +46,18 @@ class CommerceProviderTest {
         assertFalse(code.isEmpty());
         assertTrue(code.matches("^PROMO-[A-Z]{4}-\\d{4}$"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void productNames_ShouldMatchSeededBulkDraw() {
+        CommerceProvider first = new CommerceProvider(new RandomService(42L));
+        CommerceProvider second = new CommerceProvider(new RandomService(42L));
+        assertArrayEquals(first.productNames(200), second.productNames(new String[200]));
+    }
+
+    @Test
+    void productNames_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("commerce", "product_names",
+            random -> new CommerceProvider(random, BulkPicks.DATA).productNames(BulkPicks.COUNT),
+            random -> new CommerceProvider(random, BulkPicks.DATA).productNames(new String[BulkPicks.COUNT]));
+    }
+}
@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,4 +45,11 @@ class CompanyProviderTest {
         assertNotNull(industry);
         assertFalse(industry.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void names_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("company", "names",
+            random -> new CompanyProvider(random, BulkPicks.DATA).names(BulkPicks.COUNT),
+            random -> new CompanyProvider(random, BulkPicks.DATA).names(new String[BulkPicks.COUNT]));
+    }
+}
@@ -0,0 +1,104 @@
+package com.datamirage.providers;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.LocaleData;
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the composite values returned as Strings with their {@code appendX} and {@code writeX}
+ * variants, which write into a reused StringBuilder or CharBuffer. Run with {@code -prof gc} to see
+ * the allocated bytes per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompositeValueBenchmark {
+    private NameProvider names;
+    private AddressProvider addresses;
+    private GitProvider git;
+    private WeatherProvider weather;
+    private StringBuilder sb;
+    private CharBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        LocaleData data = LocaleData.of(DataMirageLocale.EN_US);
+        RandomService random = RandomService.of("L64X128MixRandom", 42L);
+        names = new NameProvider(random, data);
+        addresses = new AddressProvider(random, data);
+        git = new GitProvider(random, data);
+        weather = new WeatherProvider(random, data);
+        sb = new StringBuilder(1024);
+        buffer = CharBuffer.allocate(1024);
+    }
+
+    @Benchmark
+    public String fullName() {
+        return names.fullName();
+    }
+
+    @Benchmark
+    public StringBuilder appendFullName() {
+        sb.setLength(0);
+        return names.appendFullName(sb);
+    }
+
+    @Benchmark
+    public CharBuffer writeFullName() {
+        return names.writeFullName(buffer.clear());
+    }
+
+    @Benchmark
+    public String fullAddress() {
+        return addresses.fullAddress();
+    }
+
+    @Benchmark
+    public StringBuilder appendFullAddress() {
+        sb.setLength(0);
+        return addresses.appendFullAddress(sb);
+    }
+
+    @Benchmark
+    public CharBuffer writeFullAddress() {
+        return addresses.writeFullAddress(buffer.clear());
+    }
+
+    @Benchmark
+    public String commitEntry() {
+        return git.commitEntry();
+    }
+
+    @Benchmark
+    public StringBuilder appendCommitEntry() {
+        sb.setLength(0);
+        return git.appendCommitEntry(sb);
+    }
+
+    @Benchmark
+    public String weatherReport() {
+        return weather.weatherReport();
+    }
+
+    @Benchmark
+    public StringBuilder appendWeatherReport() {
+        sb.setLength(0);
+        return weather.appendWeatherReport(sb);
+    }
+}
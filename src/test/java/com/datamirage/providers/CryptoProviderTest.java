@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,4 +54,11 @@ class CryptoProviderTest {
         assertFalse(hash.isEmpty());
         assertEquals(64, hash.length());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void coinNames_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("crypto", "coin_names",
+            random -> new CryptoProvider(random, BulkPicks.DATA).coinNames(BulkPicks.COUNT),
+            random -> new CryptoProvider(random, BulkPicks.DATA).coinNames(new String[BulkPicks.COUNT]));
+    }
+}
@@ -1,10 +1,12 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.Distribution;
 import com.datamirage.util.RandomService;
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,4 +53,18 @@ class FilmProviderTest {
         assertNotNull(character);
         assertFalse(character.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @RepeatedTest(20)
+    void ratingWithDistribution_ShouldStayWithinBounds() {
+        String rating = filmProvider.rating(Distribution.normal(6.5, 1.5).truncate(1.0, 10.0));
+        double value = Double.parseDouble(rating.replace(',', '.'));
+        assertTrue(value >= 1.0 && value <= 10.0);
+    }
+
+    @Test
+    void titles_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("film", "titles",
+            random -> new FilmProvider(random, BulkPicks.DATA).titles(BulkPicks.COUNT),
+            random -> new FilmProvider(random, BulkPicks.DATA).titles(new String[BulkPicks.COUNT]));
+    }
+}
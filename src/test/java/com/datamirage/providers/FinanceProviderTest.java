@@ -1,5 +1,6 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.Distribution;
 import com.datamirage.util.RandomService;
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
@@ -81,4 +82,11 @@ class FinanceProviderTest {
         double value = Double.parseDouble(amount);
         assertTrue(value >= 100.0 && value <= 1000.0);
     }
+
+    @RepeatedTest(20)
+    void amountWithDistribution_ShouldReturnPositiveAmount() {
+        String amount = financeProvider.amount(Distribution.lognormal(4.0, 1.0));
+        assertTrue(amount.matches("^\\d+[.,]\\d{2}$"), amount);
+        assertTrue(Double.parseDouble(amount.replace(',', '.')) >= 0);
+    }
 } 
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,4 +45,11 @@ class FoodProviderTest {
         assertNotNull(dish);
         assertFalse(dish.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void ingredients_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("food", "ingredients",
+            random -> new FoodProvider(random, BulkPicks.DATA).ingredients(BulkPicks.COUNT),
+            random -> new FoodProvider(random, BulkPicks.DATA).ingredients(new String[BulkPicks.COUNT]));
+    }
+}
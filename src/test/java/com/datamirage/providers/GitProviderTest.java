@@ -5,6 +5,9 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,4 +58,30 @@ class GitProviderTest {
         assertFalse(entry.isEmpty());
         assertTrue(entry.matches("^commit [a-f0-9]{40} \\| Author: .+ <.+@.+> \\| Date: [A-Za-z]{3} [A-Za-z]{3} \\d{1,2} \\d{2}:\\d{2}:\\d{2} \\d{4} [+-]\\d{4} \\| .+$"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void appendCommitEntry_ShouldMatchCommitEntryWithTheSameSeed() {
+        GitProvider first = new GitProvider(new RandomService(42L));
+        GitProvider second = new GitProvider(new RandomService(42L));
+        for (int i = 0; i < 50; i++) {
+            // The date is the current time, which may move on between the two calls
+            String expected = first.commitEntry().replaceAll("Date: [^|]+", "");
+            String actual = second.appendCommitEntry(new StringBuilder()).toString().replaceAll("Date: [^|]+", "");
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void writeCommitEntry_ShouldWriteValidEntry() {
+        CharBuffer buffer = CharBuffer.allocate(512);
+        String entry = gitProvider.writeCommitEntry(buffer).flip().toString();
+        assertTrue(entry.matches("^commit [a-f0-9]{40} \\| Author: .+ <.+@.+> \\| Date: .+ \\| .+$"), entry);
+    }
+
+    @Test
+    void commitMessages_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("git", "commit_messages",
+            random -> new GitProvider(random, BulkPicks.DATA).commitMessages(BulkPicks.COUNT),
+            random -> new GitProvider(random, BulkPicks.DATA).commitMessages(new String[BulkPicks.COUNT]));
+    }
+}
@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -102,4 +103,11 @@ class MusicProviderTest {
         assertNotNull(song);
         assertFalse(song.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void genres_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("music", "genres",
+            random -> new MusicProvider(random, BulkPicks.DATA).genres(BulkPicks.COUNT),
+            random -> new MusicProvider(random, BulkPicks.DATA).genres(new String[BulkPicks.COUNT]));
+    }
+}
@@ -0,0 +1,42 @@
+package com.datamirage.providers;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.util.DataLoader;
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of a dictionary pick through {@link NameProvider#firstName()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NameProviderBenchmark {
+    private NameProvider nameProvider;
+
+    @Setup
+    public void setUp() {
+        DataLoader.setLocale(DataMirageLocale.EN_US);
+        nameProvider = new NameProvider(new RandomService(42L));
+        nameProvider.firstName();
+    }
+
+    @Benchmark
+    public String firstName() {
+        return nameProvider.firstName();
+    }
+}
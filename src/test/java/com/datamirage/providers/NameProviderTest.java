@@ -9,6 +9,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -157,4 +159,53 @@ class NameProviderTest {
         assertTrue(missingFields.isEmpty(), 
                   "The following locales are missing required name fields: " + missingFields);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void firstNames_ShouldReturnRequestedNumberOfNames() {
+        String[] names = nameProvider.firstNames(1_000);
+        assertEquals(1_000, names.length);
+        for (String name : names) {
+            assertNotNull(name);
+            assertFalse(name.isEmpty());
+        }
+        assertEquals(0, nameProvider.firstNames(0).length);
+        assertThrows(IllegalArgumentException.class, () -> nameProvider.firstNames(-1));
+    }
+
+    @Test
+    void appendFullName_ShouldMatchFullNameWithTheSameSeed() {
+        NameProvider first = new NameProvider(new RandomService(42L));
+        NameProvider second = new NameProvider(new RandomService(42L));
+        StringBuilder sb = new StringBuilder("> ");
+        for (int i = 0; i < 50; i++) {
+            sb.setLength(2);
+            assertEquals("> " + first.fullName(), second.appendFullName(sb).toString());
+        }
+    }
+
+    @Test
+    void writeFullName_ShouldWriteToBuffer() {
+        NameProvider first = new NameProvider(new RandomService(42L));
+        NameProvider second = new NameProvider(new RandomService(42L));
+        CharBuffer buffer = CharBuffer.allocate(256);
+        String expected = first.fullName() + first.fullName();
+        second.writeFullName(buffer);
+        second.writeFullName(buffer);
+        assertEquals(expected, buffer.flip().toString());
+    }
+
+    @Test
+    void writeFullName_ShouldLeaveFullBufferUnchanged() {
+        CharBuffer buffer = CharBuffer.allocate(3);
+        buffer.put('x');
+        assertThrows(BufferOverflowException.class, () -> nameProvider.writeFullName(buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    void firstNames_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("name", "first_names",
+            random -> new NameProvider(random, BulkPicks.DATA).firstNames(BulkPicks.COUNT),
+            random -> new NameProvider(random, BulkPicks.DATA).firstNames(new String[BulkPicks.COUNT]));
+    }
+}
@@ -1,10 +1,12 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.LongGenerator;
 import com.datamirage.util.RandomService;
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +78,27 @@ class NumberProviderTest {
         assertFalse(octal.isEmpty());
         assertTrue(octal.matches("^[0-7]{8}$"));
     }
-} 
\ No newline at end of file
+
+    @RepeatedTest(20)
+    void number_ShouldReturnLongWithinRange() {
+        long number = numberProvider.number(1L << 39, 1L << 40);
+        assertTrue(number >= 1L << 39 && number <= 1L << 40);
+    }
+
+    @Test
+    void keyGenerators_ShouldProduceKeysWithinRange() {
+        LongGenerator[] generators = {
+            numberProvider.zipfian(0, 999),
+            numberProvider.zipfian(0, 999, 0.5),
+            numberProvider.scrambledZipfian(0, 999),
+            numberProvider.hotspot(0, 999, 0.2, 0.8),
+            numberProvider.latest(0, 999)
+        };
+        for (LongGenerator generator : generators) {
+            for (int i = 0; i < 1_000; i++) {
+                long key = generator.nextLong();
+                assertTrue(key >= 0 && key <= 999, generator + " produced " + key);
+            }
+        }
+    }
+}
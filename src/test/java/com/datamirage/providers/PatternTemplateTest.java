@@ -0,0 +1,39 @@
+package com.datamirage.providers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternTemplateTest {
+    private static final List<String> NAMES = List.of("streets", "building_number");
+    private static final PatternTemplate.Filler FILLER = (sb, placeholder) -> sb.append('<').append(placeholder).append('>');
+
+    private static String fill(String pattern) {
+        return PatternTemplate.compile(pattern, NAMES).appendTo(new StringBuilder(), FILLER).toString();
+    }
+
+    @Test
+    void appendTo_ShouldReplacePlaceholders() {
+        assertEquals("<0> <1>", fill("{{streets}} {{building_number}}"));
+        assertEquals("No: <1>, <0>!", fill("No: {{building_number}}, {{streets}}!"));
+        assertEquals("<1><0><1>", fill("{{building_number}}{{streets}}{{building_number}}"));
+    }
+
+    @Test
+    void appendTo_ShouldKeepLiteralText() {
+        assertEquals("", fill(""));
+        assertEquals("P.O. Box", fill("P.O. Box"));
+        assertEquals("{{unknown}} <0>", fill("{{unknown}} {{streets}}"));
+        assertEquals("<0> {{open", fill("{{streets}} {{open"));
+        assertEquals("} {", fill("} {"));
+    }
+
+    @Test
+    void appendTo_ShouldAppendToExistingContent() {
+        StringBuilder sb = new StringBuilder("> ");
+        PatternTemplate.compile("{{streets}}.", NAMES).appendTo(sb, FILLER);
+        assertEquals("> <0>.", sb.toString());
+    }
+}
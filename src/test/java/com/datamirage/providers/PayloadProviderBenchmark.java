@@ -0,0 +1,74 @@
+package com.datamirage.providers;
+
+import com.datamirage.util.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures payload generation throughput against {@code Random.nextBytes}, for new arrays, the
+ * reusable per-thread buffer and compressible payloads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PayloadProviderBenchmark {
+
+    @Param({"Random", "L64X128MixRandom"})
+    public String algorithm;
+
+    @Param({"65536"})
+    public int size;
+
+    private RandomService random;
+    private PayloadProvider payloads;
+    private byte[] target;
+
+    @Setup
+    public void setUp() {
+        random = RandomService.of(algorithm, 42L);
+        payloads = new PayloadProvider(random);
+        target = new byte[size];
+    }
+
+    @Benchmark
+    public byte[] nextBytes() {
+        random.getRandom().nextBytes(target);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] fill() {
+        payloads.fill(target, 0, size);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] bytes() {
+        return payloads.bytes(size);
+    }
+
+    @Benchmark
+    public ByteBuffer buffer() {
+        return payloads.buffer(size);
+    }
+
+    @Benchmark
+    public ByteBuffer compressibleBuffer() {
+        return payloads.buffer(size, 4.0);
+    }
+}
@@ -0,0 +1,165 @@
+package com.datamirage.providers;
+
+import com.datamirage.distribution.Distribution;
+import com.datamirage.util.RandomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadProviderTest {
+    private static final long TEST_SEED = 12345L;
+
+    private PayloadProvider payloadProvider;
+
+    @BeforeEach
+    void setUp() {
+        payloadProvider = new PayloadProvider(new RandomService());
+    }
+
+    private static double compressionRatio(byte[] payload) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(payload);
+        deflater.finish();
+        byte[] out = new byte[payload.length + 1024];
+        int compressed = 0;
+        while (!deflater.finished()) {
+            compressed += deflater.deflate(out, compressed, out.length - compressed);
+        }
+        deflater.end();
+        return payload.length / (double) compressed;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 1000, 4096})
+    void bytes_ShouldReturnRequestedSize(int size) {
+        assertEquals(size, payloadProvider.bytes(size).length);
+        assertEquals(size, payloadProvider.bytes(size, 4.0).length);
+    }
+
+    @Test
+    void bytes_ShouldUseEveryByteValue() {
+        byte[] payload = payloadProvider.bytes(1 << 16);
+        boolean[] seen = new boolean[256];
+        for (byte b : payload) {
+            seen[b & 0xFF] = true;
+        }
+        for (int i = 0; i < seen.length; i++) {
+            assertTrue(seen[i], "Missing byte " + i);
+        }
+    }
+
+    @Test
+    void bytes_ShouldBeIncompressible() {
+        assertTrue(compressionRatio(payloadProvider.bytes(1 << 20)) < 1.01);
+        assertTrue(compressionRatio(payloadProvider.bytes(1 << 20, 1.0)) < 1.01);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {1.5, 2.0, 4.0, 8.0})
+    void bytesWithCompressionRatio_ShouldCompressByRoughlyThatRatio(double ratio) {
+        double actual = compressionRatio(payloadProvider.bytes(1 << 20, ratio));
+        assertEquals(ratio, actual, ratio * 0.1);
+    }
+
+    @Test
+    void bytes_ShouldBeDeterministicForSameSeed() {
+        PayloadProvider first = new PayloadProvider(new RandomService(TEST_SEED));
+        PayloadProvider second = new PayloadProvider(new RandomService(TEST_SEED));
+        assertArrayEquals(first.bytes(1001, 3.0), second.bytes(1001, 3.0));
+    }
+
+    @RepeatedTest(20)
+    void bytesWithDistribution_ShouldStayWithinTruncatedSizes() {
+        byte[] payload = payloadProvider.bytes(Distribution.lognormal(11, 1.5).truncate(1024, 64 << 10));
+        assertTrue(payload.length >= 1024 && payload.length <= 64 << 10);
+    }
+
+    @Test
+    void size_ShouldClampToArraySizes() {
+        assertEquals(0, payloadProvider.size(Distribution.normal(-100, 1)));
+        assertEquals(Integer.MAX_VALUE - 8, payloadProvider.size(Distribution.normal(1e12, 1)));
+    }
+
+    @Test
+    void fill_ShouldOnlyWriteRequestedRange() {
+        byte[] payload = new byte[32];
+        payloadProvider.fill(payload, 3, 21);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, payload[i]);
+        }
+        for (int i = 24; i < 32; i++) {
+            assertEquals(0, payload[i]);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> payloadProvider.fill(payload, 30, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> payloadProvider.fill(payload, 30, 3, 2.0));
+    }
+
+    @Test
+    void fill_ShouldMatchArrayForDirectBuffersOfAnyByteOrder() {
+        byte[] expected = new PayloadProvider(new RandomService(TEST_SEED)).bytes(1001, 3.0);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1001).order(order);
+            new PayloadProvider(new RandomService(TEST_SEED)).fill(buffer, 3.0);
+            assertFalse(buffer.hasRemaining());
+            byte[] actual = new byte[1001];
+            buffer.flip().get(actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void fill_ShouldFillRemainingBytesOfHeapBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        buffer.position(10).limit(90);
+        payloadProvider.fill(buffer);
+        assertEquals(90, buffer.position());
+        assertEquals(0, buffer.array()[0]);
+        assertEquals(0, buffer.array()[95]);
+    }
+
+    @Test
+    void buffer_ShouldReuseBufferOnSameThread() {
+        ByteBuffer first = payloadProvider.buffer(4096);
+        assertEquals(0, first.position());
+        assertEquals(4096, first.limit());
+        ByteBuffer second = payloadProvider.buffer(1024, 4.0);
+        assertSame(first, second);
+        assertEquals(1024, second.remaining());
+        ByteBuffer larger = payloadProvider.buffer(8192);
+        assertEquals(8192, larger.remaining());
+    }
+
+    @Test
+    void buffer_ShouldBeSharedByProvidersOnSameThread() {
+        ByteBuffer first = payloadProvider.buffer(64);
+        ByteBuffer second = new PayloadProvider(new RandomService()).buffer(64);
+        assertSame(first, second);
+    }
+
+    @Test
+    void buffer_ShouldNotBeSharedBetweenThreads() throws InterruptedException {
+        ByteBuffer mine = payloadProvider.buffer(64);
+        AtomicReference<ByteBuffer> theirs = new AtomicReference<>();
+        Thread thread = new Thread(() -> theirs.set(new PayloadProvider(new RandomService()).buffer(64)));
+        thread.start();
+        thread.join();
+        assertNotSame(mine, theirs.get());
+    }
+
+    @Test
+    void bytes_ShouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> payloadProvider.bytes(-1));
+        assertThrows(IllegalArgumentException.class, () -> payloadProvider.bytes(10, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> payloadProvider.bytes(10, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> payloadProvider.buffer(-1));
+    }
+}
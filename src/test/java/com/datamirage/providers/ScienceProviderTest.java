@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,4 +32,11 @@ class ScienceProviderTest {
         assertFalse(formula.isEmpty());
         assertTrue(formula.matches("^[A-Z][a-z]?\\d*$"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void chemicalElements_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("science", "elements",
+            random -> new ScienceProvider(random, BulkPicks.DATA).chemicalElements(BulkPicks.COUNT),
+            random -> new ScienceProvider(random, BulkPicks.DATA).chemicalElements(new String[BulkPicks.COUNT]));
+    }
+}
@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -89,4 +90,11 @@ class SystemProviderTest {
         assertFalse(name.isEmpty());
         assertTrue(name.contains("."));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void fileNames_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("system", "file_names",
+            random -> new SystemProvider(random, BulkPicks.DATA).fileNames(BulkPicks.COUNT),
+            random -> new SystemProvider(random, BulkPicks.DATA).fileNames(new String[BulkPicks.COUNT]));
+    }
+}
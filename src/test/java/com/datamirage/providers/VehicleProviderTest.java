@@ -5,6 +5,7 @@ import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,4 +74,11 @@ class VehicleProviderTest {
         assertNotNull(licensePlate);
         assertFalse(licensePlate.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void vehicles_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("vehicle", "vehicles",
+            random -> new VehicleProvider(random, BulkPicks.DATA).vehicles(BulkPicks.COUNT),
+            random -> new VehicleProvider(random, BulkPicks.DATA).vehicles(new String[BulkPicks.COUNT]));
+    }
+}
@@ -1,10 +1,14 @@
 package com.datamirage.providers;
 
+import com.datamirage.distribution.Distribution;
 import com.datamirage.util.RandomService;
 import com.datamirage.locale.DataMirageLocale;
 import com.datamirage.util.DataLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,6 +50,15 @@ class WeatherProviderTest {
         assertTrue(temp >= -10 && temp <= 30);
     }
 
+    @RepeatedTest(20)
+    void temperatureCelsiusWithDistribution_ShouldReturnValidTemperature() {
+        String temperature = weatherProvider.temperatureCelsius(Distribution.normal(18, 6).truncate(-5, 40));
+        assertTrue(temperature.matches("^-?\\d+ °C$"));
+
+        int temp = Integer.parseInt(temperature.split(" ")[0]);
+        assertTrue(temp >= -5 && temp <= 40);
+    }
+
     @RepeatedTest(20)
     void temperatureFahrenheit_ShouldReturnValidTemperature() {
         String temperature = weatherProvider.temperatureFahrenheit();
@@ -140,4 +153,29 @@ class WeatherProviderTest {
         int humidityValue = Integer.parseInt(humidity.split(" ")[0]);
         assertTrue(humidityValue >= 0 && humidityValue <= 600);
     }
-} 
\ No newline at end of file
+
+    @RepeatedTest(20)
+    void weatherReport_ShouldReturnValidReport() {
+        String report = weatherProvider.weatherReport();
+        assertTrue(report.matches("^Temperature: -?\\d+ °C, Wind: \\d+ km/h .+, Humidity: \\d+%, Description: .+$"), report);
+    }
+
+    @Test
+    void appendWeatherReport_ShouldMatchWeatherReportWithTheSameSeed() {
+        WeatherProvider first = new WeatherProvider(new RandomService(42L));
+        WeatherProvider second = new WeatherProvider(new RandomService(42L));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.weatherReport(), second.appendWeatherReport(new StringBuilder()).toString());
+        }
+        CharBuffer buffer = CharBuffer.allocate(256);
+        String expected = first.weatherReport();
+        assertEquals(expected, second.writeWeatherReport(buffer).flip().toString());
+    }
+
+    @Test
+    void descriptions_ShouldPickEntriesOfOneBulkIndexDraw() {
+        BulkPicks.assertBulkDraw("weather", "descriptions",
+            random -> new WeatherProvider(random, BulkPicks.DATA).descriptions(BulkPicks.COUNT),
+            random -> new WeatherProvider(random, BulkPicks.DATA).descriptions(new String[BulkPicks.COUNT]));
+    }
+}
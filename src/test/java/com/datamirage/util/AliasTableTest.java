@@ -0,0 +1,65 @@
+package com.datamirage.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasTableTest {
+
+    @Test
+    void probability_ShouldMatchWeights() {
+        double[] weights = {828, 655, 551, 0, 1};
+        double sum = 828 + 655 + 551 + 1;
+        AliasTable table = AliasTable.of(weights);
+        assertEquals(weights.length, table.size());
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / sum, table.probability(i), 1e-12);
+        }
+    }
+
+    @Test
+    void sample_ShouldFollowWeights() {
+        AliasTable table = AliasTable.of(new double[]{1, 2, 3, 4, 0});
+        RandomService random = new RandomService(42L);
+        int[] counts = new int[5];
+        for (int i = 0; i < 100_000; i++) {
+            counts[table.sample(random)]++;
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals((i + 1) * 10_000, counts[i], 1_000, "Unexpected count for index " + i);
+        }
+        assertEquals(0, counts[4]);
+    }
+
+    @Test
+    void sampleBulk_ShouldFollowWeights() {
+        AliasTable table = AliasTable.of(new double[]{1, 2, 3, 4, 0});
+        int[] samples = new int[100_010];
+        table.sample(new RandomService(42L), samples, 5, 100_000);
+        int[] counts = new int[5];
+        for (int i = 5; i < 100_005; i++) {
+            counts[samples[i]]++;
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals((i + 1) * 10_000, counts[i], 1_000, "Unexpected count for index " + i);
+        }
+        assertEquals(0, counts[4]);
+        assertThrows(IndexOutOfBoundsException.class, () -> table.sample(new RandomService(42L), samples, 100_000, 11));
+    }
+
+    @Test
+    void sample_ShouldHandleSingleWeight() {
+        AliasTable table = AliasTable.of(new double[]{0.5});
+        assertEquals(0, table.sample(new RandomService(1L)));
+        assertEquals(1.0, table.probability(0), 1e-12);
+    }
+
+    @Test
+    void of_ShouldThrowExceptionForInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new double[]{1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new double[]{1, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new double[]{1, Double.POSITIVE_INFINITY}));
+    }
+}
@@ -0,0 +1,102 @@
+package com.datamirage.util;
+
+import com.datamirage.providers.CodeProvider;
+import com.datamirage.providers.NumberProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filling a buffer one {@code nextInt(min, max)} call at a time with the bulk
+ * {@link RandomService#nextInts} and {@link RandomService#nextChars} fills, and the digit-based
+ * providers before and after they moved to the bulk fills.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BulkRandomBenchmark {
+
+    @Param({"Random", "L64X128MixRandom"})
+    public String algorithm;
+
+    @Param({"16", "256"})
+    public int length;
+
+    private RandomService random;
+    private NumberProvider numbers;
+    private CodeProvider codes;
+    private int[] ints;
+    private char[] chars;
+
+    @Setup
+    public void setUp() {
+        random = RandomService.of(algorithm, 42L);
+        numbers = new NumberProvider(random);
+        codes = new CodeProvider(random);
+        ints = new int[length];
+        chars = new char[length];
+    }
+
+    @Benchmark
+    public int[] scalarInts() {
+        for (int i = 0; i < length; i++) {
+            ints[i] = random.nextInt(0, 9);
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public int[] bulkInts() {
+        random.nextInts(ints, 0, length, 0, 9);
+        return ints;
+    }
+
+    @Benchmark
+    public char[] scalarChars() {
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('0' + random.nextInt(0, 9));
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public char[] bulkChars() {
+        random.nextChars(chars, 0, length, '0', '9');
+        return chars;
+    }
+
+    /**
+     * The previous implementation of {@link NumberProvider#digits(int)}.
+     */
+    @Benchmark
+    public String scalarDigits() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            result.append(String.valueOf(random.nextInt(0, 9)));
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String bulkDigits() {
+        return numbers.digits(length);
+    }
+
+    @Benchmark
+    public String isbn() {
+        return codes.isbn();
+    }
+}
@@ -0,0 +1,58 @@
+package com.datamirage.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CounterRandomTest {
+    private static final long TEST_SEED = 12345L;
+
+    @Test
+    void nextLong_ShouldDependOnlyOnSeedRowAndCounter() {
+        CounterRandom random = new CounterRandom(TEST_SEED).seek(7);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(CounterRandom.valueAt(TEST_SEED, 7, i), random.nextLong());
+        }
+        assertEquals(10, random.getCounter());
+    }
+
+    @Test
+    void seek_ShouldRestartRow() {
+        CounterRandom random = new CounterRandom(TEST_SEED);
+        random.seek(3);
+        long first = random.nextLong();
+        random.nextLong();
+        random.seek(1_000_000_000_000L).nextLong();
+        assertEquals(first, random.seek(3).nextLong());
+        assertEquals(3, random.getRow());
+    }
+
+    @Test
+    void at_ShouldNotChangeThisGenerator() {
+        CounterRandom random = new CounterRandom(TEST_SEED).seek(5);
+        CounterRandom other = random.at(6);
+        assertEquals(5, random.getRow());
+        assertEquals(6, other.getRow());
+        assertEquals(TEST_SEED, other.getSeed());
+        assertEquals(CounterRandom.valueAt(TEST_SEED, 6, 0), other.nextLong());
+    }
+
+    @Test
+    void nextLong_ShouldDifferBetweenRowsAndSeeds() {
+        assertNotEquals(CounterRandom.valueAt(TEST_SEED, 0, 0), CounterRandom.valueAt(TEST_SEED, 1, 0));
+        assertNotEquals(CounterRandom.valueAt(TEST_SEED, 0, 0), CounterRandom.valueAt(TEST_SEED, 0, 1));
+        assertNotEquals(CounterRandom.valueAt(TEST_SEED, 0, 0), CounterRandom.valueAt(TEST_SEED + 1, 0, 0));
+    }
+
+    @Test
+    void nextInt_ShouldBeRoughlyUniform() {
+        CounterRandom random = new CounterRandom(TEST_SEED);
+        int[] counts = new int[10];
+        for (long row = 0; row < 100_000; row++) {
+            counts[random.seek(row).nextInt(10)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9_500 && count < 10_500, "Unbalanced bucket: " + count);
+        }
+    }
+}
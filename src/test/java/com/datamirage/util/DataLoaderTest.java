@@ -7,7 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -121,4 +124,30 @@ class DataLoaderTest {
             assertFalse(data.isEmpty());
         }, "Failed to load color names data for locale: " + locale);
     }
-} 
\ No newline at end of file
+
+    /** A class loader that finds the test overrides before the bundled data, like an application classpath. */
+    private static URLClassLoader overridingLoader() throws IOException {
+        ClassLoader bundled = DataLoader.class.getClassLoader();
+        URL overrides = bundled.getResource("overrides/");
+        String snapshot = bundled.getResource("snapshots/en_US/color.bin").toExternalForm();
+        URL classes = new URL(snapshot.substring(0, snapshot.length() - "snapshots/en_US/color.bin".length()));
+        return new URLClassLoader(new URL[]{overrides, classes}, null);
+    }
+
+    @Test
+    void readDataFile_ShouldPreferYamlOverrideFromAnotherClasspathEntry() throws IOException {
+        try (URLClassLoader loader = overridingLoader()) {
+            Map<String, Object> data = DataLoader.readDataFile(loader, "en_US", "color");
+            assertEquals(List.of("Override Red", "Override Blue"), data.get("color_names"));
+        }
+    }
+
+    @Test
+    void readDataFile_ShouldUseSnapshotOfBundledFile() throws IOException {
+        try (URLClassLoader loader = overridingLoader()) {
+            Map<String, Object> bundled = DataLoader.readDataFile(loader, "en_US", "name");
+            assertEquals(DataLoader.readSnapshot("snapshots/en_US/name.bin"), bundled);
+        }
+        assertEquals(DataLoader.readSnapshot("snapshots/en_US/color.bin"), DataLoader.readDataFile("en_US", "color"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.datamirage.util;
+
+import com.datamirage.DataMirage;
+import com.datamirage.locale.DataMirageLocale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataPreloaderTest {
+
+    @Test
+    void categories_ShouldListCommonDataFiles() {
+        Set<String> categories = DataPreloader.categories("common");
+        assertTrue(categories.contains("git"));
+        assertTrue(categories.contains("crypto"));
+        assertFalse(categories.contains("git.yaml"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataMirageLocale.class)
+    void preload_ShouldLoadEveryCategoryOfLocale(DataMirageLocale locale) {
+        PreloadReport report = DataMirage.preload(locale);
+
+        Set<String> expected = new TreeSet<>(DataPreloader.categories("common"));
+        expected.addAll(DataPreloader.categories(locale.getCode()));
+        Set<String> loaded = report.getCategories().stream()
+            .map(PreloadReport.CategoryLoad::category)
+            .collect(Collectors.toCollection(TreeSet::new));
+        assertEquals(expected, loaded);
+
+        for (PreloadReport.CategoryLoad load : report.getCategories()) {
+            assertEquals(locale, load.locale());
+            assertTrue(load.retainedBytes() > 0, load.category());
+            assertTrue(LocaleData.of(locale).isLoaded(load.category()), load.category());
+        }
+    }
+
+    @Test
+    void preload_ShouldLoadAllLocalesWhenNoneGiven() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            PreloadReport report = DataPreloader.preload(pool);
+            Set<DataMirageLocale> locales = report.getCategories().stream()
+                .map(PreloadReport.CategoryLoad::locale)
+                .collect(Collectors.toSet());
+            assertEquals(Set.of(DataMirageLocale.values()), locales);
+            assertTrue(report.getTotalRetainedBytes() > 0);
+            assertTrue(report.toString().contains("total"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
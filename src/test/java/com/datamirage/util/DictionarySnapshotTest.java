@@ -0,0 +1,57 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionarySnapshotTest {
+
+    @ParameterizedTest
+    @EnumSource(DataMirageLocale.class)
+    void snapshot_ShouldMatchYamlForAllLocaleFiles(DataMirageLocale locale) throws URISyntaxException {
+        assertSnapshotsMatchYaml(locale.getCode());
+    }
+
+    @Test
+    void snapshot_ShouldMatchYamlForCommonFiles() throws URISyntaxException {
+        assertSnapshotsMatchYaml("common");
+    }
+
+    @Test
+    void writeAndRead_ShouldRoundTripAllValueTypes() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("list", List.of("a", "b", "a"));
+        nested.put("empty", List.of());
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("nested", nested);
+        data.put("numbers", List.of(1, 2L, 3.5, true));
+        data.put("nothing", null);
+
+        assertEquals(data, DictionarySnapshot.read(DictionarySnapshot.write(data)));
+    }
+
+    @Test
+    void read_ShouldRejectInvalidData() {
+        assertThrows(IllegalArgumentException.class, () -> DictionarySnapshot.read(new byte[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> DictionarySnapshot.read("not a snapshot".getBytes()));
+    }
+
+    private void assertSnapshotsMatchYaml(String directory) throws URISyntaxException {
+        File dir = new File(getClass().getClassLoader().getResource("data/" + directory).toURI());
+        for (String file : dir.list()) {
+            String category = file.substring(0, file.lastIndexOf('.'));
+            Map<String, Object> snapshot = DataLoader.readSnapshot("snapshots/" + directory + "/" + category + DictionarySnapshot.EXTENSION);
+            assertNotNull(snapshot, "Missing snapshot for " + directory + "/" + file);
+            assertEquals(DataLoader.readYaml("data/" + directory + "/" + file), snapshot, "Snapshot differs for " + directory + "/" + file);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a random pick from a {@link DictionaryTable} with a pick from a plain String array,
+ * and the copying accessors with materializing a String.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DictionaryTableBenchmark {
+
+    @Param({"EN_US", "RU_RU"})
+    public DataMirageLocale locale;
+
+    private String[] array;
+    private DictionaryTable table;
+    private RandomService random;
+    private final StringBuilder sb = new StringBuilder(64);
+    private final ByteBuffer buffer = ByteBuffer.allocate(256);
+
+    @Setup
+    public void setUp() {
+        table = LocaleData.of(locale).table("address", "cities");
+        array = table.asList().toArray(new String[0]);
+        random = new RandomService(42L);
+    }
+
+    @Benchmark
+    public String arrayPick() {
+        return array[random.nextIndex(array.length)];
+    }
+
+    @Benchmark
+    public String tableGet() {
+        return table.get(random.nextIndex(table.size()));
+    }
+
+    @Benchmark
+    public int tableAppendTo() {
+        sb.setLength(0);
+        return table.appendTo(sb, random.nextIndex(table.size())).length();
+    }
+
+    @Benchmark
+    public int tableWriteUtf8() {
+        buffer.clear();
+        return table.writeUtf8(buffer, random.nextIndex(table.size()));
+    }
+}
@@ -0,0 +1,173 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryTableTest {
+    private static final List<String> LATIN1 = List.of("Ada", "", "Grace", "Ça va", "Müller");
+    private static final List<String> UTF16 = List.of("Иван", "Ada", "İstanbul", "€", "😀 smile");
+
+    @Test
+    void of_ShouldUseLatin1WhenPossible() {
+        assertTrue(DictionaryTable.of(LATIN1).isLatin1());
+        assertFalse(DictionaryTable.of(UTF16).isLatin1());
+    }
+
+    @Test
+    void get_ShouldReturnOriginalEntries() {
+        for (List<String> entries : List.of(LATIN1, UTF16)) {
+            DictionaryTable table = DictionaryTable.of(entries);
+            assertEquals(entries.size(), table.size());
+            for (int i = 0; i < entries.size(); i++) {
+                assertEquals(entries.get(i), table.get(i));
+                assertEquals(entries.get(i).length(), table.length(i));
+            }
+            assertEquals(entries, table.asList());
+        }
+    }
+
+    @Test
+    void get_ShouldThrowForInvalidIndex() {
+        DictionaryTable table = DictionaryTable.of(LATIN1);
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(LATIN1.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.asList().get(LATIN1.size()));
+    }
+
+    @Test
+    void appendTo_ShouldAppendEntry() {
+        for (List<String> entries : List.of(LATIN1, UTF16)) {
+            DictionaryTable table = DictionaryTable.of(entries);
+            StringBuilder sb = new StringBuilder("> ");
+            for (int i = 0; i < entries.size(); i++) {
+                table.appendTo(sb, i).append('|');
+            }
+            assertEquals("> " + String.join("|", entries) + "|", sb.toString());
+        }
+    }
+
+    @Test
+    void writeUtf8_ShouldMatchStringEncoding() {
+        for (List<String> entries : List.of(List.of("Ada", "", "Grace Hopper"), LATIN1, UTF16)) {
+            DictionaryTable table = DictionaryTable.of(entries);
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            for (int i = 0; i < entries.size(); i++) {
+                buffer.clear();
+                int written = table.writeUtf8(buffer, i);
+                byte[] expected = entries.get(i).getBytes(StandardCharsets.UTF_8);
+                assertEquals(expected.length, written);
+                assertArrayEquals(expected, Arrays.copyOf(buffer.array(), written));
+            }
+        }
+    }
+
+    @Test
+    void writeUtf8_ShouldThrowWhenBufferIsFull() {
+        DictionaryTable table = DictionaryTable.of(LATIN1);
+        assertThrows(BufferOverflowException.class, () -> table.writeUtf8(ByteBuffer.allocate(2), 2));
+    }
+
+    @Test
+    void writeUtf8_ShouldLeavePositionUnchangedOnOverflow() {
+        for (List<String> entries : List.of(LATIN1, UTF16)) {
+            DictionaryTable table = DictionaryTable.of(entries);
+            for (int i = 0; i < entries.size(); i++) {
+                int length = entries.get(i).getBytes(StandardCharsets.UTF_8).length;
+                if (length == 0) {
+                    continue;
+                }
+                ByteBuffer buffer = ByteBuffer.allocate(length + 2).position(3);
+                int index = i;
+                assertThrows(BufferOverflowException.class, () -> table.writeUtf8(buffer, index));
+                assertEquals(3, buffer.position());
+            }
+        }
+    }
+
+    @Test
+    void asList_ShouldBeUnmodifiable() {
+        List<String> view = DictionaryTable.of(LATIN1).asList();
+        assertThrows(UnsupportedOperationException.class, () -> view.add("Linus"));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, "Linus"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataMirageLocale.class)
+    void retainedBytes_ShouldBeSmallerThanStringList(DataMirageLocale locale) {
+        List<String> entries = new ArrayList<>(LocaleData.of(locale).getListData("name", "first_names"));
+        DictionaryTable table = DictionaryTable.of(entries);
+        assertTrue(table.retainedBytes() < MemoryEstimator.estimate(entries),
+            table.retainedBytes() + " >= " + MemoryEstimator.estimate(entries));
+    }
+
+    @Test
+    void pickIndex_ShouldFollowWeights() {
+        DictionaryTable table = DictionaryTable.of(List.of("Smith", "Johnson", "Nguyen"), new double[]{8, 2, 0});
+        assertTrue(table.isWeighted());
+        assertEquals(0.8, table.probability(0), 1e-12);
+        RandomService random = new RandomService(42L);
+        int[] counts = new int[3];
+        for (int i = 0; i < 10_000; i++) {
+            counts[table.pickIndex(random)]++;
+        }
+        assertEquals(8_000, counts[0], 300);
+        assertEquals(0, counts[2]);
+    }
+
+    @Test
+    void pickIndices_ShouldFollowWeights() {
+        DictionaryTable table = DictionaryTable.of(List.of("Smith", "Johnson", "Nguyen"), new double[]{8, 2, 0});
+        int[] indices = new int[10_000];
+        table.pickIndices(new RandomService(42L), indices, 0, indices.length);
+        int[] counts = new int[3];
+        for (int index : indices) {
+            counts[index]++;
+        }
+        assertEquals(8_000, counts[0], 300);
+        assertEquals(0, counts[2]);
+    }
+
+    @Test
+    void pickIndices_ShouldStayWithinTableWithoutWeights() {
+        DictionaryTable table = DictionaryTable.of(LATIN1);
+        int[] indices = new int[1_000];
+        table.pickIndices(new RandomService(42L), indices, 0, indices.length);
+        boolean[] seen = new boolean[LATIN1.size()];
+        for (int index : indices) {
+            seen[index] = true;
+        }
+        for (boolean value : seen) {
+            assertTrue(value);
+        }
+    }
+
+    @Test
+    void pickIndex_ShouldBeUniformWithoutWeights() {
+        DictionaryTable table = DictionaryTable.of(LATIN1);
+        assertFalse(table.isWeighted());
+        assertEquals(1.0 / LATIN1.size(), table.probability(3), 1e-12);
+    }
+
+    @Test
+    void of_ShouldThrowExceptionForMismatchedWeights() {
+        assertThrows(IllegalArgumentException.class, () -> DictionaryTable.of(LATIN1, new double[]{1, 2}));
+    }
+
+    @Test
+    void equals_ShouldCompareWeights() {
+        List<String> entries = List.of("a", "b");
+        assertEquals(DictionaryTable.of(entries, new double[]{1, 3}), DictionaryTable.of(entries, new double[]{1, 3}));
+        assertNotEquals(DictionaryTable.of(entries, new double[]{1, 3}), DictionaryTable.of(entries));
+    }
+}
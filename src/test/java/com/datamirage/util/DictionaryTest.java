@@ -0,0 +1,75 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryTest {
+    private static final Dictionary FIRST_NAMES = LocaleData.of(DataMirageLocale.EN_US).dictionary("name", "first_names");
+
+    @Test
+    void pickBulk_ShouldReturnEntriesOfDictionary() {
+        Set<String> entries = new HashSet<>(FIRST_NAMES.asList());
+        String[] picked = FIRST_NAMES.pick(new RandomService(42L), 5_000);
+        assertEquals(5_000, picked.length);
+        Set<String> distinct = new HashSet<>();
+        for (String name : picked) {
+            assertTrue(entries.contains(name), name);
+            distinct.add(name);
+        }
+        assertTrue(distinct.size() > Math.min(entries.size(), 5_000) / 2);
+    }
+
+    @Test
+    void pickBulk_ShouldFillOnlyRequestedRange() {
+        String[] names = new String[Dictionary.BULK_CHUNK * 2 + 10];
+        FIRST_NAMES.pick(new RandomService(42L), names, 3, names.length - 6);
+        assertNull(names[2]);
+        assertNotNull(names[3]);
+        assertNotNull(names[names.length - 4]);
+        assertNull(names[names.length - 3]);
+    }
+
+    @Test
+    void pickBulk_ShouldShareRepeatedEntries() {
+        String[] names = FIRST_NAMES.pick(new RandomService(42L), FIRST_NAMES.size() * 4);
+        for (int i = 1; i < names.length; i++) {
+            for (int j = 0; j < i; j++) {
+                if (names[i].equals(names[j])) {
+                    assertSame(names[j], names[i]);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void pickBulk_ShouldBeDeterministicForSameSeed() {
+        assertArrayEquals(FIRST_NAMES.pick(new RandomService(42L), 3_000), FIRST_NAMES.pick(new RandomService(42L), 3_000));
+    }
+
+    @Test
+    void pickBulk_ShouldFollowWeights() {
+        LocaleData data = LocaleData.of(DataMirageLocale.EN_US)
+            .withDictionary("name", "first_names", DictionaryTable.of(List.of("Ada", "Grace"), new double[]{9, 1}));
+        String[] names = data.dictionary("name", "first_names").pick(new RandomService(42L), 10_000);
+        int ada = 0;
+        for (String name : names) {
+            ada += name.equals("Ada") ? 1 : 0;
+        }
+        assertEquals(9_000, ada, 300);
+    }
+
+    @Test
+    void pickBulk_ShouldThrowExceptionForInvalidArguments() {
+        RandomService random = new RandomService(42L);
+        assertThrows(IllegalArgumentException.class, () -> FIRST_NAMES.pick(random, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> FIRST_NAMES.pick(random, new String[4], 2, 3));
+        assertEquals(0, FIRST_NAMES.pick(random, 0).length);
+    }
+}
@@ -0,0 +1,69 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the heap retained by the dictionary tables of all locales with and without sharing
+ * common categories and identical tables between locales.
+ */
+class LocaleDataFootprintTest {
+
+    @Test
+    void sharedTables_ShouldRetainLessHeapThanPerLocaleCopies() {
+        long unshared = 0;
+        Set<DictionaryTable> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (DataMirageLocale locale : DataMirageLocale.values()) {
+            for (String category : categories(locale)) {
+                // Every locale parsing and storing its own copy of the common data, as before
+                Map<String, DictionaryTable> copy = new HashMap<>();
+                Map<String, Object> common = DataLoader.readDataFile("common", category);
+                Map<String, Object> specific = DataLoader.readDataFile(locale.getCode(), category);
+                if (common != null) {
+                    copy.putAll(LocaleData.tables(common));
+                }
+                if (specific != null) {
+                    copy.putAll(LocaleData.tables(specific));
+                }
+                for (DictionaryTable table : copy.values()) {
+                    unshared += table.retainedBytes();
+                }
+
+                Map<String, DictionaryTable> tables = LocaleData.of(locale).categoryTables(category);
+                assertEquals(copy, tables, locale + "/" + category);
+                shared.addAll(tables.values());
+            }
+        }
+
+        long retained = shared.stream().mapToLong(DictionaryTable::retainedBytes).sum();
+        System.out.println("Dictionary tables of all locales: " + unshared + " bytes as per-locale copies, "
+            + retained + " bytes shared, " + (unshared - retained) + " bytes saved");
+        assertTrue(retained < unshared);
+    }
+
+    @Test
+    void commonTables_ShouldBeSharedAcrossLocales() {
+        DictionaryTable first = LocaleData.of(DataMirageLocale.TR_TR).table("git", "commit_messages");
+        for (DataMirageLocale locale : DataMirageLocale.values()) {
+            assertSame(first, LocaleData.of(locale).table("git", "commit_messages"), locale.getCode());
+            assertSame(LocaleData.of(DataMirageLocale.EN_US).table("system", "mime_types"),
+                LocaleData.of(locale).table("system", "mime_types"), locale.getCode());
+        }
+    }
+
+    private static Set<String> categories(DataMirageLocale locale) {
+        Set<String> categories = new TreeSet<>(DataPreloader.categories("common"));
+        categories.addAll(DataPreloader.categories(locale.getCode()));
+        return categories;
+    }
+}
@@ -0,0 +1,142 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocaleDataTest {
+
+    @Test
+    void of_ShouldReturnSameInstanceForSameLocale() {
+        assertSame(LocaleData.of(DataMirageLocale.DE_DE), LocaleData.of(DataMirageLocale.DE_DE));
+        assertNotSame(LocaleData.of(DataMirageLocale.DE_DE), LocaleData.of(DataMirageLocale.FR_FR));
+    }
+
+    @Test
+    void dictionary_ShouldReturnSameHandleForSameKey() {
+        Dictionary first = LocaleData.of(DataMirageLocale.EN_US).dictionary("name", "first_names");
+        Dictionary second = LocaleData.of(DataMirageLocale.EN_US).dictionary("name", "first_names");
+        assertSame(first, second);
+    }
+
+    @Test
+    void dictionary_ShouldReturnDifferentHandlesPerLocale() {
+        Dictionary english = LocaleData.of(DataMirageLocale.EN_US).dictionary("name", "first_names");
+        Dictionary german = LocaleData.of(DataMirageLocale.DE_DE).dictionary("name", "first_names");
+        assertNotSame(english, german);
+        assertNotEquals(english.asList(), german.asList());
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataMirageLocale.class)
+    void handle_ShouldIgnoreGlobalLocaleChanges(DataMirageLocale locale) {
+        DataMirageLocale original = DataLoader.getCurrentLocale();
+        try {
+            Dictionary dictionary = LocaleData.of(locale).dictionary("address", "cities");
+            DataLoader.setLocale(locale == DataMirageLocale.TR_TR ? DataMirageLocale.EN_US : DataMirageLocale.TR_TR);
+            assertEquals(DataLoader.getListData(locale, "address", "cities"), dictionary.asList());
+        } finally {
+            DataLoader.setLocale(original);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DataMirageLocale.class)
+    void getListData_ShouldMatchDataLoader(DataMirageLocale locale) {
+        assertEquals(DataLoader.getListData(locale, "name", "first_names"),
+            LocaleData.of(locale).getListData("name", "first_names"));
+        assertEquals(DataLoader.hasLocaleSpecificField(locale, "address", "state_abbrs"),
+            LocaleData.of(locale).hasLocaleSpecificField("address", "state_abbrs"));
+    }
+
+    @Test
+    void getListData_ShouldReturnUnmodifiableList() {
+        List<String> names = LocaleData.of(DataMirageLocale.EN_US).getListData("name", "first_names");
+        assertThrows(UnsupportedOperationException.class, () -> names.add("Mirage"));
+    }
+
+    @RepeatedTest(20)
+    void pick_ShouldReturnEntryOfDictionary() {
+        Dictionary dictionary = LocaleData.of(DataMirageLocale.TR_TR).dictionary("name", "last_names");
+        String value = dictionary.pick(new RandomService());
+        assertTrue(dictionary.asList().contains(value));
+    }
+
+    @Test
+    void pick_ShouldThrowForMissingField() {
+        Dictionary dictionary = LocaleData.of(DataMirageLocale.TR_TR).dictionary("name", "invalid_field");
+        assertThrows(RuntimeException.class, () -> dictionary.pick(new RandomService()));
+    }
+
+    @Test
+    void requireLocaleSpecific_ShouldThrowForCommonOnlyField() {
+        Dictionary dictionary = LocaleData.of(DataMirageLocale.TR_TR).dictionary("git", "commit_messages");
+        assertFalse(dictionary.isLocaleSpecific());
+        assertThrows(IllegalStateException.class, dictionary::requireLocaleSpecific);
+    }
+
+    @Test
+    void entries_ShouldJoinYamlMapEntries() {
+        Dictionary dictionary = LocaleData.of(DataMirageLocale.EN_US).dictionary("film", "titles");
+        assertTrue(dictionary.asList().stream().anyMatch(title -> title.startsWith("Star Wars: ")));
+    }
+
+    @Test
+    void tables_ShouldReadWeightedEntries(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("name.yaml");
+        Files.writeString(file, """
+            last_names:
+              - {value: "Smith", w: 828}
+              - {value: "Johnson", w: 655.5}
+              - Nguyen
+              - "Key: value"
+            first_names:
+              - Ada
+            """);
+        Map<String, DictionaryTable> tables = LocaleData.tables(DataLoader.readYaml(file));
+
+        DictionaryTable lastNames = tables.get("last_names");
+        assertEquals(List.of("Smith", "Johnson", "Nguyen", "Key: value"), lastNames.asList());
+        assertTrue(lastNames.isWeighted());
+        assertEquals(828 / 1485.5, lastNames.probability(0), 1e-12);
+        assertEquals(1 / 1485.5, lastNames.probability(2), 1e-12);
+        assertFalse(tables.get("first_names").isWeighted());
+
+        Map<String, DictionaryTable> fromSnapshot = LocaleData.tables(
+            DictionarySnapshot.read(DictionarySnapshot.write(DataLoader.readYaml(file))));
+        assertEquals(tables, fromSnapshot);
+    }
+
+    @Test
+    void tables_ShouldRejectNegativeWeights(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("name.yaml");
+        Files.writeString(file, "last_names:\n  - {value: \"Smith\", w: -1}\n");
+        Map<String, Object> data = DataLoader.readYaml(file);
+        assertThrows(IllegalArgumentException.class, () -> LocaleData.tables(data));
+    }
+
+    @Test
+    void pick_ShouldFollowWeightsOfOverriddenField() {
+        DictionaryTable weighted = DictionaryTable.of(List.of("gmail.com", "example.org"), new double[]{99, 1});
+        Dictionary dictionary = LocaleData.of(DataMirageLocale.EN_US)
+            .withDictionary("internet", "free_email", weighted)
+            .dictionary("internet", "free_email");
+        RandomService random = new RandomService(42L);
+        int gmail = 0;
+        for (int i = 0; i < 10_000; i++) {
+            gmail += dictionary.pick(random).equals("gmail.com") ? 1 : 0;
+        }
+        assertEquals(9_900, gmail, 100);
+    }
+}
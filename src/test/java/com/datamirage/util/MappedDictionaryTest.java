@@ -0,0 +1,122 @@
+package com.datamirage.util;
+
+import com.datamirage.DataMirage;
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.providers.NameProvider;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedDictionaryTest {
+    private static final List<String> ENTRIES = List.of("Smith", "Müller", "Иванов", "", "Yılmaz", "😀 Smile");
+
+    @TempDir
+    Path directory;
+
+    private Path write(String content) throws IOException {
+        Path file = directory.resolve("entries.txt");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void open_ShouldServeEveryLine() throws IOException {
+        MappedDictionary dictionary = MappedDictionary.open(write(String.join("\n", ENTRIES) + "\n"));
+        assertEquals(ENTRIES, dictionary.asList());
+    }
+
+    @Test
+    void open_ShouldAcceptLastLineWithoutTerminator() throws IOException {
+        MappedDictionary dictionary = MappedDictionary.open(write(String.join("\n", ENTRIES)));
+        assertEquals(ENTRIES, dictionary.asList());
+    }
+
+    @Test
+    void open_ShouldIgnoreCarriageReturnsAndByteOrderMark() throws IOException {
+        MappedDictionary dictionary = MappedDictionary.open(write("﻿" + String.join("\r\n", ENTRIES) + "\r\n"));
+        assertEquals(ENTRIES, dictionary.asList());
+    }
+
+    @Test
+    void open_ShouldHandleEmptyFile() throws IOException {
+        MappedDictionary dictionary = MappedDictionary.open(write(""));
+        assertEquals(0, dictionary.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.get(0));
+    }
+
+    @Test
+    void appendTo_ShouldDecodeEntries() throws IOException {
+        MappedDictionary dictionary = MappedDictionary.open(write(String.join("\n", ENTRIES)));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < dictionary.size(); i++) {
+            dictionary.appendTo(sb, i).append('|');
+        }
+        assertEquals(String.join("|", ENTRIES) + "|", sb.toString());
+    }
+
+    @Test
+    void writeUtf8_ShouldCopyRawBytes() throws IOException {
+        MappedDictionary dictionary = MappedDictionary.open(write(String.join("\r\n", ENTRIES)));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (int i = 0; i < dictionary.size(); i++) {
+            buffer.clear();
+            int written = dictionary.writeUtf8(buffer, i);
+            assertArrayEquals(ENTRIES.get(i).getBytes(StandardCharsets.UTF_8), Arrays.copyOf(buffer.array(), written));
+            assertEquals(written, dictionary.slice(i).remaining());
+        }
+    }
+
+    @Test
+    void writeIndex_ShouldBeUsedByOpen() throws IOException {
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            entries.add("Entry " + i);
+        }
+        Path file = write(String.join("\n", entries) + "\n");
+        Path index = MappedDictionary.writeIndex(file);
+        assertEquals(directory.resolve("entries.txt" + MappedDictionary.INDEX_EXTENSION), index);
+
+        MappedDictionary dictionary = MappedDictionary.open(file);
+        assertEquals(entries.size(), dictionary.size());
+        assertEquals("Entry 0", dictionary.get(0));
+        assertEquals("Entry 54321", dictionary.get(54321));
+        assertEquals("Entry 99999", dictionary.get(99999));
+    }
+
+    @Test
+    void open_ShouldIgnoreStaleIndex() throws IOException {
+        Path file = write("a\nb\n");
+        MappedDictionary.writeIndex(file);
+        Files.write(file, "first\nsecond\nthird\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        MappedDictionary dictionary = MappedDictionary.open(file);
+        assertEquals(List.of("first", "second", "third"), dictionary.asList());
+    }
+
+    @RepeatedTest(10)
+    void withDictionary_ShouldServeProvidersFromFile() throws IOException {
+        List<String> surnames = List.of("Mapped", "Memory", "Offset");
+        LocaleData data = LocaleData.of(DataMirageLocale.EN_US)
+            .withDictionary("name", "last_names", MappedDictionary.open(write(String.join("\n", surnames))));
+
+        NameProvider provider = new NameProvider(new RandomService(), data);
+        assertTrue(surnames.contains(provider.lastName()));
+        assertTrue(surnames.contains(new DataMirage(data).name().lastName()));
+        assertTrue(LocaleData.of(DataMirageLocale.EN_US).getListData("name", "first_names")
+            .contains(provider.firstName()));
+        assertFalse(LocaleData.of(DataMirageLocale.EN_US).getListData("name", "last_names").contains("Mapped"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.datamirage.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryEstimatorTest {
+
+    @Test
+    void string_ShouldUseOneBytePerLatin1Character() {
+        // 24 byte String object plus a 16 byte array header and 8 characters
+        assertEquals(24 + 24, MemoryEstimator.string("abcdefgh"));
+    }
+
+    @Test
+    void string_ShouldUseTwoBytesPerNonLatin1Character() {
+        assertEquals(24 + 32, MemoryEstimator.string("абвгдежз"));
+    }
+
+    @Test
+    void estimate_ShouldCountSharedNodesOnce() {
+        String shared = "shared value";
+        List<Object> sharing = new ArrayList<>(List.of(shared, shared));
+        List<Object> copying = new ArrayList<>(List.of(shared, new String(shared)));
+        assertEquals(MemoryEstimator.string(shared), MemoryEstimator.estimate(copying) - MemoryEstimator.estimate(sharing));
+        assertEquals(MemoryEstimator.estimate(sharing), MemoryEstimator.estimate(sharing, sharing));
+    }
+
+    @Test
+    void estimate_ShouldIncludeNestedValues() {
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("names", new ArrayList<>(List.of("Ada", "Grace")));
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("name", inner);
+        assertTrue(MemoryEstimator.estimate(root) > MemoryEstimator.estimate(inner));
+        assertTrue(MemoryEstimator.estimate(inner) > MemoryEstimator.string("Ada") + MemoryEstimator.string("Grace"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the random generator algorithms behind {@link RandomService} at 1, 4 and 16 threads.
+ * Every thread owns a service seeded from its thread index, which is how the non-thread-safe
+ * algorithms must be used. The {@code shared} benchmarks let all threads draw from a single
+ * {@link java.util.Random}-backed service, the way a shared DataMirage instance behaves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class RandomServiceBenchmark {
+    private static final List<String> ELEMENTS = LocaleData.of(DataMirageLocale.EN_US)
+        .getListData("name", "first_names");
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        @Param({"Random", "SplittableRandom", "L64X128MixRandom", "Xoshiro256PlusPlus"})
+        public String algorithm;
+
+        RandomService random;
+
+        @Setup
+        public void setUp(ThreadParams threadParams) {
+            random = RandomService.of(algorithm, 42L + threadParams.getThreadIndex());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final RandomService random = new RandomService(42L);
+    }
+
+    @Benchmark
+    public int nextInt(PerThread state) {
+        return state.random.nextInt(1, 1000);
+    }
+
+    @Benchmark
+    public String randomElement(PerThread state) {
+        return state.random.randomElement(ELEMENTS);
+    }
+
+    @Benchmark
+    public String randomString(PerThread state) {
+        return state.random.randomString(16, true, true, true, false);
+    }
+
+    @Benchmark
+    public int sharedNextInt(Shared state) {
+        return state.random.nextInt(1, 1000);
+    }
+
+    @Benchmark
+    public String sharedRandomString(Shared state) {
+        return state.random.randomString(16, true, true, true, false);
+    }
+
+    @Threads(1)
+    public static class OneThread extends RandomServiceBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends RandomServiceBenchmark {
+    }
+
+    @Threads(16)
+    public static class SixteenThreads extends RandomServiceBenchmark {
+    }
+}
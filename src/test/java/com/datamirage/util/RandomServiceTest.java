@@ -2,10 +2,16 @@ package com.datamirage.util;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,4 +103,291 @@ class RandomServiceTest {
     void randomString_ShouldThrowExceptionForNoCharacterTypes() {
         assertThrows(IllegalArgumentException.class, () -> randomService.randomString(10, false, false, false, false));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void seedConstructor_ShouldMatchJavaUtilRandom() {
+        Random expected = new Random(TEST_SEED);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.nextInt(50) + 10, randomService.nextInt(10, 59));
+        }
+        assertInstanceOf(Random.class, randomService.getGenerator());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Random", "L64X128MixRandom", "Xoshiro256PlusPlus", "SplittableRandom"})
+    void of_ShouldBeDeterministicForSameSeed(String algorithm) {
+        RandomService first = RandomService.of(algorithm, TEST_SEED);
+        RandomService second = RandomService.of(algorithm, TEST_SEED);
+        List<String> list = Arrays.asList("a", "b", "c", "d", "e");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextInt(0, 1000), second.nextInt(0, 1000));
+            assertEquals(first.randomElement(list), second.randomElement(list));
+            assertEquals(first.randomString(12, true, true, true, true), second.randomString(12, true, true, true, true));
+            assertEquals(first.bothify("##??"), second.bothify("##??"));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"L64X128MixRandom", "Xoshiro256PlusPlus", "SplittableRandom"})
+    void of_ShouldStayWithinBounds(String algorithm) {
+        RandomService service = RandomService.of(algorithm, TEST_SEED);
+        for (int i = 0; i < 1000; i++) {
+            int value = service.nextInt(-5, 5);
+            assertTrue(value >= -5 && value <= 5);
+            double d = service.nextDouble(1.0, 2.0);
+            assertTrue(d >= 1.0 && d < 2.0);
+        }
+    }
+
+    @Test
+    void of_ShouldThrowExceptionForUnknownAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> RandomService.of("NoSuchRandom", TEST_SEED));
+    }
+
+    @Test
+    void getRandom_ShouldDrawFromGenerator() {
+        RandomService service = new RandomService(new SplittableRandom(TEST_SEED));
+        SplittableRandom expected = new SplittableRandom(TEST_SEED);
+        Random random = service.getRandom();
+        assertEquals(expected.nextInt(100), random.nextInt(100));
+        assertEquals(expected.nextLong(), random.nextLong());
+        assertThrows(UnsupportedOperationException.class, () -> random.setSeed(1L));
+    }
+
+    @Test
+    void constructor_ShouldThrowExceptionForNullGenerator() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomService((RandomGenerator) null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Random", "L64X128MixRandom", "Xoshiro256PlusPlus", "SplittableRandom"})
+    void split_ShouldBeReproducibleForSameSeed(String algorithm) {
+        List<RandomService> first = RandomService.of(algorithm, TEST_SEED).split(4);
+        List<RandomService> second = RandomService.of(algorithm, TEST_SEED).split(4);
+        assertEquals(4, first.size());
+        for (int partition = 0; partition < 4; partition++) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(first.get(partition).nextInt(0, 1_000_000), second.get(partition).nextInt(0, 1_000_000));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Random", "L64X128MixRandom", "Xoshiro256PlusPlus", "SplittableRandom"})
+    void split_ShouldProduceDistinctStreams(String algorithm) {
+        RandomService parent = RandomService.of(algorithm, TEST_SEED);
+        RandomService child = parent.split();
+        assertNotSame(parent.getGenerator(), child.getGenerator());
+        long[] parentValues = new long[8];
+        long[] childValues = new long[8];
+        for (int i = 0; i < 8; i++) {
+            parentValues[i] = parent.getGenerator().nextLong();
+            childValues[i] = child.getGenerator().nextLong();
+        }
+        assertFalse(Arrays.equals(parentValues, childValues));
+    }
+
+    @Test
+    void split_ShouldThrowExceptionForNegativeCount() {
+        assertThrows(IllegalArgumentException.class, () -> randomService.split(-1));
+    }
+
+    @Test
+    void seek_ShouldReproduceRow() {
+        RandomService service = RandomService.counterBased(TEST_SEED);
+        assertTrue(service.isCounterBased());
+        String row = service.seek(10_000_000_000L).randomString(20, true, true, true, false);
+        service.seek(3).nextInt(0, 100);
+        assertEquals(row, service.seek(10_000_000_000L).randomString(20, true, true, true, false));
+        assertEquals(row, RandomService.counterBased(TEST_SEED).at(10_000_000_000L).randomString(20, true, true, true, false));
+    }
+
+    @Test
+    void seek_ShouldThrowExceptionForSequentialService() {
+        assertFalse(randomService.isCounterBased());
+        assertThrows(UnsupportedOperationException.class, () -> randomService.seek(1));
+        assertThrows(UnsupportedOperationException.class, () -> randomService.at(1));
+    }
+
+    @Test
+    void split_ShouldKeepCounterBasedMode() {
+        assertTrue(RandomService.counterBased(TEST_SEED).split().isCounterBased());
+    }
+
+    @RepeatedTest(20)
+    void nextInts_ShouldFillRangeWithinBounds() {
+        int[] values = new int[1000];
+        randomService.nextInts(values, 10, 980, -3, 3);
+        for (int i = 0; i < values.length; i++) {
+            if (i < 10 || i >= 990) {
+                assertEquals(0, values[i]);
+            } else {
+                assertTrue(values[i] >= -3 && values[i] <= 3);
+            }
+        }
+    }
+
+    @Test
+    void nextInts_ShouldBeUniform() {
+        int[] values = new int[70_000];
+        randomService.nextInts(values, 0, values.length, 0, 6);
+        int[] counts = new int[7];
+        for (int value : values) {
+            counts[value]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9_500 && count < 10_500, "Unbalanced bucket: " + count);
+        }
+    }
+
+    @Test
+    void nextInts_ShouldSupportFullIntRange() {
+        int[] values = new int[100];
+        randomService.nextInts(values, 0, values.length, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertTrue(Arrays.stream(values).anyMatch(value -> value < 0));
+        assertTrue(Arrays.stream(values).anyMatch(value -> value > 0));
+    }
+
+    @Test
+    void nextInts_ShouldBeDeterministicForSameSeed() {
+        int[] first = new int[100];
+        int[] second = new int[100];
+        new RandomService(TEST_SEED).nextInts(first, 0, 100, 0, 999);
+        new RandomService(TEST_SEED).nextInts(second, 0, 100, 0, 999);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void nextInts_ShouldThrowExceptionForInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> randomService.nextInts(new int[4], 0, 4, 5, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> randomService.nextInts(new int[4], 2, 3, 0, 9));
+    }
+
+    @RepeatedTest(20)
+    void nextChars_ShouldFillWithCharactersInRange() {
+        char[] digits = new char[32];
+        randomService.nextChars(digits, 0, digits.length, '0', '9');
+        assertTrue(new String(digits).matches("\\d{32}"));
+    }
+
+    @RepeatedTest(20)
+    void nextBytes_ShouldFillWithBytesInRange() {
+        byte[] bytes = new byte[64];
+        randomService.nextBytes(bytes, 0, bytes.length, (byte) -2, (byte) 2);
+        for (byte b : bytes) {
+            assertTrue(b >= -2 && b <= 2);
+        }
+    }
+
+    @Test
+    void nextChars_ShouldSplitEveryDrawForPowerOfTwoAlphabet() {
+        CountingGenerator generator = new CountingGenerator(TEST_SEED);
+        RandomService service = new RandomService(generator);
+        String sha = service.nextString(40, "0123456789abcdef");
+        assertTrue(sha.matches("[0-9a-f]{40}"));
+        assertEquals(3, generator.draws);
+        service.nextString(64, "01");
+        assertEquals(4, generator.draws);
+        service.nextString(21, "01234567");
+        assertEquals(5, generator.draws);
+    }
+
+    @Test
+    void nextChars_ShouldPickAlphabetUniformly() {
+        for (String alphabet : List.of("0123456789abcdef", "abcde")) {
+            char[] chars = new char[alphabet.length() * 10_000];
+            randomService.nextChars(chars, 0, chars.length, alphabet);
+            int[] counts = new int[alphabet.length()];
+            for (char c : chars) {
+                counts[alphabet.indexOf(c)]++;
+            }
+            for (int count : counts) {
+                assertTrue(count > 9_500 && count < 10_500, "Unbalanced bucket: " + count);
+            }
+        }
+    }
+
+    @Test
+    void nextString_ShouldHandleEdgeCases() {
+        assertEquals("", randomService.nextString(0, "01"));
+        assertEquals("aaa", randomService.nextString(3, "a"));
+        assertThrows(IllegalArgumentException.class, () -> randomService.nextString(3, ""));
+    }
+
+    @Test
+    void appendString_ShouldDrawLikeNextString() {
+        RandomService other = new RandomService(TEST_SEED);
+        StringBuilder sb = new StringBuilder();
+        for (int length : new int[]{0, 1, 40, 100, 1000}) {
+            sb.setLength(0);
+            assertEquals(other.nextString(length, "0123456789abcdef"),
+                randomService.appendString(sb, length, "0123456789abcdef").toString());
+            sb.setLength(0);
+            assertEquals(other.nextString(length, "ABC"), randomService.appendString(sb, length, "ABC").toString());
+        }
+    }
+
+    @Test
+    void randomize_ShouldRandomizeBuilderInPlaceLikeString() {
+        RandomService other = new RandomService(TEST_SEED);
+        StringBuilder sb = new StringBuilder("??-##");
+        for (int i = 0; i < 20; i++) {
+            sb.setLength(3);
+            sb.append("##### ???");
+            String expected = "??-" + other.randomize("##### ???");
+            assertEquals(expected, randomService.randomize(sb, 3).toString());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> randomService.randomize(new StringBuilder("#"), 2));
+    }
+
+    @Test
+    void nextBoolean_ShouldUseOneDrawPer63Booleans() {
+        CountingGenerator generator = new CountingGenerator(TEST_SEED);
+        RandomService service = new RandomService(generator);
+        int trues = 0;
+        for (int i = 0; i < 63 * 1000; i++) {
+            trues += service.nextBoolean() ? 1 : 0;
+        }
+        assertEquals(1000, generator.draws);
+        assertTrue(trues > 30_500 && trues < 32_500, "Unbalanced booleans: " + trues);
+    }
+
+    @Test
+    void nextBoolean_ShouldDrawFromRandomOnEveryCall() {
+        Random expected = new Random(TEST_SEED);
+        RandomService service = new RandomService(new Random(TEST_SEED));
+        for (int i = 0; i < 200; i++) {
+            assertEquals(expected.nextBoolean(), service.nextBoolean());
+        }
+    }
+
+    @Test
+    void seek_ShouldDiscardPooledBooleans() {
+        RandomService service = RandomService.counterBased(TEST_SEED);
+        boolean[] first = new boolean[5];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = service.seek(7).nextBoolean();
+        }
+        for (boolean value : first) {
+            assertEquals(first[0], value);
+        }
+    }
+
+    /**
+     * Counts the 64-bit draws made from a SplittableRandom.
+     */
+    private static final class CountingGenerator implements RandomGenerator {
+        private final SplittableRandom random;
+        private int draws;
+
+        CountingGenerator(long seed) {
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public long nextLong() {
+            draws++;
+            return random.nextLong();
+        }
+    }
+}
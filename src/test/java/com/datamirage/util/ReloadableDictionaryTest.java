@@ -0,0 +1,171 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import com.datamirage.providers.InternetProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReloadableDictionaryTest {
+
+    @TempDir
+    Path directory;
+
+    private Path write(String name, String content) throws IOException {
+        // Write to a temporary file and move it into place, like most editors and deploy tools do
+        Path file = directory.resolve(name);
+        Path temp = Files.createTempFile(directory, "tmp", ".part");
+        Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+        return Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Test
+    void watchLines_ShouldServeInitialContent() throws IOException {
+        try (ReloadableDictionary dictionary = ReloadableDictionary.watchLines(write("names.txt", "Ada\n\nGrace\n"))) {
+            assertEquals(List.of("Ada", "Grace"), dictionary.asList());
+            assertEquals(1, dictionary.getMetrics().version());
+            assertNotNull(dictionary.getMetrics().lastSwitchOver());
+        }
+    }
+
+    @Test
+    void watch_ShouldFailWhenInitialLoadFails() {
+        assertThrows(IOException.class, () -> ReloadableDictionary.watchLines(directory.resolve("missing.txt")));
+    }
+
+    @Test
+    void watch_ShouldRejectFilesThatCannotBeWatched() {
+        ReloadableDictionary.Loader loader = path -> DictionaryTable.of(List.of("Ada"));
+        Path root = directory.getRoot();
+        assertThrows(IllegalArgumentException.class, () -> ReloadableDictionary.watch(root, loader));
+        Path missingDirectory = directory.resolve("missing").resolve("names.txt");
+        assertThrows(IOException.class, () -> ReloadableDictionary.watch(missingDirectory, loader));
+    }
+
+    @Test
+    void reload_ShouldPublishNewSnapshot() throws IOException {
+        Path file = write("names.txt", "Ada\n");
+        try (ReloadableDictionary dictionary = ReloadableDictionary.watchLines(file)) {
+            DictionarySource before = dictionary.snapshot();
+            List<ReloadableDictionary.Metrics> published = new ArrayList<>();
+            dictionary.onReload(published::add);
+
+            write("names.txt", "Grace\nLinus\n");
+            assertTrue(dictionary.reload());
+
+            assertEquals(List.of("Grace", "Linus"), dictionary.asList());
+            assertEquals(List.of("Ada"), before.asList());
+            assertTrue(dictionary.getMetrics().version() >= 2);
+            assertFalse(published.isEmpty());
+            assertFalse(dictionary.getMetrics().lastReloadDuration().isNegative());
+        }
+    }
+
+    @Test
+    void reload_ShouldKeepSnapshotWhenLoadFails() throws IOException {
+        Path file = write("internet.yaml", "domainNames:\n  - example.com\n");
+        ReloadableDictionary dictionary = ReloadableDictionary.watchYaml(file, "domainNames");
+        // Stop watching, so that only the explicit reload sees the broken file
+        dictionary.close();
+        write("internet.yaml", "otherField:\n  - example.org\n");
+        assertFalse(dictionary.reload());
+
+        assertEquals(List.of("example.com"), dictionary.asList());
+        assertEquals(1, dictionary.getMetrics().version());
+        assertEquals(1, dictionary.getMetrics().failures());
+        assertNotNull(dictionary.getMetrics().lastFailure());
+    }
+
+    @Test
+    void watch_ShouldReloadChangedFileInBackground() throws Exception {
+        Path file = write("internet.yaml", "domainNames:\n  - example.com\n");
+        try (ReloadableDictionary dictionary = ReloadableDictionary.watchYaml(file, "domainNames")) {
+            write("internet.yaml", "domainNames:\n  - example.org\n  - example.net\n");
+
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (dictionary.getMetrics().version() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("example.org", "example.net"), dictionary.asList());
+        }
+    }
+
+    @Test
+    void watch_ShouldKeepReloadingWhenListenerThrows() throws Exception {
+        Path file = write("names.txt", "Ada\n");
+        try (ReloadableDictionary dictionary = ReloadableDictionary.watchLines(file)) {
+            dictionary.onReload(metrics -> {
+                throw new IllegalStateException("Broken listener");
+            });
+            write("names.txt", "Grace\n");
+            assertTrue(dictionary.reload());
+            assertEquals(List.of("Grace"), dictionary.asList());
+
+            write("names.txt", "Linus\n");
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (!dictionary.asList().equals(List.of("Linus")) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("Linus"), dictionary.asList());
+        }
+    }
+
+    @Test
+    void picks_ShouldNeverSeeHalfBuiltSnapshot() throws Exception {
+        List<String> small = List.of("a.com");
+        List<String> large = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            large.add("host" + i + ".com");
+        }
+        Path file = write("domains.txt", "a.com\n");
+        AtomicReference<List<String>> next = new AtomicReference<>(small);
+
+        try (ReloadableDictionary dictionary = ReloadableDictionary.watch(file, path -> DictionaryTable.of(next.get()))) {
+            LocaleData data = LocaleData.of(DataMirageLocale.EN_US).withDictionary("internet", "domainNames", dictionary);
+            Set<String> allowed = new HashSet<>(large);
+            allowed.addAll(small);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> readers = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    readers.add(executor.submit(() -> {
+                        InternetProvider provider = new InternetProvider(new RandomService(), data);
+                        while (running.get()) {
+                            assertTrue(allowed.contains(provider.domainName()));
+                        }
+                        return null;
+                    }));
+                }
+                for (int i = 0; i < 2_000; i++) {
+                    next.set(i % 2 == 0 ? large : small);
+                    assertTrue(dictionary.reload());
+                }
+                running.set(false);
+                for (Future<?> reader : readers) {
+                    reader.get();
+                }
+            } finally {
+                running.set(false);
+                executor.shutdownNow();
+            }
+        }
+    }
+}
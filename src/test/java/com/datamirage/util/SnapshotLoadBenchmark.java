@@ -0,0 +1,67 @@
+package com.datamirage.util;
+
+import com.datamirage.locale.DataMirageLocale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start comparison of YAML parsing and snapshot loading.
+ * Every fork measures a single load of all categories of one locale (common data included),
+ * so the score is the time-to-first-value of a fresh JVM, including parser class loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class SnapshotLoadBenchmark {
+
+    @Param({"TR_TR", "EN_US", "DE_DE", "FR_FR", "ES_ES", "IT_IT", "RU_RU"})
+    public DataMirageLocale locale;
+
+    private String[] categories;
+
+    @Setup
+    public void setUp() throws URISyntaxException {
+        TreeSet<String> names = new TreeSet<>();
+        for (String directory : new String[]{"common", locale.getCode()}) {
+            File dir = new File(getClass().getClassLoader().getResource("data/" + directory).toURI());
+            for (String file : dir.list()) {
+                names.add(file.substring(0, file.lastIndexOf('.')));
+            }
+        }
+        categories = names.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void yaml(Blackhole blackhole) {
+        for (String category : categories) {
+            blackhole.consume(DataLoader.readYaml("data/common/" + category + ".yaml"));
+            blackhole.consume(DataLoader.readYaml("data/" + locale.getCode() + "/" + category + ".yaml"));
+        }
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        for (String category : categories) {
+            blackhole.consume(DataLoader.readSnapshot("snapshots/common/" + category + DictionarySnapshot.EXTENSION));
+            blackhole.consume(DataLoader.readSnapshot("snapshots/" + locale.getCode() + "/" + category + DictionarySnapshot.EXTENSION));
+        }
+    }
+}